@@ -0,0 +1,159 @@
+package org.cbioportal.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the JSON results of a JMH run with those of a baseline run and writes a JSON report.
+ *
+ * <p>Usage: {@code BenchmarkComparison <baseline.json> <current.json> <report.json>
+ * [thresholdPercent]}. A benchmark has regressed if its score got worse by more than {@code
+ * thresholdPercent} (default 10): lower for throughput, higher for the time based modes. The
+ * process exits with status 1 if any benchmark regressed. Without a baseline file all benchmarks
+ * are reported as new, so the current results can be kept as the next baseline.
+ */
+public class BenchmarkComparison {
+
+  public enum Status {
+    IMPROVED,
+    UNCHANGED,
+    REGRESSED,
+    NEW,
+    MISSING
+  }
+
+  public record Result(
+      String benchmark,
+      String mode,
+      Map<String, String> params,
+      String unit,
+      Double baselineScore,
+      Double currentScore,
+      Double changePercent,
+      Status status) {}
+
+  public record Report(double thresholdPercent, int regressions, List<Result> results) {}
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      System.err.println(
+          "Usage: BenchmarkComparison <baseline.json> <current.json> <report.json>"
+              + " [thresholdPercent]");
+      System.exit(2);
+    }
+    File baselineFile = new File(args[0]);
+    double thresholdPercent = args.length > 3 ? Double.parseDouble(args[3]) : 10;
+
+    Map<String, JsonNode> baseline = baselineFile.isFile() ? readResults(baselineFile) : Map.of();
+    if (!baselineFile.isFile()) {
+      System.out.println("No baseline found at " + baselineFile + ", reporting all as new");
+    }
+    Report report = compare(baseline, readResults(new File(args[1])), thresholdPercent);
+    OBJECT_MAPPER.writeValue(new File(args[2]), report);
+
+    for (Result result : report.results()) {
+      System.out.printf(
+          "%-10s %s %s %s%n",
+          result.status(),
+          result.benchmark(),
+          result.params(),
+          result.changePercent() == null ? "" : String.format("%+.1f%%", result.changePercent()));
+    }
+    System.out.println("Report written to " + args[2]);
+    if (report.regressions() > 0) {
+      System.out.println(report.regressions() + " benchmark(s) regressed");
+      System.exit(1);
+    }
+  }
+
+  public static Report compare(
+      Map<String, JsonNode> baseline, Map<String, JsonNode> current, double thresholdPercent) {
+    List<Result> results = new ArrayList<>();
+    int regressions = 0;
+    for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+      JsonNode baselineRun = baseline.get(entry.getKey());
+      Result result =
+          baselineRun == null
+              ? result(entry.getValue(), null, score(entry.getValue()), null, Status.NEW)
+              : compare(baselineRun, entry.getValue(), thresholdPercent);
+      if (result.status() == Status.REGRESSED) {
+        regressions++;
+      }
+      results.add(result);
+    }
+    baseline.forEach(
+        (key, baselineRun) -> {
+          if (!current.containsKey(key)) {
+            results.add(result(baselineRun, score(baselineRun), null, null, Status.MISSING));
+          }
+        });
+    return new Report(thresholdPercent, regressions, results);
+  }
+
+  private static Result compare(
+      JsonNode baselineRun, JsonNode currentRun, double thresholdPercent) {
+    double baselineScore = score(baselineRun);
+    double currentScore = score(currentRun);
+    double changePercent =
+        baselineScore == 0 ? 0 : (currentScore - baselineScore) / baselineScore * 100;
+    // for throughput a higher score is better, for all other modes a lower one
+    double improvementPercent =
+        "thrpt".equals(currentRun.path("mode").asText()) ? changePercent : -changePercent;
+    Status status =
+        improvementPercent < -thresholdPercent
+            ? Status.REGRESSED
+            : improvementPercent > thresholdPercent ? Status.IMPROVED : Status.UNCHANGED;
+    return result(currentRun, baselineScore, currentScore, changePercent, status);
+  }
+
+  private static Result result(
+      JsonNode run,
+      Double baselineScore,
+      Double currentScore,
+      Double changePercent,
+      Status status) {
+    return new Result(
+        run.path("benchmark").asText(),
+        run.path("mode").asText(),
+        params(run),
+        run.path("primaryMetric").path("scoreUnit").asText(),
+        baselineScore,
+        currentScore,
+        changePercent,
+        status);
+  }
+
+  /**
+   * @return the runs in a JMH JSON result file, by benchmark, mode and parameters.
+   */
+  static Map<String, JsonNode> readResults(File file) throws IOException {
+    Map<String, JsonNode> runs = new LinkedHashMap<>();
+    for (JsonNode run : OBJECT_MAPPER.readTree(file)) {
+      runs.put(
+          run.path("benchmark").asText() + " " + run.path("mode").asText() + " " + params(run),
+          run);
+    }
+    return runs;
+  }
+
+  private static double score(JsonNode run) {
+    return run.path("primaryMetric").path("score").asDouble();
+  }
+
+  private static Map<String, String> params(JsonNode run) {
+    Map<String, String> params = new TreeMap<>();
+    run.path("params").properties().forEach(e -> params.put(e.getKey(), e.getValue().asText()));
+    return params;
+  }
+}
@@ -0,0 +1,64 @@
+package org.cbioportal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.cbioportal.legacy.model.CoExpression;
+import org.cbioportal.legacy.service.util.CoExpressionAsyncMethods;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Spearman co-expression of a query gene with a batch of other genes. The co-expression of all 20k
+ * genes takes {@code 20000 / geneCount} times as long as one operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CoExpressionBenchmark {
+
+  @Param({"10000", "100000"})
+  private int sampleCount;
+
+  @Param({"100"})
+  private int geneCount;
+
+  private final CoExpressionAsyncMethods coExpressionAsyncMethods = new CoExpressionAsyncMethods();
+  private List<String> queryValues;
+  private List<List<String>> geneValues;
+
+  @Setup
+  public void setUp() {
+    CohortDataGenerator generator = new CohortDataGenerator("benchmark_study", sampleCount, 42);
+    queryValues = generator.expressionValueList(null);
+    geneValues = new ArrayList<>(geneCount);
+    for (int i = 0; i < geneCount; i++) {
+      // every other gene is correlated with the query gene, so both outcomes are measured
+      geneValues.add(generator.expressionValueList(i % 2 == 0 ? queryValues : null));
+    }
+  }
+
+  @Benchmark
+  public void computeCoExpression(Blackhole blackhole) {
+    for (int i = 0; i < geneValues.size(); i++) {
+      CompletableFuture<CoExpression> coExpression =
+          coExpressionAsyncMethods.computeCoExpression(
+              String.valueOf(i + 1), geneValues.get(i), queryValues, 0.3);
+      blackhole.consume(coExpression == null ? null : coExpression.join());
+    }
+  }
+}
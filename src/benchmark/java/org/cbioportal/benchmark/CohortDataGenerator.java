@@ -0,0 +1,217 @@
+package org.cbioportal.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SequencedMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cbioportal.legacy.model.ClinicalData;
+import org.cbioportal.legacy.model.Patient;
+import org.cbioportal.legacy.model.Sample;
+
+/**
+ * Generates synthetic cohorts for the benchmarks, sized like real studies (10k to 100k samples and
+ * 20k genes). The data is random but reproducible: the same seed always yields the same cohort, so
+ * results of different runs can be compared.
+ */
+public class CohortDataGenerator {
+
+  public static final int GENE_COUNT = 20_000;
+
+  private static final String[] CANCER_TYPES = {
+    "Breast Cancer", "Lung Adenocarcinoma", "Colorectal Cancer", "Glioblastoma", "Melanoma"
+  };
+  private static final String[] SEXES = {"Male", "Female", "NA"};
+
+  private final Random random;
+  private final String studyId;
+  private final int sampleCount;
+
+  public CohortDataGenerator(String studyId, int sampleCount, long seed) {
+    this.studyId = studyId;
+    this.sampleCount = sampleCount;
+    this.random = new Random(seed);
+  }
+
+  public String getStudyId() {
+    return studyId;
+  }
+
+  public int getSampleCount() {
+    return sampleCount;
+  }
+
+  public static String sampleId(int index) {
+    return "SAMPLE_" + index;
+  }
+
+  public static String patientId(int index) {
+    return "PATIENT_" + index;
+  }
+
+  public List<String> sampleIds() {
+    return IntStream.range(0, sampleCount)
+        .mapToObj(CohortDataGenerator::sampleId)
+        .collect(Collectors.toList());
+  }
+
+  /** One sample per patient, with internal ids {@code 1..sampleCount}. */
+  public List<Sample> samples() {
+    List<Sample> samples = new ArrayList<>(sampleCount);
+    for (int i = 0; i < sampleCount; i++) {
+      Sample sample = new Sample();
+      sample.setInternalId(i + 1);
+      sample.setStableId(sampleId(i));
+      sample.setPatientStableId(patientId(i));
+      sample.setCancerStudyIdentifier(studyId);
+      samples.add(sample);
+    }
+    return samples;
+  }
+
+  public List<Patient> patients() {
+    List<Patient> patients = new ArrayList<>(sampleCount);
+    for (int i = 0; i < sampleCount; i++) {
+      Patient patient = new Patient();
+      patient.setInternalId(i + 1);
+      patient.setStableId(patientId(i));
+      patient.setCancerStudyIdentifier(studyId);
+      patients.add(patient);
+    }
+    return patients;
+  }
+
+  /**
+   * Numerical sample clinical data that resembles ages or mutation counts: mostly log-normally
+   * distributed values, with some missing and some special values such as {@code >90}.
+   */
+  public List<ClinicalData> numericalClinicalData(String attributeId) {
+    List<ClinicalData> clinicalData = new ArrayList<>(sampleCount);
+    for (int i = 0; i < sampleCount; i++) {
+      double roll = random.nextDouble();
+      String value;
+      if (roll < 0.05) {
+        value = "NA";
+      } else if (roll < 0.07) {
+        value = ">90";
+      } else {
+        value = String.format(Locale.ROOT, "%.2f", Math.exp(3 + random.nextGaussian()));
+      }
+      clinicalData.add(clinicalData(i, attributeId, value));
+    }
+    return clinicalData;
+  }
+
+  public List<ClinicalData> categoricalClinicalData(String attributeId) {
+    String[] categories = "SEX".equals(attributeId) ? SEXES : CANCER_TYPES;
+    List<ClinicalData> clinicalData = new ArrayList<>(sampleCount);
+    for (int i = 0; i < sampleCount; i++) {
+      clinicalData.add(clinicalData(i, attributeId, categories[random.nextInt(categories.length)]));
+    }
+    return clinicalData;
+  }
+
+  /**
+   * @return the values of one gene in all samples, as stored in {@code genetic_alteration.VALUES}:
+   *     comma separated, with a few missing values.
+   */
+  public String expressionValues() {
+    StringBuilder values = new StringBuilder(sampleCount * 8);
+    double geneMean = random.nextGaussian() * 2;
+    for (int i = 0; i < sampleCount; i++) {
+      if (i > 0) {
+        values.append(',');
+      }
+      if (random.nextDouble() < 0.01) {
+        values.append("NA");
+      } else {
+        values.append(String.format(Locale.ROOT, "%.4f", geneMean + random.nextGaussian()));
+      }
+    }
+    return values.toString();
+  }
+
+  /**
+   * @return the values of one gene in all samples as the list the co-expression computation works
+   *     on. If {@code correlatedWith} is given, the values are correlated with it.
+   */
+  public List<String> expressionValueList(List<String> correlatedWith) {
+    List<String> values = new ArrayList<>(sampleCount);
+    for (int i = 0; i < sampleCount; i++) {
+      if (random.nextDouble() < 0.01) {
+        values.add("NA");
+        continue;
+      }
+      double value = random.nextGaussian();
+      if (correlatedWith != null && !"NA".equals(correlatedWith.get(i))) {
+        value += Double.parseDouble(correlatedWith.get(i));
+      }
+      values.add(String.format(Locale.ROOT, "%.4f", value));
+    }
+    return values;
+  }
+
+  /**
+   * @return the 2x2 contingency tables {@code {altered in group 1, unaltered in group 1, altered in
+   *     group 2, unaltered in group 2}} of {@code geneCount} genes, for two groups splitting the
+   *     cohort in half.
+   */
+  public int[][] contingencyTables(int geneCount) {
+    int groupSize = sampleCount / 2;
+    int[][] tables = new int[geneCount][];
+    for (int gene = 0; gene < geneCount; gene++) {
+      // most genes are rarely altered, a few are altered in many samples
+      double frequency = Math.min(0.5, Math.pow(random.nextDouble(), 6));
+      int alteredInGroup1 = binomial(groupSize, frequency);
+      int alteredInGroup2 = binomial(groupSize, frequency * (0.5 + random.nextDouble()));
+      tables[gene] =
+          new int[] {
+            alteredInGroup1,
+            groupSize - alteredInGroup1,
+            alteredInGroup2,
+            groupSize - alteredInGroup2
+          };
+    }
+    return tables;
+  }
+
+  /** Rows of a clinical sample attributes file with {@code columnCount} attributes. */
+  public List<SequencedMap<String, String>> tsvRows(int columnCount) {
+    List<SequencedMap<String, String>> rows = new ArrayList<>(sampleCount);
+    for (int i = 0; i < sampleCount; i++) {
+      SequencedMap<String, String> row = new LinkedHashMap<>();
+      row.put("PATIENT_ID", patientId(i));
+      row.put("SAMPLE_ID", sampleId(i));
+      for (int column = 0; column < columnCount; column++) {
+        row.put(
+            "ATTRIBUTE_" + column,
+            column % 3 == 0
+                ? CANCER_TYPES[random.nextInt(CANCER_TYPES.length)]
+                : String.format(Locale.ROOT, "%.3f", random.nextDouble() * 100));
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private ClinicalData clinicalData(int index, String attributeId, String value) {
+    ClinicalData clinicalData = new ClinicalData();
+    clinicalData.setInternalId(index + 1);
+    clinicalData.setStudyId(studyId);
+    clinicalData.setSampleId(sampleId(index));
+    clinicalData.setPatientId(patientId(index));
+    clinicalData.setAttrId(attributeId);
+    clinicalData.setAttrValue(value);
+    return clinicalData;
+  }
+
+  private int binomial(int trials, double probability) {
+    // normal approximation, exact enough for benchmark data
+    double mean = trials * probability;
+    double sd = Math.sqrt(trials * probability * (1 - probability));
+    return (int) Math.max(0, Math.min(trials, Math.round(mean + random.nextGaussian() * sd)));
+  }
+}
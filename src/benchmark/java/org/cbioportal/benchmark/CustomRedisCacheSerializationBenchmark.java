@@ -0,0 +1,74 @@
+package org.cbioportal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cbioportal.legacy.model.ClinicalData;
+import org.cbioportal.legacy.persistence.util.CustomRedisCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and compression of a cached value by {@link CustomRedisCache}, and the reverse,
+ * without a Redis server. The value is the clinical data of a cohort, a typical large cache entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomRedisCacheSerializationBenchmark {
+
+  @Param({"10000", "100000"})
+  private int sampleCount;
+
+  private SerializingCache cache;
+  private ArrayList<ClinicalData> value;
+  private Object storeValue;
+
+  @Setup
+  public void setUp() {
+    cache = new SerializingCache();
+    value =
+        new ArrayList<>(
+            new CohortDataGenerator("benchmark_study", sampleCount, 42)
+                .categoricalClinicalData("CANCER_TYPE"));
+    storeValue = cache.serialize(value);
+  }
+
+  @Benchmark
+  public Object serialize() {
+    return cache.serialize(value);
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return cache.deserialize(storeValue);
+  }
+
+  /** Exposes the conversion between cached and stored values. */
+  private static class SerializingCache extends CustomRedisCache {
+
+    SerializingCache() {
+      super("benchmark", null, 0);
+    }
+
+    Object serialize(List<ClinicalData> value) {
+      return toStoreValue(value);
+    }
+
+    Object deserialize(Object storeValue) {
+      return fromStoreValue(storeValue);
+    }
+  }
+}
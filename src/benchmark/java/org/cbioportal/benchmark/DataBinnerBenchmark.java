@@ -0,0 +1,78 @@
+package org.cbioportal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cbioportal.legacy.model.Binnable;
+import org.cbioportal.legacy.model.DataBin;
+import org.cbioportal.legacy.web.parameter.ClinicalDataBinFilter;
+import org.cbioportal.legacy.web.util.DataBinner;
+import org.cbioportal.legacy.web.util.DiscreteDataBinner;
+import org.cbioportal.legacy.web.util.LinearDataBinner;
+import org.cbioportal.legacy.web.util.LogScaleDataBinner;
+import org.cbioportal.legacy.web.util.ScientificSmallDataBinner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/** Bins of a numerical clinical attribute, for all samples and for a filtered half of them. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataBinnerBenchmark {
+
+  private static final String ATTRIBUTE_ID = "AGE";
+
+  @Param({"10000", "100000"})
+  private int sampleCount;
+
+  private DataBinner dataBinner;
+  private ClinicalDataBinFilter dataBinFilter;
+  private List<Binnable> unfilteredClinicalData;
+  private List<Binnable> filteredClinicalData;
+
+  @Setup
+  public void setUp() {
+    dataBinner = new DataBinner();
+    ReflectionTestUtils.setField(dataBinner, "discreteDataBinner", new DiscreteDataBinner());
+    ReflectionTestUtils.setField(dataBinner, "linearDataBinner", new LinearDataBinner());
+    ReflectionTestUtils.setField(
+        dataBinner, "scientificSmallDataBinner", new ScientificSmallDataBinner());
+    ReflectionTestUtils.setField(dataBinner, "logScaleDataBinner", new LogScaleDataBinner());
+
+    dataBinFilter = new ClinicalDataBinFilter();
+    dataBinFilter.setAttributeId(ATTRIBUTE_ID);
+
+    unfilteredClinicalData =
+        new ArrayList<>(
+            new CohortDataGenerator("benchmark_study", sampleCount, 42)
+                .numericalClinicalData(ATTRIBUTE_ID));
+    filteredClinicalData = new ArrayList<>();
+    for (int i = 0; i < unfilteredClinicalData.size(); i += 2) {
+      filteredClinicalData.add(unfilteredClinicalData.get(i));
+    }
+  }
+
+  @Benchmark
+  public List<DataBin> calculateDataBins() {
+    return dataBinner.calculateDataBins(dataBinFilter, unfilteredClinicalData);
+  }
+
+  @Benchmark
+  public List<DataBin> calculateClinicalDataBins() {
+    return dataBinner.calculateClinicalDataBins(
+        dataBinFilter, filteredClinicalData, unfilteredClinicalData);
+  }
+}
@@ -0,0 +1,138 @@
+package org.cbioportal.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cbioportal.legacy.model.EnrichmentType;
+import org.cbioportal.legacy.model.ExpressionEnrichment;
+import org.cbioportal.legacy.model.GeneMolecularAlteration;
+import org.cbioportal.legacy.model.MolecularProfile;
+import org.cbioportal.legacy.model.MolecularProfileCaseIdentifier;
+import org.cbioportal.legacy.model.MolecularProfileSamples;
+import org.cbioportal.legacy.persistence.MolecularDataRepository;
+import org.cbioportal.legacy.service.SampleService;
+import org.cbioportal.legacy.service.util.ExpressionEnrichmentUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Expression enrichments of a batch of genes between two sample groups. Every gene is read as a new
+ * {@link GeneMolecularAlteration}, so its values are split like those of a row read from the
+ * database. The enrichments of all 20k genes take {@code 20000 / geneCount} times as long as one
+ * operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExpressionEnrichmentBenchmark {
+
+  private static final String MOLECULAR_PROFILE_ID = "benchmark_study_rna_seq_v2_mrna";
+  private static final int DISTINCT_VALUE_ROWS = 50;
+
+  @Param({"10000", "100000"})
+  private int sampleCount;
+
+  @Param({"1000"})
+  private int geneCount;
+
+  private ExpressionEnrichmentUtil expressionEnrichmentUtil;
+  private MolecularProfile molecularProfile;
+  private Map<String, List<MolecularProfileCaseIdentifier>> molecularProfileCaseSets;
+  private List<String> valueRows;
+
+  @Setup
+  public void setUp() {
+    CohortDataGenerator generator = new CohortDataGenerator("benchmark_study", sampleCount, 42);
+
+    MolecularProfileSamples molecularProfileSamples = new MolecularProfileSamples();
+    molecularProfileSamples.setMolecularProfileId(MOLECULAR_PROFILE_ID);
+    molecularProfileSamples.setCommaSeparatedSampleIds(
+        IntStream.rangeClosed(1, sampleCount)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","))
+            + ",");
+    MolecularDataRepository molecularDataRepository = mock(MolecularDataRepository.class);
+    when(molecularDataRepository.getCommaSeparatedSampleIdsOfMolecularProfile(anyString()))
+        .thenReturn(molecularProfileSamples);
+    SampleService sampleService = mock(SampleService.class);
+    when(sampleService.fetchSamples(anyList(), anyList(), any())).thenReturn(generator.samples());
+
+    expressionEnrichmentUtil = new ExpressionEnrichmentUtil();
+    ReflectionTestUtils.setField(
+        expressionEnrichmentUtil, "molecularDataRepository", molecularDataRepository);
+    ReflectionTestUtils.setField(expressionEnrichmentUtil, "sampleService", sampleService);
+
+    molecularProfile = new MolecularProfile();
+    molecularProfile.setStableId(MOLECULAR_PROFILE_ID);
+    molecularProfile.setCancerStudyIdentifier(generator.getStudyId());
+
+    molecularProfileCaseSets = new LinkedHashMap<>();
+    List<String> sampleIds = generator.sampleIds();
+    for (int i = 0; i < sampleIds.size(); i++) {
+      MolecularProfileCaseIdentifier caseIdentifier = new MolecularProfileCaseIdentifier();
+      caseIdentifier.setMolecularProfileId(MOLECULAR_PROFILE_ID);
+      caseIdentifier.setCaseId(sampleIds.get(i));
+      molecularProfileCaseSets
+          .computeIfAbsent(i % 2 == 0 ? "group_1" : "group_2", key -> new ArrayList<>())
+          .add(caseIdentifier);
+    }
+
+    // a pool of distinct rows keeps the memory use of 100k samples in check
+    valueRows = new ArrayList<>(DISTINCT_VALUE_ROWS);
+    for (int i = 0; i < DISTINCT_VALUE_ROWS; i++) {
+      valueRows.add(generator.expressionValues());
+    }
+  }
+
+  @Benchmark
+  public List<ExpressionEnrichment> getEnrichments() {
+    Iterable<GeneMolecularAlteration> alterations = this::alterations;
+    return expressionEnrichmentUtil.getEnrichments(
+        molecularProfile, molecularProfileCaseSets, EnrichmentType.SAMPLE, alterations);
+  }
+
+  private Iterator<GeneMolecularAlteration> alterations() {
+    return new Iterator<>() {
+      private int gene = 0;
+
+      @Override
+      public boolean hasNext() {
+        return gene < geneCount;
+      }
+
+      @Override
+      public GeneMolecularAlteration next() {
+        GeneMolecularAlteration alteration = new GeneMolecularAlteration();
+        alteration.setMolecularProfileId(MOLECULAR_PROFILE_ID);
+        alteration.setEntrezGeneId(gene + 1);
+        alteration.setValues(valueRows.get(gene % DISTINCT_VALUE_ROWS));
+        gene++;
+        return alteration;
+      }
+    };
+  }
+}
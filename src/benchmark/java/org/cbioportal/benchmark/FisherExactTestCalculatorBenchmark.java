@@ -0,0 +1,59 @@
+package org.cbioportal.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.cbioportal.legacy.service.util.FisherExactTestCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** P- and q-values of the alteration enrichments of all genes between two groups. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FisherExactTestCalculatorBenchmark {
+
+  @Param({"10000", "100000"})
+  private int sampleCount;
+
+  private final FisherExactTestCalculator calculator = new FisherExactTestCalculator();
+  private int[][] contingencyTables;
+  private BigDecimal[] sortedPValues;
+
+  @Setup
+  public void setUp() {
+    contingencyTables =
+        new CohortDataGenerator("benchmark_study", sampleCount, 42)
+            .contingencyTables(CohortDataGenerator.GENE_COUNT);
+    sortedPValues = twoTailedPValues();
+    Arrays.sort(sortedPValues);
+  }
+
+  @Benchmark
+  public BigDecimal[] twoTailedPValues() {
+    BigDecimal[] pValues = new BigDecimal[contingencyTables.length];
+    for (int i = 0; i < contingencyTables.length; i++) {
+      int[] table = contingencyTables[i];
+      pValues[i] =
+          BigDecimal.valueOf(calculator.getTwoTailedPValue(table[0], table[1], table[2], table[3]));
+    }
+    return pValues;
+  }
+
+  @Benchmark
+  public BigDecimal[] qValues() {
+    return calculator.calcqValue(sortedPValues);
+  }
+}
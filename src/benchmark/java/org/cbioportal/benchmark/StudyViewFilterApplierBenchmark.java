@@ -0,0 +1,131 @@
+package org.cbioportal.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cbioportal.legacy.model.ClinicalAttribute;
+import org.cbioportal.legacy.model.ClinicalData;
+import org.cbioportal.legacy.service.ClinicalAttributeService;
+import org.cbioportal.legacy.service.ClinicalDataService;
+import org.cbioportal.legacy.service.PatientService;
+import org.cbioportal.legacy.service.SampleService;
+import org.cbioportal.legacy.web.parameter.ClinicalDataFilter;
+import org.cbioportal.legacy.web.parameter.DataFilterValue;
+import org.cbioportal.legacy.web.parameter.SampleIdentifier;
+import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.cbioportal.legacy.web.util.ClinicalDataEqualityFilterApplier;
+import org.cbioportal.legacy.web.util.ClinicalDataIntervalFilterApplier;
+import org.cbioportal.legacy.web.util.StudyViewFilterApplier;
+import org.cbioportal.legacy.web.util.StudyViewFilterUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Applies a study view filter with a categorical and a numerical clinical data filter to a whole
+ * cohort. The services are stubbed, so only the filtering in the web layer is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudyViewFilterApplierBenchmark {
+
+  private static final String CANCER_TYPE = "CANCER_TYPE";
+  private static final String AGE = "AGE";
+
+  @Param({"10000", "100000"})
+  private int sampleCount;
+
+  private StudyViewFilterApplier studyViewFilterApplier;
+  private StudyViewFilter studyViewFilter;
+
+  @Setup
+  public void setUp() {
+    CohortDataGenerator generator = new CohortDataGenerator("benchmark_study", sampleCount, 42);
+    List<ClinicalData> clinicalData = new ArrayList<>();
+    clinicalData.addAll(generator.categoricalClinicalData(CANCER_TYPE));
+    clinicalData.addAll(generator.numericalClinicalData(AGE));
+
+    SampleService sampleService = mock(SampleService.class);
+    when(sampleService.getAllSamplesInStudies(anyList(), any(), any(), any(), any(), any()))
+        .thenReturn(generator.samples());
+    PatientService patientService = mock(PatientService.class);
+    when(patientService.getPatientsOfSamples(anyList(), anyList()))
+        .thenReturn(generator.patients());
+    ClinicalDataService clinicalDataService = mock(ClinicalDataService.class);
+    when(clinicalDataService.fetchClinicalData(
+            anyList(), anyList(), anyList(), eq("SAMPLE"), any()))
+        .thenReturn(clinicalData);
+    when(clinicalDataService.getPatientClinicalDataDetailedToSample(
+            anyList(), anyList(), anyList()))
+        .thenReturn(List.of());
+    ClinicalAttributeService clinicalAttributeService = mock(ClinicalAttributeService.class);
+    when(clinicalAttributeService.getClinicalAttributesByStudyIdsAndAttributeIds(
+            anyList(), anyList()))
+        .thenReturn(
+            List.of(clinicalAttribute(CANCER_TYPE, "STRING"), clinicalAttribute(AGE, "NUMBER")));
+
+    StudyViewFilterUtil studyViewFilterUtil = new StudyViewFilterUtil();
+    ClinicalDataEqualityFilterApplier equalityFilterApplier =
+        new ClinicalDataEqualityFilterApplier(
+            patientService, clinicalDataService, studyViewFilterUtil);
+    ReflectionTestUtils.setField(equalityFilterApplier, "studyViewFilterUtil", studyViewFilterUtil);
+
+    studyViewFilterApplier = new StudyViewFilterApplier();
+    ReflectionTestUtils.setField(studyViewFilterApplier, "sampleService", sampleService);
+    ReflectionTestUtils.setField(
+        studyViewFilterApplier, "clinicalAttributeService", clinicalAttributeService);
+    ReflectionTestUtils.setField(
+        studyViewFilterApplier, "clinicalDataEqualityFilterApplier", equalityFilterApplier);
+    ReflectionTestUtils.setField(
+        studyViewFilterApplier,
+        "clinicalDataIntervalFilterApplier",
+        new ClinicalDataIntervalFilterApplier(
+            patientService, clinicalDataService, studyViewFilterUtil));
+    ReflectionTestUtils.setField(
+        studyViewFilterApplier, "studyViewFilterUtil", studyViewFilterUtil);
+
+    ClinicalDataFilter cancerTypeFilter = new ClinicalDataFilter();
+    cancerTypeFilter.setAttributeId(CANCER_TYPE);
+    cancerTypeFilter.setValues(
+        List.of(new DataFilterValue("Breast Cancer"), new DataFilterValue("Melanoma")));
+    ClinicalDataFilter ageFilter = new ClinicalDataFilter();
+    ageFilter.setAttributeId(AGE);
+    ageFilter.setValues(List.of(new DataFilterValue(BigDecimal.TEN, BigDecimal.valueOf(60))));
+
+    studyViewFilter = new StudyViewFilter();
+    studyViewFilter.setStudyIds(List.of(generator.getStudyId()));
+    studyViewFilter.setClinicalDataFilters(List.of(cancerTypeFilter, ageFilter));
+  }
+
+  @Benchmark
+  public List<SampleIdentifier> apply() {
+    return studyViewFilterApplier.apply(studyViewFilter, false);
+  }
+
+  private static ClinicalAttribute clinicalAttribute(String attributeId, String datatype) {
+    ClinicalAttribute clinicalAttribute = new ClinicalAttribute();
+    clinicalAttribute.setAttrId(attributeId);
+    clinicalAttribute.setDatatype(datatype);
+    return clinicalAttribute;
+  }
+}
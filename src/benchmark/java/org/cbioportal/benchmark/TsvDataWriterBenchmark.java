@@ -0,0 +1,46 @@
+package org.cbioportal.benchmark;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.SequencedMap;
+import java.util.concurrent.TimeUnit;
+import org.cbioportal.application.file.export.writers.TsvDataWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Writes the clinical sample attributes of a cohort as TSV, to a writer that discards them. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TsvDataWriterBenchmark {
+
+  @Param({"10000", "100000"})
+  private int sampleCount;
+
+  @Param({"30"})
+  private int columnCount;
+
+  private List<SequencedMap<String, String>> rows;
+
+  @Setup
+  public void setUp() {
+    rows = new CohortDataGenerator("benchmark_study", sampleCount, 42).tsvRows(columnCount);
+  }
+
+  @Benchmark
+  public void write() {
+    new TsvDataWriter(Writer.nullWriter()).write(rows.iterator());
+  }
+}
@@ -6,19 +6,28 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+/**
+ * Declares the executor for application tasks. It is {@link Primary} because scheduling adds a
+ * {@code taskScheduler} bean that is an {@link AsyncTaskExecutor} too; both variants are also
+ * registered as {@value #ASYNC_EXECUTOR} for injection points that qualify it.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+  public static final String ASYNC_EXECUTOR = "asyncExecutor";
+
   @Value("${multithread.core_pool_size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
   private int corePoolSize;
 
-  @Bean
+  @Bean({"getAsyncExecutor", ASYNC_EXECUTOR})
+  @Primary
   @ConditionalOnProperty(
       value = "spring.threads.virtual.enabled",
       havingValue = "false",
@@ -31,7 +40,8 @@ public class AsyncConfig {
     return executor;
   }
 
-  @Bean
+  @Bean({"applicationTaskExecutor", ASYNC_EXECUTOR})
+  @Primary
   @ConditionalOnProperty(value = "spring.threads.virtual.enabled", havingValue = "true")
   public AsyncTaskExecutor applicationTaskExecutor() {
     return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
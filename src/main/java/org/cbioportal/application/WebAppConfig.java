@@ -1,11 +1,16 @@
 package org.cbioportal.application;
 
 import java.util.List;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.cbioportal.legacy.persistence.StaticDataTimeStampRepository;
 import org.cbioportal.legacy.web.ExecuterTimeInterceptor;
+import org.cbioportal.legacy.web.util.ConditionalRequestInterceptor;
 import org.cbioportal.legacy.web.util.InvolvedCancerStudyExtractorInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
@@ -25,6 +30,18 @@ public class WebAppConfig implements WebMvcConfigurer {
   @Value("${springdoc.swagger-ui.path:/swagger-ui.html}")
   private String swaggerRedirectUrl;
 
+  @Value("${conditional_get.enabled:true}")
+  private boolean conditionalGetEnabled;
+
+  @Value("${conditional_get.timestamp_ttl_ms:10000}")
+  private long conditionalGetTimestampTtlMillis;
+
+  @Autowired private Environment environment;
+
+  @Autowired private StaticDataTimeStampRepository staticDataTimeStampRepository;
+
+  @Autowired private PerformanceMetrics performanceMetrics;
+
   @Override
   public void addResourceHandlers(ResourceHandlerRegistry registry) {
     registry.addResourceHandler("/images/**").addResourceLocations("classpath:/webapp/images/");
@@ -80,8 +97,76 @@ public class WebAppConfig implements WebMvcConfigurer {
   public void addInterceptors(InterceptorRegistry registry) {
     registry.addInterceptor(involvedCancerStudyExtractorInterceptor());
     registry
-        .addInterceptor(new WebRequestHandlerInterceptorAdapter(new ExecuterTimeInterceptor()))
+        .addInterceptor(
+            new WebRequestHandlerInterceptorAdapter(
+                new ExecuterTimeInterceptor(performanceMetrics)))
         .addPathPatterns("/**");
+    if (conditionalGetEnabled) {
+      addConditionalRequestInterceptors(registry);
+    }
+  }
+
+  private void addConditionalRequestInterceptors(InterceptorRegistry registry) {
+    addConditionalRequestInterceptor(
+        registry,
+        "studies",
+        List.of(
+            "cancer_study",
+            "cancer_study_tags",
+            "type_of_cancer",
+            "reference_genome",
+            "sample",
+            "sample_list",
+            "sample_list_list",
+            "genetic_profile"),
+        "/api/studies",
+        "/api/studies/*",
+        "/api/studies/*/tags");
+    addConditionalRequestInterceptor(
+        registry,
+        "molecular_profiles",
+        List.of("cancer_study", "genetic_profile", "genetic_profile_link"),
+        "/api/molecular-profiles",
+        "/api/molecular-profiles/*",
+        "/api/studies/*/molecular-profiles");
+    addConditionalRequestInterceptor(
+        registry,
+        "gene_panels",
+        List.of("gene_panel", "gene_panel_list", "gene"),
+        "/api/gene-panels",
+        "/api/gene-panels/",
+        "/api/gene-panels/*");
+    addConditionalRequestInterceptor(
+        registry,
+        "sample_lists",
+        List.of("cancer_study", "sample", "sample_list", "sample_list_list"),
+        "/api/sample-lists",
+        "/api/sample-lists/*",
+        "/api/sample-lists/*/sample-ids",
+        "/api/studies/*/sample-lists");
+    addConditionalRequestInterceptor(
+        registry,
+        "clinical_attributes",
+        List.of("cancer_study", "clinical_attribute_meta"),
+        "/api/clinical-attributes",
+        "/api/studies/*/clinical-attributes",
+        "/api/studies/*/clinical-attributes/*");
+  }
+
+  private void addConditionalRequestInterceptor(
+      InterceptorRegistry registry, String family, List<String> tables, String... pathPatterns) {
+    String cacheControl =
+        environment.getProperty(
+            "conditional_get.cache_control." + family,
+            environment.getProperty("conditional_get.cache_control", "private, no-cache"));
+    registry
+        .addInterceptor(
+            new ConditionalRequestInterceptor(
+                staticDataTimeStampRepository,
+                tables,
+                cacheControl,
+                conditionalGetTimestampTtlMillis))
+        .addPathPatterns(pathPatterns);
   }
 
   @Override
@@ -4,6 +4,8 @@ import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -64,6 +66,7 @@ import org.cbioportal.application.file.export.services.CancerStudyMetadataServic
 import org.cbioportal.application.file.export.services.CaseListMetadataService;
 import org.cbioportal.application.file.export.services.ClinicalAttributeDataService;
 import org.cbioportal.application.file.export.services.CnaSegmentService;
+import org.cbioportal.application.file.export.services.ExportArtifactStore;
 import org.cbioportal.application.file.export.services.ExportService;
 import org.cbioportal.application.file.export.services.GenePanelMatrixService;
 import org.cbioportal.application.file.export.services.GeneticProfileDataService;
@@ -71,6 +74,8 @@ import org.cbioportal.application.file.export.services.GeneticProfileService;
 import org.cbioportal.application.file.export.services.MafRecordService;
 import org.cbioportal.application.file.export.services.StructuralVariantService;
 import org.cbioportal.application.file.export.services.VirtualStudyExportDecoratorService;
+import org.cbioportal.application.file.export.services.ZipCompression;
+import org.cbioportal.application.metrics.PerformanceMetrics;
 import org.cbioportal.application.security.CancerStudyPermissionEvaluator;
 import org.cbioportal.legacy.service.VirtualStudyService;
 import org.mybatis.spring.SqlSessionFactoryBean;
@@ -219,6 +224,31 @@ public class ExportConfig implements WebMvcConfigurer {
     return new VirtualStudyExportDecoratorService(virtualStudyService, exportService);
   }
 
+  @Bean
+  public ExportArtifactStore exportArtifactStore(
+      PerformanceMetrics performanceMetrics,
+      @Value("${feature.study.export.artifact_cache.enabled:true}") boolean enabled,
+      @Value("${feature.study.export.artifact_cache.directory:${java.io.tmpdir}/cbioportal-export}")
+          String directory,
+      @Value("${feature.study.export.artifact_cache.max_size_mb:5120}") long maxSizeMb,
+      @Value("${feature.study.export.artifact_cache.max_age_hours:168}") long maxAgeHours) {
+    return new ExportArtifactStore(
+        performanceMetrics,
+        enabled,
+        Path.of(directory),
+        maxSizeMb * 1024 * 1024,
+        Duration.ofHours(maxAgeHours));
+  }
+
+  @Bean
+  public ZipCompression zipCompression(
+      @Value("${feature.study.export.compression_level:-1}") int level,
+      @Value(
+              "${feature.study.export.compression_threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+          int threads) {
+    return new ZipCompression(level, threads);
+  }
+
   @Bean("exportMapperLocations")
   public Resource[] clickhouseExportMapperLocations(ApplicationContext applicationContext)
       throws IOException {
@@ -1,14 +1,36 @@
 package org.cbioportal.application.file.export;
 
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import org.cbioportal.application.file.export.exporters.ExportDetails;
+import org.cbioportal.application.file.export.services.ExportArtifactStore;
+import org.cbioportal.application.file.export.services.ExportArtifactStore.Artifact;
+import org.cbioportal.application.file.export.services.ExportArtifactStore.ArtifactWriter;
 import org.cbioportal.application.file.export.services.VirtualStudyExportDecoratorService;
+import org.cbioportal.application.file.export.services.ZipCompression;
 import org.cbioportal.application.file.export.services.ZipOutputStreamWriterService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
@@ -18,27 +40,171 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 @ConditionalOnProperty(name = "feature.study.export", havingValue = "true")
 public class ExportController {
 
+  private static final MediaType APPLICATION_ZIP = new MediaType("application", "zip");
+
   private final VirtualStudyExportDecoratorService exportService;
+  private final ExportArtifactStore exportArtifactStore;
+  private final ZipCompression zipCompression;
 
-  public ExportController(VirtualStudyExportDecoratorService exportService) {
+  public ExportController(
+      VirtualStudyExportDecoratorService exportService,
+      ExportArtifactStore exportArtifactStore,
+      ZipCompression zipCompression) {
     this.exportService = exportService;
+    this.exportArtifactStore = exportArtifactStore;
+    this.zipCompression = zipCompression;
   }
 
   @GetMapping("/export/study/{studyId}.zip")
-  public ResponseEntity<StreamingResponseBody> downloadStudyData(@PathVariable String studyId) {
+  public ResponseEntity<StreamingResponseBody> downloadStudyData(
+      @PathVariable String studyId,
+      @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+      @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
     if (!exportService.isStudyExportable(studyId)) {
       return ResponseEntity.notFound().build();
     }
 
-    return ResponseEntity.ok()
-        .contentType(new MediaType("application", "zip"))
-        .header("Content-Disposition", "attachment; filename=\"" + studyId + ".zip\"")
+    // virtual studies have no import date, so their exports are never cached
+    Date importDate = exportService.getStudyImportDate(studyId);
+    if (importDate == null) {
+      return streamExport(studyId, Optional.empty());
+    }
+    Optional<ResponseEntity<StreamingResponseBody>> cached =
+        exportArtifactStore
+            .find(studyId, importDate)
+            .flatMap(artifact -> serveArtifact(studyId, artifact, range, ifRange));
+    return cached.orElseGet(
+        () -> streamExport(studyId, exportArtifactStore.startWriting(studyId, importDate)));
+  }
+
+  private ResponseEntity<StreamingResponseBody> streamExport(
+      String studyId, Optional<ArtifactWriter> writer) {
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(APPLICATION_ZIP)
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(studyId));
+    if (writer.isEmpty()) {
+      return response.body(outputStream -> export(studyId, outputStream));
+    }
+    // the entity tag is the one of the artifact, so that an interrupted download can be resumed
+    // from the artifact
+    ArtifactWriter artifactWriter = writer.get();
+    return response
+        .eTag(artifactWriter.getETag())
+        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
         .body(
             outputStream -> {
-              try (BufferedOutputStream bos = new BufferedOutputStream(outputStream);
-                  ZipOutputStreamWriterService zipFactory = new ZipOutputStreamWriterService(bos)) {
-                exportService.exportData(zipFactory, new ExportDetails(studyId));
+              try (artifactWriter) {
+                export(studyId, artifactWriter.tee(outputStream));
+                artifactWriter.commit();
               }
             });
   }
+
+  private void export(String studyId, OutputStream outputStream) throws IOException {
+    try (BufferedOutputStream bos = new BufferedOutputStream(outputStream);
+        ZipOutputStreamWriterService zipFactory =
+            new ZipOutputStreamWriterService(bos, zipCompression)) {
+      exportService.exportData(zipFactory, new ExportDetails(studyId));
+    }
+  }
+
+  /**
+   * Serves the artifact, or the single byte range of it that was requested. Multiple ranges are
+   * answered with the whole artifact, which HTTP allows.
+   *
+   * @return the response, or empty if the artifact has been evicted in the meantime
+   */
+  private Optional<ResponseEntity<StreamingResponseBody>> serveArtifact(
+      String studyId, Artifact artifact, String range, String ifRange) {
+    long size = artifact.size();
+    long start = 0;
+    long end = size - 1;
+    HttpStatus status = HttpStatus.OK;
+    List<HttpRange> ranges = parseRanges(range);
+    if (ranges.size() == 1 && ifRangeMatches(ifRange, artifact)) {
+      start = ranges.getFirst().getRangeStart(size);
+      end = ranges.getFirst().getRangeEnd(size);
+      if (start >= size || start > end) {
+        return Optional.of(
+            ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                .build());
+      }
+      status = HttpStatus.PARTIAL_CONTENT;
+    }
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.status(status)
+            .contentType(APPLICATION_ZIP)
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(studyId))
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .eTag(artifact.eTag())
+            .lastModified(artifact.lastModified());
+    if (status == HttpStatus.PARTIAL_CONTENT) {
+      response.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+    }
+
+    // opened right away, so that an artifact evicted from now on can still be read
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(artifact.path(), StandardOpenOption.READ);
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+    long position = start;
+    long length = end - start + 1;
+    return Optional.of(
+        response
+            .contentLength(length)
+            .body(outputStream -> copy(channel, position, length, outputStream)));
+  }
+
+  private static void copy(FileChannel channel, long position, long length, OutputStream target)
+      throws IOException {
+    try (channel) {
+      WritableByteChannel targetChannel = Channels.newChannel(target);
+      long remaining = length;
+      while (remaining > 0) {
+        long transferred = channel.transferTo(position, remaining, targetChannel);
+        if (transferred <= 0) {
+          throw new EOFException("Export artifact is shorter than expected");
+        }
+        position += transferred;
+        remaining -= transferred;
+      }
+    }
+  }
+
+  private static List<HttpRange> parseRanges(String range) {
+    if (range == null) {
+      return List.of();
+    }
+    try {
+      return HttpRange.parseRanges(range);
+    } catch (IllegalArgumentException e) {
+      // an invalid Range header is ignored
+      return List.of();
+    }
+  }
+
+  private static boolean ifRangeMatches(String ifRange, Artifact artifact) {
+    if (ifRange == null) {
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      // If-Range requires the strong comparison, which never matches weak entity tags
+      return ifRange.equals(artifact.eTag());
+    }
+    try {
+      return ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME)
+          .toInstant()
+          .equals(artifact.lastModified().truncatedTo(ChronoUnit.SECONDS));
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  private static String contentDisposition(String studyId) {
+    return "attachment; filename=\"" + studyId + ".zip\"";
+  }
 }
@@ -0,0 +1,408 @@
+package org.cbioportal.application.file.export.services;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Keeps finished study exports on local disk, keyed by study id and import date, so that repeated
+ * and resumed downloads are served from the file instead of running the export again.
+ *
+ * <p>An artifact is written while the first download streams and is only kept once the export has
+ * completed, even if the client disconnected in the meantime. Every artifact gets its own entity
+ * tag, so that a download started from one artifact is never resumed from another. Artifacts are
+ * evicted once they are older than the maximum age, once a newer import of their study has been
+ * cached, and least recently used first while the total size exceeds the maximum size.
+ */
+public class ExportArtifactStore {
+
+  static final String CACHE_NAME = "exportArtifacts";
+
+  private static final Logger LOG = LoggerFactory.getLogger(ExportArtifactStore.class);
+
+  private static final String ARTIFACT_SUFFIX = ".zip";
+  private static final String PARTIAL_SUFFIX = ".part";
+  private static final Pattern ARTIFACT_NAME =
+      Pattern.compile("([0-9a-f]{32}-\\d+)-\\d+" + Pattern.quote(ARTIFACT_SUFFIX));
+
+  private final PerformanceMetrics performanceMetrics;
+  private final boolean enabled;
+  private final Path directory;
+  private final long maxSizeBytes;
+  private final Duration maxAge;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  public ExportArtifactStore(
+      PerformanceMetrics performanceMetrics,
+      boolean enabled,
+      Path directory,
+      long maxSizeBytes,
+      Duration maxAge) {
+    this.performanceMetrics = performanceMetrics;
+    this.enabled = enabled;
+    this.directory = directory;
+    this.maxSizeBytes = maxSizeBytes;
+    this.maxAge = maxAge;
+    if (enabled) {
+      loadArtifacts();
+    }
+  }
+
+  /**
+   * Returns the artifact of the given version of a study, if it is cached and not expired.
+   *
+   * @param studyId the identifier of the study
+   * @param importDate the import date of the study
+   * @return the artifact, or empty if it has to be exported
+   */
+  public Optional<Artifact> find(String studyId, Date importDate) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    String key = key(studyId, importDate);
+    Entry entry = entries.get(key);
+    if (entry != null && (isExpired(entry) || !Files.isRegularFile(entry.artifact.path()))) {
+      remove(key, entry);
+      entry = null;
+    }
+    if (entry == null) {
+      performanceMetrics.recordCacheMiss(CACHE_NAME);
+      return Optional.empty();
+    }
+    entry.lastAccessed = System.nanoTime();
+    performanceMetrics.recordCacheHit(CACHE_NAME);
+    return Optional.of(entry.artifact);
+  }
+
+  /**
+   * Starts a new artifact of the given version of a study. The caller streams the export through
+   * {@link ArtifactWriter#tee(OutputStream)}, calls {@link ArtifactWriter#commit()} once the export
+   * has completed and closes the writer in any case.
+   *
+   * @param studyId the identifier of the study
+   * @param importDate the import date of the study
+   * @return the writer, or empty if artifacts are disabled or cannot be written
+   */
+  public Optional<ArtifactWriter> startWriting(String studyId, Date importDate) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    String key = key(studyId, importDate);
+    String name = key + "-" + System.currentTimeMillis();
+    try {
+      Files.createDirectories(directory);
+      Path partial = Files.createTempFile(directory, name + "-", PARTIAL_SUFFIX);
+      return Optional.of(new ArtifactWriter(studyId, key, name, partial));
+    } catch (IOException e) {
+      LOG.warn("Could not create export artifact in {}: {}", directory, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void register(ArtifactWriter writer, long exportMillis) throws IOException {
+    Path target = directory.resolve(writer.name + ARTIFACT_SUFFIX);
+    Files.move(writer.partial, target, StandardCopyOption.ATOMIC_MOVE);
+    Artifact artifact =
+        new Artifact(
+            target,
+            writer.getETag(),
+            Files.size(target),
+            Files.getLastModifiedTime(target).toInstant());
+    String studyPrefix = writer.key.substring(0, writer.key.indexOf('-') + 1);
+    synchronized (this) {
+      // previous imports of the study will not be requested anymore
+      entries.forEach(
+          (key, entry) -> {
+            if (key.startsWith(studyPrefix)) {
+              remove(key, entry);
+            }
+          });
+      entries.put(writer.key, new Entry(artifact));
+      evict();
+    }
+    performanceMetrics.recordCacheLoad(CACHE_NAME, exportMillis);
+    LOG.info(
+        "Cached export artifact of study {} ({} bytes, exported in {} ms)",
+        writer.studyId,
+        artifact.size(),
+        exportMillis);
+  }
+
+  private synchronized void evict() {
+    entries.forEach(
+        (key, entry) -> {
+          if (isExpired(entry)) {
+            remove(key, entry);
+          }
+        });
+    long totalSize = entries.values().stream().mapToLong(entry -> entry.artifact.size()).sum();
+    List<Map.Entry<String, Entry>> leastRecentlyUsedFirst =
+        entries.entrySet().stream()
+            .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessed))
+            .toList();
+    for (Map.Entry<String, Entry> entry : leastRecentlyUsedFirst) {
+      if (totalSize <= maxSizeBytes) {
+        break;
+      }
+      remove(entry.getKey(), entry.getValue());
+      totalSize -= entry.getValue().artifact.size();
+    }
+  }
+
+  private boolean isExpired(Entry entry) {
+    return entry.artifact.lastModified().plus(maxAge).isBefore(Instant.now());
+  }
+
+  private void remove(String key, Entry entry) {
+    if (entries.remove(key, entry)) {
+      deleteQuietly(entry.artifact.path());
+    }
+  }
+
+  private void loadArtifacts() {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.sorted().toList()) {
+        String fileName = file.getFileName().toString();
+        Matcher matcher = ARTIFACT_NAME.matcher(fileName);
+        if (fileName.endsWith(PARTIAL_SUFFIX)) {
+          deleteQuietly(file);
+        } else if (matcher.matches()) {
+          Artifact artifact =
+              new Artifact(
+                  file,
+                  eTag(fileName.substring(0, fileName.length() - ARTIFACT_SUFFIX.length())),
+                  Files.size(file),
+                  Files.getLastModifiedTime(file).toInstant());
+          // names sort by creation time, so a later artifact of the same version replaces an
+          // earlier one
+          Entry previous = entries.put(matcher.group(1), new Entry(artifact));
+          if (previous != null) {
+            deleteQuietly(previous.artifact.path());
+          }
+        }
+      }
+    } catch (IOException e) {
+      LOG.warn("Could not load export artifacts from {}: {}", directory, e.getMessage());
+    }
+    evict();
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.warn("Could not delete export artifact {}: {}", file, e.getMessage());
+    }
+  }
+
+  private static String key(String studyId, Date importDate) {
+    return DigestUtils.md5DigestAsHex(studyId.getBytes(StandardCharsets.UTF_8))
+        + "-"
+        + importDate.getTime();
+  }
+
+  private static String eTag(String name) {
+    return "\"" + name + "\"";
+  }
+
+  /**
+   * A finished export on disk.
+   *
+   * @param path the zip file
+   * @param eTag the strong entity tag, which is unique to this artifact
+   * @param size the size in bytes
+   * @param lastModified when the artifact was written
+   */
+  public record Artifact(Path path, String eTag, long size, Instant lastModified) {}
+
+  private static final class Entry {
+    private final Artifact artifact;
+    private volatile long lastAccessed = System.nanoTime();
+
+    private Entry(Artifact artifact) {
+      this.artifact = artifact;
+    }
+  }
+
+  /** Writes an artifact while the export is streamed to the client. */
+  public final class ArtifactWriter implements Closeable {
+    private final String studyId;
+    private final String key;
+    private final String name;
+    private final Path partial;
+    private final long startMillis = System.currentTimeMillis();
+    private TeeOutputStream stream;
+    private boolean committed;
+
+    private ArtifactWriter(String studyId, String key, String name, Path partial) {
+      this.studyId = studyId;
+      this.key = key;
+      this.name = name;
+      this.partial = partial;
+    }
+
+    /**
+     * @return the entity tag the artifact will have once it is committed
+     */
+    public String getETag() {
+      return eTag(name);
+    }
+
+    /**
+     * Returns a stream that writes to both the artifact and the client. Once the client is gone,
+     * the export goes on for the artifact only, so that the client can resume its download.
+     * Likewise, a failure to write the artifact does not interrupt the download.
+     *
+     * @param client the stream to the client
+     * @return the stream to write the export to
+     */
+    public OutputStream tee(OutputStream client) throws IOException {
+      stream =
+          new TeeOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)), client);
+      return stream;
+    }
+
+    /** Keeps the artifact. Call only once the export has completed and the stream is closed. */
+    public void commit() throws IOException {
+      if (stream == null || stream.artifactFailure != null) {
+        LOG.warn(
+            "Discarding export artifact of study {}: {}",
+            studyId,
+            stream == null ? "nothing was written" : stream.artifactFailure.getMessage());
+        return;
+      }
+      stream.close();
+      register(this, System.currentTimeMillis() - startMillis);
+      committed = true;
+    }
+
+    /** Discards the artifact unless it has been committed. */
+    @Override
+    public void close() {
+      if (committed) {
+        return;
+      }
+      if (stream != null) {
+        stream.closeArtifact();
+      }
+      deleteQuietly(partial);
+    }
+  }
+
+  private static final class TeeOutputStream extends OutputStream {
+    private final OutputStream artifact;
+    private final OutputStream client;
+    private IOException artifactFailure;
+    private IOException clientFailure;
+    private boolean closed;
+
+    private TeeOutputStream(OutputStream artifact, OutputStream client) {
+      this.artifact = artifact;
+      this.client = client;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (artifactFailure == null) {
+        try {
+          artifact.write(b, off, len);
+        } catch (IOException e) {
+          artifactFailure = e;
+        }
+      }
+      if (clientFailure == null) {
+        try {
+          client.write(b, off, len);
+        } catch (IOException e) {
+          clientFailure = e;
+        }
+      }
+      throwIfBothFailed();
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (artifactFailure == null) {
+        try {
+          artifact.flush();
+        } catch (IOException e) {
+          artifactFailure = e;
+        }
+      }
+      if (clientFailure == null) {
+        try {
+          client.flush();
+        } catch (IOException e) {
+          clientFailure = e;
+        }
+      }
+      throwIfBothFailed();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        artifact.close();
+      } catch (IOException e) {
+        if (artifactFailure == null) {
+          artifactFailure = e;
+        }
+      }
+      if (clientFailure == null) {
+        try {
+          client.close();
+        } catch (IOException e) {
+          clientFailure = e;
+        }
+      }
+      throwIfBothFailed();
+    }
+
+    private void closeArtifact() {
+      try {
+        artifact.close();
+      } catch (IOException e) {
+        // the partial artifact is deleted anyway
+      }
+    }
+
+    private void throwIfBothFailed() throws IOException {
+      // nobody is interested in the export anymore
+      if (artifactFailure != null && clientFailure != null) {
+        throw clientFailure;
+      }
+    }
+  }
+}
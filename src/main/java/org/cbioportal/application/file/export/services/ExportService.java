@@ -1,5 +1,6 @@
 package org.cbioportal.application.file.export.services;
 
+import java.util.Date;
 import java.util.List;
 import org.cbioportal.application.file.export.exporters.ExportDetails;
 import org.cbioportal.application.file.export.exporters.Exporter;
@@ -42,6 +43,12 @@ public class ExportService implements Exporter {
                 authentication, studyId, "CancerStudyId", AccessLevel.READ));
   }
 
+  public Date getStudyImportDate(String studyId) {
+    CancerStudyMetadata cancerStudyMetadata =
+        this.cancerStudyMetadataService.getCancerStudyMetadata(studyId);
+    return cancerStudyMetadata == null ? null : cancerStudyMetadata.getImportDate();
+  }
+
   @Transactional(readOnly = true)
   @PreAuthorize(
       "hasPermission(#exportDetails.studyId, 'CancerStudyId', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
@@ -0,0 +1,382 @@
+package org.cbioportal.application.file.export.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+/**
+ * Writes a zip file whose entries are deflated in chunks on the threads of a {@link
+ * ZipCompression}, in the way of pigz. Each chunk is compressed into a separate run of deflate
+ * blocks, primed with the end of the previous chunk as dictionary and ended with a sync flush, so
+ * that the chunks concatenated in order form one standard deflate stream. At most two chunks per
+ * thread are pending, which bounds the memory of an export.
+ *
+ * <p>As the sizes and checksum of an entry are only known once it has been written, they follow the
+ * entry in a data descriptor, like {@link java.util.zip.ZipOutputStream} does for deflated entries.
+ * Zip64 records are written when sizes, offsets or the number of entries exceed the zip limits.
+ * Level 0 writes stored deflate blocks rather than STORED entries, as a STORED entry needs its
+ * sizes and checksum before its data.
+ */
+public class ParallelZipOutputStream extends OutputStream {
+
+  static final int CHUNK_SIZE = 128 * 1024;
+
+  private static final int DICTIONARY_SIZE = 32 * 1024;
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+  private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int END_SIGNATURE = 0x06054b50;
+
+  private static final int VERSION = 20;
+  private static final int ZIP64_VERSION = 45;
+  // sizes and checksum in the data descriptor, UTF-8 names
+  private static final int FLAGS = 0x0808;
+  private static final int DEFLATED = 8;
+  private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+  private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+  private static final int ZIP64_EXTRA_ID = 0x0001;
+
+  private final OutputStream out;
+  private final ZipCompression compression;
+  private final int maxPendingChunks;
+  private final List<CentralEntry> centralEntries = new ArrayList<>();
+  private final Set<String> names = new HashSet<>();
+  private final byte[] header = new byte[64];
+  private long written;
+  private boolean closed;
+
+  private Entry entry;
+
+  public ParallelZipOutputStream(OutputStream out, ZipCompression compression) {
+    this.out = out;
+    this.compression = compression;
+    this.maxPendingChunks = 2 * compression.getThreads();
+  }
+
+  /** Begins a new entry, closing the current one. */
+  public void putNextEntry(String name) throws IOException {
+    ensureOpen();
+    closeEntry();
+    if (!names.add(name)) {
+      throw new ZipException("duplicate entry: " + name);
+    }
+    byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+    entry = new Entry(nameBytes, dosTime(LocalDateTime.now()), written);
+    int position = 0;
+    position = putInt(position, LOCAL_HEADER_SIGNATURE);
+    position = putShort(position, VERSION);
+    position = putShort(position, FLAGS);
+    position = putShort(position, DEFLATED);
+    position = putInt(position, entry.dosTime);
+    position = putInt(position, 0); // crc
+    position = putInt(position, 0); // compressed size
+    position = putInt(position, 0); // uncompressed size
+    position = putShort(position, nameBytes.length);
+    position = putShort(position, 0); // extra field length
+    writeHeader(position);
+    writeOut(nameBytes, 0, nameBytes.length);
+  }
+
+  /** Closes the current entry, if any, waiting for its chunks to be compressed. */
+  public void closeEntry() throws IOException {
+    ensureOpen();
+    if (entry == null) {
+      return;
+    }
+    submitChunk(true);
+    while (!entry.pendingChunks.isEmpty()) {
+      writeChunk(entry.pendingChunks.removeFirst());
+    }
+    boolean zip64 = entry.size >= ZIP64_MAGIC || entry.compressedSize >= ZIP64_MAGIC;
+    int position = 0;
+    position = putInt(position, DATA_DESCRIPTOR_SIGNATURE);
+    position = putInt(position, (int) entry.crc.getValue());
+    if (zip64) {
+      position = putLong(position, entry.compressedSize);
+      position = putLong(position, entry.size);
+    } else {
+      position = putInt(position, (int) entry.compressedSize);
+      position = putInt(position, (int) entry.size);
+    }
+    writeHeader(position);
+    centralEntries.add(
+        new CentralEntry(
+            entry.nameBytes,
+            entry.dosTime,
+            entry.crc.getValue(),
+            entry.compressedSize,
+            entry.size,
+            entry.offset));
+    entry = null;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    ensureOpen();
+    if (entry == null) {
+      throw new ZipException("no current zip entry");
+    }
+    entry.crc.update(b, off, len);
+    entry.size += len;
+    while (len > 0) {
+      int copied = Math.min(len, CHUNK_SIZE - entry.chunkLength);
+      System.arraycopy(b, off, entry.chunk, entry.chunkLength, copied);
+      entry.chunkLength += copied;
+      off += copied;
+      len -= copied;
+      if (entry.chunkLength == CHUNK_SIZE) {
+        submitChunk(false);
+      }
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  /** Closes the current entry and writes the central directory. */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      closeEntry();
+      writeCentralDirectory();
+    } finally {
+      closed = true;
+      out.close();
+    }
+  }
+
+  private void submitChunk(boolean last) throws IOException {
+    byte[] data = entry.chunk;
+    int length = entry.chunkLength;
+    byte[] dictionary = entry.previousChunk;
+    int level = compression.getLevel();
+    entry.pendingChunks.addLast(
+        CompletableFuture.supplyAsync(
+            () -> deflate(data, length, dictionary, last, level), compression.getExecutor()));
+    entry.previousChunk = data;
+    entry.chunk = last ? null : new byte[CHUNK_SIZE];
+    entry.chunkLength = 0;
+
+    // keep the output flowing, and the memory bounded
+    while (!entry.pendingChunks.isEmpty()
+        && (entry.pendingChunks.getFirst().isDone()
+            || entry.pendingChunks.size() > maxPendingChunks)) {
+      writeChunk(entry.pendingChunks.removeFirst());
+    }
+  }
+
+  private static byte[] deflate(
+      byte[] data, int length, byte[] dictionary, boolean last, int level) {
+    Deflater deflater = new Deflater(level, true);
+    try {
+      if (dictionary != null) {
+        deflater.setDictionary(dictionary, CHUNK_SIZE - DICTIONARY_SIZE, DICTIONARY_SIZE);
+      }
+      deflater.setInput(data, 0, length);
+      if (last) {
+        deflater.finish();
+      }
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+      byte[] buffer = new byte[16 * 1024];
+      int flush = last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH;
+      while (true) {
+        int count = deflater.deflate(buffer, 0, buffer.length, flush);
+        compressed.write(buffer, 0, count);
+        if (last ? deflater.finished() : count < buffer.length) {
+          return compressed.toByteArray();
+        }
+      }
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private void writeChunk(CompletableFuture<byte[]> pendingChunk) throws IOException {
+    byte[] compressed;
+    try {
+      compressed = pendingChunk.join();
+    } catch (CompletionException e) {
+      throw new IOException("Could not compress zip entry", e.getCause());
+    }
+    writeOut(compressed, 0, compressed.length);
+    entry.compressedSize += compressed.length;
+  }
+
+  private void writeCentralDirectory() throws IOException {
+    long centralDirectoryOffset = written;
+    for (CentralEntry centralEntry : centralEntries) {
+      writeCentralHeader(centralEntry);
+    }
+    long centralDirectorySize = written - centralDirectoryOffset;
+    int entries = centralEntries.size();
+    boolean zip64 =
+        entries >= ZIP64_MAGIC_COUNT
+            || centralDirectoryOffset >= ZIP64_MAGIC
+            || centralDirectorySize >= ZIP64_MAGIC;
+    int position = 0;
+    if (zip64) {
+      long zip64EndOffset = written;
+      position = putInt(position, ZIP64_END_SIGNATURE);
+      position = putLong(position, 44); // size of the remaining record
+      position = putShort(position, ZIP64_VERSION);
+      position = putShort(position, ZIP64_VERSION);
+      position = putInt(position, 0); // number of this disk
+      position = putInt(position, 0); // disk of the central directory
+      position = putLong(position, entries);
+      position = putLong(position, entries);
+      position = putLong(position, centralDirectorySize);
+      position = putLong(position, centralDirectoryOffset);
+      writeHeader(position);
+      position = 0;
+      position = putInt(position, ZIP64_LOCATOR_SIGNATURE);
+      position = putInt(position, 0); // disk of the zip64 end record
+      position = putLong(position, zip64EndOffset);
+      position = putInt(position, 1); // number of disks
+      writeHeader(position);
+      position = 0;
+    }
+    position = putInt(position, END_SIGNATURE);
+    position = putShort(position, 0); // number of this disk
+    position = putShort(position, 0); // disk of the central directory
+    position = putShort(position, Math.min(entries, ZIP64_MAGIC_COUNT));
+    position = putShort(position, Math.min(entries, ZIP64_MAGIC_COUNT));
+    position = putInt(position, (int) Math.min(centralDirectorySize, ZIP64_MAGIC));
+    position = putInt(position, (int) Math.min(centralDirectoryOffset, ZIP64_MAGIC));
+    position = putShort(position, 0); // comment length
+    writeHeader(position);
+  }
+
+  private void writeCentralHeader(CentralEntry centralEntry) throws IOException {
+    boolean sizeOverflows = centralEntry.size() >= ZIP64_MAGIC;
+    boolean compressedSizeOverflows = centralEntry.compressedSize() >= ZIP64_MAGIC;
+    boolean offsetOverflows = centralEntry.offset() >= ZIP64_MAGIC;
+    int extraLength =
+        (sizeOverflows ? 8 : 0) + (compressedSizeOverflows ? 8 : 0) + (offsetOverflows ? 8 : 0);
+    int version = extraLength > 0 ? ZIP64_VERSION : VERSION;
+    int position = 0;
+    position = putInt(position, CENTRAL_HEADER_SIGNATURE);
+    position = putShort(position, version); // version made by
+    position = putShort(position, version); // version needed to extract
+    position = putShort(position, FLAGS);
+    position = putShort(position, DEFLATED);
+    position = putInt(position, centralEntry.dosTime());
+    position = putInt(position, (int) centralEntry.crc());
+    position = putInt(position, (int) Math.min(centralEntry.compressedSize(), ZIP64_MAGIC));
+    position = putInt(position, (int) Math.min(centralEntry.size(), ZIP64_MAGIC));
+    position = putShort(position, centralEntry.nameBytes().length);
+    position = putShort(position, extraLength > 0 ? extraLength + 4 : 0);
+    position = putShort(position, 0); // comment length
+    position = putShort(position, 0); // disk number
+    position = putShort(position, 0); // internal attributes
+    position = putInt(position, 0); // external attributes
+    position = putInt(position, (int) Math.min(centralEntry.offset(), ZIP64_MAGIC));
+    writeHeader(position);
+    writeOut(centralEntry.nameBytes(), 0, centralEntry.nameBytes().length);
+    if (extraLength > 0) {
+      position = 0;
+      position = putShort(position, ZIP64_EXTRA_ID);
+      position = putShort(position, extraLength);
+      if (sizeOverflows) {
+        position = putLong(position, centralEntry.size());
+      }
+      if (compressedSizeOverflows) {
+        position = putLong(position, centralEntry.compressedSize());
+      }
+      if (offsetOverflows) {
+        position = putLong(position, centralEntry.offset());
+      }
+      writeHeader(position);
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+
+  private void writeHeader(int length) throws IOException {
+    writeOut(header, 0, length);
+  }
+
+  private void writeOut(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+    written += len;
+  }
+
+  private int putShort(int position, int value) {
+    header[position] = (byte) value;
+    header[position + 1] = (byte) (value >>> 8);
+    return position + 2;
+  }
+
+  private int putInt(int position, int value) {
+    putShort(position, value);
+    return putShort(position + 2, value >>> 16);
+  }
+
+  private int putLong(int position, long value) {
+    putInt(position, (int) value);
+    return putInt(position + 4, (int) (value >>> 32));
+  }
+
+  private static int dosTime(LocalDateTime time) {
+    if (time.getYear() < 1980) {
+      time = LocalDateTime.of(1980, 1, 1, 0, 0);
+    }
+    return (time.getYear() - 1980) << 25
+        | time.getMonthValue() << 21
+        | time.getDayOfMonth() << 16
+        | time.getHour() << 11
+        | time.getMinute() << 5
+        | time.getSecond() >> 1;
+  }
+
+  private static final class Entry {
+    private final byte[] nameBytes;
+    private final int dosTime;
+    private final long offset;
+    private final CRC32 crc = new CRC32();
+    private final Deque<CompletableFuture<byte[]>> pendingChunks = new ArrayDeque<>();
+    private byte[] chunk = new byte[CHUNK_SIZE];
+    private int chunkLength;
+    private byte[] previousChunk;
+    private long size;
+    private long compressedSize;
+
+    private Entry(byte[] nameBytes, int dosTime, long offset) {
+      this.nameBytes = nameBytes;
+      this.dosTime = dosTime;
+      this.offset = offset;
+    }
+  }
+
+  private record CentralEntry(
+      byte[] nameBytes, int dosTime, long crc, long compressedSize, long size, long offset) {}
+}
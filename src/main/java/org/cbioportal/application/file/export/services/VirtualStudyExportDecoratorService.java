@@ -3,6 +3,7 @@ package org.cbioportal.application.file.export.services;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Date;
 import java.util.Set;
 import org.cbioportal.application.file.export.ExportException;
 import org.cbioportal.application.file.export.exporters.ExportDetails;
@@ -35,6 +36,20 @@ public class VirtualStudyExportDecoratorService implements Exporter {
         .orElseGet(() -> exportService.isStudyExportable(studyId));
   }
 
+  /**
+   * Returns the import date of the study, which identifies the version of its export. Virtual
+   * studies have none, as their export depends on their sample selection as well.
+   *
+   * @param studyId the identifier of the (virtual) study
+   * @return the import date, or null for virtual studies and unknown studies
+   */
+  public Date getStudyImportDate(String studyId) {
+    if (virtualStudyService.getVirtualStudyByIdIfExists(studyId).isPresent()) {
+      return null;
+    }
+    return exportService.getStudyImportDate(studyId);
+  }
+
   @Override
   public boolean exportData(FileWriterFactory fileWriterFactory, ExportDetails exportDetails) {
     var virtualStudyOpt =
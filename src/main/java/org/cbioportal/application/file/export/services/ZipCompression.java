@@ -0,0 +1,65 @@
+package org.cbioportal.application.file.export.services;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * How the entries of exported zip files are compressed: the deflate level, and the threads that
+ * compress chunks of an entry in parallel. The threads are shared by all exports.
+ */
+public class ZipCompression implements AutoCloseable {
+
+  /** Compresses at the default level on the thread that writes the zip file. */
+  public static final ZipCompression SEQUENTIAL =
+      new ZipCompression(Deflater.DEFAULT_COMPRESSION, 1);
+
+  private final int level;
+  private final int threads;
+  private final ExecutorService executorService;
+
+  /**
+   * @param level the deflate level, from 0 (no compression) to 9 (best compression), or -1 for the
+   *     default level
+   * @param threads the number of threads compressing in parallel, or 1 to compress on the thread
+   *     that writes the zip file
+   */
+  public ZipCompression(int level, int threads) {
+    if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid zip compression level: " + level);
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Invalid number of zip compression threads: " + threads);
+    }
+    this.level = level;
+    this.threads = threads;
+    if (threads > 1) {
+      CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("export-zip-");
+      threadFactory.setDaemon(true);
+      this.executorService = Executors.newFixedThreadPool(threads, threadFactory);
+    } else {
+      this.executorService = null;
+    }
+  }
+
+  public int getLevel() {
+    return level;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  Executor getExecutor() {
+    return executorService == null ? Runnable::run : executorService;
+  }
+
+  @Override
+  public void close() {
+    if (executorService != null) {
+      executorService.shutdown();
+    }
+  }
+}
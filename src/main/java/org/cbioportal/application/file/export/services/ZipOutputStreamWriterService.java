@@ -5,8 +5,6 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import org.cbioportal.application.file.utils.FileWriterFactory;
 
 public class ZipOutputStreamWriterService implements FileWriterFactory, Closeable {
@@ -15,12 +13,16 @@ public class ZipOutputStreamWriterService implements FileWriterFactory, Closeabl
   public static final String PATH_DELIMITER = "/";
 
   private final OutputStream outputStream;
-  private final ZipOutputStream zipOutputStream;
+  private final ParallelZipOutputStream zipOutputStream;
   private String basePath;
 
   public ZipOutputStreamWriterService(OutputStream outputStream) {
+    this(outputStream, ZipCompression.SEQUENTIAL);
+  }
+
+  public ZipOutputStreamWriterService(OutputStream outputStream, ZipCompression compression) {
     this.outputStream = outputStream;
-    this.zipOutputStream = new ZipOutputStream(outputStream);
+    this.zipOutputStream = new ParallelZipOutputStream(outputStream, compression);
   }
 
   @Override
@@ -63,12 +65,12 @@ public class ZipOutputStreamWriterService implements FileWriterFactory, Closeabl
   }
 
   static class ZipEntryOutputStreamWriter extends OutputStreamWriter {
-    private final ZipOutputStream zipOutputStream;
+    private final ParallelZipOutputStream zipOutputStream;
 
-    public ZipEntryOutputStreamWriter(String name, ZipOutputStream zipOutputStream)
+    public ZipEntryOutputStreamWriter(String name, ParallelZipOutputStream zipOutputStream)
         throws IOException {
       super(zipOutputStream);
-      zipOutputStream.putNextEntry(new ZipEntry(name));
+      zipOutputStream.putNextEntry(name);
       this.zipOutputStream = zipOutputStream;
     }
 
@@ -1,5 +1,6 @@
 package org.cbioportal.application.file.model;
 
+import java.util.Date;
 import java.util.SequencedMap;
 
 /** Represents metadata for a cancer study. */
@@ -52,6 +53,12 @@ public class CancerStudyMetadata implements StudyRelatedMetadata {
    */
   private String referenceGenome;
 
+  /**
+   * When the study was last imported. Not part of meta_study.txt; it identifies the version of the
+   * study that an export was made from.
+   */
+  private Date importDate;
+
   public String getTypeOfCancer() {
     return typeOfCancer;
   }
@@ -124,6 +131,14 @@ public class CancerStudyMetadata implements StudyRelatedMetadata {
     this.addGlobalCaseList = addGlobalCaseList;
   }
 
+  public Date getImportDate() {
+    return importDate;
+  }
+
+  public void setImportDate(Date importDate) {
+    this.importDate = importDate;
+  }
+
   @Override
   public SequencedMap<String, String> toMetadataKeyValues() {
     var metadata = StudyRelatedMetadata.super.toMetadataKeyValues();
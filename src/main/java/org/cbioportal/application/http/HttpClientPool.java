@@ -0,0 +1,155 @@
+package org.cbioportal.application.http;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Shared HTTP client for the calls the portal makes to other services, e.g. the session service and
+ * the proxied OncoKB API.
+ *
+ * <p>All {@link RestTemplate}s handed out by this class use one pool of keep-alive connections, so
+ * repeated calls to the same host reuse their connection instead of opening a new one each time.
+ * Connect, response and pool lease timeouts are configurable. Requests can be fanned out with
+ * {@link #supplyAsync(Supplier)}, which runs each call on its own virtual thread; the number of
+ * concurrent calls per host is still bounded by the pool.
+ *
+ * <p>The latency of every call is recorded per target ({@code scheme://host:port}) in {@link
+ * PerformanceMetrics}, which exposes it at {@code /api/performance-metrics}.
+ */
+@Component
+public class HttpClientPool {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HttpClientPool.class);
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final CloseableHttpClient httpClient;
+  private final HttpComponentsClientHttpRequestFactory requestFactory;
+  private final RestTemplate restTemplate;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final PerformanceMetrics performanceMetrics;
+
+  public HttpClientPool(
+      PerformanceMetrics performanceMetrics,
+      @Value("${http_client.max_connections:200}") int maxConnections,
+      @Value("${http_client.max_connections_per_route:50}") int maxConnectionsPerRoute,
+      @Value("${http_client.connect_timeout_ms:5000}") long connectTimeoutMillis,
+      @Value("${http_client.response_timeout_ms:30000}") long responseTimeoutMillis,
+      @Value("${http_client.connection_request_timeout_ms:10000}")
+          long connectionRequestTimeoutMillis,
+      @Value("${http_client.idle_timeout_ms:60000}") long idleTimeoutMillis) {
+    this.performanceMetrics = performanceMetrics;
+    connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                    .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                    .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                    .build())
+            .build();
+    httpClient =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectionRequestTimeout(
+                        Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                    .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                    .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMillis))
+            .build();
+    requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+    restTemplate = newRestTemplate();
+  }
+
+  /**
+   * @return the shared {@link RestTemplate}. It must not be reconfigured; use {@link
+   *     #createRestTemplate()} for a template with e.g. its own error handler.
+   */
+  public RestTemplate getRestTemplate() {
+    return restTemplate;
+  }
+
+  /**
+   * @return a new {@link RestTemplate} that can be configured freely, but still uses the pooled
+   *     connections and records latencies. It reads and writes strings as UTF-8.
+   */
+  public RestTemplate createRestTemplate() {
+    return newRestTemplate();
+  }
+
+  private RestTemplate newRestTemplate() {
+    RestTemplate template = new RestTemplate(requestFactory);
+    template.getMessageConverters().add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+    template.getInterceptors().add(new LatencyInterceptor());
+    return template;
+  }
+
+  /** Runs {@code call} on a virtual thread, e.g. to fan out a number of independent requests. */
+  public <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+    return CompletableFuture.supplyAsync(call, executor);
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+    executor.shutdownNow();
+    httpClient.close();
+    connectionManager.close();
+  }
+
+  private static String getTarget(URI uri) {
+    return uri.getScheme()
+        + "://"
+        + uri.getHost()
+        + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+  }
+
+  private class LatencyInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(
+        HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+      String target = getTarget(request.getURI());
+      long start = System.nanoTime();
+      boolean failed = true;
+      try {
+        ClientHttpResponse response = execution.execute(request, body);
+        failed = response.getStatusCode().isError();
+        return response;
+      } finally {
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        performanceMetrics.recordHttpCall(target, elapsedMillis, failed);
+        LOG.debug("{} {} took {} ms", request.getMethod(), target, elapsedMillis);
+      }
+    }
+  }
+}
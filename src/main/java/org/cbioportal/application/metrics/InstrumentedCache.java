@@ -0,0 +1,142 @@
+package org.cbioportal.application.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} that records its hits and misses, and how long it takes to compute a missing value,
+ * in {@link PerformanceMetrics}.
+ *
+ * <p>For {@code @Cacheable} methods the value is computed between the missed {@link #get(Object)}
+ * and the {@link #put(Object, Object)} of the same key on the same thread; that is the load time.
+ */
+public class InstrumentedCache implements Cache {
+
+  // misses not followed by a put, e.g. because the method threw, are dropped beyond this
+  private static final int MAX_PENDING_LOADS = 32;
+
+  private final Cache delegate;
+  private final PerformanceMetrics performanceMetrics;
+  private final ThreadLocal<Map<Object, Long>> missedAt = ThreadLocal.withInitial(HashMap::new);
+
+  public InstrumentedCache(Cache delegate, PerformanceMetrics performanceMetrics) {
+    this.delegate = delegate;
+    this.performanceMetrics = performanceMetrics;
+  }
+
+  Cache getDelegate() {
+    return delegate;
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    ValueWrapper value = delegate.get(key);
+    if (value == null) {
+      performanceMetrics.recordCacheMiss(getName());
+      Map<Object, Long> missed = missedAt.get();
+      if (missed.size() >= MAX_PENDING_LOADS) {
+        missed.clear();
+      }
+      missed.put(key, System.nanoTime());
+    } else {
+      performanceMetrics.recordCacheHit(getName());
+    }
+    return value;
+  }
+
+  @Override
+  public <T> T get(Object key, Class<T> type) {
+    return delegate.get(key, type);
+  }
+
+  @Override
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    boolean[] loaded = {false};
+    T value =
+        delegate.get(
+            key,
+            () -> {
+              loaded[0] = true;
+              long start = System.nanoTime();
+              try {
+                return valueLoader.call();
+              } finally {
+                performanceMetrics.recordCacheLoad(
+                    getName(), (System.nanoTime() - start) / 1_000_000);
+              }
+            });
+    if (loaded[0]) {
+      performanceMetrics.recordCacheMiss(getName());
+    } else {
+      performanceMetrics.recordCacheHit(getName());
+    }
+    return value;
+  }
+
+  @Override
+  public CompletableFuture<?> retrieve(Object key) {
+    return delegate.retrieve(key);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+    return delegate.retrieve(key, valueLoader);
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    recordLoad(key);
+    delegate.put(key, value);
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    recordLoad(key);
+    return delegate.putIfAbsent(key, value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    delegate.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    return delegate.evictIfPresent(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return delegate.invalidate();
+  }
+
+  private void recordLoad(Object key) {
+    Map<Object, Long> missed = missedAt.get();
+    Long start = missed.remove(key);
+    if (start != null) {
+      performanceMetrics.recordCacheLoad(getName(), (System.nanoTime() - start) / 1_000_000);
+    }
+    if (missed.isEmpty()) {
+      missedAt.remove();
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package org.cbioportal.application.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.NamedCacheResolver;
+
+/**
+ * {@link NamedCacheResolver} that hands out {@link InstrumentedCache}s, so that the caches it
+ * resolves report to {@link PerformanceMetrics}. Without metrics it resolves the plain caches.
+ */
+public class InstrumentedCacheResolver extends NamedCacheResolver {
+
+  private final PerformanceMetrics performanceMetrics;
+  private final Map<String, InstrumentedCache> instrumentedCaches = new ConcurrentHashMap<>();
+
+  public InstrumentedCacheResolver(
+      CacheManager cacheManager, PerformanceMetrics performanceMetrics, String... cacheNames) {
+    super(cacheManager, cacheNames);
+    this.performanceMetrics = performanceMetrics;
+  }
+
+  @Override
+  public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+    Collection<? extends Cache> caches = super.resolveCaches(context);
+    if (performanceMetrics == null) {
+      return caches;
+    }
+    return caches.stream().map(this::instrument).toList();
+  }
+
+  private Cache instrument(Cache cache) {
+    InstrumentedCache instrumentedCache = instrumentedCaches.get(cache.getName());
+    if (instrumentedCache == null || instrumentedCache.getDelegate() != cache) {
+      instrumentedCache = new InstrumentedCache(cache, performanceMetrics);
+      instrumentedCaches.put(cache.getName(), instrumentedCache);
+    }
+    return instrumentedCache;
+  }
+}
@@ -0,0 +1,91 @@
+package org.cbioportal.application.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with fixed millisecond buckets. Percentiles are estimated as the
+ * upper bound of the bucket they fall in, capped by the slowest recorded call.
+ */
+public class LatencyHistogram {
+
+  static final long[] BUCKET_BOUNDS_MILLIS = {
+    1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000
+  };
+
+  private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+  private final LongAdder totalMillis = new LongAdder();
+  private final AtomicLong maxMillis = new AtomicLong();
+
+  public LatencyHistogram() {
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  public void record(long millis) {
+    int bucket = 0;
+    while (bucket < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[bucket]) {
+      bucket++;
+    }
+    buckets[bucket].increment();
+    totalMillis.add(millis);
+    maxMillis.accumulateAndGet(millis, Math::max);
+  }
+
+  public Snapshot snapshot() {
+    long[] bucketCounts = new long[buckets.length];
+    for (int i = 0; i < buckets.length; i++) {
+      bucketCounts[i] = buckets[i].sum();
+    }
+    long max = maxMillis.get();
+    Map<String, Long> histogram = new LinkedHashMap<>();
+    for (int i = 0; i < bucketCounts.length; i++) {
+      histogram.put(
+          i < BUCKET_BOUNDS_MILLIS.length ? "le_" + BUCKET_BOUNDS_MILLIS[i] : "le_inf",
+          bucketCounts[i]);
+    }
+    long total = 0;
+    for (long bucketCount : bucketCounts) {
+      total += bucketCount;
+    }
+    return new Snapshot(
+        total,
+        totalMillis.sum(),
+        max,
+        percentile(bucketCounts, total, max, 0.5),
+        percentile(bucketCounts, total, max, 0.95),
+        percentile(bucketCounts, total, max, 0.99),
+        histogram);
+  }
+
+  private static long percentile(long[] bucketCounts, long total, long max, double quantile) {
+    long rank = (long) Math.ceil(quantile * total);
+    long cumulative = 0;
+    for (int i = 0; i < bucketCounts.length; i++) {
+      cumulative += bucketCounts[i];
+      if (cumulative >= rank && cumulative > 0) {
+        return i < BUCKET_BOUNDS_MILLIS.length ? Math.min(BUCKET_BOUNDS_MILLIS[i], max) : max;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * @param buckets the number of calls per bucket, by upper bound in milliseconds.
+   */
+  public record Snapshot(
+      long count,
+      long totalMillis,
+      long maxMillis,
+      long p50Millis,
+      long p95Millis,
+      long p99Millis,
+      Map<String, Long> buckets) {
+    public long meanMillis() {
+      return count == 0 ? 0 : totalMillis / count;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package org.cbioportal.application.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process registry of the latencies of controller endpoints, MyBatis statements, cache loads and
+ * outgoing HTTP calls, and of the hits and misses of each cache.
+ *
+ * <p>Endpoints are named by their method and request mapping pattern, statements by their mapper
+ * id, caches by their cache name and HTTP calls by their target ({@code scheme://host:port}), so
+ * the number of timers stays bounded.
+ */
+@Component
+public class PerformanceMetrics {
+
+  private final Map<String, LatencyHistogram> endpoints = new ConcurrentHashMap<>();
+  private final Map<String, LatencyHistogram> statements = new ConcurrentHashMap<>();
+  private final Map<String, CacheMetrics> caches = new ConcurrentHashMap<>();
+  private final Map<String, HttpCallMetrics> httpCalls = new ConcurrentHashMap<>();
+
+  public void recordEndpoint(String endpoint, long millis) {
+    endpoints.computeIfAbsent(endpoint, key -> new LatencyHistogram()).record(millis);
+  }
+
+  public void recordStatement(String statementId, long millis) {
+    statements.computeIfAbsent(statementId, key -> new LatencyHistogram()).record(millis);
+  }
+
+  public void recordCacheHit(String cacheName) {
+    getCacheMetrics(cacheName).hits.increment();
+  }
+
+  public void recordCacheMiss(String cacheName) {
+    getCacheMetrics(cacheName).misses.increment();
+  }
+
+  public void recordCacheLoad(String cacheName, long millis) {
+    getCacheMetrics(cacheName).loads.record(millis);
+  }
+
+  /**
+   * @param failed whether the call failed or was answered with an error status.
+   */
+  public void recordHttpCall(String target, long millis, boolean failed) {
+    HttpCallMetrics metrics = httpCalls.computeIfAbsent(target, key -> new HttpCallMetrics());
+    metrics.latencies.record(millis);
+    if (failed) {
+      metrics.errors.increment();
+    }
+  }
+
+  public Map<String, LatencyHistogram.Snapshot> getEndpointLatencies() {
+    return snapshot(endpoints);
+  }
+
+  public Map<String, LatencyHistogram.Snapshot> getStatementLatencies() {
+    return snapshot(statements);
+  }
+
+  public Map<String, CacheSnapshot> getCacheStatistics() {
+    Map<String, CacheSnapshot> snapshot = new TreeMap<>();
+    caches.forEach(
+        (name, metrics) ->
+            snapshot.put(
+                name,
+                new CacheSnapshot(
+                    metrics.hits.sum(), metrics.misses.sum(), metrics.loads.snapshot())));
+    return snapshot;
+  }
+
+  public Map<String, HttpCallSnapshot> getHttpCallStatistics() {
+    Map<String, HttpCallSnapshot> snapshot = new TreeMap<>();
+    httpCalls.forEach(
+        (target, metrics) ->
+            snapshot.put(
+                target, new HttpCallSnapshot(metrics.errors.sum(), metrics.latencies.snapshot())));
+    return snapshot;
+  }
+
+  private CacheMetrics getCacheMetrics(String cacheName) {
+    return caches.computeIfAbsent(cacheName, key -> new CacheMetrics());
+  }
+
+  private static Map<String, LatencyHistogram.Snapshot> snapshot(
+      Map<String, LatencyHistogram> histograms) {
+    Map<String, LatencyHistogram.Snapshot> snapshot = new TreeMap<>();
+    histograms.forEach((name, histogram) -> snapshot.put(name, histogram.snapshot()));
+    return snapshot;
+  }
+
+  private static class CacheMetrics {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LatencyHistogram loads = new LatencyHistogram();
+  }
+
+  private static class HttpCallMetrics {
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+  }
+
+  /**
+   * @param loads the time spent computing the values that were missing.
+   */
+  public record CacheSnapshot(long hits, long misses, LatencyHistogram.Snapshot loads) {
+    public double hitRate() {
+      long requests = hits + misses;
+      return requests == 0 ? 0 : (double) hits / requests;
+    }
+  }
+
+  /**
+   * @param errors the number of calls that failed or were answered with an error status.
+   */
+  public record HttpCallSnapshot(long errors, LatencyHistogram.Snapshot latencies) {}
+}
@@ -0,0 +1,124 @@
+package org.cbioportal.application.metrics;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis plugin that times every mapper statement by its id, and logs the statements that take
+ * longer than {@code slow_query_log.threshold_ms} together with the sizes of their collection
+ * parameters and the number of rows they returned or changed.
+ */
+@Component
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {
+        MappedStatement.class,
+        Object.class,
+        RowBounds.class,
+        ResultHandler.class,
+        CacheKey.class,
+        BoundSql.class
+      }),
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class})
+})
+public class StatementTimingInterceptor implements Interceptor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StatementTimingInterceptor.class);
+  // the generic param1, param2... names MyBatis adds next to the named parameters
+  private static final Pattern GENERIC_PARAMETER_NAME = Pattern.compile("param\\d+");
+
+  private final PerformanceMetrics performanceMetrics;
+  private final long slowQueryThresholdMillis;
+
+  /**
+   * @param slowQueryThresholdMillis statements taking at least this long are logged; a negative
+   *     value disables the log.
+   */
+  public StatementTimingInterceptor(
+      PerformanceMetrics performanceMetrics,
+      @Value("${slow_query_log.threshold_ms:1000}") long slowQueryThresholdMillis) {
+    this.performanceMetrics = performanceMetrics;
+    this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    long start = System.nanoTime();
+    Object result = null;
+    try {
+      result = invocation.proceed();
+      return result;
+    } finally {
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      performanceMetrics.recordStatement(mappedStatement.getId(), elapsedMillis);
+      if (slowQueryThresholdMillis >= 0 && elapsedMillis >= slowQueryThresholdMillis) {
+        LOG.warn(
+            "Slow query {} took {} ms, parameter sizes {}, rows {}",
+            mappedStatement.getId(),
+            elapsedMillis,
+            describeParameterSizes(invocation.getArgs()[1]),
+            countRows(result));
+      }
+    }
+  }
+
+  static String describeParameterSizes(Object parameter) {
+    StringJoiner sizes = new StringJoiner(", ", "{", "}");
+    if (parameter instanceof Map<?, ?> parameters) {
+      parameters.forEach(
+          (name, value) -> {
+            int size = size(value);
+            if (size >= 0 && !GENERIC_PARAMETER_NAME.matcher(String.valueOf(name)).matches()) {
+              sizes.add(name + "=" + size);
+            }
+          });
+    } else if (size(parameter) >= 0) {
+      sizes.add("parameter=" + size(parameter));
+    }
+    return sizes.toString();
+  }
+
+  static String countRows(Object result) {
+    if (result instanceof Collection<?> rows) {
+      return String.valueOf(rows.size());
+    }
+    return result == null ? "unknown" : String.valueOf(result);
+  }
+
+  private static int size(Object value) {
+    if (value instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (value != null && value.getClass().isArray()) {
+      return Array.getLength(value);
+    }
+    return -1;
+  }
+}
@@ -39,6 +39,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashMap;
 import java.util.Map;
+import org.cbioportal.application.http.HttpClientPool;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -50,16 +51,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
-import org.springframework.web.client.RestTemplate;
 
 @Controller
 @RequestMapping("/api/proxy")
 public class LegacyProxyController {
 
+  private final HttpClientPool httpClientPool;
+
   private String bitlyURL;
   private String sessionServiceURL;
   private Boolean enableOncokb;
 
+  public LegacyProxyController(HttpClientPool httpClientPool) {
+    this.httpClientPool = httpClientPool;
+  }
+
   @Value("${bitly.url:''}")
   public void setBitlyURL(String property) {
     this.bitlyURL = property;
@@ -113,10 +119,11 @@ public class LegacyProxyController {
   private String respProxy(String url, HttpMethod method, Object body, HttpServletResponse response)
       throws IOException {
     try {
-      RestTemplate restTemplate = new RestTemplate();
       URI uri = new URI(url);
       ResponseEntity<String> responseEntity =
-          restTemplate.exchange(uri, method, new HttpEntity<>(body), String.class);
+          httpClientPool
+              .getRestTemplate()
+              .exchange(uri, method, new HttpEntity<>(body), String.class);
       return responseEntity.getBody();
     } catch (Exception exception) {
       String errorMessage = "Unexpected error: " + exception.getLocalizedMessage();
@@ -0,0 +1,185 @@
+package org.cbioportal.application.proxy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived store of OncoKB responses, so that the same annotation requested by many users is
+ * only fetched from OncoKB once.
+ *
+ * <p>Only idempotent requests are cached: GET requests and the POST requests to the {@code
+ * /annotate} endpoints. Entries are keyed by a hash of the method, path, query string, content
+ * type, the {@code Authorization} header sent to OncoKB and the request body. JSON bodies are
+ * normalized first, so the order of their properties does not matter. Because the token is part of
+ * the key, a response is never served to a request with a different token. Concurrent identical
+ * requests wait for the first one instead of calling OncoKB themselves. Failed calls are not
+ * cached.
+ *
+ * <p>Hits, misses and the duration of the calls to OncoKB are recorded in {@link
+ * PerformanceMetrics} as cache {@value #CACHE_NAME}.
+ */
+@Component
+public class OncokbResponseCache {
+
+  static final String CACHE_NAME = "oncokbResponses";
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+  private final PerformanceMetrics performanceMetrics;
+  private final boolean enabled;
+  private final long ttlSeconds;
+  private final int maxEntries;
+
+  public OncokbResponseCache(
+      PerformanceMetrics performanceMetrics,
+      @Value("${oncokb.proxy_cache.enabled:true}") boolean enabled,
+      @Value("${oncokb.proxy_cache.ttl_seconds:3600}") long ttlSeconds,
+      @Value("${oncokb.proxy_cache.max_entries:10000}") int maxEntries) {
+    this.performanceMetrics = performanceMetrics;
+    this.enabled = enabled;
+    this.ttlSeconds = ttlSeconds;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * @return the cached response of the request, or the response returned by {@code loader} if the
+   *     request is not cacheable or not cached yet.
+   */
+  public String getResponse(
+      HttpMethod method,
+      String path,
+      String queryString,
+      String body,
+      HttpHeaders httpHeaders,
+      Supplier<String> loader) {
+    if (!isCacheable(method, path)) {
+      return loader.get();
+    }
+    String key = getKey(method, path, queryString, body, httpHeaders);
+    long now = System.currentTimeMillis();
+    Entry entry = entries.get(key);
+    if (entry != null && entry.expiresAt > now) {
+      performanceMetrics.recordCacheHit(CACHE_NAME);
+      return entry.response;
+    }
+
+    CompletableFuture<String> pending = new CompletableFuture<>();
+    CompletableFuture<String> existing = inFlight.putIfAbsent(key, pending);
+    if (existing != null) {
+      performanceMetrics.recordCacheHit(CACHE_NAME);
+      return join(existing);
+    }
+    performanceMetrics.recordCacheMiss(CACHE_NAME);
+    try {
+      long start = System.nanoTime();
+      String response = loader.get();
+      performanceMetrics.recordCacheLoad(CACHE_NAME, (System.nanoTime() - start) / 1_000_000);
+      entries.put(key, new Entry(response, now + ttlSeconds * 1000));
+      evict(now);
+      pending.complete(response);
+      return response;
+    } catch (RuntimeException e) {
+      pending.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, pending);
+    }
+  }
+
+  /**
+   * @return the number of cached responses.
+   */
+  int size() {
+    return entries.size();
+  }
+
+  private boolean isCacheable(HttpMethod method, String path) {
+    return enabled
+        && (HttpMethod.GET.equals(method)
+            || (HttpMethod.POST.equals(method)
+                && path != null
+                && path.replaceFirst("^/+", "").startsWith("annotate")));
+  }
+
+  private String getKey(
+      HttpMethod method, String path, String queryString, String body, HttpHeaders httpHeaders) {
+    return hash(
+        String.join(
+            "\n",
+            method.name(),
+            path,
+            Objects.toString(queryString, ""),
+            Objects.toString(httpHeaders.getContentType(), ""),
+            Objects.toString(httpHeaders.getFirst(HttpHeaders.AUTHORIZATION), ""),
+            normalize(body)));
+  }
+
+  private String normalize(String body) {
+    if (body == null || body.isBlank()) {
+      return "";
+    }
+    try {
+      return objectMapper.writeValueAsString(objectMapper.readValue(body, Object.class));
+    } catch (JsonProcessingException e) {
+      return body; // not JSON, use as is
+    }
+  }
+
+  private void evict(long now) {
+    if (entries.size() <= maxEntries) {
+      return;
+    }
+    entries.values().removeIf(e -> e.expiresAt <= now);
+    int overflow = entries.size() - maxEntries;
+    if (overflow > 0) {
+      entries.entrySet().stream()
+          .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+          .limit(overflow)
+          .map(Map.Entry::getKey)
+          .toList()
+          .forEach(entries::remove);
+    }
+  }
+
+  private static String join(CompletableFuture<String> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static String hash(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record Entry(String response, long expiresAt) {}
+}
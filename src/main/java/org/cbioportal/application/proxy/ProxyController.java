@@ -4,8 +4,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import org.apache.commons.lang3.StringUtils;
+import org.cbioportal.application.http.HttpClientPool;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -14,12 +14,10 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 // TODO Consider creating separate DispatcherServlets as in the original web.xml
 // See: https://stackoverflow.com/a/30686733/11651683
@@ -31,6 +29,10 @@ public class ProxyController {
 
   @Autowired private Monkifier monkifier;
 
+  @Autowired private HttpClientPool httpClientPool;
+
+  @Autowired private OncokbResponseCache oncokbResponseCache;
+
   @Value("${oncokb.token:}")
   private String oncokbToken;
 
@@ -88,13 +90,14 @@ public class ProxyController {
   private String exchangeOncokbData(
       String body, String pathInfo, String queryString, HttpMethod method, HttpHeaders httpHeaders)
       throws URISyntaxException {
-    return exchangeData(
-            body,
-            buildUri(this.oncokbApiUrl + pathInfo, queryString),
-            method,
-            httpHeaders,
-            String.class)
-        .getBody();
+    URI uri = buildUri(this.oncokbApiUrl + pathInfo, queryString);
+    return oncokbResponseCache.getResponse(
+        method,
+        pathInfo,
+        queryString,
+        body,
+        httpHeaders,
+        () -> exchangeData(body, uri, method, httpHeaders, String.class).getBody());
   }
 
   private HttpHeaders getOncokbHeaders(HttpServletRequest request) {
@@ -139,11 +142,10 @@ public class ProxyController {
 
   private <T> ResponseEntity<T> exchangeData(
       String body, URI uri, HttpMethod method, HttpHeaders httpHeaders, Class<T> responseType) {
-    RestTemplate restTemplate = new RestTemplate();
-    restTemplate
-        .getMessageConverters()
-        .add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
-    return restTemplate.exchange(uri, method, new HttpEntity<>(body, httpHeaders), responseType);
+    // the pooled template reads and writes strings as UTF-8
+    return httpClientPool
+        .getRestTemplate()
+        .exchange(uri, method, new HttpEntity<>(body, httpHeaders), responseType);
   }
 
   @ResponseStatus(code = HttpStatus.NOT_FOUND, reason = "OncoKB service is disabled")
@@ -7,6 +7,8 @@ import jakarta.validation.constraints.Min;
 import java.util.List;
 import org.cbioportal.application.rest.mapper.CancerStudyMetadataMapper;
 import org.cbioportal.application.rest.response.CancerStudyMetadataDTO;
+import org.cbioportal.domain.cancerstudy.CancerStudyMetadata;
+import org.cbioportal.domain.cancerstudy.usecase.CancerStudyCatalog;
 import org.cbioportal.domain.cancerstudy.usecase.GetCancerStudyMetadataUseCase;
 import org.cbioportal.legacy.web.parameter.Direction;
 import org.cbioportal.legacy.web.parameter.HeaderKeyConstants;
@@ -44,15 +46,20 @@ public class ColumnStoreStudyController {
   private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
 
   private final GetCancerStudyMetadataUseCase getCancerStudyMetadataUseCase;
+  private final CancerStudyCatalog cancerStudyCatalog;
 
   /**
    * Constructs a new {@link ColumnStoreStudyController} with the specified use case.
    *
    * @param getCancerStudyMetadataUseCase the use case responsible for retrieving cancer study
    *     metadata.
+   * @param cancerStudyCatalog the in-memory snapshot of the unfiltered study list.
    */
-  public ColumnStoreStudyController(GetCancerStudyMetadataUseCase getCancerStudyMetadataUseCase) {
+  public ColumnStoreStudyController(
+      GetCancerStudyMetadataUseCase getCancerStudyMetadataUseCase,
+      CancerStudyCatalog cancerStudyCatalog) {
     this.getCancerStudyMetadataUseCase = getCancerStudyMetadataUseCase;
+    this.cancerStudyCatalog = cancerStudyCatalog;
   }
 
   /**
@@ -62,6 +69,10 @@ public class ColumnStoreStudyController {
    * through the projection parameter, and sorting the results by a specified property and
    * direction.
    *
+   * <p>The unfiltered list is served from the {@link CancerStudyCatalog} snapshot with a strong
+   * {@code ETag}; a request whose {@code If-None-Match} header matches it gets an empty {@code 304
+   * Not Modified} response.
+   *
    * <p><b>Note:</b> This endpoint is marked as {@link Hidden} and will not be exposed in the API
    * documentation.
    *
@@ -110,6 +121,21 @@ public class ColumnStoreStudyController {
             pageSize,
             pageNumber);
 
+    CancerStudyCatalog.Snapshot snapshot =
+        projection != ProjectionType.META
+                && GetCancerStudyMetadataUseCase.isUnfiltered(sortAndSearchCriteria)
+            ? cancerStudyCatalog.current()
+            : null;
+    if (snapshot != null && snapshot.studies(projection) != null) {
+      List<CancerStudyMetadata> studies =
+          getCancerStudyMetadataUseCase.execute(snapshot, projection);
+      // the entity tag is set on a 200 response; Spring turns it into a 304 if it matches the
+      // If-None-Match header of the request
+      return ResponseEntity.ok()
+          .eTag(snapshot.eTag(projection, studies))
+          .body(CancerStudyMetadataMapper.INSTANCE.toDtos(studies));
+    }
+
     var studies = getCancerStudyMetadataUseCase.execute(projection, sortAndSearchCriteria);
 
     // Pagination should be handled at the DB layer, but currently our query is not
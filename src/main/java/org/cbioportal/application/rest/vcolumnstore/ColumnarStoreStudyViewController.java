@@ -38,6 +38,7 @@ import org.cbioportal.legacy.model.GenomicDataCount;
 import org.cbioportal.legacy.model.GenomicDataCountItem;
 import org.cbioportal.legacy.model.PatientTreatmentReport;
 import org.cbioportal.legacy.model.SampleTreatmentReport;
+import org.cbioportal.legacy.model.StudyViewChartResult;
 import org.cbioportal.legacy.service.ClinicalDataDensityPlotService;
 import org.cbioportal.legacy.service.CustomDataService;
 import org.cbioportal.legacy.service.ViolinPlotService;
@@ -60,8 +61,11 @@ import org.cbioportal.legacy.web.parameter.GenomicDataFilter;
 import org.cbioportal.legacy.web.parameter.MutationOption;
 import org.cbioportal.legacy.web.parameter.Projection;
 import org.cbioportal.legacy.web.parameter.SampleIdentifier;
+import org.cbioportal.legacy.web.parameter.StudyViewChartBatchFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartRequest;
 import org.cbioportal.legacy.web.parameter.StudyViewFilter;
 import org.cbioportal.legacy.web.util.DensityPlotParameters;
+import org.cbioportal.legacy.web.util.StudyViewChartBatchEvaluator;
 import org.cbioportal.shared.enums.ProjectionType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -86,6 +90,7 @@ public class ColumnarStoreStudyViewController {
   private final ViolinPlotService violinPlotService;
   private final CustomDataService customDataService;
   private final CustomDataFilterUtil customDataFilterUtil;
+  private final StudyViewChartBatchEvaluator studyViewChartBatchEvaluator;
 
   public ColumnarStoreStudyViewController(
       StudyViewService studyViewService,
@@ -94,7 +99,8 @@ public class ColumnarStoreStudyViewController {
       ClinicalDataDensityPlotService clinicalDataDensityPlotService,
       ViolinPlotService violinPlotService,
       CustomDataService customDataService,
-      CustomDataFilterUtil customDataFilterUtil) {
+      CustomDataFilterUtil customDataFilterUtil,
+      StudyViewChartBatchEvaluator studyViewChartBatchEvaluator) {
     this.studyViewService = studyViewService;
     this.basicDataBinner = basicDataBinner;
     this.clinicalDataBinner = clinicalDataBinner;
@@ -102,6 +108,7 @@ public class ColumnarStoreStudyViewController {
     this.violinPlotService = violinPlotService;
     this.customDataService = customDataService;
     this.customDataFilterUtil = customDataFilterUtil;
+    this.studyViewChartBatchEvaluator = studyViewChartBatchEvaluator;
   }
 
   @Hidden
@@ -726,4 +733,40 @@ public class ColumnarStoreStudyViewController {
         basicDataBinner.getDataBins(dataBinMethod, genericAssayDataBinCountFilter, true);
     return ResponseEntity.ok(genericAssayDataBins);
   }
+
+  @Hidden // should unhide when we remove legacy controller
+  @RequestMapping(
+      value = "/study-view-charts/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize(
+      "hasPermission(#studyViewChartBatchFilter, 'StudyViewChartBatchFilter', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  public ResponseEntity<Map<String, StudyViewChartResult>> fetchStudyViewCharts(
+      @Valid @RequestBody(required = false) StudyViewChartBatchFilter studyViewChartBatchFilter) {
+    return ResponseEntity.ok(
+        studyViewChartBatchEvaluator.evaluate(studyViewChartBatchFilter, this::fetchChart));
+  }
+
+  private Object fetchChart(StudyViewChartRequest chart, StudyViewFilter studyViewFilter)
+      throws StudyNotFoundException {
+    return switch (chart.getType()) {
+      case CLINICAL_DATA_COUNTS -> {
+        ClinicalDataCountFilter clinicalDataCountFilter =
+            StudyViewChartBatchEvaluator.toClinicalDataCountFilter(chart, studyViewFilter);
+        yield fetchClinicalDataCounts(clinicalDataCountFilter).getBody();
+      }
+      case CLINICAL_DATA_BIN_COUNTS ->
+          clinicalDataBinner.fetchClinicalDataBinCounts(
+              chart.getDataBinMethod(),
+              StudyViewChartBatchEvaluator.toClinicalDataBinCountFilter(chart, studyViewFilter),
+              true);
+      case MUTATED_GENES -> studyViewService.getMutatedGenes(studyViewFilter);
+      case STRUCTURAL_VARIANT_GENES -> studyViewService.getStructuralVariantGenes(studyViewFilter);
+      case CNA_GENES -> studyViewService.getCnaGenes(studyViewFilter);
+      case MOLECULAR_PROFILE_SAMPLE_COUNTS ->
+          studyViewService.getMolecularProfileSampleCounts(studyViewFilter);
+      case SAMPLE_LIST_COUNTS -> studyViewService.getCaseListDataCounts(studyViewFilter);
+    };
+  }
 }
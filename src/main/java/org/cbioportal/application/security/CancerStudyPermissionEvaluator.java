@@ -33,12 +33,13 @@
 package org.cbioportal.application.security;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.cbioportal.application.security.util.CancerStudyExtractorUtil;
 import org.cbioportal.domain.cancerstudy.CancerStudyMetadata;
@@ -47,6 +48,7 @@ import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.MolecularProfileCaseIdentifier;
 import org.cbioportal.legacy.model.Patient;
 import org.cbioportal.legacy.model.SampleList;
+import org.cbioportal.legacy.persistence.cachemaputil.CacheMapBuilder;
 import org.cbioportal.legacy.persistence.cachemaputil.CacheMapUtil;
 import org.cbioportal.legacy.utils.security.AccessLevel;
 import org.cbioportal.legacy.web.parameter.ClinicalDataCountFilter;
@@ -55,6 +57,7 @@ import org.cbioportal.legacy.web.parameter.GenericAssayDataCountFilter;
 import org.cbioportal.legacy.web.parameter.GenomicDataCountFilter;
 import org.cbioportal.legacy.web.parameter.MolecularProfileCasesGroupAndAlterationTypeFilter;
 import org.cbioportal.legacy.web.parameter.SampleFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartBatchFilter;
 import org.cbioportal.legacy.web.parameter.StudyViewFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +71,12 @@ import org.springframework.security.core.authority.AuthorityUtils;
  *
  * <p>Anonymous users will only get access to public studies.
  *
+ * <p>The set of studies a user can access is resolved once for all studies in {@link
+ * CacheMapUtil#getCancerStudyMap()} and kept for {@code studyAccessTtlMillis}, keyed by the
+ * authorities of the user, so that checking a collection of studies comes down to set lookups. It
+ * is resolved again as soon as {@link CacheMapUtil#getCancerStudyGroupMap()} changes, e.g. after
+ * the cache maps are refreshed. With a TTL of 0 every study is checked on its own.
+ *
  * @author Benjamin Gross
  */
 public class CancerStudyPermissionEvaluator implements PermissionEvaluator {
@@ -98,6 +107,12 @@ public class CancerStudyPermissionEvaluator implements PermissionEvaluator {
 
   private final String PUBLIC_CANCER_STUDIES_GROUP;
 
+  private static final int MAX_STUDY_ACCESS_ENTRIES = 1000;
+
+  private final long studyAccessTtlMillis;
+
+  private final Map<Set<String>, StudyAccess> studyAccessCache = new ConcurrentHashMap<>();
+
   //    @Value("${always_show_study_group:}")
   //    private void setPublicCancerStudiesGroup(String property) {
   //        PUBLIC_CANCER_STUDIES_GROUP = property;
@@ -115,10 +130,20 @@ public class CancerStudyPermissionEvaluator implements PermissionEvaluator {
       final String doFilterGroupsByAppName,
       final String alwaysShowCancerStudyGroup,
       final CacheMapUtil cacheMapUtil) {
+    this(appName, doFilterGroupsByAppName, alwaysShowCancerStudyGroup, cacheMapUtil, 0);
+  }
+
+  public CancerStudyPermissionEvaluator(
+      final String appName,
+      final String doFilterGroupsByAppName,
+      final String alwaysShowCancerStudyGroup,
+      final CacheMapUtil cacheMapUtil,
+      final long studyAccessTtlMillis) {
     this.APP_NAME = appName;
     this.FILTER_GROUPS_BY_APP_NAME = doFilterGroupsByAppName;
     this.PUBLIC_CANCER_STUDIES_GROUP = alwaysShowCancerStudyGroup;
     this.cacheMapUtil = cacheMapUtil;
+    this.studyAccessTtlMillis = studyAccessTtlMillis;
   }
 
   /**
@@ -370,6 +395,10 @@ public class CancerStudyPermissionEvaluator implements PermissionEvaluator {
           clinicalDataCountFilter.getStudyViewFilter() != null
               ? clinicalDataCountFilter.getStudyViewFilter().getUniqueStudyIds()
               : new HashSet<>();
+      case StudyViewChartBatchFilter studyViewChartBatchFilter ->
+          studyViewChartBatchFilter.getStudyViewFilter() != null
+              ? studyViewChartBatchFilter.getStudyViewFilter().getUniqueStudyIds()
+              : new HashSet<>();
       case DataBinCountFilter dataBinCountFilter ->
           dataBinCountFilter.getStudyViewFilter() != null
               ? dataBinCountFilter.getStudyViewFilter().getUniqueStudyIds()
@@ -425,11 +454,92 @@ public class CancerStudyPermissionEvaluator implements PermissionEvaluator {
       return true;
     }
 
-    Set<String> grantedAuthorities = getGrantedAuthorities(authentication);
     String stableStudyID = cancerStudy.getCancerStudyIdentifier();
+    if (studyAccessTtlMillis <= 0) {
+      return hasAccessToCancerStudy(
+          getGrantedAuthorities(authentication),
+          stableStudyID,
+          CacheMapBuilder.toGroupSet(cancerStudy.getGroups()));
+    }
+    StudyAccess studyAccess = getStudyAccess(authentication);
+    // the resolved access only applies to studies that are checked with the groups they were
+    // resolved with, other studies are evaluated one by one
+    CancerStudy cachedCancerStudy = cacheMapUtil.getCancerStudyMap().get(stableStudyID);
+    if (cachedCancerStudy != null
+        && Objects.equals(cachedCancerStudy.getGroups(), cancerStudy.getGroups())
+        && studyAccess.resolvedCancerStudyIds().contains(stableStudyID)) {
+      boolean toReturn = studyAccess.accessibleCancerStudyIds().contains(stableStudyID);
+      if (log.isDebugEnabled()) {
+        log.debug(
+            "hasAccessToCancerStudy(), resolved access to '" + stableStudyID + "': " + toReturn);
+      }
+      return toReturn;
+    }
     if (log.isDebugEnabled()) {
-      log.debug("hasAccessToCancerStudy(), cancer study stable id: " + stableStudyID);
       log.debug("hasAccessToCancerStudy(), user: " + authentication.getPrincipal().toString());
+    }
+    return hasAccessToCancerStudy(
+        studyAccess.grantedAuthorities(),
+        stableStudyID,
+        CacheMapBuilder.toGroupSet(cancerStudy.getGroups()));
+  }
+
+  /**
+   * Returns the studies of {@link CacheMapUtil#getCancerStudyMap()} that users with the given
+   * authorities can access, resolving them if they are not cached, expired or resolved with groups
+   * that have changed since.
+   */
+  private StudyAccess getStudyAccess(Authentication authentication) {
+    Set<String> authorities = AuthorityUtils.authorityListToSet(authentication.getAuthorities());
+    long now = System.currentTimeMillis();
+    Map<String, Set<String>> cancerStudyGroupMap = cacheMapUtil.getCancerStudyGroupMap();
+    StudyAccess studyAccess = studyAccessCache.get(authorities);
+    // equals() returns right away for the same snapshot, which is the common case
+    if (studyAccess != null
+        && studyAccess.expiresAt() > now
+        && studyAccess.cancerStudyGroupMap().equals(cancerStudyGroupMap)) {
+      return studyAccess;
+    }
+    Set<String> grantedAuthorities = getGrantedAuthorities(authentication);
+    Set<String> resolvedCancerStudyIds = Set.copyOf(cacheMapUtil.getCancerStudyMap().keySet());
+    Set<String> accessibleCancerStudyIds =
+        resolvedCancerStudyIds.stream()
+            .filter(
+                cancerStudyId ->
+                    hasAccessToCancerStudy(
+                        grantedAuthorities,
+                        cancerStudyId,
+                        cancerStudyGroupMap.getOrDefault(cancerStudyId, Set.of())))
+            .collect(Collectors.toUnmodifiableSet());
+    studyAccess =
+        new StudyAccess(
+            grantedAuthorities,
+            cancerStudyGroupMap,
+            resolvedCancerStudyIds,
+            accessibleCancerStudyIds,
+            now + studyAccessTtlMillis);
+    if (studyAccessCache.size() >= MAX_STUDY_ACCESS_ENTRIES) {
+      studyAccessCache.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+    if (studyAccessCache.size() < MAX_STUDY_ACCESS_ENTRIES) {
+      studyAccessCache.put(authorities, studyAccess);
+    }
+    return studyAccess;
+  }
+
+  /**
+   * Determines whether a user with the given (normalized) authorities has access to a study.
+   *
+   * @param grantedAuthorities authorities as returned by {@link
+   *     #getGrantedAuthorities(Authentication)}
+   * @param stableStudyID stable id of the study
+   * @param groups groups of the study, see {@link CacheMapBuilder#toGroupSet(String)}
+   * @return boolean
+   */
+  private boolean hasAccessToCancerStudy(
+      Set<String> grantedAuthorities, String stableStudyID, Set<String> groups) {
+    if (log.isDebugEnabled()) {
+      log.debug("hasAccessToCancerStudy(), cancer study stable id: " + stableStudyID);
       for (String authority : grantedAuthorities) {
         log.debug("hasAccessToCancerStudy(), authority: " + authority);
       }
@@ -467,14 +577,6 @@ public class CancerStudyPermissionEvaluator implements PermissionEvaluator {
       return true;
     }
     // check if user is in study groups
-    // performance now takes precedence over group accuracy (minimal risk to caching cancer study
-    // groups)
-    // need to filter out empty groups, this can cause issue if grantedAuthorities and groups both
-    // contain empty string
-    Set<String> groups =
-        Arrays.stream(cancerStudy.getGroups().split(";"))
-            .filter(g -> !g.isEmpty())
-            .collect(Collectors.toSet());
     if (!Collections.disjoint(groups, grantedAuthorities)) {
       if (log.isDebugEnabled()) {
         log.debug("hasAccessToCancerStudy(), user has access by groups return true");
@@ -548,4 +650,20 @@ public class CancerStudyPermissionEvaluator implements PermissionEvaluator {
     }
     return FILTER_GROUPS_BY_APP_NAME == null || Boolean.parseBoolean(FILTER_GROUPS_BY_APP_NAME);
   }
+
+  /**
+   * Access of users with one set of authorities.
+   *
+   * @param grantedAuthorities the normalized authorities
+   * @param cancerStudyGroupMap the groups of the studies access was resolved with
+   * @param resolvedCancerStudyIds the cached studies access was resolved for
+   * @param accessibleCancerStudyIds the cached studies they can access
+   * @param expiresAt when the entry has to be resolved again
+   */
+  private record StudyAccess(
+      Set<String> grantedAuthorities,
+      Map<String, Set<String>> cancerStudyGroupMap,
+      Set<String> resolvedCancerStudyIds,
+      Set<String> accessibleCancerStudyIds,
+      long expiresAt) {}
 }
@@ -50,7 +50,8 @@ public class ApiSecurityConfig {
                         "/api/swagger-ui.html",
                         "/api/health",
                         "/api/public_virtual_studies/**",
-                        "/api/cache/**")
+                        "/api/cache/**",
+                        "/api/performance-metrics/**")
                     .permitAll()
                     .anyRequest()
                     .authenticated())
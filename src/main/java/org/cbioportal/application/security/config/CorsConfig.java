@@ -38,7 +38,8 @@ public class CorsConfig {
             "Content-Encoding",
             "X-Proxy-User-Agreement",
             "x-current-url"));
-    configuration.setExposedHeaders(List.of("total-count", "sample-count", "elapsed-time"));
+    configuration.setExposedHeaders(
+        List.of("total-count", "sample-count", "next-cursor", "next-page-token", "elapsed-time"));
     source.registerCorsConfiguration("/**", configuration);
     return source;
   }
@@ -23,9 +23,14 @@ public class MethodSecurityConfig {
       @Value("${app.name:}") String appName,
       @Value("${filter_groups_by_appname:true}") String doFilterGroupsByAppName,
       @Value("${always_show_study_group:}") String alwaysShowCancerStudyGroup,
+      @Value("${security.study_access_cache.ttl_ms:60000}") long studyAccessTtlMillis,
       CacheMapUtil cacheMapUtil) {
     return new CancerStudyPermissionEvaluator(
-        appName, doFilterGroupsByAppName, alwaysShowCancerStudyGroup, cacheMapUtil);
+        appName,
+        doFilterGroupsByAppName,
+        alwaysShowCancerStudyGroup,
+        cacheMapUtil,
+        studyAccessTtlMillis);
   }
 
   @Bean
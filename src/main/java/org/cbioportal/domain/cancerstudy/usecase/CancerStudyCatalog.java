@@ -0,0 +1,196 @@
+package org.cbioportal.domain.cancerstudy.usecase;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.cbioportal.domain.cancerstudy.CancerStudyMetadata;
+import org.cbioportal.domain.cancerstudy.ResourceCount;
+import org.cbioportal.domain.cancerstudy.repository.CancerStudyRepository;
+import org.cbioportal.legacy.service.StaticDataTimestampService;
+import org.cbioportal.shared.SortAndSearchCriteria;
+import org.cbioportal.shared.enums.ProjectionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-memory snapshot of the unfiltered study list, i.e. the list loaded by the home page.
+ *
+ * <p>Building the list aggregates sample list counts, clinical events, structural variants and
+ * resources over all studies, while the result only changes when a study is imported or removed.
+ * The snapshot is therefore built in the background and rebuilt only when the update timestamps of
+ * the tables it is derived from change. A rebuilt snapshot replaces the previous one atomically, so
+ * readers always see a complete snapshot and never wait for a rebuild.
+ *
+ * <p>The snapshot holds all studies; authorization is still applied per request by {@link
+ * GetCancerStudyMetadataUseCase}.
+ *
+ * @see GetCancerStudyMetadataUseCase
+ * @see StaticDataTimestampService
+ */
+@Service
+public class CancerStudyCatalog {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CancerStudyCatalog.class);
+
+  /** Tables of the portal database that the study list is derived from. */
+  static final List<String> SOURCE_TABLES =
+      List.of(
+          "cancer_study",
+          "type_of_cancer",
+          "reference_genome",
+          "patient",
+          "sample",
+          "sample_list",
+          "sample_list_list",
+          "clinical_event",
+          "structural_variant",
+          "treatment",
+          "resource_definition",
+          "resource_study",
+          "resource_patient",
+          "resource_sample");
+
+  private final CancerStudyRepository studyRepository;
+  private final StaticDataTimestampService staticDataTimestampService;
+  private final boolean enabled;
+
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+  /**
+   * Constructs a new {@link CancerStudyCatalog}.
+   *
+   * @param studyRepository the repository the study list is read from.
+   * @param staticDataTimestampService the service reporting when the source tables last changed.
+   * @param enabled whether the snapshot is maintained at all.
+   */
+  public CancerStudyCatalog(
+      CancerStudyRepository studyRepository,
+      StaticDataTimestampService staticDataTimestampService,
+      @Value("${study_catalog.enabled:true}") boolean enabled) {
+    this.studyRepository = studyRepository;
+    this.staticDataTimestampService = staticDataTimestampService;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns the current snapshot, or {@code null} if none has been built (yet). Callers should hold
+   * on to the returned snapshot for the duration of a request instead of calling this method again,
+   * so that a concurrent swap cannot mix two snapshots into one response.
+   */
+  public Snapshot current() {
+    return snapshot.get();
+  }
+
+  /**
+   * Rebuilds the snapshot if the source tables changed since it was built. Without timestamps there
+   * is no way to tell when the snapshot goes stale, so in that case it is dropped and the study
+   * list is read from the database on every request.
+   */
+  @Scheduled(fixedDelayString = "${study_catalog.refresh_interval_ms:60000}")
+  public void refresh() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      Map<String, String> timestamps =
+          staticDataTimestampService.getTimestamps(SOURCE_TABLES).entrySet().stream()
+              .filter(entry -> entry.getValue() != null)
+              .collect(
+                  Collectors.toMap(
+                      Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, TreeMap::new));
+      if (timestamps.isEmpty()) {
+        snapshot.set(null);
+        return;
+      }
+      String version = hash(timestamps.toString());
+      Snapshot current = snapshot.get();
+      if (current != null && current.version().equals(version)) {
+        return;
+      }
+      snapshot.set(build(version));
+      LOG.info("Rebuilt study catalog snapshot {}", version);
+    } catch (RuntimeException e) {
+      // keep serving the previous snapshot, the next run will try again
+      LOG.error("Could not rebuild study catalog snapshot", e);
+    }
+  }
+
+  private Snapshot build(String version) {
+    SortAndSearchCriteria unfiltered = new SortAndSearchCriteria(null, "", "ASC", null, null);
+    Map<String, List<ResourceCount>> resourceCounts =
+        studyRepository.getResourceCountsForAllStudies().stream()
+            .collect(Collectors.groupingBy(ResourceCount::cancerStudyIdentifier));
+    return new Snapshot(
+        version,
+        withResourceCounts(studyRepository.getCancerStudiesMetadata(unfiltered), resourceCounts),
+        withResourceCounts(
+            studyRepository.getCancerStudiesMetadataSummary(unfiltered), resourceCounts));
+  }
+
+  private static List<CancerStudyMetadata> withResourceCounts(
+      List<CancerStudyMetadata> studies, Map<String, List<ResourceCount>> resourceCounts) {
+    return studies.stream()
+        .map(
+            study ->
+                new CancerStudyMetadata(
+                    study,
+                    resourceCounts.getOrDefault(
+                        study.cancerStudyIdentifier(), Collections.emptyList())))
+        .toList();
+  }
+
+  private static String hash(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * An immutable study list as of one state of the source tables.
+   *
+   * @param version hash of the source table timestamps the snapshot was built from.
+   * @param detailed the studies in {@link ProjectionType#DETAILED} projection.
+   * @param summary the studies in {@link ProjectionType#SUMMARY} projection.
+   */
+  public record Snapshot(
+      String version, List<CancerStudyMetadata> detailed, List<CancerStudyMetadata> summary) {
+
+    /**
+     * Returns the studies in the given projection, or {@code null} if the projection is not part of
+     * the snapshot.
+     */
+    public List<CancerStudyMetadata> studies(ProjectionType projectionType) {
+      return switch (projectionType) {
+        case DETAILED -> detailed;
+        case SUMMARY, META -> summary;
+        default -> null;
+      };
+    }
+
+    /**
+     * Returns a strong entity tag for a response built from this snapshot. Two responses only get
+     * the same tag if they were built from the same snapshot in the same projection and contain the
+     * same studies, so the tag also differs between users who may see different studies.
+     */
+    public String eTag(ProjectionType projectionType, List<CancerStudyMetadata> visibleStudies) {
+      String studyIds =
+          visibleStudies.stream()
+              .map(CancerStudyMetadata::cancerStudyIdentifier)
+              .collect(Collectors.joining(","));
+      return "\"" + hash(version + ":" + projectionType + ":" + studyIds) + "\"";
+    }
+  }
+}
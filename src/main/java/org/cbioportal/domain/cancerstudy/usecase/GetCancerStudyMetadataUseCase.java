@@ -1,5 +1,6 @@
 package org.cbioportal.domain.cancerstudy.usecase;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -46,14 +47,18 @@ import org.springframework.stereotype.Service;
 public class GetCancerStudyMetadataUseCase {
 
   private final CancerStudyRepository studyRepository;
+  private final CancerStudyCatalog cancerStudyCatalog;
 
   /**
    * Constructs a new {@link GetCancerStudyMetadataUseCase} with the specified repository.
    *
    * @param studyRepository the repository used to access cancer study metadata.
+   * @param cancerStudyCatalog the in-memory snapshot of the unfiltered study list.
    */
-  public GetCancerStudyMetadataUseCase(CancerStudyRepository studyRepository) {
+  public GetCancerStudyMetadataUseCase(
+      CancerStudyRepository studyRepository, CancerStudyCatalog cancerStudyCatalog) {
     this.studyRepository = studyRepository;
+    this.cancerStudyCatalog = cancerStudyCatalog;
   }
 
   /**
@@ -68,6 +73,9 @@ public class GetCancerStudyMetadataUseCase {
    *   <li>Other projection types: Returns an empty list.
    * </ul>
    *
+   * <p>Requests without search term, sort or paging are served from the {@link CancerStudyCatalog}
+   * snapshot when one is available.
+   *
    * @param projectionType the level of detail to fetch. Determines which repository method is
    *     called.
    * @param sortAndSearchCriteria enables sorting and searching feature within persistence layer.
@@ -81,6 +89,13 @@ public class GetCancerStudyMetadataUseCase {
       "hasPermission(filterObject, T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
   public List<CancerStudyMetadata> execute(
       ProjectionType projectionType, SortAndSearchCriteria sortAndSearchCriteria) {
+    CancerStudyCatalog.Snapshot snapshot = cancerStudyCatalog.current();
+    if (snapshot != null
+        && snapshot.studies(projectionType) != null
+        && isUnfiltered(sortAndSearchCriteria)) {
+      return execute(snapshot, projectionType);
+    }
+
     List<ResourceCount> resourceCounts = getResourceCountsForAllStudies(projectionType);
 
     List<CancerStudyMetadata> cancerStudyMetaData =
@@ -108,6 +123,33 @@ public class GetCancerStudyMetadataUseCase {
         .toList();
   }
 
+  /**
+   * Returns the studies of the given catalog snapshot in the given projection. The returned list is
+   * a copy, so that filtering it by permission leaves the snapshot untouched.
+   *
+   * @param snapshot the snapshot to read from, as returned by {@link CancerStudyCatalog#current()}.
+   * @param projectionType the level of detail; must be part of the snapshot.
+   * @return the studies of the snapshot the current user may read.
+   */
+  @PostFilter(
+      "hasPermission(filterObject, T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  public List<CancerStudyMetadata> execute(
+      CancerStudyCatalog.Snapshot snapshot, ProjectionType projectionType) {
+    return new ArrayList<>(snapshot.studies(projectionType));
+  }
+
+  /**
+   * Returns whether the criteria select the complete, unsorted study list, which is what the {@link
+   * CancerStudyCatalog} snapshot holds.
+   */
+  public static boolean isUnfiltered(SortAndSearchCriteria sortAndSearchCriteria) {
+    return (sortAndSearchCriteria.searchTerm() == null
+            || sortAndSearchCriteria.searchTerm().isEmpty())
+        && (sortAndSearchCriteria.sortField() == null
+            || sortAndSearchCriteria.sortField().isEmpty())
+        && sortAndSearchCriteria.pageSize() == null;
+  }
+
   public List<ResourceCount> getResourceCountsForAllStudies(ProjectionType projectionType) {
     return switch (projectionType) {
       case DETAILED, SUMMARY -> studyRepository.getResourceCountsForAllStudies();
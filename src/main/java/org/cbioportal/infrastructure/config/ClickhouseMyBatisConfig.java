@@ -2,11 +2,13 @@ package org.cbioportal.infrastructure.config;
 
 import java.io.IOException;
 import javax.sql.DataSource;
+import org.cbioportal.application.metrics.StatementTimingInterceptor;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.persistence.mybatis.typehandler.SampleTypeTypeHandler;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.annotation.MapperScan;
 import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,7 +37,10 @@ public class ClickhouseMyBatisConfig {
 
   @Bean("sqlSessionFactory")
   public SqlSessionFactoryBean sqlSessionFactory(
-      DataSource dataSource, ApplicationContext applicationContext) throws IOException {
+      DataSource dataSource,
+      ApplicationContext applicationContext,
+      ObjectProvider<StatementTimingInterceptor> statementTimingInterceptor)
+      throws IOException {
     SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
     sessionFactory.setDataSource(dataSource);
 
@@ -47,6 +52,7 @@ public class ClickhouseMyBatisConfig {
             "classpath:org/cbioportal/legacy/persistence/mybatis/*.xml"));
 
     sessionFactory.setTypeHandlers(new SampleTypeTypeHandler());
+    statementTimingInterceptor.ifAvailable(sessionFactory::setPlugins);
     return sessionFactory;
   }
 
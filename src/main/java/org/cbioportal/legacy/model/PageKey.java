@@ -0,0 +1,37 @@
+package org.cbioportal.legacy.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Position of the last row of a keyset page: the value of the sort column (if any) followed by the
+ * values of the columns that make the row unique. The next page starts strictly after this key.
+ */
+public class PageKey implements Serializable {
+
+  private Object sortValue;
+  private List<Object> tiebreaker;
+
+  public PageKey() {}
+
+  public PageKey(Object sortValue, List<Object> tiebreaker) {
+    this.sortValue = sortValue;
+    this.tiebreaker = tiebreaker;
+  }
+
+  public Object getSortValue() {
+    return sortValue;
+  }
+
+  public void setSortValue(Object sortValue) {
+    this.sortValue = sortValue;
+  }
+
+  public List<Object> getTiebreaker() {
+    return tiebreaker;
+  }
+
+  public void setTiebreaker(List<Object> tiebreaker) {
+    this.tiebreaker = tiebreaker;
+  }
+}
@@ -0,0 +1,41 @@
+package org.cbioportal.legacy.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.io.Serializable;
+
+/** The data of one chart of a study view chart batch, or the error that prevented fetching it. */
+@JsonInclude(Include.NON_NULL)
+public class StudyViewChartResult implements Serializable {
+
+  private Object data;
+  private String error;
+
+  public static StudyViewChartResult success(Object data) {
+    StudyViewChartResult result = new StudyViewChartResult();
+    result.setData(data);
+    return result;
+  }
+
+  public static StudyViewChartResult failure(String error) {
+    StudyViewChartResult result = new StudyViewChartResult();
+    result.setError(error);
+    return result;
+  }
+
+  public Object getData() {
+    return data;
+  }
+
+  public void setData(Object data) {
+    this.data = data;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+}
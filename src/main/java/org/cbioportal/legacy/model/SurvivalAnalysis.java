@@ -0,0 +1,54 @@
+package org.cbioportal.legacy.model;
+
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.util.List;
+
+public class SurvivalAnalysis implements Serializable {
+
+  @NotNull private List<SurvivalCurve> curves;
+  private Double logRankStatistic;
+  private Integer degreesOfFreedom;
+  private Double logRankPValue;
+  @NotNull private List<SurvivalHazardRatio> hazardRatios;
+
+  public List<SurvivalCurve> getCurves() {
+    return curves;
+  }
+
+  public void setCurves(List<SurvivalCurve> curves) {
+    this.curves = curves;
+  }
+
+  public Double getLogRankStatistic() {
+    return logRankStatistic;
+  }
+
+  public void setLogRankStatistic(Double logRankStatistic) {
+    this.logRankStatistic = logRankStatistic;
+  }
+
+  public Integer getDegreesOfFreedom() {
+    return degreesOfFreedom;
+  }
+
+  public void setDegreesOfFreedom(Integer degreesOfFreedom) {
+    this.degreesOfFreedom = degreesOfFreedom;
+  }
+
+  public Double getLogRankPValue() {
+    return logRankPValue;
+  }
+
+  public void setLogRankPValue(Double logRankPValue) {
+    this.logRankPValue = logRankPValue;
+  }
+
+  public List<SurvivalHazardRatio> getHazardRatios() {
+    return hazardRatios;
+  }
+
+  public void setHazardRatios(List<SurvivalHazardRatio> hazardRatios) {
+    this.hazardRatios = hazardRatios;
+  }
+}
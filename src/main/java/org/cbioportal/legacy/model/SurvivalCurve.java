@@ -0,0 +1,72 @@
+package org.cbioportal.legacy.model;
+
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.util.List;
+
+public class SurvivalCurve implements Serializable {
+
+  @NotNull private String name;
+  @NotNull private Integer numberOfPatients;
+  @NotNull private Integer numberOfEvents;
+  private Double median;
+  private Double medianLowerConfidenceInterval;
+  private Double medianUpperConfidenceInterval;
+  @NotNull private List<SurvivalCurvePoint> points;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Integer getNumberOfPatients() {
+    return numberOfPatients;
+  }
+
+  public void setNumberOfPatients(Integer numberOfPatients) {
+    this.numberOfPatients = numberOfPatients;
+  }
+
+  public Integer getNumberOfEvents() {
+    return numberOfEvents;
+  }
+
+  public void setNumberOfEvents(Integer numberOfEvents) {
+    this.numberOfEvents = numberOfEvents;
+  }
+
+  public Double getMedian() {
+    return median;
+  }
+
+  public void setMedian(Double median) {
+    this.median = median;
+  }
+
+  public Double getMedianLowerConfidenceInterval() {
+    return medianLowerConfidenceInterval;
+  }
+
+  public void setMedianLowerConfidenceInterval(Double medianLowerConfidenceInterval) {
+    this.medianLowerConfidenceInterval = medianLowerConfidenceInterval;
+  }
+
+  public Double getMedianUpperConfidenceInterval() {
+    return medianUpperConfidenceInterval;
+  }
+
+  public void setMedianUpperConfidenceInterval(Double medianUpperConfidenceInterval) {
+    this.medianUpperConfidenceInterval = medianUpperConfidenceInterval;
+  }
+
+  public List<SurvivalCurvePoint> getPoints() {
+    return points;
+  }
+
+  public void setPoints(List<SurvivalCurvePoint> points) {
+    this.points = points;
+  }
+}
@@ -0,0 +1,71 @@
+package org.cbioportal.legacy.model;
+
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+
+public class SurvivalCurvePoint implements Serializable {
+
+  @NotNull private Double time;
+  @NotNull private Integer numberAtRisk;
+  @NotNull private Integer numberOfEvents;
+  @NotNull private Integer numberOfCensored;
+  @NotNull private Double survival;
+  private Double lowerConfidenceInterval;
+  private Double upperConfidenceInterval;
+
+  public Double getTime() {
+    return time;
+  }
+
+  public void setTime(Double time) {
+    this.time = time;
+  }
+
+  public Integer getNumberAtRisk() {
+    return numberAtRisk;
+  }
+
+  public void setNumberAtRisk(Integer numberAtRisk) {
+    this.numberAtRisk = numberAtRisk;
+  }
+
+  public Integer getNumberOfEvents() {
+    return numberOfEvents;
+  }
+
+  public void setNumberOfEvents(Integer numberOfEvents) {
+    this.numberOfEvents = numberOfEvents;
+  }
+
+  public Integer getNumberOfCensored() {
+    return numberOfCensored;
+  }
+
+  public void setNumberOfCensored(Integer numberOfCensored) {
+    this.numberOfCensored = numberOfCensored;
+  }
+
+  public Double getSurvival() {
+    return survival;
+  }
+
+  public void setSurvival(Double survival) {
+    this.survival = survival;
+  }
+
+  public Double getLowerConfidenceInterval() {
+    return lowerConfidenceInterval;
+  }
+
+  public void setLowerConfidenceInterval(Double lowerConfidenceInterval) {
+    this.lowerConfidenceInterval = lowerConfidenceInterval;
+  }
+
+  public Double getUpperConfidenceInterval() {
+    return upperConfidenceInterval;
+  }
+
+  public void setUpperConfidenceInterval(Double upperConfidenceInterval) {
+    this.upperConfidenceInterval = upperConfidenceInterval;
+  }
+}
@@ -0,0 +1,64 @@
+package org.cbioportal.legacy.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+
+public class SurvivalHazardRatio implements Serializable {
+
+  @NotNull private String name;
+  @NotNull private String referenceName;
+  private Double hazardRatio;
+  private Double lowerConfidenceInterval;
+  private Double upperConfidenceInterval;
+  private Double pValue;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getReferenceName() {
+    return referenceName;
+  }
+
+  public void setReferenceName(String referenceName) {
+    this.referenceName = referenceName;
+  }
+
+  public Double getHazardRatio() {
+    return hazardRatio;
+  }
+
+  public void setHazardRatio(Double hazardRatio) {
+    this.hazardRatio = hazardRatio;
+  }
+
+  public Double getLowerConfidenceInterval() {
+    return lowerConfidenceInterval;
+  }
+
+  public void setLowerConfidenceInterval(Double lowerConfidenceInterval) {
+    this.lowerConfidenceInterval = lowerConfidenceInterval;
+  }
+
+  public Double getUpperConfidenceInterval() {
+    return upperConfidenceInterval;
+  }
+
+  public void setUpperConfidenceInterval(Double upperConfidenceInterval) {
+    this.upperConfidenceInterval = upperConfidenceInterval;
+  }
+
+  @JsonProperty("pValue")
+  public Double getpValue() {
+    return pValue;
+  }
+
+  public void setpValue(Double pValue) {
+    this.pValue = pValue;
+  }
+}
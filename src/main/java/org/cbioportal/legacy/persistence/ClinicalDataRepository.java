@@ -3,6 +3,7 @@ package org.cbioportal.legacy.persistence;
 import java.util.List;
 import org.cbioportal.legacy.model.ClinicalData;
 import org.cbioportal.legacy.model.ClinicalDataCount;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.springframework.cache.annotation.Cacheable;
 
@@ -21,6 +22,19 @@ public interface ClinicalDataRepository {
       String sortBy,
       String direction);
 
+  @Cacheable(
+      cacheResolver = "generalRepositoryCacheResolver",
+      condition = "@cacheEnabledConfig.getEnabled()")
+  List<ClinicalData> getAllClinicalDataInStudyAfterKey(
+      String studyId,
+      String attributeId,
+      String clinicalDataType,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction);
+
   @Cacheable(
       cacheResolver = "generalRepositoryCacheResolver",
       condition = "@cacheEnabledConfig.getEnabled()")
@@ -88,6 +102,13 @@ public interface ClinicalDataRepository {
       String clinicalDataType,
       String projection);
 
+  Iterable<ClinicalData> fetchClinicalDataIterable(
+      List<String> studyIds,
+      List<String> ids,
+      List<String> attributeIds,
+      String clinicalDataType,
+      String projection);
+
   @Cacheable(
       cacheResolver = "generalRepositoryCacheResolver",
       condition = "@cacheEnabledConfig.getEnabled()")
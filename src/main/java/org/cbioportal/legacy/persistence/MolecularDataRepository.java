@@ -45,6 +45,9 @@ public interface MolecularDataRepository {
   List<GeneMolecularAlteration> getGeneMolecularAlterationsInMultipleMolecularProfiles(
       Set<String> molecularProfileIds, List<Integer> entrezGeneIds, String projection);
 
+  Iterable<GeneMolecularAlteration> getGeneMolecularAlterationsInMultipleMolecularProfilesIterable(
+      Set<String> molecularProfileIds, List<Integer> entrezGeneIds, String projection);
+
   @Cacheable(
       cacheResolver = "generalRepositoryCacheResolver",
       condition = "@cacheEnabledConfig.getEnabled()")
@@ -5,6 +5,8 @@ import org.cbioportal.legacy.model.GeneFilterQuery;
 import org.cbioportal.legacy.model.GenomicDataCountItem;
 import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationCountByPosition;
+import org.cbioportal.legacy.model.MutationSpectrum;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 import org.springframework.cache.annotation.Cacheable;
 
@@ -24,6 +26,20 @@ public interface MutationRepository {
       String sortBy,
       String direction);
 
+  @Cacheable(
+      cacheResolver = "generalRepositoryCacheResolver",
+      condition = "@cacheEnabledConfig.getEnabled()")
+  List<Mutation> getMutationsInMolecularProfileBySampleListIdAfterKey(
+      String molecularProfileId,
+      String sampleListId,
+      List<Integer> entrezGeneIds,
+      boolean snpOnly,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction);
+
   @Cacheable(
       cacheResolver = "generalRepositoryCacheResolver",
       condition = "@cacheEnabledConfig.getEnabled()")
@@ -43,6 +59,12 @@ public interface MutationRepository {
       String sortBy,
       String direction);
 
+  Iterable<Mutation> getMutationsInMultipleMolecularProfilesIterable(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<Integer> entrezGeneIds,
+      String projection);
+
   @Cacheable(
       cacheResolver = "generalRepositoryCacheResolver",
       condition = "@cacheEnabledConfig.getEnabled()")
@@ -82,6 +104,18 @@ public interface MutationRepository {
   MutationMeta fetchMetaMutationsInMolecularProfile(
       String molecularProfileId, List<String> sampleIds, List<Integer> entrezGeneIds);
 
+  @Cacheable(
+      cacheResolver = "generalRepositoryCacheResolver",
+      condition = "@cacheEnabledConfig.getEnabled()")
+  List<MutationSpectrum> getMutationSpectrumsInMolecularProfileBySampleListId(
+      String molecularProfileId, String sampleListId);
+
+  @Cacheable(
+      cacheResolver = "generalRepositoryCacheResolver",
+      condition = "@cacheEnabledConfig.getEnabled()")
+  List<MutationSpectrum> fetchMutationSpectrumsInMolecularProfile(
+      String molecularProfileId, List<String> sampleIds);
+
   @Cacheable(
       cacheResolver = "generalRepositoryCacheResolver",
       condition = "@cacheEnabledConfig.getEnabled()")
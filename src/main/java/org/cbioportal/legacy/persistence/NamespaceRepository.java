@@ -4,7 +4,7 @@ import java.util.List;
 import org.cbioportal.legacy.model.NamespaceAttribute;
 import org.cbioportal.legacy.model.NamespaceAttributeCount;
 import org.cbioportal.legacy.model.NamespaceData;
-import org.cbioportal.legacy.model.NamespaceDataCount;
+import org.cbioportal.legacy.model.NamespaceDataCountItem;
 
 public interface NamespaceRepository {
 
@@ -15,16 +15,16 @@ public interface NamespaceRepository {
   List<NamespaceAttributeCount> getNamespaceAttributeCountsBySampleIds(
       List<String> studyIds, List<String> sampleIds, List<NamespaceAttribute> namespaceAttributes);
 
-  List<NamespaceDataCount> getNamespaceDataCounts(
-      List<String> studyIds, List<String> sampleIds, String outerKey, String innerKey);
+  List<NamespaceDataCountItem> getNamespaceDataCounts(
+      List<String> studyIds, List<String> sampleIds, List<NamespaceAttribute> namespaceAttributes);
 
   List<NamespaceData> getNamespaceData(
-      List<String> studyIds, List<String> sampleIds, String outerKey, String innerKey);
+      List<String> studyIds, List<String> sampleIds, List<NamespaceAttribute> namespaceAttributes);
 
   List<NamespaceData> getNamespaceDataForComparison(
       List<String> studyIds,
       List<String> sampleIds,
       String outerKey,
       String innerKey,
-      String value);
+      List<String> values);
 }
@@ -1,6 +1,7 @@
 package org.cbioportal.legacy.persistence;
 
 import java.util.List;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.springframework.cache.annotation.Cacheable;
@@ -31,6 +32,17 @@ public interface SampleRepository {
       String sortBy,
       String direction);
 
+  @Cacheable(
+      cacheResolver = "generalRepositoryCacheResolver",
+      condition = "@cacheEnabledConfig.getEnabled()")
+  List<Sample> getAllSamplesInStudyAfterKey(
+      String studyId,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction);
+
   @Cacheable(
       cacheResolver = "generalRepositoryCacheResolver",
       condition = "@cacheEnabledConfig.getEnabled()")
@@ -1,6 +1,10 @@
 package org.cbioportal.legacy.persistence.cachemaputil;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.cbioportal.legacy.model.CancerStudy;
@@ -43,6 +47,12 @@ public class CacheMapBuilder {
     return molecularProfileMap;
   }
 
+  /** Molecular profiles of the given studies only, for an incremental refresh. */
+  public Map<String, MolecularProfile> buildMolecularProfileMap(List<String> studyIds) {
+    return molecularProfileRepository.getMolecularProfilesInStudies(studyIds, "SUMMARY").stream()
+        .collect(Collectors.toMap(MolecularProfile::getStableId, Function.identity()));
+  }
+
   public Map<String, SampleList> buildSampleListMap() {
     Map<String, SampleList> sampleListMap =
         sampleListRepository
@@ -54,6 +64,15 @@ public class CacheMapBuilder {
     return sampleListMap;
   }
 
+  /** Sample lists of the given studies only, for an incremental refresh. */
+  public Map<String, SampleList> buildSampleListMap(List<String> studyIds) {
+    return sampleListRepository
+        .getAllSampleListsInStudies(
+            studyIds, "SUMMARY", REPOSITORY_RESULT_LIMIT, REPOSITORY_RESULT_OFFSET, null, "ASC")
+        .stream()
+        .collect(Collectors.toMap(SampleList::getStableId, Function.identity()));
+  }
+
   public Map<String, CancerStudy> buildCancerStudyMap() {
     Map<String, CancerStudy> cancerStudyMap =
         studyRepository
@@ -64,4 +83,26 @@ public class CacheMapBuilder {
     LOG.debug("  cancer study map size: " + cancerStudyMap.size());
     return cancerStudyMap;
   }
+
+  public Map<String, Set<String>> buildCancerStudyGroupMap(
+      Map<String, CancerStudy> cancerStudyMap) {
+    Map<String, Set<String>> cancerStudyGroupMap = new HashMap<>();
+    cancerStudyMap.forEach(
+        (cancerStudyId, cancerStudy) ->
+            cancerStudyGroupMap.put(cancerStudyId, toGroupSet(cancerStudy.getGroups())));
+    return cancerStudyGroupMap;
+  }
+
+  /**
+   * Splits the ';' separated groups of a study. Empty groups are left out, as they would match
+   * empty authorities.
+   */
+  public static Set<String> toGroupSet(String groups) {
+    if (groups == null) {
+      return Set.of();
+    }
+    return Arrays.stream(groups.split(";"))
+        .filter(group -> !group.isEmpty())
+        .collect(Collectors.toUnmodifiableSet());
+  }
 }
@@ -1,6 +1,7 @@
 package org.cbioportal.legacy.persistence.cachemaputil;
 
 import java.util.Map;
+import java.util.Set;
 import org.cbioportal.legacy.model.CancerStudy;
 import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.SampleList;
@@ -12,5 +13,8 @@ public interface CacheMapUtil {
 
   Map<String, CancerStudy> getCancerStudyMap();
 
+  /** Groups of each study in {@link #getCancerStudyMap()}, split and without empty groups. */
+  Map<String, Set<String>> getCancerStudyGroupMap();
+
   boolean hasCacheEnabled();
 }
@@ -1,6 +1,7 @@
 package org.cbioportal.legacy.persistence.cachemaputil;
 
 import java.util.Map;
+import java.util.Set;
 import org.cbioportal.legacy.model.CancerStudy;
 import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.SampleList;
@@ -35,6 +36,12 @@ public class InactiveCacheMapUtil implements CacheMapUtil {
         "A CacheMapUtils method was called on a portal where studies are accessible to all users.");
   }
 
+  @Override
+  public Map<String, Set<String>> getCancerStudyGroupMap() {
+    throw new RuntimeException(
+        "A CacheMapUtils method was called on a portal where studies are accessible to all users.");
+  }
+
   //  bean is only instantiated when there is no user authorization
   @Override
   public boolean hasCacheEnabled() {
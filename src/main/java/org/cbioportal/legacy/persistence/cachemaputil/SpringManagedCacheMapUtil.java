@@ -34,6 +34,7 @@ package org.cbioportal.legacy.persistence.cachemaputil;
 
 import jakarta.annotation.PostConstruct;
 import java.util.Map;
+import java.util.Set;
 import org.cbioportal.legacy.model.CancerStudy;
 import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.SampleList;
@@ -109,6 +110,15 @@ public class SpringManagedCacheMapUtil implements CacheMapUtil {
     return cacheMapBuilder.buildCancerStudyMap();
   }
 
+  @Override
+  @Cacheable(
+      cacheResolver = "generalRepositoryCacheResolver",
+      condition = "@cacheEnabledConfig.getEnabled()")
+  public Map<String, Set<String>> getCancerStudyGroupMap() {
+    LOG.debug("Building cancerStudyGroupMap (cache miss)");
+    return cacheMapBuilder.buildCancerStudyGroupMap(cacheMapBuilder.buildCancerStudyMap());
+  }
+
   //  bean is only instantiated when there is user authorization
   @Override
   public boolean hasCacheEnabled() {
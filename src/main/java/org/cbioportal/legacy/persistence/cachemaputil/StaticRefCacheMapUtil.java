@@ -33,7 +33,13 @@
 package org.cbioportal.legacy.persistence.cachemaputil;
 
 import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import org.cbioportal.legacy.model.CancerStudy;
 import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.SampleList;
@@ -65,9 +71,15 @@ public class StaticRefCacheMapUtil implements CacheMapUtil {
   // Fields are static because the proxying mechanism of the CancerStudyPermissionEvaluator
   // appears to perturb the Singleton scope of the CacheMapUtils bean. When debugging
   // two version appeared to exist in context. A mechanism with bean injection did not work here.
-  static Map<String, MolecularProfile> molecularProfileCache;
-  static Map<String, SampleList> sampleListCache;
-  static Map<String, CancerStudy> cancerStudyCache;
+  // The maps are replaced together by swapping the snapshot, so that permission checks never
+  // wait for a refresh and never see the maps of two different refreshes.
+  static volatile Snapshot snapshot;
+
+  record Snapshot(
+      Map<String, MolecularProfile> molecularProfileCache,
+      Map<String, SampleList> sampleListCache,
+      Map<String, CancerStudy> cancerStudyCache,
+      Map<String, Set<String>> cancerStudyGroupCache) {}
 
   @PostConstruct
   private void init() {
@@ -76,24 +88,103 @@ public class StaticRefCacheMapUtil implements CacheMapUtil {
 
   public synchronized void initializeCacheMemory() {
     LOG.debug("creating cache maps for authorization");
-    molecularProfileCache = cacheMapBuilder.buildMolecularProfileMap();
-    sampleListCache = cacheMapBuilder.buildSampleListMap();
-    cancerStudyCache = cacheMapBuilder.buildCancerStudyMap();
+    long start = System.currentTimeMillis();
+    Map<String, CancerStudy> cancerStudyMap = cacheMapBuilder.buildCancerStudyMap();
+    swap(
+        new Snapshot(
+            cacheMapBuilder.buildMolecularProfileMap(),
+            cacheMapBuilder.buildSampleListMap(),
+            cancerStudyMap,
+            cacheMapBuilder.buildCancerStudyGroupMap(cancerStudyMap)),
+        start,
+        cancerStudyMap.size(),
+        cancerStudyMap.size());
+  }
+
+  /**
+   * Reloads the molecular profiles and sample lists of the studies that were added, removed or
+   * re-imported (i.e. whose import date changed) since the last refresh, and of {@code studyIds}.
+   * The entries of all other studies are carried over from the current maps.
+   */
+  public synchronized void refreshCacheMemory(Collection<String> studyIds) {
+    Snapshot current = snapshot;
+    if (current == null) {
+      initializeCacheMemory();
+      return;
+    }
+    long start = System.currentTimeMillis();
+    Map<String, CancerStudy> cancerStudyMap = cacheMapBuilder.buildCancerStudyMap();
+
+    Set<String> changedStudyIds = new HashSet<>(studyIds);
+    cancerStudyMap.forEach(
+        (studyId, study) -> {
+          CancerStudy previous = current.cancerStudyCache().get(studyId);
+          if (previous == null
+              || !Objects.equals(previous.getImportDate(), study.getImportDate())) {
+            changedStudyIds.add(studyId);
+          }
+        });
+    current.cancerStudyCache().keySet().stream()
+        .filter(studyId -> !cancerStudyMap.containsKey(studyId))
+        .forEach(changedStudyIds::add);
+
+    Map<String, MolecularProfile> molecularProfileMap = new HashMap<>();
+    current.molecularProfileCache().values().stream()
+        .filter(profile -> !changedStudyIds.contains(profile.getCancerStudyIdentifier()))
+        .forEach(profile -> molecularProfileMap.put(profile.getStableId(), profile));
+    Map<String, SampleList> sampleListMap = new HashMap<>();
+    current.sampleListCache().values().stream()
+        .filter(sampleList -> !changedStudyIds.contains(sampleList.getCancerStudyIdentifier()))
+        .forEach(sampleList -> sampleListMap.put(sampleList.getStableId(), sampleList));
+
+    List<String> reloadedStudyIds =
+        changedStudyIds.stream().filter(cancerStudyMap::containsKey).toList();
+    if (!reloadedStudyIds.isEmpty()) {
+      molecularProfileMap.putAll(cacheMapBuilder.buildMolecularProfileMap(reloadedStudyIds));
+      sampleListMap.putAll(cacheMapBuilder.buildSampleListMap(reloadedStudyIds));
+    }
+
+    swap(
+        new Snapshot(
+            molecularProfileMap,
+            sampleListMap,
+            cancerStudyMap,
+            cacheMapBuilder.buildCancerStudyGroupMap(cancerStudyMap)),
+        start,
+        reloadedStudyIds.size(),
+        cancerStudyMap.size());
+  }
+
+  private void swap(Snapshot newSnapshot, long start, int reloadedStudyCount, int studyCount) {
+    snapshot = newSnapshot;
+    LOG.info(
+        "Refreshed cache maps for authorization in {} ms ({} of {} studies reloaded): {} molecular"
+            + " profiles, {} sample lists",
+        System.currentTimeMillis() - start,
+        reloadedStudyCount,
+        studyCount,
+        newSnapshot.molecularProfileCache().size(),
+        newSnapshot.sampleListCache().size());
   }
 
   @Override
   public Map<String, MolecularProfile> getMolecularProfileMap() {
-    return molecularProfileCache;
+    return snapshot.molecularProfileCache();
   }
 
   @Override
   public Map<String, SampleList> getSampleListMap() {
-    return sampleListCache;
+    return snapshot.sampleListCache();
   }
 
   @Override
   public Map<String, CancerStudy> getCancerStudyMap() {
-    return cancerStudyCache;
+    return snapshot.cancerStudyCache();
+  }
+
+  @Override
+  public Map<String, Set<String>> getCancerStudyGroupMap() {
+    return snapshot.cancerStudyGroupCache();
   }
 
   @Override
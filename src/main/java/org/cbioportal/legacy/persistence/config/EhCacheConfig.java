@@ -1,8 +1,11 @@
 package org.cbioportal.legacy.persistence.config;
 
+import org.cbioportal.application.metrics.InstrumentedCacheResolver;
+import org.cbioportal.application.metrics.PerformanceMetrics;
 import org.cbioportal.legacy.persistence.util.CustomEhcachingProvider;
 import org.cbioportal.legacy.persistence.util.CustomKeyGenerator;
 import org.cbioportal.legacy.utils.config.annotation.ConditionalOnProperty;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
@@ -19,6 +22,9 @@ import org.springframework.context.annotation.Configuration;
     havingValue = {"ehcache-heap", "ehcache-disk", "ehcache-hybrid"})
 public class EhCacheConfig extends CachingConfigurerSupport {
 
+  @Autowired(required = false)
+  private PerformanceMetrics performanceMetrics;
+
   @Bean
   @Override
   public CacheManager cacheManager() {
@@ -38,11 +44,13 @@ public class EhCacheConfig extends CachingConfigurerSupport {
 
   @Bean
   public NamedCacheResolver generalRepositoryCacheResolver() {
-    return new NamedCacheResolver(cacheManager(), "GeneralRepositoryCache");
+    return new InstrumentedCacheResolver(
+        cacheManager(), performanceMetrics, "GeneralRepositoryCache");
   }
 
   @Bean
   public NamedCacheResolver staticRepositoryCacheOneResolver() {
-    return new NamedCacheResolver(cacheManager(), "StaticRepositoryCacheOne");
+    return new InstrumentedCacheResolver(
+        cacheManager(), performanceMetrics, "StaticRepositoryCacheOne");
   }
 }
@@ -1,9 +1,12 @@
 package org.cbioportal.legacy.persistence.config;
 
+import org.cbioportal.application.metrics.InstrumentedCacheResolver;
+import org.cbioportal.application.metrics.PerformanceMetrics;
 import org.cbioportal.legacy.persistence.util.CustomKeyGenerator;
 import org.cbioportal.legacy.persistence.util.CustomRedisCachingProvider;
 import org.cbioportal.legacy.persistence.util.LoggingCacheErrorHandler;
 import org.cbioportal.shared.RedisCondition;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
@@ -11,7 +14,6 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.cache.interceptor.CacheResolver;
 import org.springframework.cache.interceptor.KeyGenerator;
-import org.springframework.cache.interceptor.NamedCacheResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +26,9 @@ public class RedisConfig extends CachingConfigurerSupport {
   @Value("${redis.name:cbioportal}")
   private String redisName;
 
+  @Autowired(required = false)
+  private PerformanceMetrics performanceMetrics;
+
   @Bean
   @Override
   public CacheManager cacheManager() {
@@ -49,11 +54,13 @@ public class RedisConfig extends CachingConfigurerSupport {
 
   @Bean
   public CacheResolver generalRepositoryCacheResolver() {
-    return new NamedCacheResolver(cacheManager(), redisName + "GeneralRepositoryCache");
+    return new InstrumentedCacheResolver(
+        cacheManager(), performanceMetrics, redisName + "GeneralRepositoryCache");
   }
 
   @Bean
   public CacheResolver staticRepositoryCacheOneResolver() {
-    return new NamedCacheResolver(cacheManager(), redisName + "StaticRepositoryCacheOne");
+    return new InstrumentedCacheResolver(
+        cacheManager(), performanceMetrics, redisName + "StaticRepositoryCacheOne");
   }
 }
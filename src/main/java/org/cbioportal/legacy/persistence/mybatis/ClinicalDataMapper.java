@@ -1,8 +1,10 @@
 package org.cbioportal.legacy.persistence.mybatis;
 
 import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
 import org.cbioportal.legacy.model.ClinicalData;
 import org.cbioportal.legacy.model.ClinicalDataCount;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 
 public interface ClinicalDataMapper {
@@ -17,6 +19,32 @@ public interface ClinicalDataMapper {
       String sortBy,
       String direction);
 
+  List<ClinicalData> getSampleClinicalDataAfterKey(
+      List<String> studyIds,
+      List<String> sampleIds,
+      List<String> attributeIds,
+      String projection,
+      Integer limit,
+      PageKey afterKey,
+      String sortBy,
+      String direction);
+
+  List<ClinicalData> getPatientClinicalDataAfterKey(
+      List<String> studyIds,
+      List<String> patientIds,
+      List<String> attributeIds,
+      String projection,
+      Integer limit,
+      PageKey afterKey,
+      String sortBy,
+      String direction);
+
+  Cursor<ClinicalData> getSampleClinicalDataIter(
+      List<String> studyIds, List<String> sampleIds, List<String> attributeIds, String projection);
+
+  Cursor<ClinicalData> getPatientClinicalDataIter(
+      List<String> studyIds, List<String> patientIds, List<String> attributeIds, String projection);
+
   BaseMeta getMetaSampleClinicalData(
       List<String> studyIds, List<String> sampleIds, List<String> attributeIds);
 
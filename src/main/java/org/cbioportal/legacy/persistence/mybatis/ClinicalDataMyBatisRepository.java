@@ -6,6 +6,7 @@ import java.util.stream.Stream;
 import org.cbioportal.legacy.model.ClinicalAttribute;
 import org.cbioportal.legacy.model.ClinicalData;
 import org.cbioportal.legacy.model.ClinicalDataCount;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Patient;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.persistence.ClinicalAttributeRepository;
@@ -118,6 +119,40 @@ public class ClinicalDataMyBatisRepository implements ClinicalDataRepository {
     }
   }
 
+  @Override
+  public List<ClinicalData> getAllClinicalDataInStudyAfterKey(
+      String studyId,
+      String attributeId,
+      String clinicalDataType,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction) {
+
+    if (clinicalDataType.equals(PersistenceConstants.SAMPLE_CLINICAL_DATA_TYPE)) {
+      return clinicalDataMapper.getSampleClinicalDataAfterKey(
+          Arrays.asList(studyId),
+          null,
+          attributeId != null ? Arrays.asList(attributeId) : null,
+          projection,
+          pageSize,
+          afterKey,
+          sortBy,
+          direction);
+    } else {
+      return clinicalDataMapper.getPatientClinicalDataAfterKey(
+          Arrays.asList(studyId),
+          null,
+          attributeId != null ? Arrays.asList(attributeId) : null,
+          projection,
+          pageSize,
+          afterKey,
+          sortBy,
+          direction);
+    }
+  }
+
   @Override
   public BaseMeta getMetaAllClinicalData(
       String studyId, String attributeId, String clinicalDataType) {
@@ -202,6 +237,25 @@ public class ClinicalDataMyBatisRepository implements ClinicalDataRepository {
     }
   }
 
+  @Override
+  // The returned iterable is backed by a cursor and needs the transaction set up by the caller,
+  // see ClinicalDataServiceImpl:streamClinicalData.
+  public Iterable<ClinicalData> fetchClinicalDataIterable(
+      List<String> studyIds,
+      List<String> ids,
+      List<String> attributeIds,
+      String clinicalDataType,
+      String projection) {
+    if (ids.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (clinicalDataType.equals(PersistenceConstants.SAMPLE_CLINICAL_DATA_TYPE)) {
+      return clinicalDataMapper.getSampleClinicalDataIter(studyIds, ids, attributeIds, projection);
+    } else {
+      return clinicalDataMapper.getPatientClinicalDataIter(studyIds, ids, attributeIds, projection);
+    }
+  }
+
   public List<Integer> getVisibleSampleInternalIdsForClinicalTable(
       List<String> studyIds,
       List<String> sampleIds,
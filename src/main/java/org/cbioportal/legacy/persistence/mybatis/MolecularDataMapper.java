@@ -26,6 +26,9 @@ public interface MolecularDataMapper {
   List<GeneMolecularAlteration> getGeneMolecularAlterationsInMultipleMolecularProfiles(
       Set<String> molecularProfileIds, List<Integer> entrezGeneIds, String projection);
 
+  Cursor<GeneMolecularAlteration> getGeneMolecularAlterationsInMultipleMolecularProfilesIter(
+      Set<String> molecularProfileIds, List<Integer> entrezGeneIds, String projection);
+
   List<GenesetMolecularAlteration> getGenesetMolecularAlterations(
       String molecularProfileId, List<String> genesetIds, String projection);
 
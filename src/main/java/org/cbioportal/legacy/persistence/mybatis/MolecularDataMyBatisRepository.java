@@ -75,6 +75,17 @@ public class MolecularDataMyBatisRepository implements MolecularDataRepository {
         molecularProfileIds, entrezGeneIds, projection);
   }
 
+  @Override
+  // The returned iterable is backed by a cursor and needs the transaction set up by the caller,
+  // see MolecularDataServiceImpl:streamMolecularDataInMultipleMolecularProfiles.
+  public Iterable<GeneMolecularAlteration>
+      getGeneMolecularAlterationsInMultipleMolecularProfilesIterable(
+          Set<String> molecularProfileIds, List<Integer> entrezGeneIds, String projection) {
+
+    return molecularDataMapper.getGeneMolecularAlterationsInMultipleMolecularProfilesIter(
+        molecularProfileIds, entrezGeneIds, projection);
+  }
+
   @Override
   public List<GenesetMolecularAlteration> getGenesetMolecularAlterations(
       String molecularProfileId, List<String> genesetIds, String projection) {
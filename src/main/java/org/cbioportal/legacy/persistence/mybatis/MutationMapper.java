@@ -1,10 +1,13 @@
 package org.cbioportal.legacy.persistence.mybatis;
 
 import java.util.List;
+import org.apache.ibatis.cursor.Cursor;
 import org.cbioportal.legacy.model.GeneFilterQuery;
 import org.cbioportal.legacy.model.GenomicDataCountItem;
 import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationCountByPosition;
+import org.cbioportal.legacy.model.MutationSpectrum;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 
 public interface MutationMapper {
@@ -20,6 +23,17 @@ public interface MutationMapper {
       String sortBy,
       String direction);
 
+  List<Mutation> getMutationsBySampleListIdAfterKey(
+      String molecularProfileId,
+      String sampleListId,
+      List<Integer> entrezGeneIds,
+      boolean snpOnly,
+      String projection,
+      Integer limit,
+      PageKey afterKey,
+      String sortBy,
+      String direction);
+
   MutationMeta getMetaMutationsBySampleListId(
       String molecularProfileId, String sampleListId, List<Integer> entrezGeneIds, boolean snpOnly);
 
@@ -34,6 +48,13 @@ public interface MutationMapper {
       String sortBy,
       String direction);
 
+  Cursor<Mutation> getMutationsInMultipleMolecularProfilesIter(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<Integer> entrezGeneIds,
+      boolean snpOnly,
+      String projection);
+
   List<Mutation> getMutationsInMultipleMolecularProfilesByGeneQueries(
       List<String> molecularProfileIds,
       List<String> sampleIds,
@@ -57,6 +78,15 @@ public interface MutationMapper {
       List<Integer> entrezGeneIds,
       boolean snpOnly);
 
+  List<MutationSpectrum> getMutationSpectrumsBySampleListId(
+      String molecularProfileId, String sampleListId, List<Integer> entrezGeneIds, boolean snpOnly);
+
+  List<MutationSpectrum> getMutationSpectrumsInMultipleMolecularProfiles(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<Integer> entrezGeneIds,
+      boolean snpOnly);
+
   MutationCountByPosition getMutationCountByPosition(
       Integer entrezGeneId, Integer proteinPosStart, Integer proteinPosEnd);
 
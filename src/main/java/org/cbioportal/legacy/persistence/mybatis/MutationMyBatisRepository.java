@@ -6,6 +6,8 @@ import org.cbioportal.legacy.model.GeneFilterQuery;
 import org.cbioportal.legacy.model.GenomicDataCountItem;
 import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationCountByPosition;
+import org.cbioportal.legacy.model.MutationSpectrum;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 import org.cbioportal.legacy.persistence.MutationRepository;
 import org.cbioportal.legacy.persistence.mybatis.util.MolecularProfileCaseIdentifierUtil;
@@ -43,6 +45,30 @@ public class MutationMyBatisRepository implements MutationRepository {
         direction);
   }
 
+  @Override
+  public List<Mutation> getMutationsInMolecularProfileBySampleListIdAfterKey(
+      String molecularProfileId,
+      String sampleListId,
+      List<Integer> entrezGeneIds,
+      boolean snpOnly,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction) {
+
+    return mutationMapper.getMutationsBySampleListIdAfterKey(
+        molecularProfileId,
+        sampleListId,
+        entrezGeneIds,
+        snpOnly,
+        projection,
+        pageSize,
+        afterKey,
+        sortBy,
+        direction);
+  }
+
   @Override
   public MutationMeta getMetaMutationsInMolecularProfileBySampleListId(
       String molecularProfileId, String sampleListId, List<Integer> entrezGeneIds) {
@@ -74,6 +100,19 @@ public class MutationMyBatisRepository implements MutationRepository {
         direction);
   }
 
+  @Override
+  // The returned iterable is backed by a cursor and needs the transaction set up by the caller,
+  // see MutationServiceImpl:streamMutationsInMultipleMolecularProfiles.
+  public Iterable<Mutation> getMutationsInMultipleMolecularProfilesIterable(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<Integer> entrezGeneIds,
+      String projection) {
+
+    return mutationMapper.getMutationsInMultipleMolecularProfilesIter(
+        molecularProfileIds, sampleIds, entrezGeneIds, false, projection);
+  }
+
   @Override
   public List<Mutation> getMutationsInMultipleMolecularProfilesByGeneQueries(
       List<String> molecularProfileIds,
@@ -147,6 +186,22 @@ public class MutationMyBatisRepository implements MutationRepository {
         molecularProfileId, sampleIds, entrezGeneIds, false);
   }
 
+  @Override
+  public List<MutationSpectrum> getMutationSpectrumsInMolecularProfileBySampleListId(
+      String molecularProfileId, String sampleListId) {
+
+    return mutationMapper.getMutationSpectrumsBySampleListId(
+        molecularProfileId, sampleListId, null, true);
+  }
+
+  @Override
+  public List<MutationSpectrum> fetchMutationSpectrumsInMolecularProfile(
+      String molecularProfileId, List<String> sampleIds) {
+
+    return mutationMapper.getMutationSpectrumsInMultipleMolecularProfiles(
+        Arrays.asList(molecularProfileId), new ArrayList<>(sampleIds), null, true);
+  }
+
   @Override
   public MutationCountByPosition getMutationCountByPosition(
       Integer entrezGeneId, Integer proteinPosStart, Integer proteinPosEnd) {
@@ -4,7 +4,7 @@ import java.util.*;
 import org.cbioportal.legacy.model.NamespaceAttribute;
 import org.cbioportal.legacy.model.NamespaceAttributeCount;
 import org.cbioportal.legacy.model.NamespaceData;
-import org.cbioportal.legacy.model.NamespaceDataCount;
+import org.cbioportal.legacy.model.NamespaceDataCountItem;
 import org.cbioportal.legacy.persistence.NamespaceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
@@ -40,17 +40,17 @@ public class NamespaceMyBatisRepository implements NamespaceRepository {
   }
 
   @Override
-  public List<NamespaceDataCount> getNamespaceDataCounts(
-      List<String> studyIds, List<String> sampleIds, String outerKey, String innerKey) {
+  public List<NamespaceDataCountItem> getNamespaceDataCounts(
+      List<String> studyIds, List<String> sampleIds, List<NamespaceAttribute> namespaceAttributes) {
 
-    return namespaceMapper.getNamespaceDataCounts(studyIds, sampleIds, outerKey, innerKey);
+    return namespaceMapper.getNamespaceDataCounts(studyIds, sampleIds, namespaceAttributes);
   }
 
   @Override
   public List<NamespaceData> getNamespaceData(
-      List<String> studyIds, List<String> sampleIds, String outerKey, String innerKey) {
+      List<String> studyIds, List<String> sampleIds, List<NamespaceAttribute> namespaceAttributes) {
 
-    return namespaceMapper.getNamespaceData(studyIds, sampleIds, outerKey, innerKey);
+    return namespaceMapper.getNamespaceData(studyIds, sampleIds, namespaceAttributes);
   }
 
   @Override
@@ -59,9 +59,9 @@ public class NamespaceMyBatisRepository implements NamespaceRepository {
       List<String> sampleIds,
       String outerKey,
       String innerKey,
-      String value) {
+      List<String> values) {
 
     return namespaceMapper.getNamespaceDataForComparison(
-        studyIds, sampleIds, outerKey, innerKey, value);
+        studyIds, sampleIds, outerKey, innerKey, values);
   }
 }
@@ -1,6 +1,7 @@
 package org.cbioportal.legacy.persistence.mybatis;
 
 import java.util.List;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 
@@ -17,6 +18,17 @@ public interface SampleMapper {
       String sortBy,
       String direction);
 
+  List<Sample> getSamplesAfterKey(
+      List<String> studyIds,
+      String patientId,
+      List<String> sampleIds,
+      String keyword,
+      String projection,
+      Integer limit,
+      PageKey afterKey,
+      String sortBy,
+      String direction);
+
   List<Sample> getSamplesBySampleListIds(List<String> sampleListIds, String projection);
 
   BaseMeta getMetaSamples(
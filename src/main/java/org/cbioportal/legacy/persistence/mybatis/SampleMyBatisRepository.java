@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.persistence.PersistenceConstants;
@@ -64,6 +65,27 @@ public class SampleMyBatisRepository implements SampleRepository {
         direction);
   }
 
+  @Override
+  public List<Sample> getAllSamplesInStudyAfterKey(
+      String studyId,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction) {
+
+    return sampleMapper.getSamplesAfterKey(
+        Arrays.asList(studyId),
+        null,
+        null,
+        null,
+        projection,
+        pageSize,
+        afterKey,
+        sortBy,
+        direction);
+  }
+
   @Override
   public BaseMeta getMetaSamplesInStudy(String studyId) {
 
@@ -1,9 +1,11 @@
 package org.cbioportal.legacy.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.cbioportal.legacy.model.ClinicalData;
 import org.cbioportal.legacy.model.ClinicalDataCountItem;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.SampleClinicalDataCollection;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.service.exception.PatientNotFoundException;
@@ -51,6 +53,17 @@ public interface ClinicalDataService {
       String direction)
       throws StudyNotFoundException;
 
+  List<ClinicalData> getAllClinicalDataInStudyAfterKey(
+      String studyId,
+      String attributeId,
+      String clinicalDataType,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction)
+      throws StudyNotFoundException;
+
   BaseMeta getMetaAllClinicalData(String studyId, String attributeId, String clinicalDataType)
       throws StudyNotFoundException;
 
@@ -73,6 +86,18 @@ public interface ClinicalDataService {
       String clinicalDataType,
       String projection);
 
+  /**
+   * Passes the same rows as {@link #fetchClinicalData} to the consumer while they are read from the
+   * database, in no particular order.
+   */
+  void streamClinicalData(
+      List<String> studyIds,
+      List<String> ids,
+      List<String> attributeIds,
+      String clinicalDataType,
+      String projection,
+      Consumer<ClinicalData> consumer);
+
   BaseMeta fetchMetaClinicalData(
       List<String> studyIds, List<String> ids, List<String> attributeIds, String clinicalDataType);
 
@@ -90,4 +115,14 @@ public interface ClinicalDataService {
       String searchTerm,
       String sortBy,
       String direction);
+
+  List<Integer> getSortedSampleInternalIdsForClinicalTable(
+      List<String> studyIds,
+      List<String> sampleIds,
+      String searchTerm,
+      String sortBy,
+      String direction);
+
+  ImmutablePair<SampleClinicalDataCollection, Integer> fetchSampleClinicalTablePage(
+      List<Integer> sortedSampleInternalIds, Integer offset, Integer pageSize);
 }
@@ -6,9 +6,11 @@ import java.util.Set;
 import org.cbioportal.legacy.model.ClinicalData;
 import org.cbioportal.legacy.model.ClinicalEvent;
 import org.cbioportal.legacy.model.ClinicalEventTypeCount;
+import org.cbioportal.legacy.model.SurvivalAnalysis;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.service.exception.PatientNotFoundException;
 import org.cbioportal.legacy.service.exception.StudyNotFoundException;
+import org.cbioportal.legacy.web.parameter.SurvivalCurveRequest;
 import org.cbioportal.legacy.web.parameter.SurvivalRequest;
 
 public interface ClinicalEventService {
@@ -48,6 +50,8 @@ public interface ClinicalEventService {
       String attributeIdPrefix,
       SurvivalRequest survivalRequest);
 
+  SurvivalAnalysis getSurvivalAnalysis(SurvivalCurveRequest survivalCurveRequest);
+
   List<ClinicalEvent> getClinicalEventsMeta(
       List<String> studyIds, List<String> patientIds, List<ClinicalEvent> clinicalEvents);
 }
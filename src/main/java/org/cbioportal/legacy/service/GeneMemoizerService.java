@@ -1,11 +1,19 @@
 package org.cbioportal.legacy.service;
 
 import java.util.List;
+import java.util.function.Supplier;
 import org.cbioportal.legacy.model.ReferenceGenomeGene;
 
 @Deprecated
 public interface GeneMemoizerService {
   List<ReferenceGenomeGene> fetchGenes(String genomeName);
 
+  /**
+   * @return the memoized genes of the genome, or those returned by {@code loader} if they are not
+   *     memoized or stale. Concurrent callers for the same genome wait for a single load.
+   */
+  List<ReferenceGenomeGene> fetchGenes(
+      String genomeName, Supplier<List<ReferenceGenomeGene>> loader);
+
   void cacheGenes(List<ReferenceGenomeGene> genes, String genomeName);
 }
@@ -1,6 +1,7 @@
 package org.cbioportal.legacy.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.cbioportal.legacy.model.GenericAssayData;
 import org.cbioportal.legacy.model.meta.GenericAssayMeta;
 import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException;
@@ -30,4 +31,15 @@ public interface GenericAssayService {
       List<String> genericAssayStableIds,
       String projection)
       throws MolecularProfileNotFoundException;
+
+  /**
+   * Passes the same rows as {@link #fetchGenericAssayData(List, List, List, String)} to the
+   * consumer while they are read from the database, in no particular order.
+   */
+  void streamGenericAssayData(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<String> genericAssayStableIds,
+      String projection,
+      Consumer<GenericAssayData> consumer);
 }
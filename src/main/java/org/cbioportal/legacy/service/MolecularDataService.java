@@ -1,6 +1,7 @@
 package org.cbioportal.legacy.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.cbioportal.legacy.model.GeneFilterQuery;
 import org.cbioportal.legacy.model.GeneMolecularAlteration;
 import org.cbioportal.legacy.model.GeneMolecularData;
@@ -43,6 +44,17 @@ public interface MolecularDataService {
       List<Integer> entrezGeneIds,
       String projection);
 
+  /**
+   * Passes the same rows as {@link #getMolecularDataInMultipleMolecularProfiles} to the consumer
+   * while they are read from the database, in no particular order.
+   */
+  void streamMolecularDataInMultipleMolecularProfiles(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<Integer> entrezGeneIds,
+      String projection,
+      Consumer<GeneMolecularData> consumer);
+
   List<GeneMolecularData> getMolecularDataInMultipleMolecularProfilesByGeneQueries(
       List<String> molecularProfileIds,
       List<String> sampleIds,
@@ -1,10 +1,13 @@
 package org.cbioportal.legacy.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.cbioportal.legacy.model.GeneFilterQuery;
 import org.cbioportal.legacy.model.GenomicDataCountItem;
 import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationCountByPosition;
+import org.cbioportal.legacy.model.MutationSpectrum;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException;
 
@@ -22,6 +25,18 @@ public interface MutationService {
       String direction)
       throws MolecularProfileNotFoundException;
 
+  List<Mutation> getMutationsInMolecularProfileBySampleListIdAfterKey(
+      String molecularProfileId,
+      String sampleListId,
+      List<Integer> entrezGeneIds,
+      boolean snpOnly,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction)
+      throws MolecularProfileNotFoundException;
+
   MutationMeta getMetaMutationsInMolecularProfileBySampleListId(
       String molecularProfileId, String sampleListId, List<Integer> entrezGeneIds)
       throws MolecularProfileNotFoundException;
@@ -36,6 +51,17 @@ public interface MutationService {
       String sortBy,
       String direction);
 
+  /**
+   * Passes the same rows as {@link #getMutationsInMultipleMolecularProfiles} to the consumer while
+   * they are read from the database, unsorted and unpaged.
+   */
+  void streamMutationsInMultipleMolecularProfiles(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<Integer> entrezGeneIds,
+      String projection,
+      Consumer<Mutation> consumer);
+
   List<Mutation> getMutationsInMultipleMolecularProfilesByGeneQueries(
       List<String> molecularProfileIds,
       List<String> sampleIds,
@@ -65,6 +91,20 @@ public interface MutationService {
       String molecularProfileId, List<String> sampleIds, List<Integer> entrezGeneIds)
       throws MolecularProfileNotFoundException;
 
+  /**
+   * @return the per sample counts of the single nucleotide substitution classes, aggregated by the
+   *     database
+   */
+  List<MutationSpectrum> getMutationSpectrumsInMolecularProfileBySampleListId(
+      String molecularProfileId, String sampleListId) throws MolecularProfileNotFoundException;
+
+  /**
+   * @return the per sample counts of the single nucleotide substitution classes, aggregated by the
+   *     database
+   */
+  List<MutationSpectrum> fetchMutationSpectrumsInMolecularProfile(
+      String molecularProfileId, List<String> sampleIds) throws MolecularProfileNotFoundException;
+
   List<MutationCountByPosition> fetchMutationCountsByPosition(
       List<Integer> entrezGeneIds, List<Integer> proteinPosStarts, List<Integer> proteinPosEnds);
 
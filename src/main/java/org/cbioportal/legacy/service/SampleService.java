@@ -1,6 +1,7 @@
 package org.cbioportal.legacy.service;
 
 import java.util.List;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.service.exception.PatientNotFoundException;
@@ -18,6 +19,15 @@ public interface SampleService {
       String direction)
       throws StudyNotFoundException;
 
+  List<Sample> getAllSamplesInStudyAfterKey(
+      String studyId,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction)
+      throws StudyNotFoundException;
+
   BaseMeta getMetaSamplesInStudy(String studyId) throws StudyNotFoundException;
 
   List<Sample> getAllSamplesInStudies(
@@ -10,6 +10,7 @@ import org.cbioportal.legacy.service.exception.CancerTypeNotFoundException;
 import org.cbioportal.legacy.service.exception.DuplicateVirtualStudyException;
 import org.cbioportal.legacy.service.exception.StudyNotFoundException;
 import org.cbioportal.legacy.service.util.SessionServiceRequestHandler;
+import org.cbioportal.legacy.service.util.VirtualStudyCache;
 import org.cbioportal.legacy.web.parameter.SampleIdentifier;
 import org.cbioportal.legacy.web.parameter.VirtualStudy;
 import org.cbioportal.legacy.web.parameter.VirtualStudyData;
@@ -17,6 +18,7 @@ import org.cbioportal.legacy.web.parameter.VirtualStudySamples;
 import org.cbioportal.legacy.web.util.StudyViewFilterApplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -28,20 +30,28 @@ public class VirtualStudyService {
   private final StudyViewFilterApplier studyViewFilterApplier;
   private final CancerTypeService cancerTypeService;
   private final StudyService studyService;
+  private final VirtualStudyCache virtualStudyCache;
 
   public VirtualStudyService(
       SessionServiceRequestHandler sessionServiceRequestHandler,
       StudyViewFilterApplier studyViewFilterApplier,
       CancerTypeService cancerTypeService,
-      StudyService studyService) {
+      StudyService studyService,
+      VirtualStudyCache virtualStudyCache) {
     this.sessionServiceRequestHandler = sessionServiceRequestHandler;
     this.studyViewFilterApplier = studyViewFilterApplier;
     this.cancerTypeService = cancerTypeService;
     this.studyService = studyService;
+    this.virtualStudyCache = virtualStudyCache;
   }
 
   public VirtualStudy getVirtualStudy(String id) {
-    VirtualStudy virtualStudy = sessionServiceRequestHandler.getVirtualStudyById(id);
+    VirtualStudy virtualStudy =
+        virtualStudyCache
+            .getVirtualStudy(
+                id, () -> Optional.of(sessionServiceRequestHandler.getVirtualStudyById(id)))
+            // known not to exist, let the session service answer as before
+            .orElseGet(() -> sessionServiceRequestHandler.getVirtualStudyById(id));
     VirtualStudyData virtualStudyData = virtualStudy.getData();
     if (Boolean.TRUE.equals(virtualStudyData.getDynamic())) {
       populateVirtualStudySamples(virtualStudyData);
@@ -50,8 +60,8 @@ public class VirtualStudyService {
   }
 
   public Optional<VirtualStudy> getVirtualStudyByIdIfExists(String id) {
-    return sessionServiceRequestHandler
-        .getVirtualStudyByIdIfExists(id)
+    return virtualStudyCache
+        .getVirtualStudy(id, () -> sessionServiceRequestHandler.getVirtualStudyByIdIfExists(id))
         .map(
             virtualStudy -> {
               VirtualStudyData virtualStudyData = virtualStudy.getData();
@@ -63,8 +73,34 @@ public class VirtualStudyService {
   }
 
   public List<VirtualStudy> getUserVirtualStudies(String user) {
-    List<VirtualStudy> virtualStudies =
-        sessionServiceRequestHandler.getVirtualStudiesAccessibleToUser(user);
+    return populateDynamicVirtualStudies(
+        sessionServiceRequestHandler.getVirtualStudiesAccessibleToUser(user));
+  }
+
+  public List<VirtualStudy> getPublicVirtualStudies() {
+    return populateDynamicVirtualStudies(
+        virtualStudyCache.getPublicVirtualStudies(
+            () -> sessionServiceRequestHandler.getVirtualStudiesAccessibleToUser(ALL_USERS)));
+  }
+
+  /**
+   * Drops the cached virtual studies if the public virtual studies have been changed, e.g. through
+   * another node.
+   */
+  @Scheduled(fixedDelayString = "${virtual_study.cache.version_check_interval_ms:60000}")
+  public void checkVirtualStudyVersions() {
+    if (!virtualStudyCache.isEnabled() || !sessionServiceRequestHandler.isSessionServiceEnabled()) {
+      return;
+    }
+    try {
+      virtualStudyCache.checkVersion(
+          sessionServiceRequestHandler.getVirtualStudiesAccessibleToUser(ALL_USERS));
+    } catch (RuntimeException e) {
+      LOG.warn("Could not check the public virtual studies: {}", e.getMessage());
+    }
+  }
+
+  private List<VirtualStudy> populateDynamicVirtualStudies(List<VirtualStudy> virtualStudies) {
     for (VirtualStudy virtualStudy : virtualStudies) {
       VirtualStudyData virtualStudyData = virtualStudy.getData();
       if (Boolean.TRUE.equals(virtualStudyData.getDynamic())) {
@@ -74,10 +110,6 @@ public class VirtualStudyService {
     return virtualStudies;
   }
 
-  public List<VirtualStudy> getPublicVirtualStudies() {
-    return getUserVirtualStudies(ALL_USERS);
-  }
-
   /**
    * This method populates the `virtualStudyData` object with a new set of sample IDs retrieved as
    * the result of executing a query based on virtual study view filters. It first applies the
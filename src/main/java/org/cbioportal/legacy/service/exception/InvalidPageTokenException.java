@@ -0,0 +1,8 @@
+package org.cbioportal.legacy.service.exception;
+
+public class InvalidPageTokenException extends RuntimeException {
+
+  public InvalidPageTokenException(String message) {
+    super(message);
+  }
+}
@@ -1,11 +1,21 @@
 package org.cbioportal.legacy.service.impl;
 
+import jakarta.annotation.PreDestroy;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -23,6 +33,8 @@ import org.cbioportal.legacy.persistence.MolecularProfileRepository;
 import org.cbioportal.legacy.service.AlterationCountService;
 import org.cbioportal.legacy.service.util.AlterationEnrichmentUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -34,6 +46,11 @@ public class AlterationCountServiceImpl implements AlterationCountService {
   private final AlterationEnrichmentUtil<AlterationCountByStructuralVariant>
       alterationEnrichmentUtilStructVar;
   private final MolecularProfileRepository molecularProfileRepository;
+  // not the shared async executor: the batch chart requests call this service from its threads, so
+  // fetches queued behind them on a small pool would never start
+  private final ExecutorService studyExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final int maxConcurrentStudies;
+  private final long timeoutSeconds;
 
   @Autowired
   public AlterationCountServiceImpl(
@@ -42,12 +59,16 @@ public class AlterationCountServiceImpl implements AlterationCountService {
       AlterationEnrichmentUtil<CopyNumberCountByGene> alterationEnrichmentUtilCna,
       AlterationEnrichmentUtil<AlterationCountByStructuralVariant>
           alterationEnrichmentUtilStructVar,
-      MolecularProfileRepository molecularProfileRepository) {
+      MolecularProfileRepository molecularProfileRepository,
+      @Value("${alteration_counts.max_concurrent_studies:8}") int maxConcurrentStudies,
+      @Value("${alteration_counts.timeout_seconds:300}") long timeoutSeconds) {
     this.alterationRepository = alterationRepository;
     this.alterationEnrichmentUtil = alterationEnrichmentUtil;
     this.alterationEnrichmentUtilCna = alterationEnrichmentUtilCna;
     this.alterationEnrichmentUtilStructVar = alterationEnrichmentUtilStructVar;
     this.molecularProfileRepository = molecularProfileRepository;
+    this.maxConcurrentStudies = maxConcurrentStudies;
+    this.timeoutSeconds = timeoutSeconds;
   }
 
   @Override
@@ -258,20 +279,19 @@ public class AlterationCountServiceImpl implements AlterationCountService {
                 Collectors.toMap(
                     MolecularProfile::getStableId, MolecularProfile::getCancerStudyIdentifier));
 
-    // Group by study ID and fetch alteration count data
-    List<S> allAlterationCountByGenes =
-        molecularProfileCaseIdentifiers.stream()
-            .collect(
-                Collectors.groupingBy(
-                    identifier ->
-                        molecularProfileIdStudyIdMap.get(identifier.getMolecularProfileId())))
-            .values()
-            .stream()
-            .flatMap(group -> dataFetcher.apply(group).stream())
-            .toList();
-
-    // Merge alteration count data
-    List<S> mergedAlterationCounts = mergeAlterationCounts(allAlterationCountByGenes);
+    // Group by study ID, then fetch and merge alteration count data
+    List<S> mergedAlterationCounts =
+        new ArrayList<>(
+            fetchAlterationCountsByStudy(
+                    molecularProfileCaseIdentifiers.stream()
+                        .collect(
+                            Collectors.groupingBy(
+                                identifier ->
+                                    molecularProfileIdStudyIdMap.get(
+                                        identifier.getMolecularProfileId())))
+                        .values(),
+                    dataFetcher)
+                .values());
 
     // Calculate frequency if requested
     long profiledCasesCount = 0L;
@@ -284,16 +304,82 @@ public class AlterationCountServiceImpl implements AlterationCountService {
   }
 
   /**
-   * Merges alteration counts across different studies for the same gene/event.
+   * Fetches the alteration counts of each study group and merges them as they arrive. Up to {@code
+   * maxConcurrentStudies} groups are fetched at the same time on virtual threads; if the alteration
+   * counts of all groups are not fetched within {@code timeoutSeconds}, or the calling thread is
+   * interrupted because the request was cancelled, the fetches still running are cancelled.
    *
    * @param <S> The specific type extending AlterationCountBase
-   * @param alterationCountByGenes List of alteration counts to be merged
-   * @return A list of merged alteration counts
+   * @param studyGroups Molecular profile case identifiers grouped by study
+   * @param dataFetcher Function to fetch alteration count data
+   * @return The merged alteration counts by unique event key
    */
-  private <S extends AlterationCountBase> List<S> mergeAlterationCounts(
-      List<S> alterationCountByGenes) {
+  private <S extends AlterationCountBase> Map<String, S> fetchAlterationCountsByStudy(
+      Collection<List<MolecularProfileCaseIdentifier>> studyGroups,
+      Function<List<MolecularProfileCaseIdentifier>, List<S>> dataFetcher) {
     Map<String, S> mergedAlterationCountsMap = new HashMap<>();
 
+    if (studyGroups.size() == 1 || maxConcurrentStudies <= 1) {
+      studyGroups.forEach(
+          group -> mergeAlterationCounts(dataFetcher.apply(group), mergedAlterationCountsMap));
+      return mergedAlterationCountsMap;
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    CompletionService<List<S>> completionService = new ExecutorCompletionService<>(studyExecutor);
+    List<Future<List<S>>> futures = new ArrayList<>();
+    Iterator<List<MolecularProfileCaseIdentifier>> pendingGroups = studyGroups.iterator();
+    try {
+      while (futures.size() < maxConcurrentStudies && pendingGroups.hasNext()) {
+        List<MolecularProfileCaseIdentifier> group = pendingGroups.next();
+        futures.add(completionService.submit(() -> dataFetcher.apply(group)));
+      }
+      for (int fetched = 0; fetched < studyGroups.size(); fetched++) {
+        Future<List<S>> future =
+            completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (future == null) {
+          throw new QueryTimeoutException(
+              "Fetching alteration counts of "
+                  + studyGroups.size()
+                  + " studies took more than "
+                  + timeoutSeconds
+                  + " seconds");
+        }
+        mergeAlterationCounts(future.get(), mergedAlterationCountsMap);
+        if (pendingGroups.hasNext()) {
+          List<MolecularProfileCaseIdentifier> group = pendingGroups.next();
+          futures.add(completionService.submit(() -> dataFetcher.apply(group)));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while fetching alteration counts", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new RuntimeException("Unexpected exception while fetching alteration counts", e);
+    } finally {
+      // no-op for the fetches that are done
+      futures.forEach(future -> future.cancel(true));
+    }
+    return mergedAlterationCountsMap;
+  }
+
+  @PreDestroy
+  public void close() {
+    studyExecutor.shutdownNow();
+  }
+
+  /**
+   * Merges alteration counts of a study into those of other studies for the same gene/event.
+   *
+   * @param <S> The specific type extending AlterationCountBase
+   * @param alterationCountByGenes List of alteration counts to be merged
+   * @param mergedAlterationCountsMap Merged alteration counts by unique event key
+   */
+  private <S extends AlterationCountBase> void mergeAlterationCounts(
+      List<S> alterationCountByGenes, Map<String, S> mergedAlterationCountsMap) {
     for (S datum : alterationCountByGenes) {
       String key = datum.getUniqueEventKey();
 
@@ -309,7 +395,5 @@ public class AlterationCountServiceImpl implements AlterationCountService {
         mergedAlterationCountsMap.put(key, datum);
       }
     }
-
-    return new ArrayList<>(mergedAlterationCountsMap.values());
   }
 }
@@ -11,8 +11,10 @@ import org.cbioportal.legacy.persistence.cachemaputil.StaticRefCacheMapUtil;
 import org.cbioportal.legacy.persistence.util.CacheUtils;
 import org.cbioportal.legacy.service.CacheService;
 import org.cbioportal.legacy.service.exception.CacheOperationException;
+import org.cbioportal.legacy.service.util.StudyCachesEvictedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -31,6 +33,8 @@ public class CacheServiceImpl implements CacheService {
 
   @Autowired private StudyRepository studyRepository;
 
+  @Autowired private ApplicationEventPublisher applicationEventPublisher;
+
   @Override
   public void clearCaches(boolean clearSpringManagedCache) throws CacheOperationException {
 
@@ -45,6 +49,10 @@ public class CacheServiceImpl implements CacheService {
       ((StaticRefCacheMapUtil) cacheMapUtil).initializeCacheMemory();
     }
 
+    if (clearSpringManagedCache) {
+      applicationEventPublisher.publishEvent(new StudyCachesEvictedEvent(null));
+    }
+
     // Note: DAO classes in package org.mskcc.cbio.portal.dao do have their own
     // caching strategy. Since these classes are only used by the deprecated old
     // version of the r-library and may result in problems in the running instance
@@ -65,10 +73,15 @@ public class CacheServiceImpl implements CacheService {
       attemptEvictSpringManagedCache(buildEvictionRegex(studyId, allStudyIds));
     }
 
-    // Flush cache used for user permission evaluation.
+    // Refresh cache used for user permission evaluation, reloading only the entries of this study
+    // and of any other study imported since the last refresh.
     // Only needed when using cache not managed by the Spring caches.
     if (cacheMapUtil instanceof StaticRefCacheMapUtil) {
-      ((StaticRefCacheMapUtil) cacheMapUtil).initializeCacheMemory();
+      ((StaticRefCacheMapUtil) cacheMapUtil).refreshCacheMemory(List.of(studyId));
+    }
+
+    if (clearSpringManagedCache) {
+      applicationEventPublisher.publishEvent(new StudyCachesEvictedEvent(studyId));
     }
   }
 
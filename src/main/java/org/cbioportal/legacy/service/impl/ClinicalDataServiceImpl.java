@@ -3,6 +3,7 @@ package org.cbioportal.legacy.service.impl;
 import static org.cbioportal.legacy.utils.Encoder.calculateBase64;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -11,6 +12,7 @@ import org.cbioportal.legacy.model.ClinicalAttribute;
 import org.cbioportal.legacy.model.ClinicalData;
 import org.cbioportal.legacy.model.ClinicalDataCount;
 import org.cbioportal.legacy.model.ClinicalDataCountItem;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Patient;
 import org.cbioportal.legacy.model.SampleClinicalDataCollection;
 import org.cbioportal.legacy.model.meta.BaseMeta;
@@ -27,6 +29,7 @@ import org.cbioportal.legacy.service.exception.StudyNotFoundException;
 import org.cbioportal.legacy.service.util.ClinicalAttributeUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ClinicalDataServiceImpl implements ClinicalDataService {
@@ -116,6 +119,24 @@ public class ClinicalDataServiceImpl implements ClinicalDataService {
         direction);
   }
 
+  @Override
+  public List<ClinicalData> getAllClinicalDataInStudyAfterKey(
+      String studyId,
+      String attributeId,
+      String clinicalDataType,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction)
+      throws StudyNotFoundException {
+
+    studyService.studyExists(studyId);
+
+    return clinicalDataRepository.getAllClinicalDataInStudyAfterKey(
+        studyId, attributeId, clinicalDataType, projection, pageSize, afterKey, sortBy, direction);
+  }
+
   @Override
   public BaseMeta getMetaAllClinicalData(
       String studyId, String attributeId, String clinicalDataType) throws StudyNotFoundException {
@@ -165,6 +186,21 @@ public class ClinicalDataServiceImpl implements ClinicalDataService {
         studyIds, ids, attributeIds, clinicalDataType, projection);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public void streamClinicalData(
+      List<String> studyIds,
+      List<String> ids,
+      List<String> attributeIds,
+      String clinicalDataType,
+      String projection,
+      Consumer<ClinicalData> consumer) {
+
+    clinicalDataRepository
+        .fetchClinicalDataIterable(studyIds, ids, attributeIds, clinicalDataType, projection)
+        .forEach(consumer);
+  }
+
   @Override
   public BaseMeta fetchMetaClinicalData(
       List<String> studyIds, List<String> ids, List<String> attributeIds, String clinicalDataType) {
@@ -323,6 +359,33 @@ public class ClinicalDataServiceImpl implements ClinicalDataService {
     return buildSampleClinicalDataCollection(allSampleInternalIds, offset, pageSize);
   }
 
+  @Override
+  public List<Integer> getSortedSampleInternalIdsForClinicalTable(
+      List<String> studyIds,
+      List<String> sampleIds,
+      String searchTerm,
+      String sortBy,
+      String direction) {
+    if (studyIds == null || studyIds.isEmpty() || sampleIds == null || sampleIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return clinicalDataRepository.getVisibleSampleInternalIdsForClinicalTable(
+        studyIds, sampleIds, null, null, searchTerm, sortBy, direction);
+  }
+
+  @Override
+  public ImmutablePair<SampleClinicalDataCollection, Integer> fetchSampleClinicalTablePage(
+      List<Integer> sortedSampleInternalIds, Integer offset, Integer pageSize) {
+    if (sortedSampleInternalIds.isEmpty() || offset >= sortedSampleInternalIds.size()) {
+      return new ImmutablePair<>(
+          SampleClinicalDataCollection.builder().build(), sortedSampleInternalIds.size());
+    }
+    // a page size of zero means no paging
+    Integer effectivePageSize =
+        pageSize == null || pageSize == 0 ? sortedSampleInternalIds.size() : pageSize;
+    return buildSampleClinicalDataCollection(sortedSampleInternalIds, offset, effectivePageSize);
+  }
+
   private ImmutablePair<SampleClinicalDataCollection, Integer> buildSampleClinicalDataCollection(
       List<Integer> allSampleInternalIds, Integer offset, Integer pageSize) {
 
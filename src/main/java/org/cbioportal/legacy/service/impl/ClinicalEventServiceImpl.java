@@ -2,6 +2,7 @@ package org.cbioportal.legacy.service.impl;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -16,14 +17,19 @@ import org.cbioportal.legacy.model.ClinicalEvent;
 import org.cbioportal.legacy.model.ClinicalEventData;
 import org.cbioportal.legacy.model.ClinicalEventTypeCount;
 import org.cbioportal.legacy.model.Patient;
+import org.cbioportal.legacy.model.SurvivalAnalysis;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.persistence.ClinicalEventRepository;
 import org.cbioportal.legacy.service.ClinicalEventService;
 import org.cbioportal.legacy.service.PatientService;
 import org.cbioportal.legacy.service.exception.PatientNotFoundException;
 import org.cbioportal.legacy.service.exception.StudyNotFoundException;
+import org.cbioportal.legacy.service.util.KaplanMeierCalculator;
 import org.cbioportal.legacy.web.parameter.ClinicalEventRequestIdentifier;
 import org.cbioportal.legacy.web.parameter.OccurrencePosition;
+import org.cbioportal.legacy.web.parameter.PatientIdentifier;
+import org.cbioportal.legacy.web.parameter.SurvivalCurveRequest;
+import org.cbioportal.legacy.web.parameter.SurvivalGroup;
 import org.cbioportal.legacy.web.parameter.SurvivalRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -33,6 +39,7 @@ public class ClinicalEventServiceImpl implements ClinicalEventService {
 
   @Autowired private ClinicalEventRepository clinicalEventRepository;
   @Autowired private PatientService patientService;
+  @Autowired private KaplanMeierCalculator kaplanMeierCalculator;
 
   @Override
   public List<ClinicalEvent> getAllClinicalEventsOfPatientInStudy(
@@ -209,6 +216,72 @@ public class ClinicalEventServiceImpl implements ClinicalEventService {
         .toList();
   }
 
+  @Override
+  public SurvivalAnalysis getSurvivalAnalysis(SurvivalCurveRequest survivalCurveRequest) {
+    // patients may appear in more than one group, fetch their survival data only once
+    Map<String, PatientIdentifier> patientsByKey = new LinkedHashMap<>();
+    for (SurvivalGroup group : survivalCurveRequest.getGroups()) {
+      for (PatientIdentifier patientIdentifier : group.getPatientIdentifiers()) {
+        patientsByKey.putIfAbsent(
+            patientIdentifier.getStudyId() + patientIdentifier.getPatientId(), patientIdentifier);
+      }
+    }
+    List<String> studyIds = new ArrayList<>();
+    List<String> patientIds = new ArrayList<>();
+    for (PatientIdentifier patientIdentifier : patientsByKey.values()) {
+      studyIds.add(patientIdentifier.getStudyId());
+      patientIds.add(patientIdentifier.getPatientId());
+    }
+
+    SurvivalRequest survivalRequest = new SurvivalRequest();
+    survivalRequest.setAttributeIdPrefix(survivalCurveRequest.getAttributeIdPrefix());
+    survivalRequest.setStartEventRequestIdentifier(
+        survivalCurveRequest.getStartEventRequestIdentifier());
+    survivalRequest.setEndEventRequestIdentifier(
+        survivalCurveRequest.getEndEventRequestIdentifier());
+    survivalRequest.setCensoredEventRequestIdentifier(
+        survivalCurveRequest.getCensoredEventRequestIdentifier());
+
+    final String monthsAttributeId = survivalCurveRequest.getAttributeIdPrefix() + "_MONTHS";
+    Map<String, Double> monthsByKey = new HashMap<>();
+    Map<String, Boolean> statusByKey = new HashMap<>();
+    if (!patientIds.isEmpty()) {
+      for (ClinicalData clinicalData :
+          getSurvivalData(
+              studyIds, patientIds, survivalCurveRequest.getAttributeIdPrefix(), survivalRequest)) {
+        String key = clinicalData.getStudyId() + clinicalData.getPatientId();
+        if (clinicalData.getAttrId().equals(monthsAttributeId)) {
+          monthsByKey.put(key, Double.parseDouble(clinicalData.getAttrValue()));
+        } else {
+          statusByKey.put(key, clinicalData.getAttrValue().startsWith("1"));
+        }
+      }
+    }
+
+    List<String> groupNames = new ArrayList<>();
+    List<double[]> groupTimes = new ArrayList<>();
+    List<boolean[]> groupEvents = new ArrayList<>();
+    for (SurvivalGroup group : survivalCurveRequest.getGroups()) {
+      List<String> keys =
+          group.getPatientIdentifiers().stream()
+              .map(p -> p.getStudyId() + p.getPatientId())
+              .distinct()
+              .filter(monthsByKey::containsKey)
+              .toList();
+      double[] times = new double[keys.size()];
+      boolean[] events = new boolean[keys.size()];
+      for (int i = 0; i < keys.size(); i++) {
+        times[i] = monthsByKey.get(keys.get(i));
+        events[i] = statusByKey.getOrDefault(keys.get(i), false);
+      }
+      groupNames.add(group.getName());
+      groupTimes.add(times);
+      groupEvents.add(events);
+    }
+
+    return kaplanMeierCalculator.calculate(groupNames, groupTimes, groupEvents);
+  }
+
   @Override
   public List<ClinicalEvent> getClinicalEventsMeta(
       List<String> studyIds, List<String> patientIds, List<ClinicalEvent> clinicalEvents) {
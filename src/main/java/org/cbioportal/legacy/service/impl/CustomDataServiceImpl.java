@@ -32,18 +32,9 @@ public class CustomDataServiceImpl implements CustomDataService {
                 Collectors.toMap(
                     attributeId -> attributeId,
                     attributeId ->
-                        CompletableFuture.supplyAsync(
-                            () -> {
-                              try {
-                                String customDataSessionJson =
-                                    sessionServiceRequestHandler.getSessionDataJson(
-                                        Session.SessionType.custom_data, attributeId);
-                                return sessionServiceObjectMapper.readValue(
-                                    customDataSessionJson, CustomDataSession.class);
-                              } catch (Exception e) {
-                                return null;
-                              }
-                            })));
+                        sessionServiceRequestHandler
+                            .getSessionDataJsonAsync(Session.SessionType.custom_data, attributeId)
+                            .thenApply(this::readCustomDataSession)));
 
     CompletableFuture.allOf(
             postFuturesMap.values().toArray(new CompletableFuture[postFuturesMap.size()]))
@@ -56,4 +47,15 @@ public class CustomDataServiceImpl implements CustomDataService {
 
     return customDataSessions;
   }
+
+  private CustomDataSession readCustomDataSession(String customDataSessionJson) {
+    if (customDataSessionJson == null) {
+      return null;
+    }
+    try {
+      return sessionServiceObjectMapper.readValue(customDataSessionJson, CustomDataSession.class);
+    } catch (Exception e) {
+      return null;
+    }
+  }
 }
@@ -1,34 +1,90 @@
 package org.cbioportal.legacy.service.impl;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.cbioportal.application.metrics.PerformanceMetrics;
 import org.cbioportal.legacy.model.ReferenceGenomeGene;
 import org.cbioportal.legacy.service.GeneMemoizerService;
 import org.cbioportal.legacy.service.StaticDataTimestampService;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+/**
+ * Keeps an immutable list of genes per reference genome. Reads take no lock; an entry is stale once
+ * the gene tables have been updated after it was cached. Hits, misses and loads are reported to
+ * {@link PerformanceMetrics} as the {@value #CACHE_NAME} cache.
+ */
 @Service
 @Deprecated
 public class GeneMemoizerServiceImpl implements GeneMemoizerService {
-  @Autowired private StaticDataTimestampService timestampService;
+
+  static final String CACHE_NAME = "geneMemoizer";
 
   private static final List<String> TABLES = Arrays.asList("gene", "reference_genome_gene");
 
-  private static final Map<String, List<ReferenceGenomeGene>> memoization = new HashMap<>();
-  private static final Map<String, Date> expiry = new HashMap<>();
-  private static final Object lock = new Object();
+  private final Map<String, Entry> memoization = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<List<ReferenceGenomeGene>>> inFlight =
+      new ConcurrentHashMap<>();
+
+  private final StaticDataTimestampService timestampService;
+  private final PerformanceMetrics performanceMetrics;
+
+  public GeneMemoizerServiceImpl(
+      StaticDataTimestampService timestampService, PerformanceMetrics performanceMetrics) {
+    this.timestampService = timestampService;
+    this.performanceMetrics = performanceMetrics;
+  }
 
   @Override
   public List<ReferenceGenomeGene> fetchGenes(String genomeName) {
-    synchronized (lock) {
-      if (memoization.containsKey(genomeName) && allTablesUpToDate(expiry.get(genomeName))) {
-        return memoization.get(genomeName);
-      }
+    Entry entry = memoization.get(genomeName);
+    if (entry != null && allTablesUpToDate(entry.expiration())) {
+      performanceMetrics.recordCacheHit(CACHE_NAME);
+      return entry.genes();
     }
-
+    performanceMetrics.recordCacheMiss(CACHE_NAME);
     return null;
   }
 
+  @Override
+  public List<ReferenceGenomeGene> fetchGenes(
+      String genomeName, Supplier<List<ReferenceGenomeGene>> loader) {
+    List<ReferenceGenomeGene> genes = fetchGenes(genomeName);
+    if (genes != null) {
+      return genes;
+    }
+
+    CompletableFuture<List<ReferenceGenomeGene>> pending = new CompletableFuture<>();
+    CompletableFuture<List<ReferenceGenomeGene>> existing =
+        inFlight.putIfAbsent(genomeName, pending);
+    if (existing != null) {
+      return join(existing);
+    }
+    try {
+      // a load that finished between the check above and putIfAbsent has already cached the genes
+      Entry entry = memoization.get(genomeName);
+      if (entry != null && allTablesUpToDate(entry.expiration())) {
+        pending.complete(entry.genes());
+        return entry.genes();
+      }
+      // taken before loading, so that tables updated during the load make the entry stale
+      Date expiration = new Date();
+      long start = System.currentTimeMillis();
+      genes = List.copyOf(loader.get());
+      memoization.put(genomeName, new Entry(genes, expiration));
+      performanceMetrics.recordCacheLoad(CACHE_NAME, System.currentTimeMillis() - start);
+      pending.complete(genes);
+      return genes;
+    } catch (RuntimeException e) {
+      pending.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(genomeName, pending);
+    }
+  }
+
   private boolean allTablesUpToDate(Date expiration) {
     Map<String, Date> timestamps = timestampService.getTimestampsAsDates(TABLES);
     return TABLES.stream()
@@ -39,9 +95,17 @@ public class GeneMemoizerServiceImpl implements GeneMemoizerService {
 
   @Override
   public void cacheGenes(List<ReferenceGenomeGene> genes, String genomeName) {
-    synchronized (lock) {
-      expiry.put(genomeName, new Date());
-      memoization.put(genomeName, genes);
+    memoization.put(genomeName, new Entry(List.copyOf(genes), new Date()));
+  }
+
+  private static List<ReferenceGenomeGene> join(
+      CompletableFuture<List<ReferenceGenomeGene>> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException cause ? cause : e;
     }
   }
+
+  private record Entry(List<ReferenceGenomeGene> genes, Date expiration) {}
 }
@@ -1,6 +1,7 @@
 package org.cbioportal.legacy.service.impl;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.cbioportal.legacy.model.GenericAssayAdditionalProperty;
@@ -20,6 +21,7 @@ import org.cbioportal.legacy.service.SampleService;
 import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class GenericAssayServiceImpl implements GenericAssayService {
@@ -109,6 +111,71 @@ public class GenericAssayServiceImpl implements GenericAssayService {
     List<GenericAssayData> result = new ArrayList<>();
 
     SortedSet<String> distinctMolecularProfileIds = new TreeSet<>(molecularProfileIds);
+    List<SampleColumn> sampleColumns =
+        getSampleColumns(molecularProfileIds, distinctMolecularProfileIds, sampleIds);
+
+    List<GenericAssayMolecularAlteration> molecularAlterations = new ArrayList<>();
+    for (String distinctMolecularProfileId : distinctMolecularProfileIds) {
+      molecularAlterations.addAll(
+          molecularDataRepository.getGenericAssayMolecularAlterations(
+              distinctMolecularProfileId, genericAssayStableIds, projection));
+    }
+    Map<String, List<GenericAssayMolecularAlteration>> molecularAlterationsMap =
+        molecularAlterations.stream()
+            .collect(Collectors.groupingBy(GenericAssayMolecularAlteration::getMolecularProfileId));
+
+    for (SampleColumn sampleColumn : sampleColumns) {
+      List<GenericAssayMolecularAlteration> alterationsOfProfile =
+          molecularAlterationsMap.get(sampleColumn.molecularProfile().getStableId());
+      if (alterationsOfProfile != null) {
+        for (GenericAssayMolecularAlteration molecularAlteration : alterationsOfProfile) {
+          result.add(createGenericAssayData(sampleColumn, molecularAlteration));
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void streamGenericAssayData(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<String> genericAssayStableIds,
+      String projection,
+      Consumer<GenericAssayData> consumer) {
+
+    SortedSet<String> distinctMolecularProfileIds = new TreeSet<>(molecularProfileIds);
+    Map<String, List<SampleColumn>> sampleColumnsByMolecularProfileId =
+        getSampleColumns(molecularProfileIds, distinctMolecularProfileIds, sampleIds).stream()
+            .collect(Collectors.groupingBy(column -> column.molecularProfile().getStableId()));
+
+    // each alteration row holds the values of one entity for all samples of a profile, so only one
+    // row needs to be held in memory at a time
+    for (String molecularProfileId : distinctMolecularProfileIds) {
+      List<SampleColumn> sampleColumns = sampleColumnsByMolecularProfileId.get(molecularProfileId);
+      if (sampleColumns == null) {
+        continue;
+      }
+      for (GenericAssayMolecularAlteration molecularAlteration :
+          molecularDataRepository.getGenericAssayMolecularAlterationsIterable(
+              molecularProfileId, genericAssayStableIds, projection)) {
+        for (SampleColumn sampleColumn : sampleColumns) {
+          consumer.accept(createGenericAssayData(sampleColumn, molecularAlteration));
+        }
+      }
+    }
+  }
+
+  /**
+   * Resolves the requested samples to their position in the comma separated values of each
+   * molecular profile, in the order in which rows are returned to the client.
+   */
+  private List<SampleColumn> getSampleColumns(
+      List<String> molecularProfileIds,
+      SortedSet<String> distinctMolecularProfileIds,
+      List<String> sampleIds) {
+    List<SampleColumn> sampleColumns = new ArrayList<>();
 
     Map<String, MolecularProfileSamples> commaSeparatedSampleIdsOfMolecularProfilesMap =
         molecularDataRepository.commaSeparatedSampleIdsOfMolecularProfilesMap(
@@ -178,16 +245,6 @@ public class GenericAssayServiceImpl implements GenericAssayService {
       samples = sampleService.fetchSamples(studyIds, sampleIds, "ID");
     }
 
-    List<GenericAssayMolecularAlteration> molecularAlterations = new ArrayList<>();
-    for (String distinctMolecularProfileId : distinctMolecularProfileIds) {
-      molecularAlterations.addAll(
-          molecularDataRepository.getGenericAssayMolecularAlterations(
-              distinctMolecularProfileId, genericAssayStableIds, projection));
-    }
-    Map<String, List<GenericAssayMolecularAlteration>> molecularAlterationsMap =
-        molecularAlterations.stream()
-            .collect(Collectors.groupingBy(GenericAssayMolecularAlteration::getMolecularProfileId));
-
     for (Sample sample : samples) {
       List<MolecularProfile> studyMolecularProfiles =
           molecularProfileMapByStudyId.get(sample.getCancerStudyIdentifier());
@@ -207,27 +264,33 @@ public class GenericAssayServiceImpl implements GenericAssayService {
         }
         Integer indexOfSampleId =
             internalSampleIdsMap.get(molecularProfileId).get(sample.getInternalId());
-        if (indexOfSampleId != null && molecularAlterationsMap.containsKey(molecularProfileId)) {
-          for (GenericAssayMolecularAlteration molecularAlteration :
-              molecularAlterationsMap.get(molecularProfileId)) {
-            GenericAssayData molecularData = new GenericAssayData();
-            molecularData.setMolecularProfileId(molecularProfileId);
-            molecularData.setSampleId(sample.getStableId());
-            molecularData.setPatientId(sample.getPatientStableId());
-            molecularData.setStudyId(sample.getCancerStudyIdentifier());
-            molecularData.setGenericAssayStableId(molecularAlteration.getGenericAssayStableId());
-            molecularData.setValue(molecularAlteration.getSplitValues()[indexOfSampleId]);
-            if (molecularProfile.getPatientLevel() != null) {
-              molecularData.setPatientLevel(molecularProfile.getPatientLevel());
-            }
-            result.add(molecularData);
-          }
+        if (indexOfSampleId != null) {
+          sampleColumns.add(new SampleColumn(sample, molecularProfile, indexOfSampleId));
         }
       }
     }
-    return result;
+    return sampleColumns;
+  }
+
+  private GenericAssayData createGenericAssayData(
+      SampleColumn sampleColumn, GenericAssayMolecularAlteration molecularAlteration) {
+    Sample sample = sampleColumn.sample();
+    MolecularProfile molecularProfile = sampleColumn.molecularProfile();
+    GenericAssayData molecularData = new GenericAssayData();
+    molecularData.setMolecularProfileId(molecularProfile.getStableId());
+    molecularData.setSampleId(sample.getStableId());
+    molecularData.setPatientId(sample.getPatientStableId());
+    molecularData.setStudyId(sample.getCancerStudyIdentifier());
+    molecularData.setGenericAssayStableId(molecularAlteration.getGenericAssayStableId());
+    molecularData.setValue(molecularAlteration.getSplitValues()[sampleColumn.index()]);
+    if (molecularProfile.getPatientLevel() != null) {
+      molecularData.setPatientLevel(molecularProfile.getPatientLevel());
+    }
+    return molecularData;
   }
 
+  private record SampleColumn(Sample sample, MolecularProfile molecularProfile, int index) {}
+
   @Override
   public List<GenericAssayData> getGenericAssayData(
       String molecularProfileId,
@@ -23,8 +23,8 @@
 
 package org.cbioportal.legacy.service.impl;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,11 +33,13 @@ import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.math3.stat.correlation.SpearmansCorrelation;
 import org.cbioportal.legacy.model.CancerStudy;
 import org.cbioportal.legacy.model.Gene;
-import org.cbioportal.legacy.model.GeneMolecularData;
+import org.cbioportal.legacy.model.GeneMolecularAlteration;
 import org.cbioportal.legacy.model.GenesetCorrelation;
 import org.cbioportal.legacy.model.GenesetMolecularData;
 import org.cbioportal.legacy.model.MolecularProfile;
+import org.cbioportal.legacy.model.MolecularProfileSamples;
 import org.cbioportal.legacy.model.Sample;
+import org.cbioportal.legacy.persistence.MolecularDataRepository;
 import org.cbioportal.legacy.service.GenesetCorrelationService;
 import org.cbioportal.legacy.service.GenesetDataService;
 import org.cbioportal.legacy.service.GenesetService;
@@ -50,17 +52,20 @@ import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException
 import org.cbioportal.legacy.service.exception.SampleListNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class GenesetCorrelationServiceImpl implements GenesetCorrelationService {
 
   @Autowired private MolecularDataService molecularDataService;
+  @Autowired private MolecularDataRepository molecularDataRepository;
   @Autowired private GenesetDataService genesetDataService;
   @Autowired private MolecularProfileService molecularProfileService;
   @Autowired private GenesetService genesetService;
   @Autowired private SampleService sampleService;
   @Autowired private SampleListService sampleListService;
 
+  @Transactional(readOnly = true)
   public List<GenesetCorrelation> fetchCorrelatedGenes(
       String genesetId, String molecularProfileId, double correlationThreshold)
       throws MolecularProfileNotFoundException, GenesetNotFoundException {
@@ -77,6 +82,7 @@ public class GenesetCorrelationServiceImpl implements GenesetCorrelationService
     return fetchCorrelatedGenes(genesetId, molecularProfileId, sampleIds, correlationThreshold);
   }
 
+  @Transactional(readOnly = true)
   public List<GenesetCorrelation> fetchCorrelatedGenes(
       String genesetId, String molecularProfileId, String sampleListId, double correlationThreshold)
       throws MolecularProfileNotFoundException,
@@ -88,6 +94,8 @@ public class GenesetCorrelationServiceImpl implements GenesetCorrelationService
     return fetchCorrelatedGenes(genesetId, molecularProfileId, sampleIds, correlationThreshold);
   }
 
+  // transaction needs to be setup here in order to return Iterable from molecularDataService
+  @Transactional(readOnly = true)
   public List<GenesetCorrelation> fetchCorrelatedGenes(
       String genesetId,
       String molecularProfileId,
@@ -95,8 +103,6 @@ public class GenesetCorrelationServiceImpl implements GenesetCorrelationService
       double correlationThreshold)
       throws MolecularProfileNotFoundException, GenesetNotFoundException {
 
-    List<GenesetCorrelation> result = new ArrayList<GenesetCorrelation>();
-
     // find the genes in the geneset
     List<Gene> genes = genesetService.getGenesByGenesetId(genesetId);
 
@@ -119,33 +125,94 @@ public class GenesetCorrelationServiceImpl implements GenesetCorrelationService
     MolecularProfile expressionProfile = expressionProfilesReferredByGenesetProfile.get(0);
     MolecularProfile zscoresProfile = getLinkedZscoreProfile(expressionProfile);
 
-    // TODO : if this turns out to take too long, we can always implement this loop in parallel to
-    // improve
-    // performance. Multi-threading is easy in this scenario.
-    // get genetic data for each gene and calculate correlation
-    for (Gene gene : genes) {
-      Integer entrezGeneId = gene.getEntrezGeneId();
-      List<GeneMolecularData> geneData =
-          molecularDataService.fetchMolecularData(
-              expressionProfile.getStableId(), sampleIds, Arrays.asList(entrezGeneId), "SUMMARY");
-      double correlationValue = calculateCorrelation(sampleIds, geneData, genesetValues);
-      // filter out the ones below correlationThreshold
-      if (correlationValue < correlationThreshold) {
-        continue;
-      }
-      GenesetCorrelation genesetCorrelationItem = new GenesetCorrelation();
-      genesetCorrelationItem.setEntrezGeneId(entrezGeneId);
-      genesetCorrelationItem.setHugoGeneSymbol(gene.getHugoGeneSymbol());
-      genesetCorrelationItem.setCorrelationValue(correlationValue);
-      genesetCorrelationItem.setExpressionMolecularProfileId(expressionProfile.getStableId());
-      genesetCorrelationItem.setzScoreMolecularProfileId(zscoresProfile.getStableId());
-      result.add(genesetCorrelationItem);
+    // read the expression rows of all member genes in one query and align their values to the
+    // gene set scores once, so that only primitive arrays are left for the correlations
+    int[] valueIndexes = getValueIndexes(expressionProfile, sampleIds);
+    Map<Integer, double[]> geneValuesByEntrezGeneId = new HashMap<>();
+    for (GeneMolecularAlteration molecularAlteration :
+        molecularDataService.getMolecularAlterations(
+            expressionProfile.getStableId(),
+            genes.stream().map(Gene::getEntrezGeneId).distinct().collect(Collectors.toList()),
+            "SUMMARY")) {
+      geneValuesByEntrezGeneId.put(
+          molecularAlteration.getEntrezGeneId(),
+          getGeneValues(molecularAlteration.getSplitValues(), valueIndexes));
     }
+
+    // calculate the correlation of each gene in parallel
+    List<GenesetCorrelation> result =
+        genes.parallelStream()
+            .map(
+                gene -> {
+                  double[] geneValues = geneValuesByEntrezGeneId.get(gene.getEntrezGeneId());
+                  double correlationValue =
+                      geneValues == null ? 0 : calculateCorrelation(geneValues, genesetValues);
+                  GenesetCorrelation genesetCorrelationItem = new GenesetCorrelation();
+                  genesetCorrelationItem.setEntrezGeneId(gene.getEntrezGeneId());
+                  genesetCorrelationItem.setHugoGeneSymbol(gene.getHugoGeneSymbol());
+                  genesetCorrelationItem.setCorrelationValue(correlationValue);
+                  genesetCorrelationItem.setExpressionMolecularProfileId(
+                      expressionProfile.getStableId());
+                  genesetCorrelationItem.setzScoreMolecularProfileId(zscoresProfile.getStableId());
+                  return genesetCorrelationItem;
+                })
+            // filter out the ones below correlationThreshold
+            .filter(g -> !(g.getCorrelationValue() < correlationThreshold))
+            .collect(Collectors.toList());
     // return sorted
     sortResult(result);
     return result;
   }
 
+  /**
+   * Returns, for each of the given samples, the position of its value in the comma separated values
+   * of the molecular profile, or -1 when the profile has no value for the sample.
+   */
+  private int[] getValueIndexes(MolecularProfile molecularProfile, List<String> sampleIds) {
+
+    int[] valueIndexes = new int[sampleIds.size()];
+    Arrays.fill(valueIndexes, -1);
+    MolecularProfileSamples commaSeparatedSampleIdsOfMolecularProfile =
+        molecularDataRepository.getCommaSeparatedSampleIdsOfMolecularProfile(
+            molecularProfile.getStableId());
+    if (commaSeparatedSampleIdsOfMolecularProfile == null) {
+      return valueIndexes;
+    }
+    String[] internalSampleIds = commaSeparatedSampleIdsOfMolecularProfile.getSplitSampleIds();
+    Map<Integer, Integer> internalSampleIdToIndexMap = new HashMap<>();
+    for (int lc = 0; lc < internalSampleIds.length; lc++) {
+      internalSampleIdToIndexMap.put(Integer.parseInt(internalSampleIds[lc]), lc);
+    }
+
+    List<String> studyIds =
+        Collections.nCopies(sampleIds.size(), molecularProfile.getCancerStudyIdentifier());
+    Map<String, Integer> sampleIdToIndexMap = new HashMap<>();
+    for (Sample sample : sampleService.fetchSamples(studyIds, sampleIds, "ID")) {
+      Integer index = internalSampleIdToIndexMap.get(sample.getInternalId());
+      if (index != null) {
+        sampleIdToIndexMap.put(sample.getStableId(), index);
+      }
+    }
+    for (int i = 0; i < sampleIds.size(); i++) {
+      valueIndexes[i] = sampleIdToIndexMap.getOrDefault(sampleIds.get(i), -1);
+    }
+    return valueIndexes;
+  }
+
+  private double[] getGeneValues(String[] splitValues, int[] valueIndexes) {
+
+    double[] geneValues = new double[valueIndexes.length];
+    for (int i = 0; i < valueIndexes.length; i++) {
+      int index = valueIndexes[i];
+      // set to NaN when value is not available for this sample
+      geneValues[i] =
+          index >= 0 && index < splitValues.length && NumberUtils.isNumber(splitValues[index])
+              ? Double.parseDouble(splitValues[index])
+              : Double.NaN;
+    }
+    return geneValues;
+  }
+
   private MolecularProfile getLinkedZscoreProfile(MolecularProfile expressionProfile)
       throws MolecularProfileNotFoundException {
 
@@ -188,59 +255,39 @@ public class GenesetCorrelationServiceImpl implements GenesetCorrelationService
   }
 
   /**
-   * Calculates the Spearman correlation between the genesetValues list and the list built up from
-   * geneGeneticDataItems for the given sampleIds.
+   * Calculates the Spearman correlation between the genesetValues and the geneValues, both aligned
+   * to the same samples.
    *
-   * <p>Before calculating the correlation, this method prepares the gene values, filtering both
-   * them and genesetValues, removing samples where the value is not present in either gene or gene
-   * set dimension.
+   * <p>Before calculating the correlation, this method filters both arrays, removing samples where
+   * the value is not present in either gene or gene set dimension.
    *
-   * @param sampleIds: samples over which to calculate correlation
-   * @param geneGeneticDataItems: gene (expression) values for the set of samples
+   * @param geneValues: gene (expression) values for the set of samples
    * @param genesetValues: gene set scores for the set of samples
-   * @return: Spearman's correlation value between values in geneGeneticDataItems and genesetValues.
+   * @return: Spearman's correlation value between geneValues and genesetValues.
    */
-  private double calculateCorrelation(
-      List<String> sampleIds,
-      List<GeneMolecularData> geneGeneticDataItems,
-      double[] genesetValues) {
+  private double calculateCorrelation(double[] geneValues, double[] genesetValues) {
 
-    // index geneData values
-    Map<String, Double> sampleValues = new HashMap<String, Double>();
-    for (GeneMolecularData geneGeneticDataItem : geneGeneticDataItems) {
-      double value = Double.NaN;
-      if (NumberUtils.isNumber(geneGeneticDataItem.getValue())) {
-        value = Double.parseDouble(geneGeneticDataItem.getValue());
-      }
-      sampleValues.put(geneGeneticDataItem.getSampleId(), value);
-    }
-    // get values
-    List<Double> geneValueList = new ArrayList<Double>();
-    List<Double> genesetValueList = new ArrayList<Double>();
-    for (int i = 0; i < sampleIds.size(); i++) {
-      String sampleId = sampleIds.get(i);
-      Double value = sampleValues.get(sampleId);
-      if (value == null) {
-        value = Double.NaN; // set to NaN when value is not available for this sample
-      }
-      // if both this value and genesetValues[i] are NaN, then skip this item (since it will not be
+    double[] geneValuesFiltered = new double[geneValues.length];
+    double[] genesetValuesFiltered = new double[genesetValues.length];
+    int length = 0;
+    for (int i = 0; i < geneValues.length; i++) {
+      // if either this value or genesetValues[i] is NaN, then skip this item (since it will not be
       // allowed by the correlation method):
-      if (!Double.isNaN(value) && !Double.isNaN(genesetValues[i])) {
-        geneValueList.add(value);
-        // build up genesetValues is same way:
-        genesetValueList.add(genesetValues[i]);
+      if (!Double.isNaN(geneValues[i]) && !Double.isNaN(genesetValues[i])) {
+        geneValuesFiltered[length] = geneValues[i];
+        genesetValuesFiltered[length] = genesetValues[i];
+        length++;
       }
     }
-    // final filtered lists:
-    double[] geneValuesFiltered = geneValueList.stream().mapToDouble(d -> d).toArray();
-    double[] genesetValuesFiltered = genesetValueList.stream().mapToDouble(d -> d).toArray();
     double correlationValue = 0;
     // arrays need to be at least 2 long to calculate correlation:
-    if (geneValuesFiltered.length >= 2) {
+    if (length >= 2) {
       // calculate spearman correlation
       SpearmansCorrelation spearmansCorrelation = new SpearmansCorrelation();
       correlationValue =
-          spearmansCorrelation.correlation(geneValuesFiltered, genesetValuesFiltered);
+          spearmansCorrelation.correlation(
+              Arrays.copyOf(geneValuesFiltered, length),
+              Arrays.copyOf(genesetValuesFiltered, length));
     }
     return correlationValue;
   }
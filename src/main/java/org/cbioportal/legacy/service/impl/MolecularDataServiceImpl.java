@@ -4,6 +4,7 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.cbioportal.legacy.model.DiscreteCopyNumberData;
@@ -25,6 +26,7 @@ import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MolecularDataServiceImpl implements MolecularDataService {
@@ -168,12 +170,89 @@ public class MolecularDataServiceImpl implements MolecularDataService {
 
     List<GeneMolecularData> molecularDataList = new ArrayList<>();
     SortedSet<String> distinctMolecularProfileIds = new TreeSet<>(molecularProfileIds);
+    List<SampleColumn> sampleColumns =
+        getSampleColumns(molecularProfileIds, distinctMolecularProfileIds, sampleIds);
+    if (sampleColumns.isEmpty()) {
+      return molecularDataList;
+    }
+
+    // query each entrezGeneId separately so they can be cached
+    List<GeneMolecularAlteration> molecularAlterations =
+        entrezGeneIds.stream()
+            .flatMap(
+                gene ->
+                    molecularDataRepository
+                        .getGeneMolecularAlterationsInMultipleMolecularProfiles(
+                            distinctMolecularProfileIds,
+                            Collections.singletonList(gene),
+                            projection)
+                        .stream())
+            .collect(Collectors.toList());
+    Map<String, List<GeneMolecularAlteration>> molecularAlterationsMap =
+        molecularAlterations.stream()
+            .collect(groupingBy(GeneMolecularAlteration::getMolecularProfileId));
+
+    for (SampleColumn sampleColumn : sampleColumns) {
+      List<GeneMolecularAlteration> alterationsOfProfile =
+          molecularAlterationsMap.get(sampleColumn.molecularProfileId());
+      if (alterationsOfProfile != null) {
+        for (GeneMolecularAlteration molecularAlteration : alterationsOfProfile) {
+          molecularDataList.add(createGeneMolecularData(sampleColumn, molecularAlteration));
+        }
+      }
+    }
+
+    return molecularDataList;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void streamMolecularDataInMultipleMolecularProfiles(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<Integer> entrezGeneIds,
+      String projection,
+      Consumer<GeneMolecularData> consumer) {
+
+    SortedSet<String> distinctMolecularProfileIds = new TreeSet<>(molecularProfileIds);
+    Map<String, List<SampleColumn>> sampleColumnsByMolecularProfileId =
+        getSampleColumns(molecularProfileIds, distinctMolecularProfileIds, sampleIds).stream()
+            .collect(groupingBy(SampleColumn::molecularProfileId));
+    if (sampleColumnsByMolecularProfileId.isEmpty()) {
+      return;
+    }
+
+    // each alteration row holds the values of one gene for all samples of a profile, so only one
+    // row needs to be held in memory at a time
+    for (GeneMolecularAlteration molecularAlteration :
+        molecularDataRepository.getGeneMolecularAlterationsInMultipleMolecularProfilesIterable(
+            distinctMolecularProfileIds, entrezGeneIds, projection)) {
+      List<SampleColumn> sampleColumns =
+          sampleColumnsByMolecularProfileId.get(molecularAlteration.getMolecularProfileId());
+      if (sampleColumns != null) {
+        for (SampleColumn sampleColumn : sampleColumns) {
+          consumer.accept(createGeneMolecularData(sampleColumn, molecularAlteration));
+        }
+      }
+    }
+  }
+
+  /**
+   * Resolves the requested samples to their position in the comma separated values of each
+   * molecular profile, in the order in which rows are returned to the client.
+   */
+  private List<SampleColumn> getSampleColumns(
+      List<String> molecularProfileIds,
+      SortedSet<String> distinctMolecularProfileIds,
+      List<String> sampleIds) {
+
+    List<SampleColumn> sampleColumns = new ArrayList<>();
 
     Map<String, MolecularProfileSamples> commaSeparatedSampleIdsOfMolecularProfilesMap =
         molecularDataRepository.commaSeparatedSampleIdsOfMolecularProfilesMap(
             distinctMolecularProfileIds);
     if (commaSeparatedSampleIdsOfMolecularProfilesMap.size() == 0) {
-      return molecularDataList;
+      return sampleColumns;
     }
 
     Map<String, Map<Integer, Integer>> internalSampleIdsMap = new HashMap<>();
@@ -196,7 +275,6 @@ public class MolecularDataServiceImpl implements MolecularDataService {
       allInternalSampleIds.addAll(internalSampleIds);
     }
 
-    List<MolecularProfile> molecularProfiles = new ArrayList<>();
     List<MolecularProfile> distinctMolecularProfiles =
         molecularProfileService.getMolecularProfiles(distinctMolecularProfileIds, "SUMMARY");
     Map<String, MolecularProfile> molecularProfileMapById =
@@ -208,69 +286,51 @@ public class MolecularDataServiceImpl implements MolecularDataService {
     List<Sample> samples;
     if (sampleIds == null) {
       samples = sampleService.getSamplesByInternalIds(allInternalSampleIds);
-      for (String molecularProfileId : distinctMolecularProfileIds) {
-        internalSampleIdsMap
-            .get(molecularProfileId)
-            .keySet()
-            .forEach(s -> molecularProfiles.add(molecularProfileMapById.get(molecularProfileId)));
-      }
     } else {
-      for (String molecularProfileId : molecularProfileIds) {
-        molecularProfiles.add(molecularProfileMapById.get(molecularProfileId));
-      }
       List<String> studyIds =
-          molecularProfiles.stream()
+          molecularProfileIds.stream()
+              .map(molecularProfileId -> molecularProfileMapById.get(molecularProfileId))
               .map(MolecularProfile::getCancerStudyIdentifier)
               .collect(Collectors.toList());
       samples = sampleService.fetchSamples(studyIds, sampleIds, "ID");
     }
 
-    // query each entrezGeneId separately so they can be cached
-    List<GeneMolecularAlteration> molecularAlterations =
-        entrezGeneIds.stream()
-            .flatMap(
-                gene ->
-                    molecularDataRepository
-                        .getGeneMolecularAlterationsInMultipleMolecularProfiles(
-                            distinctMolecularProfileIds,
-                            Collections.singletonList(gene),
-                            projection)
-                        .stream())
-            .collect(Collectors.toList());
-    Map<String, List<GeneMolecularAlteration>> molecularAlterationsMap =
-        molecularAlterations.stream()
-            .collect(groupingBy(GeneMolecularAlteration::getMolecularProfileId));
-
     for (Sample sample : samples) {
       for (MolecularProfile molecularProfile :
           molecularProfileMapByStudyId.get(sample.getCancerStudyIdentifier())) {
         String molecularProfileId = molecularProfile.getStableId();
         Integer indexOfSampleId =
             internalSampleIdsMap.get(molecularProfileId).get(sample.getInternalId());
-        if (indexOfSampleId != null && molecularAlterationsMap.containsKey(molecularProfileId)) {
-          for (GeneMolecularAlteration molecularAlteration :
-              molecularAlterationsMap.get(molecularProfileId)) {
-            GeneMolecularData molecularData = new GeneMolecularData();
-            molecularData.setMolecularProfileId(molecularProfileId);
-            molecularData.setSampleId(sample.getStableId());
-            molecularData.setPatientId(sample.getPatientStableId());
-            molecularData.setStudyId(sample.getCancerStudyIdentifier());
-            molecularData.setEntrezGeneId(molecularAlteration.getEntrezGeneId());
-            try {
-              molecularData.setValue(molecularAlteration.getSplitValues()[indexOfSampleId]);
-            } catch (ArrayIndexOutOfBoundsException e) {
-              molecularData.setValue(null);
-            }
-            molecularData.setGene(molecularAlteration.getGene());
-            molecularDataList.add(molecularData);
-          }
+        if (indexOfSampleId != null) {
+          sampleColumns.add(new SampleColumn(sample, molecularProfileId, indexOfSampleId));
         }
       }
     }
 
-    return molecularDataList;
+    return sampleColumns;
   }
 
+  private GeneMolecularData createGeneMolecularData(
+      SampleColumn sampleColumn, GeneMolecularAlteration molecularAlteration) {
+
+    Sample sample = sampleColumn.sample();
+    GeneMolecularData molecularData = new GeneMolecularData();
+    molecularData.setMolecularProfileId(sampleColumn.molecularProfileId());
+    molecularData.setSampleId(sample.getStableId());
+    molecularData.setPatientId(sample.getPatientStableId());
+    molecularData.setStudyId(sample.getCancerStudyIdentifier());
+    molecularData.setEntrezGeneId(molecularAlteration.getEntrezGeneId());
+    try {
+      molecularData.setValue(molecularAlteration.getSplitValues()[sampleColumn.index()]);
+    } catch (ArrayIndexOutOfBoundsException e) {
+      molecularData.setValue(null);
+    }
+    molecularData.setGene(molecularAlteration.getGene());
+    return molecularData;
+  }
+
+  private record SampleColumn(Sample sample, String molecularProfileId, int index) {}
+
   @Override
   public List<GeneMolecularData> getMolecularDataInMultipleMolecularProfilesByGeneQueries(
       List<String> molecularProfileIds,
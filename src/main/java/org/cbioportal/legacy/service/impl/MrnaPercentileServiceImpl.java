@@ -1,13 +1,15 @@
 package org.cbioportal.legacy.service.impl;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 import org.apache.commons.lang3.math.NumberUtils;
-import org.apache.commons.math3.stat.ranking.NaNStrategy;
-import org.apache.commons.math3.stat.ranking.NaturalRanking;
-import org.apache.commons.math3.stat.ranking.TiesStrategy;
 import org.cbioportal.legacy.model.GeneMolecularData;
 import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.MrnaPercentile;
@@ -15,17 +17,26 @@ import org.cbioportal.legacy.service.MolecularDataService;
 import org.cbioportal.legacy.service.MolecularProfileService;
 import org.cbioportal.legacy.service.MrnaPercentileService;
 import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException;
+import org.cbioportal.legacy.service.util.MrnaPercentileIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+/**
+ * Percentile of the mRNA expression of a sample among all samples of the profile. Ties get the
+ * maximum rank, so the percentile is the share of samples with a value at or below the value of the
+ * sample.
+ *
+ * <p>The values of all samples are read once for all requested genes and grouped by gene in a
+ * single pass; the rank is then counted with one scan per gene instead of ranking all values. The
+ * sorted values are kept in the {@link MrnaPercentileIndex}, so that later requests for other
+ * samples of the same profile and genes only read the values of the requested sample.
+ */
 @Service
 public class MrnaPercentileServiceImpl implements MrnaPercentileService {
 
   @Autowired private MolecularDataService molecularDataService;
   @Autowired private MolecularProfileService molecularProfileService;
-
-  private NaturalRanking naturalRanking =
-      new NaturalRanking(NaNStrategy.REMOVED, TiesStrategy.MAXIMUM);
+  @Autowired private MrnaPercentileIndex mrnaPercentileIndex;
 
   @Override
   public List<MrnaPercentile> fetchMrnaPercentile(
@@ -34,47 +45,96 @@ public class MrnaPercentileServiceImpl implements MrnaPercentileService {
 
     validateMolecularProfile(molecularProfileId);
 
-    List<GeneMolecularData> allMolecularDataList =
-        molecularDataService.fetchMolecularData(molecularProfileId, null, entrezGeneIds, "SUMMARY");
+    Map<Integer, double[]> indexedValues = new HashMap<>();
+    List<Integer> notIndexedEntrezGeneIds = new ArrayList<>();
+    for (Integer entrezGeneId : new LinkedHashSet<>(entrezGeneIds)) {
+      double[] sortedValues = mrnaPercentileIndex.getSortedValues(molecularProfileId, entrezGeneId);
+      if (sortedValues == null) {
+        notIndexedEntrezGeneIds.add(entrezGeneId);
+      } else {
+        indexedValues.put(entrezGeneId, sortedValues);
+      }
+    }
+
+    Map<Integer, MrnaPercentile> mrnaPercentiles = new HashMap<>();
+    if (!indexedValues.isEmpty()) {
+      for (GeneMolecularData molecularData :
+          molecularDataService.fetchMolecularData(
+              molecularProfileId,
+              List.of(sampleId),
+              new ArrayList<>(indexedValues.keySet()),
+              "SUMMARY")) {
+        if (molecularData.getSampleId().equals(sampleId)
+            && NumberUtils.isNumber(molecularData.getValue())) {
+          double[] sortedValues = indexedValues.get(molecularData.getEntrezGeneId());
+          int rank =
+              MrnaPercentileIndex.countAtOrBelow(
+                  sortedValues, Double.parseDouble(molecularData.getValue()));
+          mrnaPercentiles.put(
+              molecularData.getEntrezGeneId(),
+              createMrnaPercentile(molecularProfileId, molecularData, rank, sortedValues.length));
+        }
+      }
+    }
+    if (!notIndexedEntrezGeneIds.isEmpty()) {
+      List<GeneMolecularData> allMolecularDataList =
+          molecularDataService.fetchMolecularData(
+              molecularProfileId, null, notIndexedEntrezGeneIds, "SUMMARY");
+      Map<Integer, GeneValues> valuesByGene =
+          groupValuesByGene(allMolecularDataList, sampleId, notIndexedEntrezGeneIds.size());
+      valuesByGene.forEach(
+          (entrezGeneId, geneValues) -> {
+            mrnaPercentileIndex.putValues(
+                molecularProfileId, entrezGeneId, geneValues.values, geneValues.size);
+            if (geneValues.sampleData != null) {
+              mrnaPercentiles.put(
+                  entrezGeneId,
+                  createMrnaPercentile(
+                      molecularProfileId,
+                      geneValues.sampleData,
+                      geneValues.countAtOrBelow(geneValues.sampleValue),
+                      geneValues.size));
+            }
+          });
+    }
 
-    List<GeneMolecularData> molecularDataList =
-        allMolecularDataList.stream()
-            .filter(g -> g.getSampleId().equals(sampleId))
-            .collect(Collectors.toList());
+    return new LinkedHashSet<>(entrezGeneIds)
+        .stream().map(mrnaPercentiles::get).filter(Objects::nonNull).toList();
+  }
 
-    List<MrnaPercentile> mrnaPercentileList = new ArrayList<>();
+  private Map<Integer, GeneValues> groupValuesByGene(
+      List<GeneMolecularData> molecularDataList, String sampleId, int geneCount) {
+    int expectedSampleCount = molecularDataList.size() / Math.max(1, geneCount) + 1;
+    Map<Integer, GeneValues> valuesByGene = new HashMap<>();
     for (GeneMolecularData molecularData : molecularDataList) {
-      if (NumberUtils.isNumber(molecularData.getValue())) {
-        MrnaPercentile mrnaPercentile = new MrnaPercentile();
-        mrnaPercentile.setEntrezGeneId(molecularData.getEntrezGeneId());
-        mrnaPercentile.setSampleId(sampleId);
-        mrnaPercentile.setPatientId(molecularData.getPatientId());
-        mrnaPercentile.setStudyId(molecularData.getStudyId());
-        mrnaPercentile.setMolecularProfileId(molecularProfileId);
-        mrnaPercentile.setzScore(new BigDecimal(molecularData.getValue()));
-
-        List<GeneMolecularData> molecularDataListOfGene =
-            allMolecularDataList.stream()
-                .filter(
-                    g ->
-                        g.getEntrezGeneId().equals(molecularData.getEntrezGeneId())
-                            && NumberUtils.isNumber(g.getValue()))
-                .collect(Collectors.toList());
-
-        double[] values =
-            molecularDataListOfGene.stream()
-                .mapToDouble(g -> Double.parseDouble(g.getValue()))
-                .toArray();
-        double[] ranks = naturalRanking.rank(values);
-        double rank = ranks[molecularDataListOfGene.indexOf(molecularData)];
-        double percentile = (rank / ranks.length) * 100;
-        mrnaPercentile.setPercentile(
-            BigDecimal.valueOf(percentile).setScale(2, BigDecimal.ROUND_HALF_UP));
-        mrnaPercentileList.add(mrnaPercentile);
+      if (!NumberUtils.isNumber(molecularData.getValue())) {
+        continue;
+      }
+      double value = Double.parseDouble(molecularData.getValue());
+      GeneValues geneValues =
+          valuesByGene.computeIfAbsent(
+              molecularData.getEntrezGeneId(), id -> new GeneValues(expectedSampleCount));
+      geneValues.add(value);
+      if (molecularData.getSampleId().equals(sampleId)) {
+        geneValues.sampleData = molecularData;
+        geneValues.sampleValue = value;
       }
     }
+    return valuesByGene;
+  }
 
-    return mrnaPercentileList;
+  private MrnaPercentile createMrnaPercentile(
+      String molecularProfileId, GeneMolecularData molecularData, int rank, int valueCount) {
+    MrnaPercentile mrnaPercentile = new MrnaPercentile();
+    mrnaPercentile.setEntrezGeneId(molecularData.getEntrezGeneId());
+    mrnaPercentile.setSampleId(molecularData.getSampleId());
+    mrnaPercentile.setPatientId(molecularData.getPatientId());
+    mrnaPercentile.setStudyId(molecularData.getStudyId());
+    mrnaPercentile.setMolecularProfileId(molecularProfileId);
+    mrnaPercentile.setzScore(new BigDecimal(molecularData.getValue()));
+    double percentile = ((double) rank / valueCount) * 100;
+    mrnaPercentile.setPercentile(BigDecimal.valueOf(percentile).setScale(2, RoundingMode.HALF_UP));
+    return mrnaPercentile;
   }
 
   private void validateMolecularProfile(String molecularProfileId)
@@ -90,4 +150,33 @@ public class MrnaPercentileServiceImpl implements MrnaPercentileService {
       throw new MolecularProfileNotFoundException(molecularProfileId);
     }
   }
+
+  /** The numerical values of one gene, and the value of the requested sample. */
+  private static class GeneValues {
+    private double[] values;
+    private int size;
+    private GeneMolecularData sampleData;
+    private double sampleValue;
+
+    GeneValues(int capacity) {
+      values = new double[capacity];
+    }
+
+    void add(double value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int countAtOrBelow(double value) {
+      int count = 0;
+      for (int i = 0; i < size; i++) {
+        if (values[i] <= value) {
+          count++;
+        }
+      }
+      return count;
+    }
+  }
 }
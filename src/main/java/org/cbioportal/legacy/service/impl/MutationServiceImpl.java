@@ -2,11 +2,14 @@ package org.cbioportal.legacy.service.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.cbioportal.legacy.model.GeneFilterQuery;
 import org.cbioportal.legacy.model.GenomicDataCountItem;
 import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationCountByPosition;
+import org.cbioportal.legacy.model.MutationSpectrum;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 import org.cbioportal.legacy.persistence.MutationRepository;
 import org.cbioportal.legacy.service.MolecularProfileService;
@@ -14,6 +17,7 @@ import org.cbioportal.legacy.service.MutationService;
 import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MutationServiceImpl implements MutationService {
@@ -51,6 +55,33 @@ public class MutationServiceImpl implements MutationService {
     return mutationList;
   }
 
+  @Override
+  public List<Mutation> getMutationsInMolecularProfileBySampleListIdAfterKey(
+      String molecularProfileId,
+      String sampleListId,
+      List<Integer> entrezGeneIds,
+      boolean snpOnly,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction)
+      throws MolecularProfileNotFoundException {
+
+    validateMolecularProfile(molecularProfileId);
+
+    return mutationRepository.getMutationsInMolecularProfileBySampleListIdAfterKey(
+        molecularProfileId,
+        sampleListId,
+        entrezGeneIds,
+        snpOnly,
+        projection,
+        pageSize,
+        afterKey,
+        sortBy,
+        direction);
+  }
+
   @Override
   public MutationMeta getMetaMutationsInMolecularProfileBySampleListId(
       String molecularProfileId, String sampleListId, List<Integer> entrezGeneIds)
@@ -111,6 +142,21 @@ public class MutationServiceImpl implements MutationService {
     return mutationList;
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public void streamMutationsInMultipleMolecularProfiles(
+      List<String> molecularProfileIds,
+      List<String> sampleIds,
+      List<Integer> entrezGeneIds,
+      String projection,
+      Consumer<Mutation> consumer) {
+
+    mutationRepository
+        .getMutationsInMultipleMolecularProfilesIterable(
+            molecularProfileIds, sampleIds, entrezGeneIds, projection)
+        .forEach(consumer);
+  }
+
   @Override
   public MutationMeta getMetaMutationsInMultipleMolecularProfiles(
       List<String> molecularProfileIds, List<String> sampleIds, List<Integer> entrezGeneIds) {
@@ -160,6 +206,26 @@ public class MutationServiceImpl implements MutationService {
         molecularProfileId, sampleIds, entrezGeneIds);
   }
 
+  @Override
+  public List<MutationSpectrum> getMutationSpectrumsInMolecularProfileBySampleListId(
+      String molecularProfileId, String sampleListId) throws MolecularProfileNotFoundException {
+
+    validateMolecularProfile(molecularProfileId);
+
+    return mutationRepository.getMutationSpectrumsInMolecularProfileBySampleListId(
+        molecularProfileId, sampleListId);
+  }
+
+  @Override
+  public List<MutationSpectrum> fetchMutationSpectrumsInMolecularProfile(
+      String molecularProfileId, List<String> sampleIds) throws MolecularProfileNotFoundException {
+
+    validateMolecularProfile(molecularProfileId);
+
+    return mutationRepository.fetchMutationSpectrumsInMolecularProfile(
+        molecularProfileId, sampleIds);
+  }
+
   @Override
   public List<MutationCountByPosition> fetchMutationCountsByPosition(
       List<Integer> entrezGeneIds, List<Integer> proteinPosStarts, List<Integer> proteinPosEnds) {
@@ -2,9 +2,11 @@ package org.cbioportal.legacy.service.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.cbioportal.legacy.model.NamespaceAttribute;
 import org.cbioportal.legacy.model.NamespaceData;
-import org.cbioportal.legacy.model.NamespaceDataCount;
 import org.cbioportal.legacy.model.NamespaceDataCountItem;
 import org.cbioportal.legacy.persistence.NamespaceRepository;
 import org.cbioportal.legacy.service.NamespaceDataService;
@@ -28,20 +30,19 @@ public class NamespaceDataServiceImpl implements NamespaceDataService {
       List<String> sampleIds,
       List<NamespaceDataFilter> namespaceDataFitlers) {
 
-    if (sampleIds.isEmpty()) {
+    if (sampleIds.isEmpty() || namespaceDataFitlers.isEmpty()) {
       return new ArrayList<>();
     }
 
-    return namespaceDataFitlers.stream()
-        .map(
-            namespaceDataFilter -> {
-              String outerKey = namespaceDataFilter.getOuterKey();
-              String innerKey = namespaceDataFilter.getInnerKey();
+    List<NamespaceAttribute> namespaceAttributes =
+        namespaceDataFitlers.stream()
+            .map(
+                namespaceDataFilter ->
+                    new NamespaceAttribute(
+                        namespaceDataFilter.getOuterKey(), namespaceDataFilter.getInnerKey()))
+            .toList();
 
-              return namespaceRepository.getNamespaceData(studyIds, sampleIds, outerKey, innerKey);
-            })
-        .flatMap(List::stream)
-        .toList();
+    return namespaceRepository.getNamespaceData(studyIds, sampleIds, namespaceAttributes);
   }
 
   @Override
@@ -51,48 +52,46 @@ public class NamespaceDataServiceImpl implements NamespaceDataService {
       NamespaceAttribute namespaceAttribute,
       List<String> values) {
 
-    if (sampleIds.isEmpty()) {
+    if (sampleIds.isEmpty() || values.isEmpty()) {
       return new ArrayList<>();
     }
 
-    return values.stream()
-        .map(
-            value -> {
-              String outerKey = namespaceAttribute.getOuterKey();
-              String innerKey = namespaceAttribute.getInnerKey();
-
-              return namespaceRepository.getNamespaceDataForComparison(
-                  studyIds, sampleIds, outerKey, innerKey, value);
-            })
-        .flatMap(List::stream)
-        .toList();
+    return namespaceRepository.getNamespaceDataForComparison(
+        studyIds,
+        sampleIds,
+        namespaceAttribute.getOuterKey(),
+        namespaceAttribute.getInnerKey(),
+        values);
   }
 
   @Override
   public List<NamespaceDataCountItem> fetchNamespaceDataCounts(
       List<String> studyIds, List<String> sampleIds, List<NamespaceAttribute> namespaceAttributes) {
 
-    return namespaceAttributes.stream()
-        .map(
-            namespaceAttribute -> {
-              String outerKey = namespaceAttribute.getOuterKey();
-              String innerKey = namespaceAttribute.getInnerKey();
-
-              List<NamespaceDataCount> namespaceDataCounts =
-                  namespaceRepository.getNamespaceDataCounts(
-                      studyIds, sampleIds, outerKey, innerKey);
-
-              if (namespaceDataCounts == null || namespaceDataCounts.isEmpty()) {
-                return null;
-              }
+    if (namespaceAttributes.isEmpty()) {
+      return new ArrayList<>();
+    }
 
-              NamespaceDataCountItem namespaceDataCountItem = new NamespaceDataCountItem();
-              namespaceDataCountItem.setOuterKey(outerKey);
-              namespaceDataCountItem.setInnerKey(innerKey);
-              namespaceDataCountItem.setCounts(namespaceDataCounts);
+    Map<String, NamespaceDataCountItem> namespaceDataCountItems =
+        namespaceRepository
+            .getNamespaceDataCounts(studyIds, sampleIds, namespaceAttributes)
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    item -> getNamespaceKey(item.getOuterKey(), item.getInnerKey()),
+                    Function.identity()));
 
-              return namespaceDataCountItem;
-            })
+    // one item per requested attribute, null if it has no data, as when it was queried on its own
+    return namespaceAttributes.stream()
+        .map(
+            namespaceAttribute ->
+                namespaceDataCountItems.get(
+                    getNamespaceKey(
+                        namespaceAttribute.getOuterKey(), namespaceAttribute.getInnerKey())))
         .toList();
   }
+
+  private static String getNamespaceKey(String outerKey, String innerKey) {
+    return outerKey + "." + innerKey;
+  }
 }
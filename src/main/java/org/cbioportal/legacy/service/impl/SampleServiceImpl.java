@@ -2,6 +2,7 @@ package org.cbioportal.legacy.service.impl;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.persistence.CopyNumberSegmentRepository;
@@ -71,6 +72,25 @@ public class SampleServiceImpl implements SampleService {
     return samples;
   }
 
+  @Override
+  public List<Sample> getAllSamplesInStudyAfterKey(
+      String studyId,
+      String projection,
+      Integer pageSize,
+      PageKey afterKey,
+      String sortBy,
+      String direction)
+      throws StudyNotFoundException {
+
+    studyService.studyExists(studyId);
+    List<Sample> samples =
+        sampleRepository.getAllSamplesInStudyAfterKey(
+            studyId, projection, pageSize, afterKey, sortBy, direction);
+
+    processSamples(samples, projection);
+    return samples;
+  }
+
   @Override
   public BaseMeta getMetaSamplesInStudy(String studyId) throws StudyNotFoundException {
 
@@ -0,0 +1,323 @@
+package org.cbioportal.legacy.service.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.DecompositionSolver;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.linear.RealVector;
+import org.cbioportal.legacy.model.SurvivalAnalysis;
+import org.cbioportal.legacy.model.SurvivalCurve;
+import org.cbioportal.legacy.model.SurvivalCurvePoint;
+import org.cbioportal.legacy.model.SurvivalHazardRatio;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes Kaplan-Meier curves, the k-group log-rank test and Cox proportional hazards ratios for a
+ * set of groups in a single pass over the event times sorted across all groups.
+ *
+ * <p>Confidence intervals use Greenwood's variance on the log scale (the default of R's {@code
+ * survfit}); the Cox model uses one indicator per non-reference group and Breslow tie handling.
+ */
+@Component
+public class KaplanMeierCalculator {
+
+  private static final double Z_95 = 1.959963984540054;
+  private static final int COX_MAX_ITERATIONS = 30;
+  private static final double COX_TOLERANCE = 1e-9;
+
+  public SurvivalAnalysis calculate(
+      List<String> groupNames, List<double[]> groupTimes, List<boolean[]> groupEvents) {
+
+    int groupCount = groupNames.size();
+    int total = groupTimes.stream().mapToInt(t -> t.length).sum();
+    double[] times = new double[total];
+    boolean[] events = new boolean[total];
+    int[] groups = new int[total];
+    int[] atRisk = new int[groupCount];
+    int offset = 0;
+    for (int g = 0; g < groupCount; g++) {
+      double[] t = groupTimes.get(g);
+      boolean[] e = groupEvents.get(g);
+      System.arraycopy(t, 0, times, offset, t.length);
+      System.arraycopy(e, 0, events, offset, e.length);
+      Arrays.fill(groups, offset, offset + t.length, g);
+      atRisk[g] = t.length;
+      offset += t.length;
+    }
+    int[] order =
+        IntStream.range(0, total)
+            .boxed()
+            .sorted((a, b) -> Double.compare(times[a], times[b]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+    List<List<SurvivalCurvePoint>> points = new ArrayList<>();
+    double[] survival = new double[groupCount];
+    double[] greenwood = new double[groupCount];
+    int[] totalEvents = new int[groupCount];
+    Double[] median = new Double[groupCount];
+    Double[] medianLower = new Double[groupCount];
+    Double[] medianUpper = new Double[groupCount];
+    for (int g = 0; g < groupCount; g++) {
+      points.add(new ArrayList<>());
+      survival[g] = 1.0;
+    }
+
+    double[] observedMinusExpected = new double[groupCount];
+    double[][] variance = new double[groupCount][groupCount];
+    List<int[]> eventTableEvents = new ArrayList<>();
+    List<int[]> eventTableAtRisk = new ArrayList<>();
+
+    int i = 0;
+    while (i < total) {
+      double time = times[order[i]];
+      int[] eventCounts = new int[groupCount];
+      int[] censoredCounts = new int[groupCount];
+      while (i < total && times[order[i]] == time) {
+        int index = order[i];
+        if (events[index]) {
+          eventCounts[groups[index]]++;
+        } else {
+          censoredCounts[groups[index]]++;
+        }
+        i++;
+      }
+
+      int eventsAtTime = 0;
+      int atRiskAtTime = 0;
+      for (int g = 0; g < groupCount; g++) {
+        eventsAtTime += eventCounts[g];
+        atRiskAtTime += atRisk[g];
+      }
+
+      for (int g = 0; g < groupCount; g++) {
+        if (eventCounts[g] + censoredCounts[g] == 0) {
+          continue;
+        }
+        if (eventCounts[g] > 0) {
+          survival[g] *= 1.0 - (double) eventCounts[g] / atRisk[g];
+          greenwood[g] +=
+              atRisk[g] > eventCounts[g]
+                  ? (double) eventCounts[g] / ((double) atRisk[g] * (atRisk[g] - eventCounts[g]))
+                  : Double.POSITIVE_INFINITY;
+          totalEvents[g] += eventCounts[g];
+        }
+        SurvivalCurvePoint point = new SurvivalCurvePoint();
+        point.setTime(time);
+        point.setNumberAtRisk(atRisk[g]);
+        point.setNumberOfEvents(eventCounts[g]);
+        point.setNumberOfCensored(censoredCounts[g]);
+        point.setSurvival(survival[g]);
+        if (totalEvents[g] > 0 && survival[g] > 0 && Double.isFinite(greenwood[g])) {
+          double halfWidth = Z_95 * Math.sqrt(greenwood[g]);
+          point.setLowerConfidenceInterval(survival[g] * Math.exp(-halfWidth));
+          point.setUpperConfidenceInterval(Math.min(1.0, survival[g] * Math.exp(halfWidth)));
+        } else if (totalEvents[g] == 0) {
+          point.setLowerConfidenceInterval(1.0);
+          point.setUpperConfidenceInterval(1.0);
+        }
+        points.get(g).add(point);
+
+        if (median[g] == null && survival[g] <= 0.5) {
+          median[g] = time;
+        }
+        if (medianLower[g] == null
+            && (point.getLowerConfidenceInterval() == null
+                ? survival[g] <= 0.5
+                : point.getLowerConfidenceInterval() <= 0.5)) {
+          medianLower[g] = time;
+        }
+        if (medianUpper[g] == null
+            && point.getUpperConfidenceInterval() != null
+            && point.getUpperConfidenceInterval() <= 0.5) {
+          medianUpper[g] = time;
+        }
+      }
+
+      if (eventsAtTime > 0) {
+        double tieFactor =
+            atRiskAtTime > 1
+                ? (double) eventsAtTime * (atRiskAtTime - eventsAtTime) / (atRiskAtTime - 1)
+                : 0.0;
+        for (int g = 0; g < groupCount; g++) {
+          double share = (double) atRisk[g] / atRiskAtTime;
+          observedMinusExpected[g] += eventCounts[g] - eventsAtTime * share;
+          for (int h = 0; h < groupCount; h++) {
+            double otherShare = (double) atRisk[h] / atRiskAtTime;
+            variance[g][h] += tieFactor * share * ((g == h ? 1.0 : 0.0) - otherShare);
+          }
+        }
+        eventTableEvents.add(eventCounts);
+        eventTableAtRisk.add(atRisk.clone());
+      }
+
+      for (int g = 0; g < groupCount; g++) {
+        atRisk[g] -= eventCounts[g] + censoredCounts[g];
+      }
+    }
+
+    List<SurvivalCurve> curves = new ArrayList<>();
+    for (int g = 0; g < groupCount; g++) {
+      SurvivalCurve curve = new SurvivalCurve();
+      curve.setName(groupNames.get(g));
+      curve.setNumberOfPatients(groupTimes.get(g).length);
+      curve.setNumberOfEvents(totalEvents[g]);
+      curve.setMedian(median[g]);
+      curve.setMedianLowerConfidenceInterval(medianLower[g]);
+      curve.setMedianUpperConfidenceInterval(medianUpper[g]);
+      curve.setPoints(points.get(g));
+      curves.add(curve);
+    }
+
+    SurvivalAnalysis survivalAnalysis = new SurvivalAnalysis();
+    survivalAnalysis.setCurves(curves);
+    survivalAnalysis.setHazardRatios(new ArrayList<>());
+
+    // groups without patients carry no information and would make the variance matrix singular
+    int[] activeGroups =
+        IntStream.range(0, groupCount).filter(g -> groupTimes.get(g).length > 0).toArray();
+    if (activeGroups.length > 1) {
+      calculateLogRank(survivalAnalysis, activeGroups, observedMinusExpected, variance);
+      calculateHazardRatios(
+          survivalAnalysis, groupNames, activeGroups, eventTableEvents, eventTableAtRisk);
+    }
+    return survivalAnalysis;
+  }
+
+  private void calculateLogRank(
+      SurvivalAnalysis survivalAnalysis,
+      int[] activeGroups,
+      double[] observedMinusExpected,
+      double[][] variance) {
+
+    // drop the last group, its row is a linear combination of the others
+    int degreesOfFreedom = activeGroups.length - 1;
+    RealVector difference = new ArrayRealVector(degreesOfFreedom);
+    RealMatrix matrix = new Array2DRowRealMatrix(degreesOfFreedom, degreesOfFreedom);
+    for (int j = 0; j < degreesOfFreedom; j++) {
+      difference.setEntry(j, observedMinusExpected[activeGroups[j]]);
+      for (int k = 0; k < degreesOfFreedom; k++) {
+        matrix.setEntry(j, k, variance[activeGroups[j]][activeGroups[k]]);
+      }
+    }
+    DecompositionSolver solver = new LUDecomposition(matrix).getSolver();
+    if (!solver.isNonSingular()) {
+      return;
+    }
+    double statistic = difference.dotProduct(solver.solve(difference));
+    survivalAnalysis.setLogRankStatistic(statistic);
+    survivalAnalysis.setDegreesOfFreedom(degreesOfFreedom);
+    survivalAnalysis.setLogRankPValue(
+        1.0 - new ChiSquaredDistribution(degreesOfFreedom).cumulativeProbability(statistic));
+  }
+
+  private void calculateHazardRatios(
+      SurvivalAnalysis survivalAnalysis,
+      List<String> groupNames,
+      int[] activeGroups,
+      List<int[]> eventTableEvents,
+      List<int[]> eventTableAtRisk) {
+
+    // the first active group is the reference, every other group gets an indicator covariate
+    int parameterCount = activeGroups.length - 1;
+    double[] beta = new double[parameterCount];
+    CoxIteration current = coxIteration(beta, activeGroups, eventTableEvents, eventTableAtRisk);
+    for (int iteration = 0; iteration < COX_MAX_ITERATIONS; iteration++) {
+      DecompositionSolver solver = new LUDecomposition(current.information).getSolver();
+      if (!solver.isNonSingular()) {
+        return;
+      }
+      RealVector step = solver.solve(current.score);
+      double[] candidate = new double[parameterCount];
+      CoxIteration next = null;
+      // step halving keeps Newton-Raphson from overshooting when a group has very few events
+      for (double scale = 1.0; scale > 1e-4; scale /= 2) {
+        for (int j = 0; j < parameterCount; j++) {
+          candidate[j] = beta[j] + scale * step.getEntry(j);
+        }
+        next = coxIteration(candidate, activeGroups, eventTableEvents, eventTableAtRisk);
+        if (next.logLikelihood >= current.logLikelihood) {
+          break;
+        }
+      }
+      boolean converged =
+          Math.abs(next.logLikelihood - current.logLikelihood)
+              <= COX_TOLERANCE * Math.max(1.0, Math.abs(current.logLikelihood));
+      beta = candidate.clone();
+      current = next;
+      if (converged) {
+        break;
+      }
+    }
+
+    DecompositionSolver solver = new LUDecomposition(current.information).getSolver();
+    if (!solver.isNonSingular()) {
+      return;
+    }
+    RealMatrix covariance = solver.getInverse();
+    NormalDistribution normalDistribution = new NormalDistribution();
+    String referenceName = groupNames.get(activeGroups[0]);
+    for (int j = 0; j < parameterCount; j++) {
+      SurvivalHazardRatio hazardRatio = new SurvivalHazardRatio();
+      hazardRatio.setName(groupNames.get(activeGroups[j + 1]));
+      hazardRatio.setReferenceName(referenceName);
+      double standardError = Math.sqrt(covariance.getEntry(j, j));
+      if (Double.isFinite(beta[j]) && Double.isFinite(standardError) && standardError > 0) {
+        hazardRatio.setHazardRatio(Math.exp(beta[j]));
+        hazardRatio.setLowerConfidenceInterval(Math.exp(beta[j] - Z_95 * standardError));
+        hazardRatio.setUpperConfidenceInterval(Math.exp(beta[j] + Z_95 * standardError));
+        hazardRatio.setpValue(
+            2 * (1 - normalDistribution.cumulativeProbability(Math.abs(beta[j] / standardError))));
+      }
+      survivalAnalysis.getHazardRatios().add(hazardRatio);
+    }
+  }
+
+  private CoxIteration coxIteration(
+      double[] beta,
+      int[] activeGroups,
+      List<int[]> eventTableEvents,
+      List<int[]> eventTableAtRisk) {
+
+    int parameterCount = beta.length;
+    double logLikelihood = 0;
+    RealVector score = new ArrayRealVector(parameterCount);
+    RealMatrix information = new Array2DRowRealMatrix(parameterCount, parameterCount);
+    double[] weights = new double[activeGroups.length];
+    double[] shares = new double[parameterCount];
+    for (int row = 0; row < eventTableEvents.size(); row++) {
+      int[] eventCounts = eventTableEvents.get(row);
+      int[] atRisk = eventTableAtRisk.get(row);
+      double weightSum = 0;
+      int eventsAtTime = 0;
+      for (int a = 0; a < activeGroups.length; a++) {
+        double coefficient = a == 0 ? 0 : beta[a - 1];
+        weights[a] = atRisk[activeGroups[a]] * Math.exp(coefficient);
+        weightSum += weights[a];
+        eventsAtTime += eventCounts[activeGroups[a]];
+        logLikelihood += eventCounts[activeGroups[a]] * coefficient;
+      }
+      logLikelihood -= eventsAtTime * Math.log(weightSum);
+      for (int j = 0; j < parameterCount; j++) {
+        shares[j] = weights[j + 1] / weightSum;
+        score.addToEntry(j, eventCounts[activeGroups[j + 1]] - eventsAtTime * shares[j]);
+      }
+      for (int j = 0; j < parameterCount; j++) {
+        for (int k = 0; k < parameterCount; k++) {
+          information.addToEntry(
+              j, k, eventsAtTime * shares[j] * ((j == k ? 1.0 : 0.0) - shares[k]));
+        }
+      }
+    }
+    return new CoxIteration(logLikelihood, score, information);
+  }
+
+  private record CoxIteration(double logLikelihood, RealVector score, RealMatrix information) {}
+}
@@ -0,0 +1,124 @@
+package org.cbioportal.legacy.service.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sorted numerical values of a gene in an mRNA expression profile, kept in memory so that the
+ * percentile of another sample of the same profile and gene does not require reading the values of
+ * all samples again. The patient view asks for the percentiles of the same genes for every sample
+ * of a patient.
+ *
+ * <p>The size of the index is bounded by the total number of values stored ({@code maxValues});
+ * when it is exceeded, the entries that expire first are dropped. Entries expire after {@code
+ * ttlSeconds}, which bounds how long percentiles may be stale after a study is re-imported.
+ */
+@Component
+public class MrnaPercentileIndex {
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicLong valueCount = new AtomicLong();
+
+  private final boolean enabled;
+  private final long ttlSeconds;
+  private final long maxValues;
+
+  public MrnaPercentileIndex(
+      @Value("${mrna_percentile.cache.enabled:true}") boolean enabled,
+      @Value("${mrna_percentile.cache.ttl_seconds:3600}") long ttlSeconds,
+      @Value("${mrna_percentile.cache.max_values:10000000}") long maxValues) {
+    this.enabled = enabled;
+    this.ttlSeconds = ttlSeconds;
+    this.maxValues = maxValues;
+  }
+
+  /**
+   * @return the sorted numerical values of the gene in the profile, or null if they are not
+   *     indexed. The returned array must not be modified.
+   */
+  public double[] getSortedValues(String molecularProfileId, Integer entrezGeneId) {
+    if (!enabled) {
+      return null;
+    }
+    Entry entry = entries.get(getKey(molecularProfileId, entrezGeneId));
+    return entry == null || entry.expiresAt <= System.currentTimeMillis()
+        ? null
+        : entry.sortedValues;
+  }
+
+  /** Indexes the first {@code count} elements of {@code values}, which are not modified. */
+  public void putValues(
+      String molecularProfileId, Integer entrezGeneId, double[] values, int count) {
+    if (!enabled || count > maxValues) {
+      return;
+    }
+    double[] sortedValues = Arrays.copyOf(values, count);
+    Arrays.sort(sortedValues);
+    long now = System.currentTimeMillis();
+    Entry previous =
+        entries.put(
+            getKey(molecularProfileId, entrezGeneId),
+            new Entry(sortedValues, now + ttlSeconds * 1000));
+    valueCount.addAndGet(count - (previous == null ? 0 : previous.sortedValues.length));
+    evict(now);
+  }
+
+  /**
+   * @return the number of values in {@code sortedValues} that are less than or equal to {@code
+   *     value}, i.e. the rank of {@code value} when ties get the maximum rank.
+   */
+  public static int countAtOrBelow(double[] sortedValues, double value) {
+    int low = 0;
+    int high = sortedValues.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedValues[middle] <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private void evict(long now) {
+    if (valueCount.get() <= maxValues) {
+      return;
+    }
+    entries.entrySet().stream()
+        .filter(e -> e.getValue().expiresAt <= now)
+        .map(Map.Entry::getKey)
+        .toList()
+        .forEach(this::remove);
+    if (valueCount.get() > maxValues) {
+      for (String key :
+          entries.entrySet().stream()
+              .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+              .map(Map.Entry::getKey)
+              .toList()) {
+        if (valueCount.get() <= maxValues) {
+          break;
+        }
+        remove(key);
+      }
+    }
+  }
+
+  private void remove(String key) {
+    Entry entry = entries.remove(key);
+    if (entry != null) {
+      valueCount.addAndGet(-entry.sortedValues.length);
+    }
+  }
+
+  private static String getKey(String molecularProfileId, Integer entrezGeneId) {
+    return molecularProfileId + ":" + entrezGeneId;
+  }
+
+  private record Entry(double[] sortedValues, long expiresAt) {}
+}
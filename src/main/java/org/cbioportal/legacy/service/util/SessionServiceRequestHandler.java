@@ -11,9 +11,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
+import org.cbioportal.application.http.HttpClientPool;
 import org.cbioportal.legacy.service.exception.DuplicateVirtualStudyException;
 import org.cbioportal.legacy.utils.removeme.Session;
 import org.cbioportal.legacy.web.parameter.CustomGeneList;
@@ -46,6 +48,9 @@ public class SessionServiceRequestHandler {
   private static final String QUERY_OPERATOR_SIZE = "$size";
   private static final String QUERY_OPERATOR_AND = "$and";
 
+  private final HttpClientPool httpClientPool;
+  private final VirtualStudyCache virtualStudyCache;
+
   @Value("${session.service.url:}")
   private String sessionServiceURL;
 
@@ -55,6 +60,12 @@ public class SessionServiceRequestHandler {
   @Value("${session.service.password:}")
   private String sessionServicePassword;
 
+  public SessionServiceRequestHandler(
+      HttpClientPool httpClientPool, VirtualStudyCache virtualStudyCache) {
+    this.httpClientPool = httpClientPool;
+    this.virtualStudyCache = virtualStudyCache;
+  }
+
   private Boolean isBasicAuthEnabled() {
     return isSessionServiceEnabled()
         && sessionServicePassword != null
@@ -82,7 +93,7 @@ public class SessionServiceRequestHandler {
 
   public String getSessionDataJson(SessionType type, String id) throws Exception {
 
-    RestTemplate restTemplate = new RestTemplate();
+    RestTemplate restTemplate = httpClientPool.getRestTemplate();
 
     String url =
         UriComponentsBuilder.fromUriString(sessionServiceURL)
@@ -99,6 +110,23 @@ public class SessionServiceRequestHandler {
     return responseEntity.getBody();
   }
 
+  /**
+   * Reads a session on a separate thread, so that several sessions can be read concurrently.
+   *
+   * @return the session JSON, or {@code null} if it could not be read
+   */
+  public CompletableFuture<String> getSessionDataJsonAsync(SessionType type, String id) {
+    return httpClientPool.supplyAsync(
+        () -> {
+          try {
+            return getSessionDataJson(type, id);
+          } catch (Exception e) {
+            LOG.debug("Could not read {} session {}: {}", type, id, e.getMessage());
+            return null;
+          }
+        });
+  }
+
   /**
    * Gets virtual study by id
    *
@@ -115,7 +143,8 @@ public class SessionServiceRequestHandler {
             .toUriString();
 
     ResponseEntity<VirtualStudy> responseEntity =
-        new RestTemplate()
+        httpClientPool
+            .getRestTemplate()
             .exchange(url, HttpMethod.GET, new HttpEntity<>(getHttpHeaders()), VirtualStudy.class);
     HttpStatusCode statusCode = responseEntity.getStatusCode();
     VirtualStudy virtualStudy = responseEntity.getBody();
@@ -150,7 +179,8 @@ public class SessionServiceRequestHandler {
             .toUriString();
 
     ResponseEntity<List<VirtualStudy>> responseEntity =
-        new RestTemplate()
+        httpClientPool
+            .getRestTemplate()
             .exchange(
                 url,
                 HttpMethod.POST,
@@ -175,12 +205,14 @@ public class SessionServiceRequestHandler {
             .toUriString();
 
     ResponseEntity<VirtualStudy> responseEntity =
-        new RestTemplate()
+        httpClientPool
+            .getRestTemplate()
             .exchange(
                 url,
                 HttpMethod.POST,
                 new HttpEntity<>(virtualStudyData, getHttpHeaders()),
                 new ParameterizedTypeReference<>() {});
+    virtualStudyCache.invalidate(null);
 
     return responseEntity.getBody();
   }
@@ -199,7 +231,8 @@ public class SessionServiceRequestHandler {
             .build()
             .toUriString();
     try {
-      new RestTemplate()
+      httpClientPool
+          .getRestTemplate()
           .exchange(
               url,
               HttpMethod.POST,
@@ -209,6 +242,8 @@ public class SessionServiceRequestHandler {
       throw new DuplicateVirtualStudyException(
           "A virtual study with the same ID or identical definition already exists: "
               + virtualStudyId);
+    } finally {
+      virtualStudyCache.invalidate(virtualStudyId);
     }
   }
 
@@ -238,7 +273,10 @@ public class SessionServiceRequestHandler {
             .build()
             .toUriString();
 
-    new RestTemplate().put(url, new HttpEntity<>(virtualStudy.getData(), getHttpHeaders()));
+    httpClientPool
+        .getRestTemplate()
+        .put(url, new HttpEntity<>(virtualStudy.getData(), getHttpHeaders()));
+    virtualStudyCache.invalidate(virtualStudy.getId());
   }
 
   /**
@@ -255,8 +293,10 @@ public class SessionServiceRequestHandler {
             .build()
             .toUriString();
 
-    new RestTemplate()
+    httpClientPool
+        .getRestTemplate()
         .exchange(url, HttpMethod.DELETE, new HttpEntity<>(getHttpHeaders()), Void.class);
+    virtualStudyCache.invalidate(virtualStudyId);
   }
 
   private List<PageSettings> getPageSettingsForUser(
@@ -283,7 +323,8 @@ public class SessionServiceRequestHandler {
             .toUriString();
 
     ResponseEntity<List<PageSettings>> responseEntity =
-        new RestTemplate()
+        httpClientPool
+            .getRestTemplate()
             .exchange(
                 url,
                 HttpMethod.POST,
@@ -307,7 +348,7 @@ public class SessionServiceRequestHandler {
 
     BasicDBObject queryDBObject = new BasicDBObject(QUERY_OPERATOR_AND, basicDBObjects);
 
-    RestTemplate restTemplate = new RestTemplate();
+    RestTemplate restTemplate = httpClientPool.getRestTemplate();
 
     HttpEntity<String> httpEntity = new HttpEntity<>(queryDBObject.toString(), getHttpHeaders());
 
@@ -334,7 +375,7 @@ public class SessionServiceRequestHandler {
     basicDBObject.put(
         "data.users", Pattern.compile(Pattern.quote(username), Pattern.CASE_INSENSITIVE));
 
-    RestTemplate restTemplate = new RestTemplate();
+    RestTemplate restTemplate = httpClientPool.getRestTemplate();
 
     HttpEntity<String> httpEntity = new HttpEntity<>(basicDBObject.toString(), getHttpHeaders());
 
@@ -369,7 +410,7 @@ public class SessionServiceRequestHandler {
 
     BasicDBObject queryDBObject = new BasicDBObject(QUERY_OPERATOR_AND, basicDBObjects);
 
-    RestTemplate restTemplate = new RestTemplate();
+    RestTemplate restTemplate = httpClientPool.getRestTemplate();
 
     HttpEntity<String> httpEntity = new HttpEntity<>(queryDBObject.toString(), getHttpHeaders());
 
@@ -393,7 +434,7 @@ public class SessionServiceRequestHandler {
 
   public <T extends Serializable> ResponseEntity<Session> createSession(
       SessionType type, T payload) {
-    RestTemplate restTemplate = new RestTemplate();
+    RestTemplate restTemplate = httpClientPool.getRestTemplate();
     HttpEntity<?> httpEntity = new HttpEntity<>(payload, getHttpHeaders());
 
     String url =
@@ -404,12 +445,15 @@ public class SessionServiceRequestHandler {
 
     ResponseEntity<Session> responseEntity =
         restTemplate.exchange(url, HttpMethod.POST, httpEntity, Session.class);
+    if (type == SessionType.virtual_study) {
+      virtualStudyCache.invalidate(null);
+    }
 
     return new ResponseEntity<>(responseEntity.getBody(), responseEntity.getStatusCode());
   }
 
   public <T extends Serializable> void updateUsers(SessionType type, String id, T payload) {
-    RestTemplate restTemplate = new RestTemplate();
+    RestTemplate restTemplate = httpClientPool.getRestTemplate();
     HttpEntity<?> httpEntity = new HttpEntity<>(payload, getHttpHeaders());
 
     String url =
@@ -420,10 +464,13 @@ public class SessionServiceRequestHandler {
             .toUriString();
 
     restTemplate.put(url, httpEntity);
+    if (type == SessionType.virtual_study) {
+      virtualStudyCache.invalidate(id);
+    }
   }
 
   public void updatePageSettings(SessionType type, String id, PageSettingsData body) {
-    RestTemplate restTemplate = new RestTemplate();
+    RestTemplate restTemplate = httpClientPool.getRestTemplate();
     HttpEntity<Object> httpEntity = new HttpEntity<>(body, getHttpHeaders());
 
     String url =
@@ -454,7 +501,7 @@ public class SessionServiceRequestHandler {
    * @return virtual study or empty if not found
    */
   public Optional<VirtualStudy> getVirtualStudyByIdIfExists(String virtualStudyId) {
-    RestTemplate restTemplate = new RestTemplate();
+    RestTemplate restTemplate = httpClientPool.createRestTemplate();
     restTemplate.setErrorHandler(
         new DefaultResponseErrorHandler() {
           @Override
@@ -0,0 +1,9 @@
+package org.cbioportal.legacy.service.util;
+
+/**
+ * Published after the Spring-managed caches have been evicted by {@link
+ * org.cbioportal.legacy.service.CacheService}.
+ *
+ * @param studyId the study whose entries were evicted, or null if all entries were evicted.
+ */
+public record StudyCachesEvictedEvent(String studyId) {}
@@ -0,0 +1,164 @@
+package org.cbioportal.legacy.service.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.cbioportal.legacy.web.parameter.VirtualStudy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Short-lived store of the virtual study definitions read from the session service, so that
+ * resolving the same virtual study on many requests does not call the session service each time.
+ *
+ * <p>Entries are kept as JSON and every read returns a new copy, so callers may change the returned
+ * virtual studies (e.g. populate the samples of a dynamic virtual study) without affecting the
+ * cache. Virtual studies that do not exist are remembered too, as most studies looked up for
+ * exports are regular studies.
+ *
+ * <p>{@link SessionServiceRequestHandler} invalidates entries when this node changes a virtual
+ * study. Changes made through other nodes are picked up by {@link #checkVersion(List)}, which drops
+ * everything when the list of public virtual studies has changed, and otherwise after {@code
+ * ttlSeconds}.
+ */
+@Component
+public class VirtualStudyCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualStudyCache.class);
+  private static final TypeReference<List<VirtualStudy>> VIRTUAL_STUDY_LIST =
+      new TypeReference<>() {};
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private volatile Entry publicVirtualStudies;
+  private volatile String publicVersion;
+
+  private final boolean enabled;
+  private final long ttlSeconds;
+  private final int maxEntries;
+
+  public VirtualStudyCache(
+      @Value("${virtual_study.cache.enabled:true}") boolean enabled,
+      @Value("${virtual_study.cache.ttl_seconds:300}") long ttlSeconds,
+      @Value("${virtual_study.cache.max_entries:1000}") int maxEntries) {
+    this.enabled = enabled;
+    this.ttlSeconds = ttlSeconds;
+    this.maxEntries = maxEntries;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return a copy of the cached virtual study, or what {@code loader} returns if it is not cached.
+   *     An empty result means that the virtual study does not exist.
+   */
+  public Optional<VirtualStudy> getVirtualStudy(
+      String id, Supplier<Optional<VirtualStudy>> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    long now = System.currentTimeMillis();
+    Entry entry = entries.get(id);
+    if (entry == null || entry.expiresAt <= now) {
+      Optional<VirtualStudy> virtualStudy = loader.get();
+      entry = new Entry(virtualStudy.map(this::toJson).orElse(null), now + ttlSeconds * 1000);
+      entries.put(id, entry);
+      evict(now);
+    }
+    return Optional.ofNullable(entry.json).map(json -> fromJson(json, VirtualStudy.class));
+  }
+
+  /**
+   * @return a copy of the cached public virtual studies, or what {@code loader} returns if they are
+   *     not cached.
+   */
+  public List<VirtualStudy> getPublicVirtualStudies(Supplier<List<VirtualStudy>> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    long now = System.currentTimeMillis();
+    Entry entry = publicVirtualStudies;
+    if (entry == null || entry.expiresAt <= now) {
+      entry = new Entry(toJson(loader.get()), now + ttlSeconds * 1000);
+      publicVirtualStudies = entry;
+    }
+    return fromJson(entry.json, VIRTUAL_STUDY_LIST);
+  }
+
+  /** Drops the virtual study with the given id, and the public virtual studies. */
+  public void invalidate(String id) {
+    if (id != null) {
+      entries.remove(id);
+    }
+    publicVirtualStudies = null;
+  }
+
+  /**
+   * Drops all entries if {@code currentPublicVirtualStudies} differs from the list seen by the last
+   * check, and caches it as the current list of public virtual studies.
+   */
+  public void checkVersion(List<VirtualStudy> currentPublicVirtualStudies) {
+    String json = toJson(currentPublicVirtualStudies);
+    String version = DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+    if (publicVersion != null && !publicVersion.equals(version)) {
+      LOG.debug("Public virtual studies have changed, dropping cached virtual studies");
+      entries.clear();
+    }
+    publicVersion = version;
+    publicVirtualStudies = new Entry(json, System.currentTimeMillis() + ttlSeconds * 1000);
+  }
+
+  private void evict(long now) {
+    if (entries.size() <= maxEntries) {
+      return;
+    }
+    entries.values().removeIf(e -> e.expiresAt <= now);
+    int overflow = entries.size() - maxEntries;
+    if (overflow > 0) {
+      entries.entrySet().stream()
+          .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+          .limit(overflow)
+          .map(Map.Entry::getKey)
+          .toList()
+          .forEach(entries::remove);
+    }
+  }
+
+  private String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize virtual study", e);
+    }
+  }
+
+  private <T> T fromJson(String json, Class<T> type) {
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not deserialize virtual study", e);
+    }
+  }
+
+  private <T> T fromJson(String json, TypeReference<T> type) {
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not deserialize virtual studies", e);
+    }
+  }
+
+  private record Entry(String json, long expiresAt) {}
+}
@@ -80,7 +80,6 @@ public class AlterationEnrichmentController {
               required = true,
               description =
                   "List of groups containing sample identifiers and list of Alteration Types")
-          @Valid
           @RequestBody(required = false)
           MolecularProfileCasesGroupAndAlterationTypeFilter groupsAndAlterationTypes)
       throws MolecularProfileNotFoundException {
@@ -67,7 +67,6 @@ public class ClinicalAttributeCountController {
           @RequestAttribute(required = false, value = "interceptedClinicalAttributeCountFilter")
           ClinicalAttributeCountFilter interceptedClinicalAttributeCountFilter,
       @Parameter(required = true, description = "List of SampleIdentifiers or Sample List ID")
-          @Valid
           @RequestBody(required = false)
           ClinicalAttributeCountFilter clinicalAttributeCountFilter) {
 
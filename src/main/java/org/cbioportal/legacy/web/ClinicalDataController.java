@@ -13,7 +13,9 @@ import jakarta.validation.constraints.Min;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import org.cbioportal.legacy.model.ClinicalData;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.service.ClinicalDataService;
 import org.cbioportal.legacy.service.exception.PatientNotFoundException;
 import org.cbioportal.legacy.service.exception.SampleNotFoundException;
@@ -29,6 +31,11 @@ import org.cbioportal.legacy.web.parameter.HeaderKeyConstants;
 import org.cbioportal.legacy.web.parameter.PagingConstants;
 import org.cbioportal.legacy.web.parameter.Projection;
 import org.cbioportal.legacy.web.parameter.sort.ClinicalDataSortBy;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter.Column;
+import org.cbioportal.legacy.web.util.NdjsonResponseWriter;
+import org.cbioportal.legacy.web.util.PageTokenCodec;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -43,6 +50,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @PublicApi
 @RestController()
@@ -55,6 +63,8 @@ public class ClinicalDataController {
   private static final String CLINICAL_DATA_DEFAULT_PAGE_SIZE = "10000000";
 
   @Autowired private ClinicalDataService clinicalDataService;
+  @Autowired private NdjsonResponseWriter ndjsonResponseWriter;
+  @Autowired private ColumnarResponseWriter columnarResponseWriter;
 
   @PreAuthorize(
       "hasPermission(#studyId, 'CancerStudyId', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
@@ -211,6 +221,12 @@ public class ClinicalDataController {
           @Min(PagingConstants.MIN_PAGE_NUMBER)
           @RequestParam(defaultValue = PagingConstants.DEFAULT_PAGE_NUMBER)
           Integer pageNumber,
+      @Parameter(
+              description =
+                  "Token from the next-page-token header of the previous page. Pass an empty "
+                      + "value to start keyset paging; pageNumber is ignored in this mode.")
+          @RequestParam(required = false)
+          String pageToken,
       @Parameter(description = "Name of the property that the result list is sorted by")
           @RequestParam(required = false)
           ClinicalDataSortBy sortBy,
@@ -227,6 +243,16 @@ public class ClinicalDataController {
               .getTotalCount()
               .toString());
       return new ResponseEntity<>(responseHeaders, HttpStatus.OK);
+    } else if (pageToken != null) {
+      return getAllClinicalDataInStudyByPageToken(
+          studyId,
+          attributeId,
+          clinicalDataType,
+          projection,
+          pageSize,
+          pageToken,
+          projection == Projection.ID || sortBy == null ? null : sortBy.getOriginalValue(),
+          direction);
     } else {
       return new ResponseEntity<>(
           clinicalDataService.getAllClinicalDataInStudy(
@@ -323,7 +349,6 @@ public class ClinicalDataController {
       @Parameter(
               required = true,
               description = "List of patient or sample identifiers and attribute IDs")
-          @Valid
           @RequestBody(required = false)
           ClinicalDataMultiStudyFilter clinicalDataMultiStudyFilter,
       @Parameter(description = "Level of detail of the response")
@@ -363,4 +388,160 @@ public class ClinicalDataController {
           HttpStatus.OK);
     }
   }
+
+  @PreAuthorize(
+      "hasPermission(#involvedCancerStudies, 'Collection<CancerStudyId>', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  @RequestMapping(
+      value = "/clinical-data/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      description =
+          "Fetch clinical data by patient IDs or sample IDs (all studies) as newline delimited"
+              + " JSON, streamed in no particular order")
+  @ApiResponse(
+      responseCode = "200",
+      description = "OK",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+              schema = @Schema(implementation = ClinicalData.class)))
+  public ResponseEntity<StreamingResponseBody> streamClinicalData(
+      @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
+          @RequestAttribute(required = false, value = "involvedCancerStudies")
+          Collection<String> involvedCancerStudies,
+      @Parameter(
+              hidden =
+                  true) // prevent reference to this attribute in the swagger-ui interface. this
+          // attribute is needed for the @PreAuthorize tag above.
+          @Valid
+          @RequestAttribute(required = false, value = "interceptedClinicalDataMultiStudyFilter")
+          ClinicalDataMultiStudyFilter interceptedClinicalDataMultiStudyFilter,
+      @Parameter(description = "Type of the clinical data") @RequestParam(defaultValue = "SAMPLE")
+          ClinicalDataType clinicalDataType,
+      @Parameter(
+              required = true,
+              description = "List of patient or sample identifiers and attribute IDs")
+          @RequestBody(required = false)
+          ClinicalDataMultiStudyFilter clinicalDataMultiStudyFilter,
+      @Parameter(description = "Level of detail of the response")
+          @RequestParam(defaultValue = "SUMMARY")
+          Projection projection) {
+
+    return ndjsonResponseWriter.write(
+        clinicalDataSource(interceptedClinicalDataMultiStudyFilter, clinicalDataType, projection));
+  }
+
+  @PreAuthorize(
+      "hasPermission(#involvedCancerStudies, 'Collection<CancerStudyId>', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  @RequestMapping(
+      value = "/clinical-data/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = ColumnarResponseWriter.COLUMNAR_VALUE)
+  @Operation(
+      description =
+          "Fetch clinical data by patient IDs or sample IDs (all studies) column by column, with"
+              + " dictionary encoded ids and values, in record batches")
+  @ApiResponse(
+      responseCode = "200",
+      description = "OK",
+      content = @Content(mediaType = ColumnarResponseWriter.COLUMNAR_VALUE))
+  public ResponseEntity<StreamingResponseBody> fetchClinicalDataColumnar(
+      @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
+          @RequestAttribute(required = false, value = "involvedCancerStudies")
+          Collection<String> involvedCancerStudies,
+      @Parameter(
+              hidden =
+                  true) // prevent reference to this attribute in the swagger-ui interface. this
+          // attribute is needed for the @PreAuthorize tag above.
+          @Valid
+          @RequestAttribute(required = false, value = "interceptedClinicalDataMultiStudyFilter")
+          ClinicalDataMultiStudyFilter interceptedClinicalDataMultiStudyFilter,
+      @Parameter(description = "Type of the clinical data") @RequestParam(defaultValue = "SAMPLE")
+          ClinicalDataType clinicalDataType,
+      @Parameter(
+              required = true,
+              description = "List of patient or sample identifiers and attribute IDs")
+          @RequestBody(required = false)
+          ClinicalDataMultiStudyFilter clinicalDataMultiStudyFilter,
+      @Parameter(description = "Level of detail of the response")
+          @RequestParam(defaultValue = "SUMMARY")
+          Projection projection) {
+
+    List<Column<ClinicalData>> columns = new ArrayList<>();
+    columns.add(Column.dictionary("studyId", ClinicalData::getStudyId));
+    if (clinicalDataType == ClinicalDataType.SAMPLE) {
+      columns.add(Column.dictionary("sampleId", ClinicalData::getSampleId));
+    }
+    columns.add(Column.dictionary("patientId", ClinicalData::getPatientId));
+    columns.add(Column.dictionary("clinicalAttributeId", ClinicalData::getAttrId));
+    // clinical values are mostly categorical, so they repeat as much as the ids do
+    columns.add(Column.dictionary("value", ClinicalData::getAttrValue));
+
+    return columnarResponseWriter.write(
+        columns,
+        clinicalDataSource(interceptedClinicalDataMultiStudyFilter, clinicalDataType, projection));
+  }
+
+  private Consumer<Consumer<ClinicalData>> clinicalDataSource(
+      ClinicalDataMultiStudyFilter clinicalDataMultiStudyFilter,
+      ClinicalDataType clinicalDataType,
+      Projection projection) {
+
+    List<String> studyIds = new ArrayList<>();
+    List<String> ids = new ArrayList<>();
+
+    for (ClinicalDataIdentifier identifier : clinicalDataMultiStudyFilter.getIdentifiers()) {
+      studyIds.add(identifier.getStudyId());
+      ids.add(identifier.getEntityId());
+    }
+
+    return consumer ->
+        clinicalDataService.streamClinicalData(
+            studyIds,
+            ids,
+            clinicalDataMultiStudyFilter.getAttributeIds(),
+            clinicalDataType.name(),
+            projection.name(),
+            consumer);
+  }
+
+  private ResponseEntity<List<ClinicalData>> getAllClinicalDataInStudyByPageToken(
+      String studyId,
+      String attributeId,
+      ClinicalDataType clinicalDataType,
+      Projection projection,
+      Integer pageSize,
+      String pageToken,
+      String sortBy,
+      Direction direction)
+      throws StudyNotFoundException {
+
+    List<ClinicalData> clinicalDataList =
+        clinicalDataService.getAllClinicalDataInStudyAfterKey(
+            studyId,
+            attributeId,
+            clinicalDataType.name(),
+            projection.name(),
+            pageSize,
+            PageTokenCodec.decode(pageToken, sortBy, direction.name()),
+            sortBy,
+            direction.name());
+
+    HttpHeaders responseHeaders = new HttpHeaders();
+    if (clinicalDataList.size() == pageSize) {
+      ClinicalData last = clinicalDataList.get(clinicalDataList.size() - 1);
+      Object sortValue = sortBy == null ? null : new BeanWrapperImpl(last).getPropertyValue(sortBy);
+      // Same columns and order as the keysetTiebreaker fragment in ClinicalDataMapper.xml
+      responseHeaders.add(
+          HeaderKeyConstants.NEXT_PAGE_TOKEN,
+          PageTokenCodec.encode(
+              new PageKey(sortValue, List.of(last.getInternalId(), last.getAttrId())),
+              sortBy,
+              direction.name()));
+    }
+    return new ResponseEntity<>(clinicalDataList, responseHeaders, HttpStatus.OK);
+  }
 }
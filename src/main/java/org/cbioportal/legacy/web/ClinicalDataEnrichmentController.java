@@ -67,7 +67,6 @@ public class ClinicalDataEnrichmentController {
                   @ArraySchema(schema = @Schema(implementation = ClinicalDataEnrichment.class))))
   public ResponseEntity<List<ClinicalDataEnrichment>> fetchClinicalEnrichments(
       @Parameter(required = true, description = "List of altered and unaltered Sample/Patient IDs")
-          @Valid
           @RequestBody(required = false)
           GroupFilter groupFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -178,7 +178,6 @@ public class ClinicalEventController {
           @Content(array = @ArraySchema(schema = @Schema(implementation = ClinicalEvent.class))))
   public ResponseEntity<List<ClinicalEvent>> fetchClinicalEventsMeta(
       @Parameter(required = true, description = "clinical events Request")
-          @Valid
           @RequestBody(required = false)
           ClinicalEventAttributeRequest clinicalEventAttributeRequest,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
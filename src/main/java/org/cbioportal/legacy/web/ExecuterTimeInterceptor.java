@@ -1,11 +1,23 @@
 package org.cbioportal.legacy.web;
 
+import org.cbioportal.application.metrics.PerformanceMetrics;
 import org.springframework.ui.ModelMap;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.context.request.WebRequestInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
 public class ExecuterTimeInterceptor implements WebRequestInterceptor {
 
+  private static final String START_TIME_ATTRIBUTE = "startTime";
+
+  private final PerformanceMetrics performanceMetrics;
+
+  public ExecuterTimeInterceptor(PerformanceMetrics performanceMetrics) {
+    this.performanceMetrics = performanceMetrics;
+  }
+
   @Override
   public void postHandle(WebRequest webRequest, ModelMap modelMap) {
     // unimplemented
@@ -13,13 +25,29 @@ public class ExecuterTimeInterceptor implements WebRequestInterceptor {
 
   @Override
   public void afterCompletion(WebRequest webRequest, Exception e) {
-    // unimplemented
+    if (!(webRequest.getAttribute(START_TIME_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+        instanceof Long startTime)) {
+      return;
+    }
+    // the pattern keeps the number of timers bounded, unlike the request path
+    Object pattern =
+        webRequest.getAttribute(
+            HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    String method =
+        webRequest instanceof ServletWebRequest servletWebRequest
+            ? servletWebRequest.getRequest().getMethod()
+            : "";
+    performanceMetrics.recordEndpoint(
+        method + " " + (pattern == null ? "unmapped" : pattern),
+        System.currentTimeMillis() - startTime);
   }
 
   @Override
   public void preHandle(WebRequest webRequest) {
-
-    long startTime = System.currentTimeMillis();
-    webRequest.setAttribute("startTime", startTime, 0);
+    // keep the start of the original request on async dispatches
+    if (webRequest.getAttribute(START_TIME_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null) {
+      long startTime = System.currentTimeMillis();
+      webRequest.setAttribute(START_TIME_ATTRIBUTE, startTime, RequestAttributes.SCOPE_REQUEST);
+    }
   }
 }
@@ -68,7 +68,6 @@ public class ExpressionEnrichmentController {
       @Parameter(
               required = true,
               description = "List of groups containing sample and molecular profile identifiers")
-          @Valid
           @RequestBody(required = false)
           List<MolecularProfileCasesGroupFilter> groups,
       @Parameter(
@@ -113,7 +112,6 @@ public class ExpressionEnrichmentController {
       @Parameter(
               required = true,
               description = "List of groups containing sample and molecular profile identifiers")
-          @Valid
           @RequestBody(required = false)
           List<MolecularProfileCasesGroupFilter> groups,
       @Parameter(
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.cbioportal.legacy.model.GenericAssayData;
@@ -24,6 +25,8 @@ import org.cbioportal.legacy.web.parameter.GenericAssayFilter;
 import org.cbioportal.legacy.web.parameter.HeaderKeyConstants;
 import org.cbioportal.legacy.web.parameter.Projection;
 import org.cbioportal.legacy.web.parameter.SampleMolecularIdentifier;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter.Column;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -38,6 +41,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @PublicApi
 @RestController
@@ -47,6 +51,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class GenericAssayDataController {
 
   @Autowired private GenericAssayService genericAssayService;
+  @Autowired private ColumnarResponseWriter columnarResponseWriter;
 
   @PreAuthorize(
       "hasPermission(#molecularProfileId, 'MolecularProfileId', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
@@ -178,29 +183,9 @@ public class GenericAssayDataController {
           Projection projection)
       throws MolecularProfileNotFoundException {
 
-    List<GenericAssayData> result;
-    if (interceptedGenericAssayDataMultipleStudyFilter.getMolecularProfileIds() != null) {
-      result =
-          filterEmptyGenericAssayData(
-              genericAssayService.fetchGenericAssayData(
-                  interceptedGenericAssayDataMultipleStudyFilter.getMolecularProfileIds(),
-                  null,
-                  interceptedGenericAssayDataMultipleStudyFilter.getGenericAssayStableIds(),
-                  projection.name()));
-    } else {
-
-      List<String> molecularProfileIds = new ArrayList<>();
-      List<String> sampleIds = new ArrayList<>();
-      extractMolecularProfileAndSampleIds(
-          interceptedGenericAssayDataMultipleStudyFilter, molecularProfileIds, sampleIds);
-      result =
-          filterEmptyGenericAssayData(
-              genericAssayService.fetchGenericAssayData(
-                  molecularProfileIds,
-                  sampleIds,
-                  interceptedGenericAssayDataMultipleStudyFilter.getGenericAssayStableIds(),
-                  projection.name()));
-    }
+    List<GenericAssayData> result =
+        fetchGenericAssayDataInMultipleMolecularProfiles(
+            interceptedGenericAssayDataMultipleStudyFilter, projection);
 
     if (projection == Projection.META) {
       HttpHeaders responseHeaders = new HttpHeaders();
@@ -211,6 +196,116 @@ public class GenericAssayDataController {
     }
   }
 
+  @PreAuthorize(
+      "hasPermission(#involvedCancerStudies, 'Collection<CancerStudyId>', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  @RequestMapping(
+      value = "/generic_assay_data/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = ColumnarResponseWriter.COLUMNAR_VALUE)
+  @Operation(
+      description =
+          "Fetch generic_assay_data column by column, with dictionary encoded ids, in record"
+              + " batches")
+  @ApiResponse(
+      responseCode = "200",
+      description = "OK",
+      content = @Content(mediaType = ColumnarResponseWriter.COLUMNAR_VALUE))
+  public ResponseEntity<StreamingResponseBody>
+      fetchGenericAssayDataInMultipleMolecularProfilesColumnar(
+          @Parameter(
+                  hidden = true) // prevent reference to this attribute in the swagger-ui interface
+              @RequestAttribute(required = false, value = "involvedCancerStudies")
+              Collection<String> involvedCancerStudies,
+          @Parameter(
+                  hidden =
+                      true) // prevent reference to this attribute in the swagger-ui interface. this
+              // attribute is needed for the @PreAuthorize tag above.
+              @Valid
+              @RequestAttribute(
+                  required = false,
+                  value = "interceptedGenericAssayDataMultipleStudyFilter")
+              GenericAssayDataMultipleStudyFilter interceptedGenericAssayDataMultipleStudyFilter,
+          @Parameter(
+                  required = true,
+                  description =
+                      "List of Molecular Profile ID and Sample ID pairs or List of Molecular"
+                          + "Profile IDs and Generic Assay IDs")
+              @RequestBody(required = false)
+              GenericAssayDataMultipleStudyFilter genericAssayDataMultipleStudyFilter,
+          @Parameter(description = "Level of detail of the response")
+              @RequestParam(defaultValue = "SUMMARY")
+              Projection projection) {
+
+    // generic assay values can be categorical, e.g. for binary or limit value assays, so they are
+    // sent as strings rather than as a float64 vector
+    return columnarResponseWriter.write(
+        List.of(
+            Column.dictionary("molecularProfileId", GenericAssayData::getMolecularProfileId),
+            Column.dictionary("sampleId", GenericAssayData::getSampleId),
+            Column.dictionary("patientId", GenericAssayData::getPatientId),
+            Column.dictionary("studyId", GenericAssayData::getStudyId),
+            Column.dictionary("genericAssayStableId", GenericAssayData::getGenericAssayStableId),
+            Column.utf8("value", GenericAssayData::getValue)),
+        genericAssayDataSource(interceptedGenericAssayDataMultipleStudyFilter, projection));
+  }
+
+  private Consumer<Consumer<GenericAssayData>> genericAssayDataSource(
+      GenericAssayDataMultipleStudyFilter genericAssayDataMultipleStudyFilter,
+      Projection projection) {
+
+    List<String> molecularProfileIds;
+    List<String> sampleIds;
+    if (genericAssayDataMultipleStudyFilter.getMolecularProfileIds() != null) {
+      molecularProfileIds = genericAssayDataMultipleStudyFilter.getMolecularProfileIds();
+      sampleIds = null;
+    } else {
+      molecularProfileIds = new ArrayList<>();
+      sampleIds = new ArrayList<>();
+      extractMolecularProfileAndSampleIds(
+          genericAssayDataMultipleStudyFilter, molecularProfileIds, sampleIds);
+    }
+
+    return consumer ->
+        genericAssayService.streamGenericAssayData(
+            molecularProfileIds,
+            sampleIds,
+            genericAssayDataMultipleStudyFilter.getGenericAssayStableIds(),
+            projection.name(),
+            genericAssayData -> {
+              if (isNotEmpty(genericAssayData)) {
+                consumer.accept(genericAssayData);
+              }
+            });
+  }
+
+  private List<GenericAssayData> fetchGenericAssayDataInMultipleMolecularProfiles(
+      GenericAssayDataMultipleStudyFilter genericAssayDataMultipleStudyFilter,
+      Projection projection)
+      throws MolecularProfileNotFoundException {
+
+    if (genericAssayDataMultipleStudyFilter.getMolecularProfileIds() != null) {
+      return filterEmptyGenericAssayData(
+          genericAssayService.fetchGenericAssayData(
+              genericAssayDataMultipleStudyFilter.getMolecularProfileIds(),
+              null,
+              genericAssayDataMultipleStudyFilter.getGenericAssayStableIds(),
+              projection.name()));
+    } else {
+
+      List<String> molecularProfileIds = new ArrayList<>();
+      List<String> sampleIds = new ArrayList<>();
+      extractMolecularProfileAndSampleIds(
+          genericAssayDataMultipleStudyFilter, molecularProfileIds, sampleIds);
+      return filterEmptyGenericAssayData(
+          genericAssayService.fetchGenericAssayData(
+              molecularProfileIds,
+              sampleIds,
+              genericAssayDataMultipleStudyFilter.getGenericAssayStableIds(),
+              projection.name()));
+    }
+  }
+
   private void extractMolecularProfileAndSampleIds(
       GenericAssayDataMultipleStudyFilter molecularDataMultipleStudyFilter,
       List<String> molecularProfileIds,
@@ -224,8 +319,11 @@ public class GenericAssayDataController {
 
   private List<GenericAssayData> filterEmptyGenericAssayData(
       List<GenericAssayData> genericAssayDataList) {
-    return genericAssayDataList.stream()
-        .filter(g -> StringUtils.isNotEmpty(g.getValue()) && !g.getValue().equals("NA"))
-        .collect(Collectors.toList());
+    return genericAssayDataList.stream().filter(this::isNotEmpty).collect(Collectors.toList());
+  }
+
+  private boolean isNotEmpty(GenericAssayData genericAssayData) {
+    return StringUtils.isNotEmpty(genericAssayData.getValue())
+        && !genericAssayData.getValue().equals("NA");
   }
 }
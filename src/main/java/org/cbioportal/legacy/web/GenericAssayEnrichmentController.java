@@ -70,7 +70,6 @@ public class GenericAssayEnrichmentController {
                   required = true,
                   description =
                       "List of groups containing sample and molecular profile identifiers")
-              @Valid
               @RequestBody(required = false)
               List<MolecularProfileCasesGroupFilter> groups,
           @Parameter(hidden = true)
@@ -114,7 +113,6 @@ public class GenericAssayEnrichmentController {
                   required = true,
                   description =
                       "List of groups containing sample and molecular profile identifiers")
-              @Valid
               @RequestBody(required = false)
               List<MolecularProfileCasesGroupFilter> groups,
           @Parameter(hidden = true)
@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.cbioportal.legacy.model.GeneMolecularData;
 import org.cbioportal.legacy.model.NumericGeneMolecularData;
@@ -25,6 +26,9 @@ import org.cbioportal.legacy.web.parameter.MolecularDataFilter;
 import org.cbioportal.legacy.web.parameter.MolecularDataMultipleStudyFilter;
 import org.cbioportal.legacy.web.parameter.Projection;
 import org.cbioportal.legacy.web.parameter.SampleMolecularIdentifier;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter.Column;
+import org.cbioportal.legacy.web.util.NdjsonResponseWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -39,6 +43,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @PublicApi
 @RestController()
@@ -48,6 +53,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class MolecularDataController {
 
   @Autowired private MolecularDataService molecularDataService;
+  @Autowired private NdjsonResponseWriter ndjsonResponseWriter;
+  @Autowired private ColumnarResponseWriter columnarResponseWriter;
 
   @PreAuthorize(
       "hasPermission(#molecularProfileId, 'MolecularProfileId', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
@@ -187,7 +194,6 @@ public class MolecularDataController {
                   description =
                       "List of Molecular Profile ID and Sample ID pairs or List of Molecular"
                           + "Profile IDs and Entrez Gene IDs")
-              @Valid
               @RequestBody(required = false)
               MolecularDataMultipleStudyFilter molecularDataMultipleStudyFilter,
           @Parameter(description = "Level of detail of the response")
@@ -227,6 +233,130 @@ public class MolecularDataController {
     }
   }
 
+  @PreAuthorize(
+      "hasPermission(#involvedCancerStudies, 'Collection<CancerStudyId>', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  @RequestMapping(
+      value = "/molecular-data/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      description =
+          "Fetch molecular data as newline delimited JSON, streamed in no particular order")
+  @ApiResponse(
+      responseCode = "200",
+      description = "OK",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+              schema = @Schema(implementation = NumericGeneMolecularData.class)))
+  public ResponseEntity<StreamingResponseBody> streamMolecularDataInMultipleMolecularProfiles(
+      @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
+          @RequestAttribute(required = false, value = "involvedCancerStudies")
+          Collection<String> involvedCancerStudies,
+      @Parameter(
+              hidden =
+                  true) // prevent reference to this attribute in the swagger-ui interface. this
+          // attribute is needed for the @PreAuthorize tag above.
+          @Valid
+          @RequestAttribute(required = false, value = "interceptedMolecularDataMultipleStudyFilter")
+          MolecularDataMultipleStudyFilter interceptedMolecularDataMultipleStudyFilter,
+      @Parameter(
+              required = true,
+              description =
+                  "List of Molecular Profile ID and Sample ID pairs or List of Molecular"
+                      + "Profile IDs and Entrez Gene IDs")
+          @RequestBody(required = false)
+          MolecularDataMultipleStudyFilter molecularDataMultipleStudyFilter,
+      @Parameter(description = "Level of detail of the response")
+          @RequestParam(defaultValue = "SUMMARY")
+          Projection projection) {
+
+    return ndjsonResponseWriter.write(
+        numericMolecularDataSource(interceptedMolecularDataMultipleStudyFilter, projection));
+  }
+
+  @PreAuthorize(
+      "hasPermission(#involvedCancerStudies, 'Collection<CancerStudyId>', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  @RequestMapping(
+      value = "/molecular-data/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = ColumnarResponseWriter.COLUMNAR_VALUE)
+  @Operation(
+      description =
+          "Fetch molecular data column by column, with dictionary encoded ids, in record batches")
+  @ApiResponse(
+      responseCode = "200",
+      description = "OK",
+      content = @Content(mediaType = ColumnarResponseWriter.COLUMNAR_VALUE))
+  public ResponseEntity<StreamingResponseBody>
+      fetchMolecularDataInMultipleMolecularProfilesColumnar(
+          @Parameter(
+                  hidden = true) // prevent reference to this attribute in the swagger-ui interface
+              @RequestAttribute(required = false, value = "involvedCancerStudies")
+              Collection<String> involvedCancerStudies,
+          @Parameter(
+                  hidden =
+                      true) // prevent reference to this attribute in the swagger-ui interface. this
+              // attribute is needed for the @PreAuthorize tag above.
+              @Valid
+              @RequestAttribute(
+                  required = false,
+                  value = "interceptedMolecularDataMultipleStudyFilter")
+              MolecularDataMultipleStudyFilter interceptedMolecularDataMultipleStudyFilter,
+          @Parameter(
+                  required = true,
+                  description =
+                      "List of Molecular Profile ID and Sample ID pairs or List of Molecular"
+                          + "Profile IDs and Entrez Gene IDs")
+              @RequestBody(required = false)
+              MolecularDataMultipleStudyFilter molecularDataMultipleStudyFilter,
+          @Parameter(description = "Level of detail of the response")
+              @RequestParam(defaultValue = "SUMMARY")
+              Projection projection) {
+
+    return columnarResponseWriter.write(
+        List.of(
+            Column.dictionary(
+                "molecularProfileId", NumericGeneMolecularData::getMolecularProfileId),
+            Column.dictionary("sampleId", NumericGeneMolecularData::getSampleId),
+            Column.dictionary("patientId", NumericGeneMolecularData::getPatientId),
+            Column.dictionary("studyId", NumericGeneMolecularData::getStudyId),
+            Column.int32("entrezGeneId", NumericGeneMolecularData::getEntrezGeneId),
+            Column.float64("value", NumericGeneMolecularData::getValue)),
+        numericMolecularDataSource(interceptedMolecularDataMultipleStudyFilter, projection));
+  }
+
+  private Consumer<Consumer<NumericGeneMolecularData>> numericMolecularDataSource(
+      MolecularDataMultipleStudyFilter molecularDataMultipleStudyFilter, Projection projection) {
+
+    List<String> molecularProfileIds;
+    List<String> sampleIds;
+    if (molecularDataMultipleStudyFilter.getMolecularProfileIds() != null) {
+      molecularProfileIds = molecularDataMultipleStudyFilter.getMolecularProfileIds();
+      sampleIds = null;
+    } else {
+      molecularProfileIds = new ArrayList<>();
+      sampleIds = new ArrayList<>();
+      extractMolecularProfileAndSampleIds(
+          molecularDataMultipleStudyFilter, molecularProfileIds, sampleIds);
+    }
+
+    return consumer ->
+        molecularDataService.streamMolecularDataInMultipleMolecularProfiles(
+            molecularProfileIds,
+            sampleIds,
+            molecularDataMultipleStudyFilter.getEntrezGeneIds(),
+            projection.name(),
+            geneMolecularData -> {
+              NumericGeneMolecularData data = toNumericGeneMolecularData(geneMolecularData);
+              if (data != null) {
+                consumer.accept(data);
+              }
+            });
+  }
+
   private void extractMolecularProfileAndSampleIds(
       MolecularDataMultipleStudyFilter molecularDataMultipleStudyFilter,
       List<String> molecularProfileIds,
@@ -246,20 +376,28 @@ public class MolecularDataController {
     List<NumericGeneMolecularData> result = new ArrayList<>();
     geneMolecularDataList.forEach(
         g -> {
-          String value = g.getValue();
-          if (NumberUtils.isNumber(value)) {
-            NumericGeneMolecularData data = new NumericGeneMolecularData();
-            data.setEntrezGeneId(g.getEntrezGeneId());
-            data.setGene(g.getGene());
-            data.setMolecularProfileId(g.getMolecularProfileId());
-            data.setPatientId(g.getPatientId());
-            data.setSampleId(g.getSampleId());
-            data.setStudyId(g.getStudyId());
-            data.setValue(new BigDecimal(g.getValue()));
+          NumericGeneMolecularData data = toNumericGeneMolecularData(g);
+          if (data != null) {
             result.add(data);
           }
         });
 
     return result;
   }
+
+  private NumericGeneMolecularData toNumericGeneMolecularData(GeneMolecularData g) {
+
+    if (!NumberUtils.isNumber(g.getValue())) {
+      return null;
+    }
+    NumericGeneMolecularData data = new NumericGeneMolecularData();
+    data.setEntrezGeneId(g.getEntrezGeneId());
+    data.setGene(g.getGene());
+    data.setMolecularProfileId(g.getMolecularProfileId());
+    data.setPatientId(g.getPatientId());
+    data.setSampleId(g.getSampleId());
+    data.setStudyId(g.getStudyId());
+    data.setValue(new BigDecimal(g.getValue()));
+    return data;
+  }
 }
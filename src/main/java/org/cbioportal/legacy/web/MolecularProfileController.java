@@ -200,7 +200,6 @@ public class MolecularProfileController {
       @Parameter(
               required = true,
               description = "List of Molecular Profile IDs or List of Study IDs")
-          @Valid
           @RequestBody(required = false)
           MolecularProfileFilter molecularProfileFilter,
       @Parameter(description = "Level of detail of the response")
@@ -14,7 +14,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import org.cbioportal.legacy.model.Mutation;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 import org.cbioportal.legacy.service.MutationService;
 import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException;
@@ -28,6 +30,9 @@ import org.cbioportal.legacy.web.parameter.PagingConstants;
 import org.cbioportal.legacy.web.parameter.Projection;
 import org.cbioportal.legacy.web.parameter.SampleMolecularIdentifier;
 import org.cbioportal.legacy.web.parameter.sort.MutationSortBy;
+import org.cbioportal.legacy.web.util.NdjsonResponseWriter;
+import org.cbioportal.legacy.web.util.PageTokenCodec;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -42,6 +47,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @PublicApi
 @RestController()
@@ -51,6 +57,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class MutationController {
 
   @Autowired private MutationService mutationService;
+  @Autowired private NdjsonResponseWriter ndjsonResponseWriter;
 
   @PreAuthorize(
       "hasPermission(#molecularProfileId, 'MolecularProfileId', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
@@ -83,6 +90,12 @@ public class MutationController {
           @Min(PagingConstants.MIN_PAGE_NUMBER)
           @RequestParam(defaultValue = PagingConstants.DEFAULT_PAGE_NUMBER)
           Integer pageNumber,
+      @Parameter(
+              description =
+                  "Token from the next-page-token header of the previous page. Pass an empty "
+                      + "value to start keyset paging; pageNumber is ignored in this mode.")
+          @RequestParam(required = false)
+          String pageToken,
       @Parameter(description = "Name of the property that the result list is sorted by")
           @RequestParam(required = false)
           MutationSortBy sortBy,
@@ -101,6 +114,16 @@ public class MutationController {
       responseHeaders.add(
           HeaderKeyConstants.SAMPLE_COUNT, mutationMeta.getSampleCount().toString());
       return new ResponseEntity<>(responseHeaders, HttpStatus.OK);
+    } else if (pageToken != null) {
+      return getMutationsInMolecularProfileBySampleListIdByPageToken(
+          molecularProfileId,
+          sampleListId,
+          entrezGeneId,
+          projection,
+          pageSize,
+          pageToken,
+          projection == Projection.ID || sortBy == null ? null : sortBy.getOriginalValue(),
+          direction);
     } else {
       return new ResponseEntity<>(
           mutationService.getMutationsInMolecularProfileBySampleListId(
@@ -239,7 +262,6 @@ public class MutationController {
               description =
                   "List of Molecular Profile IDs or List of Molecular Profile ID / Sample ID pairs,"
                       + " and List of Entrez Gene IDs")
-          @Valid
           @RequestBody(required = false)
           MutationMultipleStudyFilter mutationMultipleStudyFilter,
       @Parameter(description = "Level of detail of the response")
@@ -321,6 +343,68 @@ public class MutationController {
     }
   }
 
+  @PreAuthorize(
+      "hasPermission(#involvedCancerStudies, 'Collection<CancerStudyId>', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  @RequestMapping(
+      value = "/mutations/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      description =
+          "Fetch mutations in multiple molecular profiles by sample IDs as newline delimited JSON,"
+              + " streamed unsorted and unpaged")
+  @ApiResponse(
+      responseCode = "200",
+      description = "OK",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+              schema = @Schema(implementation = Mutation.class)))
+  public ResponseEntity<StreamingResponseBody> streamMutationsInMultipleMolecularProfiles(
+      @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
+          @RequestAttribute(required = false, value = "involvedCancerStudies")
+          Collection<String> involvedCancerStudies,
+      @Parameter(
+              hidden =
+                  true) // prevent reference to this attribute in the swagger-ui interface. this
+          // attribute is needed for the @PreAuthorize tag above.
+          @Valid
+          @RequestAttribute(required = false, value = "interceptedMutationMultipleStudyFilter")
+          MutationMultipleStudyFilter interceptedMutationMultipleStudyFilter,
+      @Parameter(
+              required = true,
+              description =
+                  "List of Molecular Profile IDs or List of Molecular Profile ID / Sample ID pairs,"
+                      + " and List of Entrez Gene IDs")
+          @RequestBody(required = false)
+          MutationMultipleStudyFilter mutationMultipleStudyFilter,
+      @Parameter(description = "Level of detail of the response")
+          @RequestParam(defaultValue = "SUMMARY")
+          Projection projection) {
+
+    List<String> molecularProfileIds;
+    List<String> sampleIds;
+    if (interceptedMutationMultipleStudyFilter.getMolecularProfileIds() != null) {
+      molecularProfileIds = interceptedMutationMultipleStudyFilter.getMolecularProfileIds();
+      sampleIds = null;
+    } else {
+      molecularProfileIds = new ArrayList<>();
+      sampleIds = new ArrayList<>();
+      extractMolecularProfileAndSampleIds(
+          interceptedMutationMultipleStudyFilter, molecularProfileIds, sampleIds);
+    }
+
+    return ndjsonResponseWriter.<Mutation>write(
+        consumer ->
+            mutationService.streamMutationsInMultipleMolecularProfiles(
+                molecularProfileIds,
+                sampleIds,
+                interceptedMutationMultipleStudyFilter.getEntrezGeneIds(),
+                projection.name(),
+                consumer));
+  }
+
   private void extractMolecularProfileAndSampleIds(
       MutationMultipleStudyFilter mutationMultipleStudyFilter,
       List<String> molecularProfileIds,
@@ -333,4 +417,53 @@ public class MutationController {
       sampleIds.add(sampleMolecularIdentifier.getSampleId());
     }
   }
+
+  private ResponseEntity<List<Mutation>> getMutationsInMolecularProfileBySampleListIdByPageToken(
+      String molecularProfileId,
+      String sampleListId,
+      Integer entrezGeneId,
+      Projection projection,
+      Integer pageSize,
+      String pageToken,
+      String sortBy,
+      Direction direction)
+      throws MolecularProfileNotFoundException {
+
+    List<Mutation> mutations =
+        mutationService.getMutationsInMolecularProfileBySampleListIdAfterKey(
+            molecularProfileId,
+            sampleListId,
+            entrezGeneId == null ? null : Arrays.asList(entrezGeneId),
+            false,
+            projection.name(),
+            pageSize,
+            PageTokenCodec.decode(pageToken, sortBy, direction.name()),
+            sortBy,
+            direction.name());
+
+    HttpHeaders responseHeaders = new HttpHeaders();
+    if (mutations.size() == pageSize) {
+      responseHeaders.add(
+          HeaderKeyConstants.NEXT_PAGE_TOKEN,
+          PageTokenCodec.encode(
+              getPageKey(mutations.get(mutations.size() - 1), sortBy), sortBy, direction.name()));
+    }
+    return new ResponseEntity<>(mutations, responseHeaders, HttpStatus.OK);
+  }
+
+  // Same columns, order and null defaults as the keysetTiebreaker fragment in MutationMapper.xml
+  private PageKey getPageKey(Mutation mutation, String sortBy) {
+    Object sortValue =
+        sortBy == null ? null : new BeanWrapperImpl(mutation).getPropertyValue(sortBy);
+    return new PageKey(
+        sortValue,
+        List.of(
+            mutation.getSampleId(),
+            mutation.getEntrezGeneId(),
+            Objects.requireNonNullElse(mutation.getChr(), ""),
+            Objects.requireNonNullElse(mutation.getStartPosition(), 0L),
+            Objects.requireNonNullElse(mutation.getEndPosition(), 0L),
+            Objects.requireNonNullElse(mutation.getReferenceAllele(), ""),
+            Objects.requireNonNullElse(mutation.getTumorSeqAllele(), "")));
+  }
 }
@@ -73,7 +73,6 @@ public class NamespaceAttributeCountController {
           @RequestAttribute(required = false, value = "interceptedNamespaceAttributeCountFilter")
           NamespaceAttributeCountFilter interceptedNamespaceAttributeCountFilter,
       @Parameter(required = true, description = "List of SampleIdentifiers and NamespaceAttributes")
-          @Valid
           @RequestBody(required = false)
           NamespaceAttributeCountFilter namespaceAttributeCountFilter) {
 
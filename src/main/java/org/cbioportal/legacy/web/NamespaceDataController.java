@@ -72,7 +72,6 @@ public class NamespaceDataController {
       @Parameter(
               required = true,
               description = "List of SampleIdentifiers, list of values and a NamespaceAttribute")
-          @Valid
           @RequestBody(required = false)
           NamespaceComparisonFilter namespaceComparisonFilter) {
 
@@ -199,7 +199,6 @@ public class PatientController {
           @RequestAttribute(required = false, value = "interceptedPatientFilter")
           PatientFilter interceptedPatientFilter,
       @Parameter(required = true, description = "List of patient identifiers")
-          @Valid
           @RequestBody(required = false)
           PatientFilter patientFilter,
       @Parameter(description = "Level of detail of the response")
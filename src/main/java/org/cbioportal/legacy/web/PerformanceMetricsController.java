@@ -0,0 +1,92 @@
+package org.cbioportal.legacy.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.cbioportal.legacy.web.config.annotation.InternalApi;
+import org.cbioportal.legacy.web.util.StudyViewCacheWarmUp;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@InternalApi
+@Tag(name = "Performance Metrics")
+public class PerformanceMetricsController {
+
+  @Autowired private PerformanceMetrics performanceMetrics;
+
+  @Autowired private StudyViewCacheWarmUp studyViewCacheWarmUp;
+
+  @Value("${performance_metrics.endpoint.api-key:not set}")
+  private String requiredApiKey;
+
+  @Value("${performance_metrics.endpoint.enabled:false}")
+  private boolean performanceMetricsEndpointEnabled;
+
+  @RequestMapping(
+      value = "/api/performance-metrics",
+      method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(
+      summary =
+          "Get latency histograms per endpoint, MyBatis statement, cache and outgoing HTTP target,"
+              + " and cache hit rates")
+  @ApiResponse(responseCode = "200", description = "OK")
+  public ResponseEntity<Map<String, Object>> getPerformanceMetrics(
+      @Parameter(
+              description =
+                  "Secret API key passed in HTTP header. The key is configured in application.properties of the portal instance.")
+          @RequestHeader(value = "X-API-KEY")
+          String providedApiKey) {
+    HttpStatus accessStatus = checkAccess(providedApiKey);
+    if (accessStatus != HttpStatus.OK) {
+      return new ResponseEntity<>(accessStatus);
+    }
+    Map<String, Object> metrics = new LinkedHashMap<>();
+    metrics.put("endpoints", performanceMetrics.getEndpointLatencies());
+    metrics.put("statements", performanceMetrics.getStatementLatencies());
+    metrics.put("caches", performanceMetrics.getCacheStatistics());
+    metrics.put("httpCalls", performanceMetrics.getHttpCallStatistics());
+    return new ResponseEntity<>(metrics, HttpStatus.OK);
+  }
+
+  @RequestMapping(
+      value = "/api/performance-metrics/study-view-cache-warm-up",
+      method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(summary = "Get the progress and query timings of the study view cache warm-up")
+  @ApiResponse(responseCode = "200", description = "OK")
+  public ResponseEntity<StudyViewCacheWarmUp.Status> getStudyViewCacheWarmUpStatus(
+      @Parameter(
+              description =
+                  "Secret API key passed in HTTP header. The key is configured in application.properties of the portal instance.")
+          @RequestHeader(value = "X-API-KEY")
+          String providedApiKey) {
+    HttpStatus accessStatus = checkAccess(providedApiKey);
+    if (accessStatus != HttpStatus.OK) {
+      return new ResponseEntity<>(accessStatus);
+    }
+    return new ResponseEntity<>(studyViewCacheWarmUp.getStatus(), HttpStatus.OK);
+  }
+
+  private HttpStatus checkAccess(String providedApiKey) {
+    if (!performanceMetricsEndpointEnabled) {
+      return HttpStatus.NOT_FOUND;
+    }
+    if ("not set".equals(requiredApiKey) || !requiredApiKey.equals(providedApiKey)) {
+      return HttpStatus.UNAUTHORIZED;
+    }
+    return HttpStatus.OK;
+  }
+}
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.cbioportal.legacy.model.CancerStudy;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.service.SampleListService;
@@ -36,6 +37,7 @@ import org.cbioportal.legacy.web.parameter.Projection;
 import org.cbioportal.legacy.web.parameter.SampleFilter;
 import org.cbioportal.legacy.web.parameter.SampleIdentifier;
 import org.cbioportal.legacy.web.parameter.sort.SampleSortBy;
+import org.cbioportal.legacy.web.util.PageTokenCodec;
 import org.cbioportal.legacy.web.util.UniqueKeyExtractor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -171,6 +173,12 @@ public class SampleController {
           @Min(PagingConstants.MIN_PAGE_NUMBER)
           @RequestParam(defaultValue = PagingConstants.DEFAULT_PAGE_NUMBER)
           Integer pageNumber,
+      @Parameter(
+              description =
+                  "Token from the next-page-token header of the previous page. Pass an empty "
+                      + "value to start keyset paging; pageNumber is ignored in this mode.")
+          @RequestParam(required = false)
+          String pageToken,
       @Parameter(description = "Name of the property that the result list is sorted by")
           @RequestParam(required = false)
           SampleSortBy sortBy,
@@ -184,6 +192,14 @@ public class SampleController {
           HeaderKeyConstants.TOTAL_COUNT,
           sampleService.getMetaSamplesInStudy(studyId).getTotalCount().toString());
       return new ResponseEntity<>(responseHeaders, HttpStatus.OK);
+    } else if (pageToken != null) {
+      return getAllSamplesInStudyByPageToken(
+          studyId,
+          projection,
+          pageSize,
+          pageToken,
+          projection == Projection.ID ? null : sortBy,
+          direction);
     } else {
       return new ResponseEntity<>(
           sampleService.getAllSamplesInStudy(
@@ -300,7 +316,6 @@ public class SampleController {
           @RequestAttribute(required = false, value = "interceptedSampleFilter")
           SampleFilter interceptedSampleFilter,
       @Parameter(required = true, description = "List of sample identifiers")
-          @Valid
           @RequestBody(required = false)
           SampleFilter sampleFilter,
       @Parameter(description = "Level of detail of the response")
@@ -370,4 +385,40 @@ public class SampleController {
       sampleIds.add(sampleIdentifier.getSampleId());
     }
   }
+
+  private ResponseEntity<List<Sample>> getAllSamplesInStudyByPageToken(
+      String studyId,
+      Projection projection,
+      Integer pageSize,
+      String pageToken,
+      SampleSortBy sortBy,
+      Direction direction)
+      throws StudyNotFoundException {
+
+    String sortColumn = sortBy == null ? null : sortBy.getOriginalValue();
+    List<Sample> samples =
+        sampleService.getAllSamplesInStudyAfterKey(
+            studyId,
+            projection.name(),
+            pageSize,
+            PageTokenCodec.decode(pageToken, sortColumn, direction.name()),
+            sortColumn,
+            direction.name());
+
+    HttpHeaders responseHeaders = new HttpHeaders();
+    if (samples.size() == pageSize) {
+      Sample last = samples.get(samples.size() - 1);
+      Object sortValue = null;
+      if (sortBy == SampleSortBy.sampleId) {
+        sortValue = last.getStableId();
+      } else if (sortBy == SampleSortBy.sampleType && last.getSampleType() != null) {
+        sortValue = last.getSampleType().getValue();
+      }
+      responseHeaders.add(
+          HeaderKeyConstants.NEXT_PAGE_TOKEN,
+          PageTokenCodec.encode(
+              new PageKey(sortValue, List.of(last.getInternalId())), sortColumn, direction.name()));
+    }
+    return new ResponseEntity<>(samples, responseHeaders, HttpStatus.OK);
+  }
 }
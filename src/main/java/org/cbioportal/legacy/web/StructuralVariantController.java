@@ -87,7 +87,6 @@ public class StructuralVariantController {
               required = true,
               description =
                   "List of entrezGeneIds, structural variant queries and molecularProfileIds or sampleMolecularIdentifiers")
-          @Valid
           @RequestBody(required = false)
           StructuralVariantFilter structuralVariantFilter) {
 
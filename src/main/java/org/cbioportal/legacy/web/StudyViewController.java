@@ -53,6 +53,7 @@ import org.cbioportal.legacy.model.Patient;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.model.SampleClinicalDataCollection;
 import org.cbioportal.legacy.model.SampleList;
+import org.cbioportal.legacy.model.StudyViewChartResult;
 import org.cbioportal.legacy.service.ClinicalAttributeService;
 import org.cbioportal.legacy.service.ClinicalDataService;
 import org.cbioportal.legacy.service.ClinicalEventService;
@@ -83,9 +84,14 @@ import org.cbioportal.legacy.web.parameter.NamespaceDataFilter;
 import org.cbioportal.legacy.web.parameter.PagingConstants;
 import org.cbioportal.legacy.web.parameter.Projection;
 import org.cbioportal.legacy.web.parameter.SampleIdentifier;
+import org.cbioportal.legacy.web.parameter.StudyViewChartBatchFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartRequest;
 import org.cbioportal.legacy.web.parameter.StudyViewFilter;
 import org.cbioportal.legacy.web.util.ClinicalDataBinUtil;
 import org.cbioportal.legacy.web.util.ClinicalDataFetcher;
+import org.cbioportal.legacy.web.util.ClinicalTableCursorCache;
+import org.cbioportal.legacy.web.util.StudyViewCacheWarmUp;
+import org.cbioportal.legacy.web.util.StudyViewChartBatchEvaluator;
 import org.cbioportal.legacy.web.util.StudyViewFilterApplier;
 import org.cbioportal.legacy.web.util.StudyViewFilterUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -128,6 +134,9 @@ public class StudyViewController {
   @Autowired private StudyViewService studyViewService;
   @Autowired private ClinicalDataBinUtil clinicalDataBinUtil;
   @Autowired private ClinicalEventService clinicalEventService;
+  @Autowired private ClinicalTableCursorCache clinicalTableCursorCache;
+  @Autowired private StudyViewCacheWarmUp studyViewCacheWarmUp;
+  @Autowired private StudyViewChartBatchEvaluator studyViewChartBatchEvaluator;
 
   private StudyViewController getInstance() {
     if (Objects.isNull(instance)) {
@@ -152,7 +161,6 @@ public class StudyViewController {
               array = @ArraySchema(schema = @Schema(implementation = ClinicalDataCountItem.class))))
   public ResponseEntity<List<ClinicalDataCountItem>> fetchClinicalDataCounts(
       @Parameter(required = true, description = "Clinical data count filter")
-          @Valid
           @RequestBody(required = false)
           ClinicalDataCountFilter clinicalDataCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -165,7 +173,12 @@ public class StudyViewController {
           @Valid
           @RequestAttribute(required = false, value = "interceptedClinicalDataCountFilter")
           ClinicalDataCountFilter interceptedClinicalDataCountFilter) {
+    return new ResponseEntity<>(
+        clinicalDataCounts(interceptedClinicalDataCountFilter), HttpStatus.OK);
+  }
 
+  private List<ClinicalDataCountItem> clinicalDataCounts(
+      ClinicalDataCountFilter interceptedClinicalDataCountFilter) {
     List<ClinicalDataFilter> attributes = interceptedClinicalDataCountFilter.getAttributes();
     StudyViewFilter studyViewFilter = interceptedClinicalDataCountFilter.getStudyViewFilter();
 
@@ -173,10 +186,15 @@ public class StudyViewController {
       studyViewFilterUtil.removeSelfFromFilter(attributes.get(0).getAttributeId(), studyViewFilter);
     }
     boolean unfilteredQuery = studyViewFilterUtil.isUnfilteredQuery(studyViewFilter);
-    List<ClinicalDataCountItem> result =
-        this.getInstance()
-            .cachedClinicalDataCounts(interceptedClinicalDataCountFilter, unfilteredQuery);
-    return new ResponseEntity<>(result, HttpStatus.OK);
+    if (unfilteredQuery) {
+      studyViewCacheWarmUp.record(
+          StudyViewCacheWarmUp.Chart.CLINICAL_DATA_COUNTS,
+          studyViewFilter.getStudyIds(),
+          interceptedClinicalDataCountFilter,
+          null);
+    }
+    return this.getInstance()
+        .cachedClinicalDataCounts(interceptedClinicalDataCountFilter, unfilteredQuery);
   }
 
   @Cacheable(
@@ -225,7 +243,6 @@ public class StudyViewController {
       @Parameter(description = "Method for data binning") @RequestParam(defaultValue = "DYNAMIC")
           DataBinMethod dataBinMethod,
       @Parameter(required = true, description = "Clinical data bin count filter")
-          @Valid
           @RequestBody(required = false)
           ClinicalDataBinCountFilter clinicalDataBinCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -238,15 +255,26 @@ public class StudyViewController {
           @Valid
           @RequestAttribute(required = false, value = "interceptedClinicalDataBinCountFilter")
           ClinicalDataBinCountFilter interceptedClinicalDataBinCountFilter) {
+    return new ResponseEntity<>(
+        clinicalDataBinCounts(dataBinMethod, interceptedClinicalDataBinCountFilter), HttpStatus.OK);
+  }
+
+  private List<ClinicalDataBin> clinicalDataBinCounts(
+      DataBinMethod dataBinMethod,
+      ClinicalDataBinCountFilter interceptedClinicalDataBinCountFilter) {
     StudyViewFilter studyViewFilter =
         clinicalDataBinUtil.removeSelfFromFilter(interceptedClinicalDataBinCountFilter);
     boolean unfilteredQuery = studyViewFilterUtil.isUnfilteredQuery(studyViewFilter);
-    List<ClinicalDataBin> clinicalDataBins =
-        this.getInstance()
-            .cachableFetchClinicalDataBinCounts(
-                dataBinMethod, interceptedClinicalDataBinCountFilter, unfilteredQuery);
-
-    return new ResponseEntity<>(clinicalDataBins, HttpStatus.OK);
+    if (unfilteredQuery) {
+      studyViewCacheWarmUp.record(
+          StudyViewCacheWarmUp.Chart.CLINICAL_DATA_BIN_COUNTS,
+          studyViewFilter.getStudyIds(),
+          interceptedClinicalDataBinCountFilter,
+          dataBinMethod);
+    }
+    return this.getInstance()
+        .cachableFetchClinicalDataBinCounts(
+            dataBinMethod, interceptedClinicalDataBinCountFilter, unfilteredQuery);
   }
 
   @Cacheable(
@@ -280,7 +308,6 @@ public class StudyViewController {
       @Parameter(description = "Method for data binning") @RequestParam(defaultValue = "DYNAMIC")
           DataBinMethod dataBinMethod,
       @Parameter(required = true, description = "Clinical data bin count filter")
-          @Valid
           @RequestBody(required = false)
           ClinicalDataBinCountFilter clinicalDataBinCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -329,9 +356,7 @@ public class StudyViewController {
           @Content(
               array = @ArraySchema(schema = @Schema(implementation = AlterationCountByGene.class))))
   public ResponseEntity<List<AlterationCountByGene>> fetchMutatedGenes(
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
           @RequestAttribute(required = false, value = "involvedCancerStudies")
@@ -344,10 +369,20 @@ public class StudyViewController {
           @RequestAttribute(required = false, value = "interceptedStudyViewFilter")
           StudyViewFilter interceptedStudyViewFilter)
       throws StudyNotFoundException {
+    return new ResponseEntity<>(mutatedGenes(interceptedStudyViewFilter), HttpStatus.OK);
+  }
+
+  private List<AlterationCountByGene> mutatedGenes(StudyViewFilter interceptedStudyViewFilter)
+      throws StudyNotFoundException {
     boolean unfilteredQuery = studyViewFilterUtil.isUnfilteredQuery(interceptedStudyViewFilter);
-    List<AlterationCountByGene> alterationCountByGenes =
-        this.getInstance().cachedFetchMutatedGenes(interceptedStudyViewFilter, unfilteredQuery);
-    return new ResponseEntity<>(alterationCountByGenes, HttpStatus.OK);
+    if (unfilteredQuery) {
+      studyViewCacheWarmUp.record(
+          StudyViewCacheWarmUp.Chart.MUTATED_GENES,
+          interceptedStudyViewFilter.getStudyIds(),
+          interceptedStudyViewFilter,
+          null);
+    }
+    return this.getInstance().cachedFetchMutatedGenes(interceptedStudyViewFilter, unfilteredQuery);
   }
 
   @Cacheable(
@@ -387,9 +422,7 @@ public class StudyViewController {
           @Content(
               array = @ArraySchema(schema = @Schema(implementation = AlterationCountByGene.class))))
   public ResponseEntity<List<AlterationCountByGene>> fetchStructuralVariantGenes(
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(
               hidden =
@@ -449,9 +482,7 @@ public class StudyViewController {
                   @ArraySchema(
                       schema = @Schema(implementation = AlterationCountByStructuralVariant.class))))
   public ResponseEntity<List<AlterationCountByStructuralVariant>> fetchStructuralVariantCounts(
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(
               hidden =
@@ -505,9 +536,7 @@ public class StudyViewController {
           @Content(
               array = @ArraySchema(schema = @Schema(implementation = CopyNumberCountByGene.class))))
   public ResponseEntity<List<CopyNumberCountByGene>> fetchCNAGenes(
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
           @RequestAttribute(required = false, value = "involvedCancerStudies")
@@ -520,10 +549,20 @@ public class StudyViewController {
           @RequestAttribute(required = false, value = "interceptedStudyViewFilter")
           StudyViewFilter interceptedStudyViewFilter)
       throws StudyNotFoundException {
+    return new ResponseEntity<>(cnaGenes(interceptedStudyViewFilter), HttpStatus.OK);
+  }
+
+  private List<CopyNumberCountByGene> cnaGenes(StudyViewFilter interceptedStudyViewFilter)
+      throws StudyNotFoundException {
     boolean unfilteredQuery = studyViewFilterUtil.isUnfilteredQuery(interceptedStudyViewFilter);
-    List<CopyNumberCountByGene> copyNumberCountByGenes =
-        this.getInstance().cacheableFetchCNAGenes(interceptedStudyViewFilter, unfilteredQuery);
-    return new ResponseEntity<>(copyNumberCountByGenes, HttpStatus.OK);
+    if (unfilteredQuery) {
+      studyViewCacheWarmUp.record(
+          StudyViewCacheWarmUp.Chart.CNA_GENES,
+          interceptedStudyViewFilter.getStudyIds(),
+          interceptedStudyViewFilter,
+          null);
+    }
+    return this.getInstance().cacheableFetchCNAGenes(interceptedStudyViewFilter, unfilteredQuery);
   }
 
   @Cacheable(
@@ -573,9 +612,7 @@ public class StudyViewController {
           @Valid
           @RequestAttribute(required = false, value = "interceptedStudyViewFilter")
           StudyViewFilter interceptedStudyViewFilter,
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter) {
 
     List<String> studyIds = new ArrayList<>();
@@ -607,9 +644,7 @@ public class StudyViewController {
       content =
           @Content(array = @ArraySchema(schema = @Schema(implementation = GenomicDataCount.class))))
   public ResponseEntity<List<GenomicDataCount>> fetchMolecularProfileSampleCounts(
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
           @RequestAttribute(required = false, value = "involvedCancerStudies")
@@ -646,6 +681,67 @@ public class StudyViewController {
     return genomicDataCounts;
   }
 
+  @PreAuthorize(
+      "hasPermission(#involvedCancerStudies, 'Collection<CancerStudyId>', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  @RequestMapping(
+      value = "/study-view-charts/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(description = "Fetch the data of several study view charts by one study view filter")
+  @ApiResponse(
+      responseCode = "200",
+      description = "OK",
+      content =
+          @Content(
+              schema =
+                  @Schema(
+                      type = "object",
+                      additionalPropertiesSchema = StudyViewChartResult.class)))
+  public ResponseEntity<Map<String, StudyViewChartResult>> fetchStudyViewCharts(
+      @Parameter(required = true, description = "Study view filter and the charts to fetch")
+          @RequestBody(required = false)
+          StudyViewChartBatchFilter studyViewChartBatchFilter,
+      @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
+          @RequestAttribute(required = false, value = "involvedCancerStudies")
+          Collection<String> involvedCancerStudies,
+      @Parameter(
+              hidden =
+                  true) // prevent reference to this attribute in the swagger-ui interface. this
+          // attribute is needed for the @PreAuthorize tag above.
+          @Valid
+          @RequestAttribute(required = false, value = "interceptedStudyViewChartBatchFilter")
+          StudyViewChartBatchFilter interceptedStudyViewChartBatchFilter) {
+    return new ResponseEntity<>(
+        studyViewChartBatchEvaluator.evaluate(
+            interceptedStudyViewChartBatchFilter, this::fetchChart),
+        HttpStatus.OK);
+  }
+
+  private Object fetchChart(StudyViewChartRequest chart, StudyViewFilter studyViewFilter)
+      throws StudyNotFoundException {
+    return switch (chart.getType()) {
+      case CLINICAL_DATA_COUNTS ->
+          clinicalDataCounts(
+              StudyViewChartBatchEvaluator.toClinicalDataCountFilter(chart, studyViewFilter));
+      case CLINICAL_DATA_BIN_COUNTS ->
+          clinicalDataBinCounts(
+              chart.getDataBinMethod(),
+              StudyViewChartBatchEvaluator.toClinicalDataBinCountFilter(chart, studyViewFilter));
+      case MUTATED_GENES -> mutatedGenes(studyViewFilter);
+      case STRUCTURAL_VARIANT_GENES ->
+          this.getInstance()
+              .cacheableFetchStructuralVariantGenes(
+                  studyViewFilter, studyViewFilterUtil.isUnfilteredQuery(studyViewFilter));
+      case CNA_GENES -> cnaGenes(studyViewFilter);
+      case MOLECULAR_PROFILE_SAMPLE_COUNTS ->
+          this.getInstance()
+              .cacheableFetchMolecularProfileSampleCounts(
+                  studyViewFilter, studyViewFilterUtil.isUnfilteredQuery(studyViewFilter));
+      case SAMPLE_LIST_COUNTS -> caseListCounts(studyViewFilter);
+    };
+  }
+
   private static boolean isLogScalePossibleForAttribute(String clinicalAttributeId) {
     return clinicalAttributeId.equals("MUTATION_COUNT");
   }
@@ -1004,9 +1100,7 @@ public class StudyViewController {
           @Valid
           @RequestAttribute(required = false, value = "interceptedStudyViewFilter")
           StudyViewFilter interceptedStudyViewFilter,
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter) {
 
     ClinicalViolinPlotData result = new ClinicalViolinPlotData();
@@ -1146,9 +1240,7 @@ public class StudyViewController {
       produces = MediaType.APPLICATION_JSON_VALUE)
   @Operation(description = "Fetch case list sample counts by study view filter")
   public List<CaseListDataCount> fetchCaseListCounts(
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
           @RequestAttribute(required = false, value = "involvedCancerStudies")
@@ -1160,7 +1252,10 @@ public class StudyViewController {
           @Valid
           @RequestAttribute(required = false, value = "interceptedStudyViewFilter")
           StudyViewFilter interceptedStudyViewFilter) {
+    return caseListCounts(interceptedStudyViewFilter);
+  }
 
+  private List<CaseListDataCount> caseListCounts(StudyViewFilter interceptedStudyViewFilter) {
     List<String> studyIds = new ArrayList<>();
     List<String> sampleIds = new ArrayList<>();
     List<SampleIdentifier> filteredSampleIdentifiers =
@@ -1232,7 +1327,6 @@ public class StudyViewController {
       @Parameter(description = "Method for data binning") @RequestParam(defaultValue = "DYNAMIC")
           DataBinMethod dataBinMethod,
       @Parameter(required = true, description = "Genomic data bin count filter")
-          @Valid
           @RequestBody(required = false)
           GenomicDataBinCountFilter genomicDataBinCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -1267,7 +1361,6 @@ public class StudyViewController {
               array = @ArraySchema(schema = @Schema(implementation = GenomicDataCountItem.class))))
   public ResponseEntity<List<GenomicDataCountItem>> fetchGenomicDataCounts(
       @Parameter(required = true, description = "Genomic data count filter")
-          @Valid
           @RequestBody(required = false)
           GenomicDataCountFilter genomicDataCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -1334,7 +1427,6 @@ public class StudyViewController {
                   @ArraySchema(schema = @Schema(implementation = GenericAssayDataCountItem.class))))
   public ResponseEntity<List<GenericAssayDataCountItem>> fetchGenericAssayDataCounts(
       @Parameter(required = true, description = "Generic assay data count filter")
-          @Valid
           @RequestBody(required = false)
           GenericAssayDataCountFilter genericAssayDataCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -1400,7 +1492,6 @@ public class StudyViewController {
       @Parameter(description = "Method for data binning") @RequestParam(defaultValue = "DYNAMIC")
           DataBinMethod dataBinMethod,
       @Parameter(required = true, description = "Generic assay data bin count filter")
-          @Valid
           @RequestBody(required = false)
           GenericAssayDataBinCountFilter genericAssayDataBinCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -1433,9 +1524,7 @@ public class StudyViewController {
       description = "OK",
       content = @Content(schema = @Schema(implementation = SampleClinicalDataCollection.class)))
   public ResponseEntity<SampleClinicalDataCollection> fetchClinicalDataClinicalTable(
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
           @RequestAttribute(required = false, value = "involvedCancerStudies")
@@ -1467,7 +1556,23 @@ public class StudyViewController {
           // TODO: Can we narrow down this string to a specific enum?
           String sortBy,
       @Parameter(description = "Direction of the sort") @RequestParam(defaultValue = "ASC")
-          Direction direction) {
+          Direction direction,
+      @Parameter(
+              description =
+                  "Serve pages from a cached sorted sample list and return the cursor of the next page "
+                      + "in the next-cursor header. pageNumber is ignored in this mode.")
+          @RequestParam(defaultValue = "false")
+          Boolean useCursor,
+      @Parameter(
+              description =
+                  "Cursor from the next-cursor header of the previous page. Implies useCursor.")
+          @RequestParam(required = false)
+          String cursor) {
+
+    if (useCursor || cursor != null) {
+      return fetchClinicalDataClinicalTableByCursor(
+          interceptedStudyViewFilter, pageSize, searchTerm, sortBy, direction.name(), cursor);
+    }
 
     boolean unfilteredQuery = studyViewFilterUtil.isUnfilteredQuery(interceptedStudyViewFilter);
     ImmutablePair<SampleClinicalDataCollection, Integer> sampleClinicalData =
@@ -1492,6 +1597,47 @@ public class StudyViewController {
         aggregatedClinicalDataByUniqueSampleKey, responseHeaders, HttpStatus.OK);
   }
 
+  private ResponseEntity<SampleClinicalDataCollection> fetchClinicalDataClinicalTableByCursor(
+      StudyViewFilter interceptedStudyViewFilter,
+      Integer pageSize,
+      String searchTerm,
+      String sortBy,
+      String sortDirection,
+      String cursor) {
+
+    String queryKey =
+        clinicalTableCursorCache.getQueryKey(
+            interceptedStudyViewFilter, searchTerm, sortBy, sortDirection);
+    int offset = cursor == null ? 0 : clinicalTableCursorCache.decodeCursor(cursor, queryKey);
+
+    List<Integer> sortedSampleInternalIds =
+        clinicalTableCursorCache.getSortedSampleInternalIds(
+            queryKey,
+            () -> {
+              List<String> sampleStudyIds = new ArrayList<>();
+              List<String> sampleIds = new ArrayList<>();
+              studyViewFilterUtil.extractStudyAndSampleIds(
+                  studyViewFilterApplier.apply(interceptedStudyViewFilter),
+                  sampleStudyIds,
+                  sampleIds);
+              return clinicalDataService.getSortedSampleInternalIdsForClinicalTable(
+                  sampleStudyIds, sampleIds, searchTerm, sortBy, sortDirection);
+            });
+    ImmutablePair<SampleClinicalDataCollection, Integer> sampleClinicalData =
+        clinicalDataService.fetchSampleClinicalTablePage(sortedSampleInternalIds, offset, pageSize);
+
+    HttpHeaders responseHeaders = new HttpHeaders();
+    responseHeaders.add(
+        HeaderKeyConstants.TOTAL_COUNT, String.valueOf(sampleClinicalData.getRight()));
+    int nextOffset = pageSize == 0 ? sortedSampleInternalIds.size() : offset + pageSize;
+    if (nextOffset < sortedSampleInternalIds.size()) {
+      responseHeaders.add(
+          HeaderKeyConstants.NEXT_CURSOR,
+          clinicalTableCursorCache.encodeCursor(queryKey, nextOffset));
+    }
+    return new ResponseEntity<>(sampleClinicalData.getLeft(), responseHeaders, HttpStatus.OK);
+  }
+
   // Only cache when:
   // 1) the request concerns the entire study
   // 2) no sorting/searching
@@ -1536,9 +1682,7 @@ public class StudyViewController {
               array =
                   @ArraySchema(schema = @Schema(implementation = ClinicalEventTypeCount.class))))
   public ResponseEntity<List<ClinicalEventTypeCount>> getClinicalEventTypeCounts(
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
           @RequestAttribute(required = false, value = "involvedCancerStudies")
@@ -1589,7 +1733,6 @@ public class StudyViewController {
           @RequestParam(defaultValue = "SUMMARY")
           Projection projection,
       @Parameter(required = true, description = "Genomic data count filter")
-          @Valid
           @RequestBody(required = false)
           GenomicDataCountFilter genomicDataCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -1671,7 +1814,6 @@ public class StudyViewController {
                   @ArraySchema(schema = @Schema(implementation = NamespaceDataCountItem.class))))
   public ResponseEntity<List<NamespaceDataCountItem>> fetchNamespaceDataCounts(
       @Parameter(required = true, description = "Namespace data count filter")
-          @Valid
           @RequestBody(required = false)
           NamespaceDataCountFilter namespaceDataCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -12,9 +12,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.cbioportal.legacy.model.ClinicalData;
+import org.cbioportal.legacy.model.SurvivalAnalysis;
 import org.cbioportal.legacy.service.ClinicalEventService;
 import org.cbioportal.legacy.web.config.annotation.InternalApi;
 import org.cbioportal.legacy.web.parameter.PatientIdentifier;
+import org.cbioportal.legacy.web.parameter.SurvivalCurveRequest;
 import org.cbioportal.legacy.web.parameter.SurvivalRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
@@ -57,7 +59,6 @@ public class SurvivalController {
           @Content(array = @ArraySchema(schema = @Schema(implementation = ClinicalData.class))))
   public ResponseEntity<List<ClinicalData>> fetchSurvivalData(
       @Parameter(required = true, description = "Survival Data Request")
-          @Valid
           @RequestBody(required = false)
           SurvivalRequest survivalRequest,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
@@ -90,4 +91,36 @@ public class SurvivalController {
         interceptedSurvivalRequest.getAttributeIdPrefix(),
         interceptedSurvivalRequest);
   }
+
+  @PreAuthorize(
+      "hasPermission(#involvedCancerStudies, 'Collection<CancerStudyId>', T(org.cbioportal.legacy.utils.security.AccessLevel).READ)")
+  @RequestMapping(
+      value = "/survival-curves/fetch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  @Operation(
+      description =
+          "Fetch Kaplan-Meier curves, log-rank test and hazard ratios computed server-side per group")
+  @ApiResponse(
+      responseCode = "200",
+      description = "OK",
+      content = @Content(schema = @Schema(implementation = SurvivalAnalysis.class)))
+  public ResponseEntity<SurvivalAnalysis> fetchSurvivalCurves(
+      @Parameter(required = true, description = "Survival Curve Request")
+          @RequestBody(required = false)
+          SurvivalCurveRequest survivalCurveRequest,
+      @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
+          @RequestAttribute(required = false, value = "involvedCancerStudies")
+          Collection<String> involvedCancerStudies,
+      @Parameter(hidden = true)
+          // prevent reference to this attribute in the swagger-ui interface. this attribute is
+          // needed for the @PreAuthorize tag above.
+          @Valid
+          @RequestAttribute(required = false, value = "interceptedSurvivalCurveRequest")
+          SurvivalCurveRequest interceptedSurvivalCurveRequest) {
+
+    return new ResponseEntity<>(
+        clinicalEventService.getSurvivalAnalysis(interceptedSurvivalCurveRequest), HttpStatus.OK);
+  }
 }
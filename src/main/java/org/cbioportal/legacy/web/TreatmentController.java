@@ -79,9 +79,7 @@ public class TreatmentController {
       @Parameter(required = false)
           @RequestParam(name = "tier", required = false, defaultValue = "Agent")
           ClinicalEventKeyCode tier,
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
           @RequestAttribute(required = false, value = "involvedCancerStudies")
@@ -134,9 +132,7 @@ public class TreatmentController {
           @Parameter(required = false)
           @RequestParam(name = "tier", required = false, defaultValue = "Agent")
           ClinicalEventKeyCode tier,
-      @Parameter(required = true, description = "Study view filter")
-          @Valid
-          @RequestBody(required = false)
+      @Parameter(required = true, description = "Study view filter") @RequestBody(required = false)
           StudyViewFilter studyViewFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui interface
           @RequestAttribute(required = false, value = "involvedCancerStudies")
@@ -6,4 +6,6 @@ public class HeaderKeyConstants {
 
   public static final String TOTAL_COUNT = "total-count";
   public static final String SAMPLE_COUNT = "sample-count";
+  public static final String NEXT_CURSOR = "next-cursor";
+  public static final String NEXT_PAGE_TOKEN = "next-page-token";
 }
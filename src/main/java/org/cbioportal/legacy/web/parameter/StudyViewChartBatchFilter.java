@@ -0,0 +1,45 @@
+package org.cbioportal.legacy.web.parameter;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.util.List;
+
+public class StudyViewChartBatchFilter implements Serializable {
+
+  public static final int MAX_CHARTS = 100;
+
+  @NotNull @Valid private StudyViewFilter studyViewFilter;
+
+  @NotNull
+  @Size(min = 1, max = MAX_CHARTS)
+  @Valid
+  private List<StudyViewChartRequest> charts;
+
+  @AssertTrue
+  private boolean isEveryChartIdUnique() {
+    if (charts == null) {
+      return true;
+    }
+    List<String> ids = charts.stream().map(StudyViewChartRequest::getId).toList();
+    return ids.stream().distinct().count() == ids.size();
+  }
+
+  public StudyViewFilter getStudyViewFilter() {
+    return studyViewFilter;
+  }
+
+  public void setStudyViewFilter(StudyViewFilter studyViewFilter) {
+    this.studyViewFilter = studyViewFilter;
+  }
+
+  public List<StudyViewChartRequest> getCharts() {
+    return charts;
+  }
+
+  public void setCharts(List<StudyViewChartRequest> charts) {
+    this.charts = charts;
+  }
+}
@@ -0,0 +1,47 @@
+package org.cbioportal.legacy.web.parameter;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+import java.util.List;
+
+public class StudyViewChartRequest implements Serializable {
+
+  @NotNull private String id;
+  @NotNull private StudyViewChartType type;
+  // the attributes of the CLINICAL_DATA_COUNTS and CLINICAL_DATA_BIN_COUNTS charts
+  @Valid private List<ClinicalDataBinFilter> attributes;
+  private DataBinMethod dataBinMethod = DataBinMethod.DYNAMIC;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public StudyViewChartType getType() {
+    return type;
+  }
+
+  public void setType(StudyViewChartType type) {
+    this.type = type;
+  }
+
+  public List<ClinicalDataBinFilter> getAttributes() {
+    return attributes;
+  }
+
+  public void setAttributes(List<ClinicalDataBinFilter> attributes) {
+    this.attributes = attributes;
+  }
+
+  public DataBinMethod getDataBinMethod() {
+    return dataBinMethod;
+  }
+
+  public void setDataBinMethod(DataBinMethod dataBinMethod) {
+    this.dataBinMethod = dataBinMethod;
+  }
+}
@@ -0,0 +1,16 @@
+package org.cbioportal.legacy.web.parameter;
+
+/**
+ * The study view charts that can be fetched together by one {@link StudyViewChartBatchFilter}. Each
+ * type returns the same data as its single-chart endpoint, e.g. {@code MUTATED_GENES} as {@code
+ * /mutated-genes/fetch}.
+ */
+public enum StudyViewChartType {
+  CLINICAL_DATA_COUNTS,
+  CLINICAL_DATA_BIN_COUNTS,
+  MUTATED_GENES,
+  STRUCTURAL_VARIANT_GENES,
+  CNA_GENES,
+  MOLECULAR_PROFILE_SAMPLE_COUNTS,
+  SAMPLE_LIST_COUNTS
+}
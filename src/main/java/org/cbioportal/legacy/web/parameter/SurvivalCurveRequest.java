@@ -0,0 +1,65 @@
+package org.cbioportal.legacy.web.parameter;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.util.List;
+
+public class SurvivalCurveRequest implements Serializable {
+
+  @Size(min = 1)
+  @Valid
+  private List<SurvivalGroup> groups;
+
+  @NotNull private String attributeIdPrefix;
+
+  @NotNull @Valid private ClinicalEventRequestIdentifier startEventRequestIdentifier;
+
+  @Valid private ClinicalEventRequestIdentifier endEventRequestIdentifier;
+
+  @Valid private ClinicalEventRequestIdentifier censoredEventRequestIdentifier;
+
+  public List<SurvivalGroup> getGroups() {
+    return groups;
+  }
+
+  public void setGroups(List<SurvivalGroup> groups) {
+    this.groups = groups;
+  }
+
+  public String getAttributeIdPrefix() {
+    return attributeIdPrefix;
+  }
+
+  public void setAttributeIdPrefix(String attributeIdPrefix) {
+    this.attributeIdPrefix = attributeIdPrefix;
+  }
+
+  public ClinicalEventRequestIdentifier getStartEventRequestIdentifier() {
+    return startEventRequestIdentifier;
+  }
+
+  public void setStartEventRequestIdentifier(
+      ClinicalEventRequestIdentifier startEventRequestIdentifier) {
+    this.startEventRequestIdentifier = startEventRequestIdentifier;
+  }
+
+  public ClinicalEventRequestIdentifier getEndEventRequestIdentifier() {
+    return endEventRequestIdentifier;
+  }
+
+  public void setEndEventRequestIdentifier(
+      ClinicalEventRequestIdentifier endEventRequestIdentifier) {
+    this.endEventRequestIdentifier = endEventRequestIdentifier;
+  }
+
+  public ClinicalEventRequestIdentifier getCensoredEventRequestIdentifier() {
+    return censoredEventRequestIdentifier;
+  }
+
+  public void setCensoredEventRequestIdentifier(
+      ClinicalEventRequestIdentifier censoredEventRequestIdentifier) {
+    this.censoredEventRequestIdentifier = censoredEventRequestIdentifier;
+  }
+}
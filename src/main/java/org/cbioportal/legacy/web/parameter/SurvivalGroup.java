@@ -0,0 +1,30 @@
+package org.cbioportal.legacy.web.parameter;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serializable;
+import java.util.List;
+
+public class SurvivalGroup implements Serializable {
+
+  @NotNull private String name;
+
+  @Size(min = 1, max = PagingConstants.MAX_PAGE_SIZE)
+  private List<PatientIdentifier> patientIdentifiers;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public List<PatientIdentifier> getPatientIdentifiers() {
+    return patientIdentifiers;
+  }
+
+  public void setPatientIdentifiers(List<PatientIdentifier> patientIdentifiers) {
+    this.patientIdentifiers = patientIdentifiers;
+  }
+}
@@ -66,7 +66,6 @@ public class CustomDataController {
               array = @ArraySchema(schema = @Schema(implementation = ClinicalDataCountItem.class))))
   public ResponseEntity<List<ClinicalDataCountItem>> fetchCustomDataCounts(
       @Parameter(required = true, description = "Custom data count filter")
-          @Valid
           @RequestBody(required = false)
           ClinicalDataCountFilter clinicalDataCountFilter,
       @Parameter(hidden = true) // prevent reference to this attribute in the swagger-ui
@@ -0,0 +1,107 @@
+package org.cbioportal.legacy.web.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.cbioportal.legacy.service.exception.InvalidPageTokenException;
+import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Short-lived store of the sorted sample id lists behind the study view clinical table, so that
+ * paging through a large table with a cursor does not re-apply the filter and re-sort every sample
+ * on each page request.
+ *
+ * <p>Entries are keyed by the (filter, search term, sort) combination. The cursor handed to the
+ * client encodes that key and the offset of the next page; it is only valid together with the same
+ * request body, which is permission checked on every call.
+ */
+@Component
+public class ClinicalTableCursorCache {
+
+  private static final String CURSOR_DELIMITER = ":";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  @Value("${clinical_table.cursor.ttl_seconds:300}")
+  private long ttlSeconds;
+
+  @Value("${clinical_table.cursor.max_entries:200}")
+  private int maxEntries;
+
+  public String getQueryKey(
+      StudyViewFilter studyViewFilter, String searchTerm, String sortBy, String direction) {
+    try {
+      String json =
+          objectMapper.writeValueAsString(
+              new Object[] {studyViewFilter, searchTerm, sortBy, direction});
+      return DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize clinical table query", e);
+    }
+  }
+
+  public List<Integer> getSortedSampleInternalIds(String queryKey, Supplier<List<Integer>> loader) {
+    long now = System.currentTimeMillis();
+    Entry entry = entries.get(queryKey);
+    if (entry != null && entry.expiresAt > now) {
+      return entry.sampleInternalIds;
+    }
+    List<Integer> sampleInternalIds = List.copyOf(loader.get());
+    entries.put(queryKey, new Entry(sampleInternalIds, now + ttlSeconds * 1000));
+    evict(now);
+    return sampleInternalIds;
+  }
+
+  public String encodeCursor(String queryKey, int offset) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString((queryKey + CURSOR_DELIMITER + offset).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public int decodeCursor(String cursor, String queryKey) {
+    String decoded;
+    try {
+      decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidPageTokenException("Malformed cursor: " + cursor);
+    }
+    int delimiterIndex = decoded.lastIndexOf(CURSOR_DELIMITER);
+    if (delimiterIndex < 0 || !decoded.substring(0, delimiterIndex).equals(queryKey)) {
+      throw new InvalidPageTokenException("Cursor does not belong to this query: " + cursor);
+    }
+    try {
+      int offset = Integer.parseInt(decoded.substring(delimiterIndex + 1));
+      if (offset < 0) {
+        throw new InvalidPageTokenException("Malformed cursor: " + cursor);
+      }
+      return offset;
+    } catch (NumberFormatException e) {
+      throw new InvalidPageTokenException("Malformed cursor: " + cursor);
+    }
+  }
+
+  private void evict(long now) {
+    entries.values().removeIf(e -> e.expiresAt <= now);
+    int overflow = entries.size() - maxEntries;
+    if (overflow > 0) {
+      entries.entrySet().stream()
+          .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+          .limit(overflow)
+          .map(Map.Entry::getKey)
+          .toList()
+          .forEach(entries::remove);
+    }
+  }
+
+  private record Entry(List<Integer> sampleInternalIds, long expiresAt) {}
+}
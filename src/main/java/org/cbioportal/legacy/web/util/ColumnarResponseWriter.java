@@ -0,0 +1,230 @@
+package org.cbioportal.legacy.web.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes the rows of a bulk data endpoint column by column instead of as an array of objects, so
+ * that the ids repeated in every cell of a matrix are sent once and numbers are sent as binary
+ * vectors that clients can read without parsing text.
+ *
+ * <p>The layout follows the Arrow IPC stream: a schema, then record batches of up to {@link
+ * #BATCH_SIZE} rows, then an end of stream marker. Dictionary columns are sent as indexes into a
+ * dictionary that is built up over the stream; each batch carries the entries it adds to it. All
+ * numbers are little endian, a string is an int32 byte length followed by its UTF-8 bytes:
+ *
+ * <pre>
+ * stream  = "CBPC" version:uint8 schema batch* end
+ * schema  = fieldCount:int32 (type:uint8 name:string)*
+ * batch   = length:int32 (deltaCount:int32 string*)* column*
+ * column  = validity:byte[(length + 7) / 8] values
+ * end     = 0:int32
+ * </pre>
+ *
+ * <p>The dictionary deltas are sent for the dictionary columns only, in schema order. The validity
+ * bitmap has bit {@code i % 8} of byte {@code i / 8} set when row {@code i} has a value. The values
+ * of a column are, by {@link ColumnType}: {@code DICTIONARY} an int32 index per row, {@code INT32}
+ * an int32 per row, {@code FLOAT64} a float64 per row, {@code UTF8} {@code length + 1} int32
+ * offsets followed by the concatenated UTF-8 bytes of the rows. Missing values are sent as 0 or as
+ * an empty string.
+ */
+@Component
+public class ColumnarResponseWriter {
+
+  public static final String COLUMNAR_VALUE = "application/vnd.cbioportal.columnar";
+  public static final MediaType COLUMNAR = MediaType.valueOf(COLUMNAR_VALUE);
+
+  static final byte[] MAGIC = "CBPC".getBytes(StandardCharsets.US_ASCII);
+  static final int VERSION = 1;
+  static final int BATCH_SIZE = 4096;
+
+  public <T> ResponseEntity<StreamingResponseBody> write(
+      List<Column<T>> columns, Consumer<Consumer<T>> rowSource) {
+    StreamingResponseBody body =
+        outputStream -> {
+          outputStream.write(MAGIC);
+          outputStream.write(VERSION);
+          writeSchema(outputStream, columns);
+
+          Map<String, Map<String, Integer>> dictionaries = new HashMap<>();
+          List<T> batch = new ArrayList<>(BATCH_SIZE);
+          try {
+            rowSource.accept(
+                row -> {
+                  batch.add(row);
+                  if (batch.size() == BATCH_SIZE) {
+                    writeBatch(outputStream, columns, dictionaries, batch);
+                  }
+                });
+          } catch (UncheckedIOException e) {
+            throw e.getCause();
+          }
+          if (!batch.isEmpty()) {
+            writeBatch(outputStream, columns, dictionaries, batch);
+          }
+
+          outputStream.write(allocate(Integer.BYTES).putInt(0).array());
+          outputStream.flush();
+        };
+    return ResponseEntity.ok().contentType(COLUMNAR).body(body);
+  }
+
+  private <T> void writeSchema(OutputStream outputStream, List<Column<T>> columns)
+      throws IOException {
+    outputStream.write(allocate(Integer.BYTES).putInt(columns.size()).array());
+    for (Column<T> column : columns) {
+      outputStream.write(column.type.ordinal());
+      writeString(outputStream, column.name);
+    }
+  }
+
+  private <T> void writeBatch(
+      OutputStream outputStream,
+      List<Column<T>> columns,
+      Map<String, Map<String, Integer>> dictionaries,
+      List<T> batch) {
+    try {
+      outputStream.write(allocate(Integer.BYTES).putInt(batch.size()).array());
+
+      for (Column<T> column : columns) {
+        if (column.type == ColumnType.DICTIONARY) {
+          Map<String, Integer> dictionary =
+              dictionaries.computeIfAbsent(column.name, k -> new HashMap<>());
+          List<String> delta = new ArrayList<>();
+          for (T row : batch) {
+            String value = (String) column.accessor.apply(row);
+            if (value != null && !dictionary.containsKey(value)) {
+              dictionary.put(value, dictionary.size());
+              delta.add(value);
+            }
+          }
+          outputStream.write(allocate(Integer.BYTES).putInt(delta.size()).array());
+          for (String value : delta) {
+            writeString(outputStream, value);
+          }
+        }
+      }
+
+      for (Column<T> column : columns) {
+        Object[] values = new Object[batch.size()];
+        byte[] validity = new byte[(batch.size() + 7) / 8];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = column.accessor.apply(batch.get(i));
+          if (values[i] != null) {
+            validity[i / 8] |= (byte) (1 << (i % 8));
+          }
+        }
+        outputStream.write(validity);
+        switch (column.type) {
+          case DICTIONARY -> {
+            Map<String, Integer> dictionary = dictionaries.get(column.name);
+            ByteBuffer buffer = allocate(Integer.BYTES * values.length);
+            for (Object value : values) {
+              buffer.putInt(value == null ? 0 : dictionary.get(value));
+            }
+            outputStream.write(buffer.array());
+          }
+          case INT32 -> {
+            ByteBuffer buffer = allocate(Integer.BYTES * values.length);
+            for (Object value : values) {
+              buffer.putInt(value == null ? 0 : (Integer) value);
+            }
+            outputStream.write(buffer.array());
+          }
+          case FLOAT64 -> {
+            ByteBuffer buffer = allocate(Double.BYTES * values.length);
+            for (Object value : values) {
+              buffer.putDouble(value == null ? 0 : ((Number) value).doubleValue());
+            }
+            outputStream.write(buffer.array());
+          }
+          case UTF8 -> {
+            byte[][] bytes = new byte[values.length][];
+            ByteBuffer offsets = allocate(Integer.BYTES * (values.length + 1));
+            int offset = 0;
+            offsets.putInt(offset);
+            for (int i = 0; i < values.length; i++) {
+              bytes[i] =
+                  values[i] == null
+                      ? new byte[0]
+                      : ((String) values[i]).getBytes(StandardCharsets.UTF_8);
+              offset += bytes[i].length;
+              offsets.putInt(offset);
+            }
+            outputStream.write(offsets.array());
+            for (byte[] value : bytes) {
+              outputStream.write(value);
+            }
+          }
+        }
+      }
+
+      outputStream.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    batch.clear();
+  }
+
+  private static void writeString(OutputStream outputStream, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    outputStream.write(allocate(Integer.BYTES).putInt(bytes.length).array());
+    outputStream.write(bytes);
+  }
+
+  private static ByteBuffer allocate(int capacity) {
+    return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /** The type ids sent in the schema are the ordinals of this enum. */
+  public enum ColumnType {
+    DICTIONARY,
+    INT32,
+    FLOAT64,
+    UTF8
+  }
+
+  public static final class Column<T> {
+
+    private final String name;
+    private final ColumnType type;
+    private final Function<T, ?> accessor;
+
+    private Column(String name, ColumnType type, Function<T, ?> accessor) {
+      this.name = name;
+      this.type = type;
+      this.accessor = accessor;
+    }
+
+    /** String column with few distinct values, e.g. ids, sent as indexes into a dictionary. */
+    public static <T> Column<T> dictionary(String name, Function<T, String> accessor) {
+      return new Column<>(name, ColumnType.DICTIONARY, accessor);
+    }
+
+    public static <T> Column<T> int32(String name, Function<T, Integer> accessor) {
+      return new Column<>(name, ColumnType.INT32, accessor);
+    }
+
+    public static <T> Column<T> float64(String name, Function<T, ? extends Number> accessor) {
+      return new Column<>(name, ColumnType.FLOAT64, accessor);
+    }
+
+    public static <T> Column<T> utf8(String name, Function<T, String> accessor) {
+      return new Column<>(name, ColumnType.UTF8, accessor);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package org.cbioportal.legacy.web.util;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import org.cbioportal.legacy.model.TableTimestampPair;
+import org.cbioportal.legacy.persistence.StaticDataTimeStampRepository;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Answers conditional GET requests to read-only endpoints whose data only changes on import, before
+ * the request reaches the controller.
+ *
+ * <p>The entity tag of a response is derived from the update timestamps of the tables the endpoints
+ * read, the involved study ids, the request URL, the requested media type and the current user and
+ * its granted authorities. As long as none of them change, the response cannot change either, so a
+ * request whose {@code If-None-Match} header matches the tag is answered with {@code 304 Not
+ * Modified} without calling any service. Since this happens before the permission checks, a user
+ * whose authorities changed, e.g. who lost access to a study, gets a new tag and is checked again.
+ * The timestamps themselves are looked up at most once per {@code timestampTtlMillis}.
+ *
+ * <p>One interceptor is registered per endpoint family, see {@code WebAppConfig}.
+ */
+public class ConditionalRequestInterceptor implements HandlerInterceptor {
+
+  private final StaticDataTimeStampRepository staticDataTimeStampRepository;
+  private final List<String> tables;
+  private final String cacheControl;
+  private final long timestampTtlMillis;
+
+  private volatile TimestampVersion timestampVersion;
+
+  /**
+   * @param tables the tables the endpoints of the family read from.
+   * @param cacheControl the {@code Cache-Control} header to send, or an empty string for none.
+   * @param timestampTtlMillis how long looked up timestamps are reused.
+   */
+  public ConditionalRequestInterceptor(
+      StaticDataTimeStampRepository staticDataTimeStampRepository,
+      List<String> tables,
+      String cacheControl,
+      long timestampTtlMillis) {
+    this.staticDataTimeStampRepository = staticDataTimeStampRepository;
+    this.tables = tables;
+    this.cacheControl = cacheControl;
+    this.timestampTtlMillis = timestampTtlMillis;
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!(request.getMethod().equals("GET") || request.getMethod().equals("HEAD"))
+        || request.getDispatcherType() != DispatcherType.REQUEST) {
+      return true;
+    }
+    String version = getTimestampVersion();
+    if (version == null) {
+      return true; // no timestamps, e.g. no database name configured
+    }
+    if (!cacheControl.isEmpty()) {
+      response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
+    // sets the ETag header, and the 304 status if it matches If-None-Match
+    return !new ServletWebRequest(request, response).checkNotModified(getETag(request, version));
+  }
+
+  private String getETag(HttpServletRequest request, String version) {
+    Principal principal = request.getUserPrincipal();
+    return "W/\""
+        + hash(
+            String.join(
+                "\n",
+                version,
+                String.join(",", getInvolvedStudyIds(request)),
+                request.getRequestURI(),
+                Objects.toString(request.getQueryString(), ""),
+                Objects.toString(request.getHeader(HttpHeaders.ACCEPT), ""),
+                principal == null ? "" : principal.getName(),
+                String.join(",", getGrantedAuthorities())))
+        + "\"";
+  }
+
+  private Collection<String> getGrantedAuthorities() {
+    Collection<String> authorities = new TreeSet<>();
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null) {
+      for (GrantedAuthority authority : authentication.getAuthorities()) {
+        authorities.add(authority.getAuthority());
+      }
+    }
+    return authorities;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Collection<String> getInvolvedStudyIds(HttpServletRequest request) {
+    Collection<String> studyIds = new TreeSet<>();
+    Object involvedCancerStudies = request.getAttribute("involvedCancerStudies");
+    if (involvedCancerStudies instanceof Collection<?> collection) {
+      studyIds.addAll((Collection<String>) collection);
+    }
+    Object uriTemplateVariables =
+        request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    if (uriTemplateVariables instanceof Map<?, ?> variables
+        && variables.get("studyId") instanceof String studyId) {
+      studyIds.add(studyId);
+    }
+    return studyIds;
+  }
+
+  private String getTimestampVersion() {
+    TimestampVersion current = timestampVersion;
+    long now = System.currentTimeMillis();
+    if (current == null || now >= current.expiresAt()) {
+      List<TableTimestampPair> timestamps = staticDataTimeStampRepository.getTimestamps(tables);
+      String version =
+          timestamps.isEmpty()
+              ? null
+              : hash(
+                  timestamps.stream()
+                      .map(pair -> pair.getTableName() + "=" + pair.getUpdateTime())
+                      .sorted()
+                      .toList()
+                      .toString());
+      current = new TimestampVersion(version, now + timestampTtlMillis);
+      timestampVersion = current;
+    }
+    return current.version();
+  }
+
+  private static String hash(String value) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record TimestampVersion(String version, long expiresAt) {}
+}
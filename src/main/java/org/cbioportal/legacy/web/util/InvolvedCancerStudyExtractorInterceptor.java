@@ -33,8 +33,10 @@
 package org.cbioportal.legacy.web.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -74,7 +76,9 @@ import org.cbioportal.legacy.web.parameter.SampleFilter;
 import org.cbioportal.legacy.web.parameter.SampleIdentifier;
 import org.cbioportal.legacy.web.parameter.SampleMolecularIdentifier;
 import org.cbioportal.legacy.web.parameter.StructuralVariantFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartBatchFilter;
 import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.cbioportal.legacy.web.parameter.SurvivalCurveRequest;
 import org.cbioportal.legacy.web.parameter.SurvivalRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,6 +93,15 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
 
   private static final Logger LOG =
       LoggerFactory.getLogger(InvolvedCancerStudyExtractorInterceptor.class);
+
+  /**
+   * Request attribute holding the request body as parsed by this interceptor, so that it is not
+   * parsed a second time for the {@code @RequestBody} parameter of the controller method.
+   *
+   * @see ParsedRequestBodyAdvice
+   */
+  public static final String PARSED_REQUEST_BODY_ATTRIBUTE = "parsedRequestBody";
+
   public static final String PATIENT_FETCH_PATH = "/patients/fetch";
   public static final String SAMPLE_FETCH_PATH = "/samples/fetch";
   public static final String MOLECULAR_PROFILE_FETCH_PATH = "/molecular-profiles/fetch";
@@ -132,6 +145,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
       "/clinical-data-table/fetch";
   public static final String STUDY_VIEW_PROFILE_SAMPLE_COUNTS_PATH =
       "/molecular-profile-sample-counts/fetch";
+  public static final String STUDY_VIEW_CHARTS_PATH = "/study-view-charts/fetch";
   public static final String CLINICAL_DATA_ENRICHMENT_FETCH_PATH =
       "/clinical-data-enrichments/fetch";
   public static final String MUTATION_ENRICHMENT_FETCH_PATH = "/mutation-enrichments/fetch";
@@ -153,6 +167,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   public static final String CLINICAL_EVENT_TYPE_COUNT_FETCH_PATH =
       "/clinical-event-type-counts/fetch";
   public static final String SURVIVAL_DATA_FETCH_PATH = "/survival-data/fetch";
+  public static final String SURVIVAL_CURVES_FETCH_PATH = "/survival-curves/fetch";
   public static final String CLINICAL_EVENT_META_FETCH_PATH = "/clinical-events-meta/fetch";
   public static final String TREATMENTS_PATIENT_COUNT_FETCH_PATH =
       "/treatments/patient-counts/fetch";
@@ -165,6 +180,10 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
       return true; // no attribute extraction needed because all user supplied filter objects are in
       // POST requests
     }
+    if (request.getDispatcherType() == DispatcherType.ASYNC) {
+      return true; // attributes were extracted on the initial dispatch, and the request body has
+      // been consumed by then (e.g. streamed responses)
+    }
     // TODO when reimplemeting different dispatcherservlets with different context roots
     // reset this to  'String requestPathInfo = request.getPathInfo();'
     String requestPathInfo =
@@ -230,6 +249,8 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
             TREATMENTS_SAMPLE_COUNT_FETCH_PATH)
         .contains(requestPathInfo)) {
       return extractAttributesFromStudyViewFilter(request);
+    } else if (requestPathInfo.equals(STUDY_VIEW_CHARTS_PATH)) {
+      return extractAttributesFromStudyViewChartBatchFilter(request);
     } else if (requestPathInfo.equals(CLINICAL_DATA_ENRICHMENT_FETCH_PATH)) {
       return extractAttributesFromGroupFilter(request);
     } else if (requestPathInfo.equals(MUTATION_ENRICHMENT_FETCH_PATH)
@@ -247,6 +268,8 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
       return extractAttributesFromGenericAssayDataMultipleStudyFilter(request);
     } else if (requestPathInfo.equals(SURVIVAL_DATA_FETCH_PATH)) {
       return extractCancerStudyIdsFromSurvivalRequest(request);
+    } else if (requestPathInfo.equals(SURVIVAL_CURVES_FETCH_PATH)) {
+      return extractCancerStudyIdsFromSurvivalCurveRequest(request);
     } else if (requestPathInfo.equals(CLINICAL_EVENT_META_FETCH_PATH)) {
       return extractCancerStudyIdsFromClinicalEventAttributeRequest(request);
     }
@@ -255,8 +278,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
 
   private boolean extractAttributesFromPatientFilter(HttpServletRequest request) {
     try {
-      PatientFilter patientFilter =
-          objectMapper.readValue(request.getInputStream(), PatientFilter.class);
+      PatientFilter patientFilter = readRequestBody(request, PatientFilter.class);
       LOG.debug("extracted patientFilter: {}", patientFilter);
       LOG.debug("setting interceptedPatientFilter to {}", patientFilter);
       request.setAttribute("interceptedPatientFilter", patientFilter);
@@ -289,8 +311,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
 
   private boolean extractAttributesFromSampleFilter(HttpServletRequest request) {
     try {
-      SampleFilter sampleFilter =
-          objectMapper.readValue(request.getInputStream(), SampleFilter.class);
+      SampleFilter sampleFilter = readRequestBody(request, SampleFilter.class);
       LOG.debug("extracted sampleFilter: {}", sampleFilter);
       LOG.debug("setting interceptedSampleFilter to {}", sampleFilter);
       request.setAttribute("interceptedSampleFilter", sampleFilter);
@@ -324,7 +345,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromMolecularProfileFilter(HttpServletRequest request) {
     try {
       MolecularProfileFilter molecularProfileFilter =
-          objectMapper.readValue(request.getInputStream(), MolecularProfileFilter.class);
+          readRequestBody(request, MolecularProfileFilter.class);
       LOG.debug("extracted molecularProfileFilter: {}", molecularProfileFilter);
       LOG.debug("setting interceptedMolecularProfileFilter to {}", molecularProfileFilter);
       request.setAttribute("interceptedMolecularProfileFilter", molecularProfileFilter);
@@ -358,7 +379,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromClinicalAttributeCountFilter(HttpServletRequest request) {
     try {
       ClinicalAttributeCountFilter clinicalAttributeCountFilter =
-          objectMapper.readValue(request.getInputStream(), ClinicalAttributeCountFilter.class);
+          readRequestBody(request, ClinicalAttributeCountFilter.class);
       LOG.debug("extracted clinicalAttributeCountFilter: {}", clinicalAttributeCountFilter);
       LOG.debug(
           "setting interceptedClinicalAttributeCountFilter to {}", clinicalAttributeCountFilter);
@@ -395,7 +416,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromNamespaceAttributeCountFilter(HttpServletRequest request) {
     try {
       NamespaceAttributeCountFilter namespaceAttributeCountFilter =
-          objectMapper.readValue(request.getInputStream(), NamespaceAttributeCountFilter.class);
+          readRequestBody(request, NamespaceAttributeCountFilter.class);
       LOG.debug("extracted namespaceAttributeCountFilter: {}", namespaceAttributeCountFilter);
       LOG.debug(
           "setting interceptedNamespaceAttributeCountFilter to {}", namespaceAttributeCountFilter);
@@ -428,7 +449,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromClinicalDataMultiStudyFilter(HttpServletRequest request) {
     try {
       ClinicalDataMultiStudyFilter clinicalDataMultiStudyFilter =
-          objectMapper.readValue(request.getInputStream(), ClinicalDataMultiStudyFilter.class);
+          readRequestBody(request, ClinicalDataMultiStudyFilter.class);
       LOG.debug("extracted clinicalDataMultiStudyFilter: {}", clinicalDataMultiStudyFilter);
       LOG.debug(
           "setting interceptedClinicalDataMultiStudyFilter to {}", clinicalDataMultiStudyFilter);
@@ -463,7 +484,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
       HttpServletRequest request) {
     try {
       GenePanelDataMultipleStudyFilter genePanelDataMultipleStudyFilter =
-          objectMapper.readValue(request.getInputStream(), GenePanelDataMultipleStudyFilter.class);
+          readRequestBody(request, GenePanelDataMultipleStudyFilter.class);
       LOG.debug("extracted genePanelDataMultipleStudyFilter: {}", genePanelDataMultipleStudyFilter);
       LOG.debug(
           "setting interceptedGenePanelDataMultipleStudyFilter to {}",
@@ -503,7 +524,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
       HttpServletRequest request) {
     try {
       MolecularDataMultipleStudyFilter molecularDataMultipleStudyFilter =
-          objectMapper.readValue(request.getInputStream(), MolecularDataMultipleStudyFilter.class);
+          readRequestBody(request, MolecularDataMultipleStudyFilter.class);
       LOG.debug("extracted molecularDataMultipleStudyFilter: {}", molecularDataMultipleStudyFilter);
       LOG.debug(
           "setting interceptedMolecularDataMultipleStudyFilter to {}",
@@ -543,8 +564,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
       HttpServletRequest request) {
     try {
       GenericAssayDataMultipleStudyFilter genericAssayDataMultipleStudyFilter =
-          objectMapper.readValue(
-              request.getInputStream(), GenericAssayDataMultipleStudyFilter.class);
+          readRequestBody(request, GenericAssayDataMultipleStudyFilter.class);
       LOG.debug(
           "extracted genericAssayDataMultipleStudyFilter: {}", genericAssayDataMultipleStudyFilter);
       LOG.debug(
@@ -584,7 +604,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromMutationMultipleStudyFilter(HttpServletRequest request) {
     try {
       MutationMultipleStudyFilter mutationMultipleStudyFilter =
-          objectMapper.readValue(request.getInputStream(), MutationMultipleStudyFilter.class);
+          readRequestBody(request, MutationMultipleStudyFilter.class);
       LOG.debug("extracted mutationMultipleStudyFilter: {}", mutationMultipleStudyFilter);
       LOG.debug(
           "setting interceptedMutationMultipleStudyFilter to {}", mutationMultipleStudyFilter);
@@ -619,7 +639,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromSampleIdentifiers(HttpServletRequest request) {
     try {
       List<SampleIdentifier> sampleIdentifiers =
-          Arrays.asList(objectMapper.readValue(request.getInputStream(), SampleIdentifier[].class));
+          readRequestBodyList(request, SampleIdentifier[].class);
       LOG.debug("extracted sampleIdentifiers: {}", sampleIdentifiers);
       LOG.debug("setting interceptedSampleIdentifiers to {}", sampleIdentifiers);
       request.setAttribute("interceptedSampleIdentifiers", sampleIdentifiers);
@@ -639,7 +659,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromClinicalDataBinCountFilter(HttpServletRequest request) {
     try {
       ClinicalDataBinCountFilter clinicalDataBinCountFilter =
-          objectMapper.readValue(request.getInputStream(), ClinicalDataBinCountFilter.class);
+          readRequestBody(request, ClinicalDataBinCountFilter.class);
       LOG.debug("extracted clinicalDataBinCountFilter: {}", clinicalDataBinCountFilter);
       LOG.debug("setting interceptedClinicalDataBinCountFilter to {}", clinicalDataBinCountFilter);
       request.setAttribute("interceptedClinicalDataBinCountFilter", clinicalDataBinCountFilter);
@@ -660,7 +680,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromGenomicDataBinCountFilter(HttpServletRequest request) {
     try {
       GenomicDataBinCountFilter genomicDataBinCountFilter =
-          objectMapper.readValue(request.getInputStream(), GenomicDataBinCountFilter.class);
+          readRequestBody(request, GenomicDataBinCountFilter.class);
       LOG.debug("extracted genomicDataBinCountFilter: {}", genomicDataBinCountFilter);
       LOG.debug("setting interceptedGenomicDataBinCountFilter to {}", genomicDataBinCountFilter);
       request.setAttribute("interceptedGenomicDataBinCountFilter", genomicDataBinCountFilter);
@@ -681,7 +701,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromGenomicDataCountFilter(HttpServletRequest request) {
     try {
       GenomicDataCountFilter genomicDataCountFilter =
-          objectMapper.readValue(request.getInputStream(), GenomicDataCountFilter.class);
+          readRequestBody(request, GenomicDataCountFilter.class);
       LOG.debug("extracted genomicDataCountFilter: {}", genomicDataCountFilter);
       LOG.debug("setting interceptedGenomicDataCountFilter to {}", genomicDataCountFilter);
       request.setAttribute("interceptedGenomicDataCountFilter", genomicDataCountFilter);
@@ -701,7 +721,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromGenericAssayDataBinCountFilter(HttpServletRequest request) {
     try {
       GenericAssayDataBinCountFilter genericAssayDataBinCountFilter =
-          objectMapper.readValue(request.getInputStream(), GenericAssayDataBinCountFilter.class);
+          readRequestBody(request, GenericAssayDataBinCountFilter.class);
       LOG.debug("extracted genericAssayDataBinCountFilter: {}", genericAssayDataBinCountFilter);
       LOG.debug(
           "setting interceptedGenericAssayDataBinCountFilter to {}",
@@ -726,7 +746,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromGenericAssayDataCountFilter(HttpServletRequest request) {
     try {
       GenericAssayDataCountFilter genericAssayDataCountFilter =
-          objectMapper.readValue(request.getInputStream(), GenericAssayDataCountFilter.class);
+          readRequestBody(request, GenericAssayDataCountFilter.class);
       LOG.debug("extracted genericAssayDataCountFilter: {}", genericAssayDataCountFilter);
       LOG.debug(
           "setting interceptedGenericAssayDataCountFilter to {}", genericAssayDataCountFilter);
@@ -748,7 +768,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromClinicalDataCountFilter(HttpServletRequest request) {
     try {
       ClinicalDataCountFilter clinicalDataCountFilter =
-          objectMapper.readValue(request.getInputStream(), ClinicalDataCountFilter.class);
+          readRequestBody(request, ClinicalDataCountFilter.class);
       LOG.debug("extracted clinicalDataBinCountFilter: {}", clinicalDataCountFilter);
       LOG.debug("setting interceptedClinicalDataCountFilter to {}", clinicalDataCountFilter);
       request.setAttribute("interceptedClinicalDataCountFilter", clinicalDataCountFilter);
@@ -769,7 +789,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromNamespaceDataCountFilter(HttpServletRequest request) {
     try {
       NamespaceDataCountFilter namespaceDataCountFilter =
-          objectMapper.readValue(request.getInputStream(), NamespaceDataCountFilter.class);
+          readRequestBody(request, NamespaceDataCountFilter.class);
       LOG.debug("extracted namespaceDataCountFilter: {}", namespaceDataCountFilter);
       LOG.debug("setting interceptedNamespaceDataCountFilter to {}", namespaceDataCountFilter);
       request.setAttribute("interceptedNamespaceDataCountFilter", namespaceDataCountFilter);
@@ -789,7 +809,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
 
   private boolean extractAttributesFromGroupFilter(HttpServletRequest request) {
     try {
-      GroupFilter groupFilter = objectMapper.readValue(request.getInputStream(), GroupFilter.class);
+      GroupFilter groupFilter = readRequestBody(request, GroupFilter.class);
       LOG.debug("extracted groupFilter: {}", groupFilter);
       LOG.debug("setting interceptedGroupFilter to {}", groupFilter);
       request.setAttribute("interceptedGroupFilter", groupFilter);
@@ -812,18 +832,8 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
 
   private boolean extractAttributesFromStudyViewFilter(HttpServletRequest request) {
     try {
-      StudyViewFilter studyViewFilter =
-          objectMapper.readValue(request.getInputStream(), StudyViewFilter.class);
-      if (studyViewFilter.getAlterationFilter() == null) {
-        // For backwards compatibility an inactive filter is set
-        // when the AlterationFilter is not part of the request.
-        studyViewFilter.setAlterationFilter(new AlterationFilter());
-      }
-      if (studyViewFilter.getStructuralVariantFilters() == null) {
-        // For backwards compatibility an inactive filter is set
-        // when the StructuralVariantFilters are not part of the request.
-        studyViewFilter.setStructuralVariantFilters(new ArrayList<>());
-      }
+      StudyViewFilter studyViewFilter = readRequestBody(request, StudyViewFilter.class);
+      setInactiveDefaultFilters(studyViewFilter);
       LOG.debug("extracted studyViewFilter: {}", studyViewFilter);
       LOG.debug("setting interceptedStudyViewFilter to {}", studyViewFilter);
       request.setAttribute("interceptedStudyViewFilter", studyViewFilter);
@@ -840,12 +850,46 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
     return true;
   }
 
+  private boolean extractAttributesFromStudyViewChartBatchFilter(HttpServletRequest request) {
+    try {
+      StudyViewChartBatchFilter studyViewChartBatchFilter =
+          readRequestBody(request, StudyViewChartBatchFilter.class);
+      StudyViewFilter studyViewFilter = studyViewChartBatchFilter.getStudyViewFilter();
+      setInactiveDefaultFilters(studyViewFilter);
+      LOG.debug("extracted studyViewChartBatchFilter: {}", studyViewChartBatchFilter);
+      LOG.debug("setting interceptedStudyViewChartBatchFilter to {}", studyViewChartBatchFilter);
+      request.setAttribute("interceptedStudyViewChartBatchFilter", studyViewChartBatchFilter);
+      if (cacheMapUtil.hasCacheEnabled()) {
+        Collection<String> cancerStudyIdCollection =
+            extractCancerStudyIdsFromStudyViewFilter(studyViewFilter);
+        LOG.debug("setting involvedCancerStudies to {}", cancerStudyIdCollection);
+        request.setAttribute("involvedCancerStudies", cancerStudyIdCollection);
+      }
+    } catch (Exception e) {
+      LOG.error(
+          "exception thrown during extraction of studyViewChartBatchFilter: {}", e.getMessage());
+      return false;
+    }
+    return true;
+  }
+
+  private static void setInactiveDefaultFilters(StudyViewFilter studyViewFilter) {
+    if (studyViewFilter.getAlterationFilter() == null) {
+      // For backwards compatibility an inactive filter is set
+      // when the AlterationFilter is not part of the request.
+      studyViewFilter.setAlterationFilter(new AlterationFilter());
+    }
+    if (studyViewFilter.getStructuralVariantFilters() == null) {
+      // For backwards compatibility an inactive filter is set
+      // when the StructuralVariantFilters are not part of the request.
+      studyViewFilter.setStructuralVariantFilters(new ArrayList<>());
+    }
+  }
+
   private boolean extractAttributesFromMolecularProfileCasesGroups(HttpServletRequest request) {
     try {
       List<MolecularProfileCasesGroupFilter> molecularProfileCasesGroupFilters =
-          Arrays.asList(
-              objectMapper.readValue(
-                  request.getInputStream(), MolecularProfileCasesGroupFilter[].class));
+          readRequestBodyList(request, MolecularProfileCasesGroupFilter[].class);
       LOG.debug(
           "extracted molecularProfileCasesGroupFilters: {}", molecularProfileCasesGroupFilters);
       LOG.debug(
@@ -873,9 +917,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
     try {
       MolecularProfileCasesGroupAndAlterationTypeFilter
           molecularProfileCasesAndAlterationTypesGroupFilters =
-              objectMapper.readValue(
-                  request.getInputStream(),
-                  MolecularProfileCasesGroupAndAlterationTypeFilter.class);
+              readRequestBody(request, MolecularProfileCasesGroupAndAlterationTypeFilter.class);
       List<MolecularProfileCasesGroupFilter> molecularProfileCasesGroupFilters =
           molecularProfileCasesAndAlterationTypesGroupFilters.getMolecularProfileCasesGroupFilter();
       LOG.debug(
@@ -910,7 +952,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
   private boolean extractAttributesFromStructuralVariantFilter(HttpServletRequest request) {
     try {
       StructuralVariantFilter structuralVariantFilter =
-          objectMapper.readValue(request.getInputStream(), StructuralVariantFilter.class);
+          readRequestBody(request, StructuralVariantFilter.class);
       LOG.debug("extracted structuralVariantFilter: {}", structuralVariantFilter);
       if (structuralVariantFilter.getStructuralVariantQueries() == null) {
         // For backwards compatibility an empty set of queries is inferred
@@ -1083,8 +1125,7 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
 
   private boolean extractCancerStudyIdsFromSurvivalRequest(HttpServletRequest request) {
     try {
-      SurvivalRequest survivalRequest =
-          objectMapper.readValue(request.getInputStream(), SurvivalRequest.class);
+      SurvivalRequest survivalRequest = readRequestBody(request, SurvivalRequest.class);
       LOG.debug("extracted survivalRequest: {}", survivalRequest);
       LOG.debug("setting interceptedSurvivalRequest to {}", survivalRequest);
       request.setAttribute("interceptedSurvivalRequest", survivalRequest);
@@ -1103,11 +1144,34 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
     return true;
   }
 
+  private boolean extractCancerStudyIdsFromSurvivalCurveRequest(HttpServletRequest request) {
+    try {
+      SurvivalCurveRequest survivalCurveRequest =
+          readRequestBody(request, SurvivalCurveRequest.class);
+      LOG.debug("extracted survivalCurveRequest: {}", survivalCurveRequest);
+      LOG.debug("setting interceptedSurvivalCurveRequest to {}", survivalCurveRequest);
+      request.setAttribute("interceptedSurvivalCurveRequest", survivalCurveRequest);
+      if (cacheMapUtil.hasCacheEnabled()) {
+        Collection<String> cancerStudyIdCollection =
+            survivalCurveRequest.getGroups().stream()
+                .flatMap(group -> group.getPatientIdentifiers().stream())
+                .map(PatientIdentifier::getStudyId)
+                .collect(Collectors.toSet());
+        LOG.debug("setting involvedCancerStudies to {}", cancerStudyIdCollection);
+        request.setAttribute("involvedCancerStudies", cancerStudyIdCollection);
+      }
+    } catch (Exception e) {
+      LOG.error("exception thrown during extraction of survivalCurveRequest: {}", e.getMessage());
+      return false;
+    }
+    return true;
+  }
+
   private boolean extractCancerStudyIdsFromClinicalEventAttributeRequest(
       HttpServletRequest request) {
     try {
       ClinicalEventAttributeRequest clinicalEventAttributeRequest =
-          objectMapper.readValue(request.getInputStream(), ClinicalEventAttributeRequest.class);
+          readRequestBody(request, ClinicalEventAttributeRequest.class);
       LOG.debug("extracted clinicalEventAttributeRequest: {}", clinicalEventAttributeRequest);
       LOG.debug(
           "setting interceptedClinicalEventAttributeRequest to {}", clinicalEventAttributeRequest);
@@ -1129,4 +1193,17 @@ public class InvolvedCancerStudyExtractorInterceptor implements HandlerIntercept
     }
     return true;
   }
+
+  private <T> T readRequestBody(HttpServletRequest request, Class<T> type) throws IOException {
+    T body = objectMapper.readValue(request.getInputStream(), type);
+    request.setAttribute(PARSED_REQUEST_BODY_ATTRIBUTE, body);
+    return body;
+  }
+
+  private <T> List<T> readRequestBodyList(HttpServletRequest request, Class<T[]> type)
+      throws IOException {
+    List<T> body = Arrays.asList(objectMapper.readValue(request.getInputStream(), type));
+    request.setAttribute(PARSED_REQUEST_BODY_ATTRIBUTE, body);
+    return body;
+  }
 }
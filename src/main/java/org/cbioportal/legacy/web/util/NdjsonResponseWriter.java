@@ -0,0 +1,61 @@
+package org.cbioportal.legacy.web.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes the rows of a fetch endpoint as newline delimited JSON while they are read from the
+ * database, so that the response never has to be materialized as a list on the server.
+ *
+ * <p>The row source is only invoked once the response body is written, on the async request thread;
+ * it has to open and close its own database cursor there.
+ */
+@Component
+public class NdjsonResponseWriter {
+
+  private static final int FLUSH_INTERVAL = 1000;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  public <T> ResponseEntity<StreamingResponseBody> write(Consumer<Consumer<T>> rowSource) {
+    ObjectWriter objectWriter =
+        objectMapper
+            .writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator((String) null);
+    StreamingResponseBody body =
+        outputStream -> {
+          try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            int[] rowCount = {0};
+            try {
+              rowSource.accept(
+                  row -> {
+                    try {
+                      objectWriter.writeValue(generator, row);
+                      generator.writeRaw('\n');
+                      // flush the first row right away so that clients can start parsing
+                      if (rowCount[0]++ % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                      }
+                    } catch (IOException e) {
+                      throw new UncheckedIOException(e);
+                    }
+                  });
+            } catch (UncheckedIOException e) {
+              throw e.getCause();
+            }
+          }
+        };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+}
@@ -0,0 +1,62 @@
+package org.cbioportal.legacy.web.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import org.cbioportal.legacy.model.PageKey;
+import org.cbioportal.legacy.service.exception.InvalidPageTokenException;
+
+/**
+ * Encodes the key of the last row of a keyset page into the opaque page token handed back to
+ * clients, and decodes it again on the next request. The sort property and direction are part of
+ * the token so that a token cannot be replayed against a differently sorted listing.
+ */
+public final class PageTokenCodec {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private PageTokenCodec() {}
+
+  public static String encode(PageKey pageKey, String sortBy, String direction) {
+    TokenPayload payload =
+        new TokenPayload(sortBy, direction, pageKey.getSortValue(), pageKey.getTiebreaker());
+    try {
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(OBJECT_MAPPER.writeValueAsBytes(payload));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not encode page token", e);
+    }
+  }
+
+  /**
+   * Returns the key to continue after, or {@code null} for an empty token, which requests the first
+   * page of a keyset listing.
+   */
+  public static PageKey decode(String pageToken, String sortBy, String direction) {
+    if (pageToken == null || pageToken.isEmpty()) {
+      return null;
+    }
+    TokenPayload payload;
+    try {
+      payload =
+          OBJECT_MAPPER.readValue(
+              new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8),
+              TokenPayload.class);
+    } catch (IllegalArgumentException | JsonProcessingException e) {
+      throw new InvalidPageTokenException("Malformed page token");
+    }
+    if (payload.tiebreaker() == null
+        || !Objects.equals(payload.sortBy(), sortBy)
+        || !Objects.equals(payload.direction(), direction)) {
+      throw new InvalidPageTokenException("Page token does not match the requested sort order");
+    }
+    return new PageKey(payload.sortValue(), payload.tiebreaker());
+  }
+
+  private record TokenPayload(
+      String sortBy, String direction, Object sortValue, List<Object> tiebreaker) {}
+}
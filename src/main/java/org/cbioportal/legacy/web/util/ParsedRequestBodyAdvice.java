@@ -0,0 +1,65 @@
+package org.cbioportal.legacy.web.util;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+/**
+ * Binds the request body that {@link InvolvedCancerStudyExtractorInterceptor} already parsed to the
+ * {@code @RequestBody} parameter of the controller method.
+ *
+ * <p>The interceptor consumes the request body to find the involved studies for the permission
+ * check, so the body is empty by the time the controller arguments are resolved. Instead of the
+ * body, the parsed object is handed to the controller. The {@code intercepted*} request attribute
+ * and the request body parameter of the controller method are then the same object, so only the
+ * attribute is annotated with {@code @Valid}; with both annotated, the {@code @Validated}
+ * controllers would validate the object once per parameter and once more for the request body.
+ */
+@ControllerAdvice
+public class ParsedRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+  @Override
+  public boolean supports(
+      MethodParameter methodParameter,
+      Type targetType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object handleEmptyBody(
+      Object body,
+      HttpInputMessage inputMessage,
+      MethodParameter parameter,
+      Type targetType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (body != null || requestAttributes == null) {
+      return body;
+    }
+    Object parsedBody =
+        requestAttributes.getAttribute(
+            InvolvedCancerStudyExtractorInterceptor.PARSED_REQUEST_BODY_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST);
+    return isAssignable(parsedBody, ResolvableType.forType(targetType)) ? parsedBody : null;
+  }
+
+  private boolean isAssignable(Object parsedBody, ResolvableType targetType) {
+    Class<?> targetClass = targetType.resolve();
+    if (parsedBody == null || targetClass == null || !targetClass.isInstance(parsedBody)) {
+      return false;
+    }
+    if (parsedBody instanceof Collection<?> collection) {
+      Class<?> elementClass = targetType.asCollection().resolveGeneric();
+      return elementClass == null || collection.stream().allMatch(elementClass::isInstance);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,403 @@
+package org.cbioportal.legacy.web.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.cbioportal.application.AsyncConfig;
+import org.cbioportal.legacy.model.AlterationFilter;
+import org.cbioportal.legacy.model.ClinicalAttribute;
+import org.cbioportal.legacy.service.ClinicalAttributeService;
+import org.cbioportal.legacy.service.util.StudyCachesEvictedEvent;
+import org.cbioportal.legacy.web.StudyViewController;
+import org.cbioportal.legacy.web.parameter.ClinicalDataBinCountFilter;
+import org.cbioportal.legacy.web.parameter.ClinicalDataBinFilter;
+import org.cbioportal.legacy.web.parameter.ClinicalDataCountFilter;
+import org.cbioportal.legacy.web.parameter.ClinicalDataFilter;
+import org.cbioportal.legacy.web.parameter.DataBinMethod;
+import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the caches of the unfiltered study view chart queries before users ask for them: after
+ * startup and after the caches of a study have been evicted.
+ *
+ * <p>The cache keys of these queries are derived from the whole request body, so the unfiltered
+ * queries users send are recorded and the {@code top_n} most frequent ones are replayed with the
+ * same arguments. Recorded queries do not survive a restart; for the studies listed in {@code
+ * study_ids}, queries with default arguments are replayed as well, which at least fills the
+ * repository caches below the chart queries.
+ */
+@Component
+public class StudyViewCacheWarmUp {
+
+  public enum Chart {
+    CLINICAL_DATA_COUNTS,
+    CLINICAL_DATA_BIN_COUNTS,
+    MUTATED_GENES,
+    CNA_GENES
+  }
+
+  private static final Logger LOG = LoggerFactory.getLogger(StudyViewCacheWarmUp.class);
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private final Map<String, RecordedQuery> recordedQueries = new ConcurrentHashMap<>();
+  // runs one warm-up at a time, the queries of a warm-up run on the task executor
+  private final ExecutorService runner =
+      Executors.newSingleThreadExecutor(
+          Thread.ofPlatform().name("study-view-cache-warm-up").daemon().factory());
+  private volatile Run lastRun;
+
+  private final ObjectProvider<StudyViewController> studyViewController;
+  private final ClinicalAttributeService clinicalAttributeService;
+  private final AsyncTaskExecutor asyncTaskExecutor;
+  private final boolean enabled;
+  private final List<String> studyIds;
+  private final Set<Chart> charts;
+  private final int topN;
+  private final int maxConcurrentQueries;
+
+  public StudyViewCacheWarmUp(
+      ObjectProvider<StudyViewController> studyViewController,
+      ClinicalAttributeService clinicalAttributeService,
+      @Qualifier(AsyncConfig.ASYNC_EXECUTOR) AsyncTaskExecutor asyncTaskExecutor,
+      @Value("${study_view.cache_warm_up.enabled:false}") boolean enabled,
+      @Value("${study_view.cache_warm_up.study_ids:}") List<String> studyIds,
+      @Value(
+              "${study_view.cache_warm_up.charts:CLINICAL_DATA_COUNTS,CLINICAL_DATA_BIN_COUNTS,MUTATED_GENES,CNA_GENES}")
+          List<Chart> charts,
+      @Value("${study_view.cache_warm_up.top_n:50}") int topN,
+      @Value("${study_view.cache_warm_up.max_concurrent_queries:2}") int maxConcurrentQueries) {
+    this.studyViewController = studyViewController;
+    this.clinicalAttributeService = clinicalAttributeService;
+    this.asyncTaskExecutor = asyncTaskExecutor;
+    this.enabled = enabled;
+    this.studyIds = studyIds.stream().filter(id -> !id.isBlank()).map(String::trim).toList();
+    this.charts = charts.isEmpty() ? EnumSet.noneOf(Chart.class) : EnumSet.copyOf(charts);
+    this.topN = topN;
+    this.maxConcurrentQueries = Math.max(1, maxConcurrentQueries);
+  }
+
+  /**
+   * Records an unfiltered chart query with the arguments it was cached with.
+   *
+   * @param dataBinMethod the binning method of {@link Chart#CLINICAL_DATA_BIN_COUNTS}, null for the
+   *     other charts.
+   */
+  public void record(
+      Chart chart, List<String> studyIds, Object filter, DataBinMethod dataBinMethod) {
+    if (!enabled || !charts.contains(chart)) {
+      return;
+    }
+    try {
+      Query query =
+          new Query(
+              chart, List.copyOf(studyIds), objectMapper.writeValueAsString(filter), dataBinMethod);
+      String key = chart + ":" + dataBinMethod + ":" + query.filter();
+      if (!recordedQueries.containsKey(key) && recordedQueries.size() >= topN * 10) {
+        // keep the number of recorded queries bounded by dropping the least frequent one
+        recordedQueries.entrySet().stream()
+            .min(Comparator.comparingLong(entry -> entry.getValue().count().sum()))
+            .ifPresent(entry -> recordedQueries.remove(entry.getKey()));
+      }
+      recordedQueries
+          .computeIfAbsent(key, k -> new RecordedQuery(query, new LongAdder()))
+          .count()
+          .increment();
+    } catch (JsonProcessingException e) {
+      LOG.debug("Could not record study view query for cache warm-up", e);
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    warmUp("startup", null);
+  }
+
+  @EventListener
+  public void onStudyCachesEvicted(StudyCachesEvictedEvent event) {
+    if (event.studyId() == null) {
+      warmUp("eviction of all studies", null);
+    } else {
+      warmUp("eviction of " + event.studyId(), List.of(event.studyId()));
+    }
+  }
+
+  /**
+   * Replays the recorded and configured queries of {@code studyIds}, or of all studies if null, in
+   * the background after any warm-up that is still running.
+   */
+  public Future<?> warmUp(String trigger, Collection<String> studyIds) {
+    if (!enabled) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return runner.submit(() -> run(trigger, studyIds));
+  }
+
+  public Status getStatus() {
+    Run run = lastRun;
+    if (run == null) {
+      return new Status(enabled, recordedQueries.size(), null);
+    }
+    List<QueryTiming> timings = List.copyOf(run.timings);
+    return new Status(
+        enabled,
+        recordedQueries.size(),
+        new RunStatus(
+            run.trigger,
+            run.startedAt,
+            run.finishedAt,
+            run.total,
+            timings.size(),
+            (int) timings.stream().filter(timing -> timing.error() != null).count(),
+            timings));
+  }
+
+  @PreDestroy
+  void shutdown() {
+    runner.shutdownNow();
+  }
+
+  private void run(String trigger, Collection<String> studyIds) {
+    List<Query> queries;
+    try {
+      queries = selectQueries(studyIds);
+    } catch (RuntimeException e) {
+      LOG.error("Could not select study view queries for cache warm-up after {}", trigger, e);
+      return;
+    }
+    Run run = new Run(trigger, Instant.now(), queries.size());
+    lastRun = run;
+    LOG.info("Warming up {} study view queries after {}", queries.size(), trigger);
+
+    CompletionService<QueryTiming> completionService =
+        new ExecutorCompletionService<>(asyncTaskExecutor);
+    List<Future<QueryTiming>> futures = new ArrayList<>();
+    int submitted = 0;
+    try {
+      while (submitted < queries.size() && submitted < maxConcurrentQueries) {
+        Query query = queries.get(submitted++);
+        futures.add(completionService.submit(() -> execute(query)));
+      }
+      for (int done = 0; done < queries.size(); done++) {
+        run.timings.add(completionService.take().get());
+        if (submitted < queries.size()) {
+          Query query = queries.get(submitted++);
+          futures.add(completionService.submit(() -> execute(query)));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // execute records failures instead of throwing
+      LOG.error("Unexpected exception during study view cache warm-up", e);
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+      run.finishedAt = Instant.now();
+    }
+    LOG.info(
+        "Warmed up {} of {} study view queries after {} in {} ms",
+        run.timings.size(),
+        queries.size(),
+        trigger,
+        run.finishedAt.toEpochMilli() - run.startedAt.toEpochMilli());
+  }
+
+  private List<Query> selectQueries(Collection<String> studyIds) {
+    Map<String, Query> queries = new LinkedHashMap<>();
+    recordedQueries.entrySet().stream()
+        .filter(
+            entry ->
+                studyIds == null
+                    || entry.getValue().query().studyIds().stream().anyMatch(studyIds::contains))
+        .sorted(
+            Comparator.comparingLong(
+                    (Map.Entry<String, RecordedQuery> entry) -> entry.getValue().count().sum())
+                .reversed())
+        .limit(topN)
+        .forEach(entry -> queries.put(entry.getKey(), entry.getValue().query()));
+    for (String studyId : this.studyIds) {
+      if (studyIds == null || studyIds.contains(studyId)) {
+        for (Query query : getDefaultQueries(studyId)) {
+          queries.putIfAbsent(
+              query.chart() + ":" + query.dataBinMethod() + ":" + query.filter(), query);
+        }
+      }
+    }
+    return new ArrayList<>(queries.values());
+  }
+
+  private List<Query> getDefaultQueries(String studyId) {
+    StudyViewFilter studyViewFilter = new StudyViewFilter();
+    studyViewFilter.setStudyIds(List.of(studyId));
+    studyViewFilter.setAlterationFilter(new AlterationFilter());
+
+    List<Query> queries = new ArrayList<>();
+    List<ClinicalAttribute> clinicalAttributes =
+        charts.contains(Chart.CLINICAL_DATA_COUNTS)
+                || charts.contains(Chart.CLINICAL_DATA_BIN_COUNTS)
+            ? clinicalAttributeService.fetchClinicalAttributes(List.of(studyId), "SUMMARY")
+            : List.of();
+    if (charts.contains(Chart.CLINICAL_DATA_COUNTS)) {
+      ClinicalDataCountFilter filter = new ClinicalDataCountFilter();
+      filter.setStudyViewFilter(studyViewFilter);
+      filter.setAttributes(
+          getAttributeIds(clinicalAttributes, "STRING").stream()
+              .map(
+                  attributeId -> {
+                    ClinicalDataFilter attribute = new ClinicalDataFilter();
+                    attribute.setAttributeId(attributeId);
+                    return attribute;
+                  })
+              .toList());
+      addDefaultQuery(queries, Chart.CLINICAL_DATA_COUNTS, studyId, filter, null);
+    }
+    if (charts.contains(Chart.CLINICAL_DATA_BIN_COUNTS)) {
+      ClinicalDataBinCountFilter filter = new ClinicalDataBinCountFilter();
+      filter.setStudyViewFilter(studyViewFilter);
+      filter.setAttributes(
+          getAttributeIds(clinicalAttributes, "NUMBER").stream()
+              .map(
+                  attributeId -> {
+                    ClinicalDataBinFilter attribute = new ClinicalDataBinFilter();
+                    attribute.setAttributeId(attributeId);
+                    return attribute;
+                  })
+              .toList());
+      addDefaultQuery(
+          queries, Chart.CLINICAL_DATA_BIN_COUNTS, studyId, filter, DataBinMethod.DYNAMIC);
+    }
+    if (charts.contains(Chart.MUTATED_GENES)) {
+      addDefaultQuery(queries, Chart.MUTATED_GENES, studyId, studyViewFilter, null);
+    }
+    if (charts.contains(Chart.CNA_GENES)) {
+      addDefaultQuery(queries, Chart.CNA_GENES, studyId, studyViewFilter, null);
+    }
+    return queries;
+  }
+
+  private void addDefaultQuery(
+      List<Query> queries,
+      Chart chart,
+      String studyId,
+      Object filter,
+      DataBinMethod dataBinMethod) {
+    try {
+      queries.add(
+          new Query(
+              chart, List.of(studyId), objectMapper.writeValueAsString(filter), dataBinMethod));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static List<String> getAttributeIds(
+      List<ClinicalAttribute> clinicalAttributes, String datatype) {
+    return clinicalAttributes.stream()
+        .filter(attribute -> datatype.equals(attribute.getDatatype()))
+        .map(ClinicalAttribute::getAttrId)
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  private QueryTiming execute(Query query) {
+    long start = System.currentTimeMillis();
+    String error = null;
+    try {
+      // called on the proxy, so that the results are cached
+      StudyViewController controller = studyViewController.getObject();
+      switch (query.chart()) {
+        case CLINICAL_DATA_COUNTS ->
+            controller.cachedClinicalDataCounts(
+                objectMapper.readValue(query.filter(), ClinicalDataCountFilter.class), true);
+        case CLINICAL_DATA_BIN_COUNTS ->
+            controller.cachableFetchClinicalDataBinCounts(
+                query.dataBinMethod(),
+                objectMapper.readValue(query.filter(), ClinicalDataBinCountFilter.class),
+                true);
+        case MUTATED_GENES ->
+            controller.cachedFetchMutatedGenes(
+                objectMapper.readValue(query.filter(), StudyViewFilter.class), true);
+        case CNA_GENES ->
+            controller.cacheableFetchCNAGenes(
+                objectMapper.readValue(query.filter(), StudyViewFilter.class), true);
+      }
+    } catch (Exception e) {
+      LOG.warn("Study view cache warm-up of {} {} failed", query.chart(), query.studyIds(), e);
+      error = e.toString();
+    }
+    return new QueryTiming(
+        query.chart(), query.studyIds(), System.currentTimeMillis() - start, error);
+  }
+
+  private record Query(
+      Chart chart, List<String> studyIds, String filter, DataBinMethod dataBinMethod) {}
+
+  private record RecordedQuery(Query query, LongAdder count) {}
+
+  private static class Run {
+    private final String trigger;
+    private final Instant startedAt;
+    private final int total;
+    private final List<QueryTiming> timings = new CopyOnWriteArrayList<>();
+    private volatile Instant finishedAt;
+
+    private Run(String trigger, Instant startedAt, int total) {
+      this.trigger = trigger;
+      this.startedAt = startedAt;
+      this.total = total;
+    }
+  }
+
+  /**
+   * @param error the exception of a failed query, null if it succeeded.
+   */
+  public record QueryTiming(Chart chart, List<String> studyIds, long millis, String error) {}
+
+  /**
+   * @param finishedAt null while the warm-up is running.
+   * @param completed the number of queries that are done, including the failed ones.
+   */
+  public record RunStatus(
+      String trigger,
+      Instant startedAt,
+      Instant finishedAt,
+      int total,
+      int completed,
+      int failed,
+      List<QueryTiming> queries) {}
+
+  /**
+   * @param lastRun the running or last finished warm-up, null if there was none yet.
+   */
+  public record Status(boolean enabled, int recordedQueries, RunStatus lastRun) {}
+}
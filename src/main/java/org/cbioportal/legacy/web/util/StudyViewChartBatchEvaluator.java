@@ -0,0 +1,158 @@
+package org.cbioportal.legacy.web.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import org.cbioportal.application.AsyncConfig;
+import org.cbioportal.legacy.model.StudyViewChartResult;
+import org.cbioportal.legacy.service.exception.StudyNotFoundException;
+import org.cbioportal.legacy.web.parameter.ClinicalDataBinCountFilter;
+import org.cbioportal.legacy.web.parameter.ClinicalDataBinFilter;
+import org.cbioportal.legacy.web.parameter.ClinicalDataCountFilter;
+import org.cbioportal.legacy.web.parameter.ClinicalDataFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartBatchFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartRequest;
+import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches the charts of a {@link StudyViewChartBatchFilter} concurrently on the task executor, at
+ * most {@code max_concurrent_charts} at a time.
+ *
+ * <p>The request has been parsed and its studies checked once for the whole batch. Every chart gets
+ * its own copy of the study view filter, as charts remove their own attributes from it, and a
+ * failing chart is reported in its result instead of failing the batch.
+ */
+@Component
+public class StudyViewChartBatchEvaluator {
+
+  @FunctionalInterface
+  public interface ChartFetcher {
+    Object fetch(StudyViewChartRequest chart, StudyViewFilter studyViewFilter) throws Exception;
+  }
+
+  private static final Logger LOG = LoggerFactory.getLogger(StudyViewChartBatchEvaluator.class);
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private final AsyncTaskExecutor asyncTaskExecutor;
+  private final int maxConcurrentCharts;
+
+  public StudyViewChartBatchEvaluator(
+      @Qualifier(AsyncConfig.ASYNC_EXECUTOR) AsyncTaskExecutor asyncTaskExecutor,
+      @Value("${study_view.chart_batch.max_concurrent_charts:4}") int maxConcurrentCharts) {
+    this.asyncTaskExecutor = asyncTaskExecutor;
+    this.maxConcurrentCharts = Math.max(1, maxConcurrentCharts);
+  }
+
+  /**
+   * @return the result of every chart by chart id, in the order of the request.
+   */
+  public Map<String, StudyViewChartResult> evaluate(
+      StudyViewChartBatchFilter studyViewChartBatchFilter, ChartFetcher chartFetcher) {
+    List<StudyViewChartRequest> charts = studyViewChartBatchFilter.getCharts();
+    StudyViewFilter studyViewFilter = studyViewChartBatchFilter.getStudyViewFilter();
+    Map<String, StudyViewChartResult> results = new LinkedHashMap<>();
+    charts.forEach(chart -> results.put(chart.getId(), null));
+
+    // the charts run with the security context of the request
+    CompletionService<ChartResult> completionService =
+        new ExecutorCompletionService<>(
+            new DelegatingSecurityContextAsyncTaskExecutor(asyncTaskExecutor));
+    List<Future<ChartResult>> futures = new ArrayList<>();
+    int submitted = 0;
+    try {
+      while (submitted < charts.size() && submitted < maxConcurrentCharts) {
+        StudyViewChartRequest chart = charts.get(submitted++);
+        futures.add(completionService.submit(() -> fetch(chart, studyViewFilter, chartFetcher)));
+      }
+      for (int done = 0; done < charts.size(); done++) {
+        ChartResult chartResult = completionService.take().get();
+        results.put(chartResult.id(), chartResult.result());
+        if (submitted < charts.size()) {
+          StudyViewChartRequest chart = charts.get(submitted++);
+          futures.add(completionService.submit(() -> fetch(chart, studyViewFilter, chartFetcher)));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // fetch reports failures instead of throwing
+      LOG.error("Unexpected exception while fetching study view charts", e);
+    } finally {
+      futures.forEach(future -> future.cancel(true));
+    }
+    results.replaceAll(
+        (id, result) ->
+            result == null ? StudyViewChartResult.failure("Chart not fetched") : result);
+    return results;
+  }
+
+  /** The clinical data counts request of a {@code CLINICAL_DATA_COUNTS} chart. */
+  public static ClinicalDataCountFilter toClinicalDataCountFilter(
+      StudyViewChartRequest chart, StudyViewFilter studyViewFilter) {
+    ClinicalDataCountFilter clinicalDataCountFilter = new ClinicalDataCountFilter();
+    clinicalDataCountFilter.setAttributes(
+        getAttributes(chart).stream()
+            .map(
+                attribute -> {
+                  ClinicalDataFilter clinicalDataFilter = new ClinicalDataFilter();
+                  clinicalDataFilter.setAttributeId(attribute.getAttributeId());
+                  return clinicalDataFilter;
+                })
+            .toList());
+    clinicalDataCountFilter.setStudyViewFilter(studyViewFilter);
+    return clinicalDataCountFilter;
+  }
+
+  /** The clinical data bin counts request of a {@code CLINICAL_DATA_BIN_COUNTS} chart. */
+  public static ClinicalDataBinCountFilter toClinicalDataBinCountFilter(
+      StudyViewChartRequest chart, StudyViewFilter studyViewFilter) {
+    ClinicalDataBinCountFilter clinicalDataBinCountFilter = new ClinicalDataBinCountFilter();
+    clinicalDataBinCountFilter.setAttributes(getAttributes(chart));
+    clinicalDataBinCountFilter.setStudyViewFilter(studyViewFilter);
+    return clinicalDataBinCountFilter;
+  }
+
+  private static List<ClinicalDataBinFilter> getAttributes(StudyViewChartRequest chart) {
+    if (chart.getAttributes() == null || chart.getAttributes().isEmpty()) {
+      throw new IllegalArgumentException("Attributes are required for " + chart.getType());
+    }
+    return chart.getAttributes();
+  }
+
+  private ChartResult fetch(
+      StudyViewChartRequest chart, StudyViewFilter studyViewFilter, ChartFetcher chartFetcher) {
+    try {
+      StudyViewFilter chartStudyViewFilter =
+          objectMapper.convertValue(studyViewFilter, StudyViewFilter.class);
+      return new ChartResult(
+          chart.getId(),
+          StudyViewChartResult.success(chartFetcher.fetch(chart, chartStudyViewFilter)));
+    } catch (StudyNotFoundException e) {
+      return new ChartResult(
+          chart.getId(), StudyViewChartResult.failure("Study not found: " + e.getStudyId()));
+    } catch (IllegalArgumentException e) {
+      return new ChartResult(chart.getId(), StudyViewChartResult.failure(e.getMessage()));
+    } catch (Exception e) {
+      LOG.warn("Could not fetch study view chart {} of type {}", chart.getId(), chart.getType(), e);
+      return new ChartResult(
+          chart.getId(), StudyViewChartResult.failure("Could not fetch " + chart.getType()));
+    }
+  }
+
+  private record ChartResult(String id, StudyViewChartResult result) {}
+}
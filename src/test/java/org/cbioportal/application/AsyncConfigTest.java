@@ -0,0 +1,71 @@
+package org.cbioportal.application;
+
+import org.cbioportal.domain.alteration.repository.AlterationRepository;
+import org.cbioportal.domain.alteration.usecase.GetAlterationEnrichmentsUseCase;
+import org.cbioportal.legacy.service.ClinicalAttributeService;
+import org.cbioportal.legacy.web.util.StudyViewCacheWarmUp;
+import org.cbioportal.legacy.web.util.StudyViewChartBatchEvaluator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.context.annotation.UserConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+
+/**
+ * Checks that the beans injecting an {@link AsyncTaskExecutor} can be created next to the {@code
+ * taskScheduler} that scheduling adds, with and without virtual threads.
+ */
+public class AsyncConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+          .withConfiguration(
+              AutoConfigurations.of(
+                  PropertyPlaceholderAutoConfiguration.class,
+                  TaskExecutionAutoConfiguration.class,
+                  TaskSchedulingAutoConfiguration.class))
+          .withConfiguration(UserConfigurations.of(AsyncConfig.class, SchedulingConfig.class))
+          .withBean(AlterationRepository.class, () -> Mockito.mock(AlterationRepository.class))
+          .withBean(
+              ClinicalAttributeService.class, () -> Mockito.mock(ClinicalAttributeService.class))
+          .withBean(GetAlterationEnrichmentsUseCase.class)
+          .withBean(StudyViewChartBatchEvaluator.class)
+          .withBean(StudyViewCacheWarmUp.class);
+
+  @Test
+  public void contextLoadsWithPlatformThreads() {
+    contextRunner.run(
+        context -> {
+          Assert.assertNull(context.getStartupFailure());
+          Assert.assertEquals(1, context.getBeansOfType(TaskScheduler.class).size());
+          Assert.assertSame(
+              context.getBean("getAsyncExecutor"), context.getBean(AsyncTaskExecutor.class));
+          Assert.assertSame(
+              context.getBean(AsyncConfig.ASYNC_EXECUTOR),
+              context.getBean(AsyncTaskExecutor.class));
+        });
+  }
+
+  @Test
+  public void contextLoadsWithVirtualThreads() {
+    contextRunner
+        .withPropertyValues("spring.threads.virtual.enabled=true")
+        .run(
+            context -> {
+              Assert.assertNull(context.getStartupFailure());
+              Assert.assertEquals(1, context.getBeansOfType(TaskScheduler.class).size());
+              Assert.assertSame(
+                  context.getBean("applicationTaskExecutor"),
+                  context.getBean(AsyncTaskExecutor.class));
+              Assert.assertSame(
+                  context.getBean(AsyncConfig.ASYNC_EXECUTOR),
+                  context.getBean(AsyncTaskExecutor.class));
+            });
+  }
+}
@@ -0,0 +1,186 @@
+package org.cbioportal.application.file.export;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.stream.Stream;
+import org.cbioportal.application.file.export.services.ExportArtifactStore;
+import org.cbioportal.application.file.export.services.ExportArtifactStore.Artifact;
+import org.cbioportal.application.file.export.services.ExportArtifactStore.ArtifactWriter;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ExportArtifactStoreTest {
+
+  private static final Date IMPORT_DATE = new Date(1000);
+
+  @TempDir private Path directory;
+
+  @Test
+  public void testCommittedArtifactIsFound() throws IOException {
+    ExportArtifactStore store = createStore(1024);
+    ByteArrayOutputStream client = new ByteArrayOutputStream();
+
+    String eTag = write(store, "study1", IMPORT_DATE, "content".getBytes(), client);
+
+    Artifact artifact = store.find("study1", IMPORT_DATE).orElseThrow();
+    assertEquals(eTag, artifact.eTag());
+    assertEquals(7, artifact.size());
+    assertArrayEquals("content".getBytes(), Files.readAllBytes(artifact.path()));
+    assertArrayEquals("content".getBytes(), client.toByteArray());
+    assertEquals(1, countFiles());
+  }
+
+  @Test
+  public void testArtifactIsCompletedAfterClientDisconnected() throws IOException {
+    ExportArtifactStore store = createStore(1024);
+    OutputStream client =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("Broken pipe");
+          }
+        };
+
+    write(store, "study1", IMPORT_DATE, "content".getBytes(), client);
+
+    Artifact artifact = store.find("study1", IMPORT_DATE).orElseThrow();
+    assertArrayEquals("content".getBytes(), Files.readAllBytes(artifact.path()));
+  }
+
+  @Test
+  public void testUncommittedArtifactIsDiscarded() throws IOException {
+    ExportArtifactStore store = createStore(1024);
+
+    try (ArtifactWriter writer = store.startWriting("study1", IMPORT_DATE).orElseThrow();
+        OutputStream outputStream = writer.tee(new ByteArrayOutputStream())) {
+      outputStream.write("partial".getBytes());
+    }
+
+    assertTrue(store.find("study1", IMPORT_DATE).isEmpty());
+    assertEquals(0, countFiles());
+  }
+
+  @Test
+  public void testNewImportReplacesArtifactOfPreviousImport() throws IOException {
+    ExportArtifactStore store = createStore(1024);
+    write(store, "study1", IMPORT_DATE, "old".getBytes(), new ByteArrayOutputStream());
+    write(store, "study2", IMPORT_DATE, "other".getBytes(), new ByteArrayOutputStream());
+
+    write(store, "study1", new Date(2000), "new".getBytes(), new ByteArrayOutputStream());
+
+    assertTrue(store.find("study1", IMPORT_DATE).isEmpty());
+    assertTrue(store.find("study1", new Date(2000)).isPresent());
+    assertTrue(store.find("study2", IMPORT_DATE).isPresent());
+    assertEquals(2, countFiles());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedArtifactsAreEvictedBeyondMaxSize() throws IOException {
+    ExportArtifactStore store = createStore(10);
+    write(store, "study1", IMPORT_DATE, "1234".getBytes(), new ByteArrayOutputStream());
+    write(store, "study2", IMPORT_DATE, "1234".getBytes(), new ByteArrayOutputStream());
+    store.find("study1", IMPORT_DATE);
+
+    write(store, "study3", IMPORT_DATE, "1234".getBytes(), new ByteArrayOutputStream());
+
+    assertTrue(store.find("study1", IMPORT_DATE).isPresent());
+    assertTrue(store.find("study2", IMPORT_DATE).isEmpty());
+    assertTrue(store.find("study3", IMPORT_DATE).isPresent());
+    assertEquals(2, countFiles());
+  }
+
+  @Test
+  public void testExpiredArtifactIsEvicted() throws IOException {
+    ExportArtifactStore store = createStore(1024);
+    write(store, "study1", IMPORT_DATE, "content".getBytes(), new ByteArrayOutputStream());
+    Path path = store.find("study1", IMPORT_DATE).orElseThrow().path();
+    Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+    // the store is reloaded to pick up the modification time
+    ExportArtifactStore reloadedStore = createStore(1024);
+
+    assertTrue(reloadedStore.find("study1", IMPORT_DATE).isEmpty());
+    assertFalse(Files.exists(path));
+  }
+
+  @Test
+  public void testArtifactsAreReloadedFromDirectory() throws IOException {
+    ExportArtifactStore store = createStore(1024);
+    String eTag =
+        write(store, "study1", IMPORT_DATE, "content".getBytes(), new ByteArrayOutputStream());
+    ArtifactWriter abandonedWriter = store.startWriting("study2", IMPORT_DATE).orElseThrow();
+    abandonedWriter.tee(new ByteArrayOutputStream()).write("partial".getBytes());
+
+    ExportArtifactStore reloadedStore = createStore(1024);
+
+    assertEquals(eTag, reloadedStore.find("study1", IMPORT_DATE).orElseThrow().eTag());
+    assertTrue(reloadedStore.find("study2", IMPORT_DATE).isEmpty());
+    assertEquals(1, countFiles());
+  }
+
+  @Test
+  public void testEveryArtifactHasItsOwnEntityTag() throws IOException, InterruptedException {
+    ExportArtifactStore store = createStore(1024);
+    String first =
+        write(store, "study1", IMPORT_DATE, "content".getBytes(), new ByteArrayOutputStream());
+    Thread.sleep(2);
+
+    String second =
+        write(store, "study1", IMPORT_DATE, "content".getBytes(), new ByteArrayOutputStream());
+
+    assertNotEquals(first, second);
+    assertEquals(second, store.find("study1", IMPORT_DATE).orElseThrow().eTag());
+    assertEquals(1, countFiles());
+  }
+
+  @Test
+  public void testDisabledStoreKeepsNothing() {
+    ExportArtifactStore store =
+        new ExportArtifactStore(
+            new PerformanceMetrics(), false, directory, 1024, Duration.ofDays(1));
+
+    assertTrue(store.startWriting("study1", IMPORT_DATE).isEmpty());
+    assertTrue(store.find("study1", IMPORT_DATE).isEmpty());
+  }
+
+  private ExportArtifactStore createStore(long maxSizeBytes) {
+    return new ExportArtifactStore(
+        new PerformanceMetrics(), true, directory, maxSizeBytes, Duration.ofDays(1));
+  }
+
+  private static String write(
+      ExportArtifactStore store,
+      String studyId,
+      Date importDate,
+      byte[] content,
+      OutputStream client)
+      throws IOException {
+    try (ArtifactWriter writer = store.startWriting(studyId, importDate).orElseThrow()) {
+      try (OutputStream outputStream = writer.tee(client)) {
+        outputStream.write(content);
+      }
+      writer.commit();
+      return writer.getETag();
+    }
+  }
+
+  private long countFiles() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+}
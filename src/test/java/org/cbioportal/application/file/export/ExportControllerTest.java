@@ -0,0 +1,163 @@
+package org.cbioportal.application.file.export;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import org.cbioportal.application.file.export.services.ExportArtifactStore;
+import org.cbioportal.application.file.export.services.VirtualStudyExportDecoratorService;
+import org.cbioportal.application.file.export.services.ZipCompression;
+import org.cbioportal.application.file.utils.FileWriterFactory;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public class ExportControllerTest {
+
+  private static final Date IMPORT_DATE = new Date(1000);
+
+  @TempDir private Path directory;
+
+  private final VirtualStudyExportDecoratorService exportService =
+      mock(VirtualStudyExportDecoratorService.class);
+  private ExportController controller;
+
+  @BeforeEach
+  public void setUp() {
+    controller =
+        new ExportController(
+            exportService,
+            new ExportArtifactStore(
+                new PerformanceMetrics(), true, directory, 1024 * 1024, Duration.ofDays(1)),
+            ZipCompression.SEQUENTIAL);
+    when(exportService.isStudyExportable("study1")).thenReturn(true);
+    when(exportService.exportData(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              FileWriterFactory fileWriterFactory = invocation.getArgument(0);
+              try (Writer writer = fileWriterFactory.newWriter("data.txt")) {
+                writer.write("data");
+              }
+              return true;
+            });
+  }
+
+  @Test
+  public void testRepeatedDownloadIsServedFromArtifact() throws IOException {
+    when(exportService.getStudyImportDate("study1")).thenReturn(IMPORT_DATE);
+
+    ResponseEntity<StreamingResponseBody> first =
+        controller.downloadStudyData("study1", null, null);
+    byte[] exported = body(first);
+    ResponseEntity<StreamingResponseBody> second =
+        controller.downloadStudyData("study1", null, null);
+
+    assertEquals(HttpStatus.OK, second.getStatusCode());
+    assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+    assertEquals(exported.length, second.getHeaders().getContentLength());
+    assertArrayEquals(exported, body(second));
+    verify(exportService, times(1)).exportData(any(), any());
+  }
+
+  @Test
+  public void testRangeIsServedFromArtifact() throws IOException {
+    when(exportService.getStudyImportDate("study1")).thenReturn(IMPORT_DATE);
+    ResponseEntity<StreamingResponseBody> first =
+        controller.downloadStudyData("study1", null, null);
+    byte[] exported = body(first);
+
+    ResponseEntity<StreamingResponseBody> resumed =
+        controller.downloadStudyData("study1", "bytes=10-", first.getHeaders().getETag());
+
+    assertEquals(HttpStatus.PARTIAL_CONTENT, resumed.getStatusCode());
+    assertEquals(
+        "bytes 10-" + (exported.length - 1) + "/" + exported.length,
+        resumed.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    assertArrayEquals(Arrays.copyOfRange(exported, 10, exported.length), body(resumed));
+  }
+
+  @Test
+  public void testRangeOfOtherArtifactIsIgnored() throws IOException {
+    when(exportService.getStudyImportDate("study1")).thenReturn(IMPORT_DATE);
+    byte[] exported = body(controller.downloadStudyData("study1", null, null));
+
+    ResponseEntity<StreamingResponseBody> response =
+        controller.downloadStudyData("study1", "bytes=10-", "\"other\"");
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertArrayEquals(exported, body(response));
+  }
+
+  @Test
+  public void testUnsatisfiableRange() throws IOException {
+    when(exportService.getStudyImportDate("study1")).thenReturn(IMPORT_DATE);
+    byte[] exported = body(controller.downloadStudyData("study1", null, null));
+
+    ResponseEntity<StreamingResponseBody> response =
+        controller.downloadStudyData("study1", "bytes=" + exported.length + "-", null);
+
+    assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+    assertEquals(
+        "bytes */" + exported.length, response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+  }
+
+  @Test
+  public void testVirtualStudyExportIsNotCached() throws IOException {
+    when(exportService.getStudyImportDate("study1")).thenReturn(null);
+
+    ResponseEntity<StreamingResponseBody> first =
+        controller.downloadStudyData("study1", null, null);
+    body(first);
+    body(controller.downloadStudyData("study1", null, null));
+
+    assertNull(first.getHeaders().getETag());
+    verify(exportService, times(2)).exportData(any(), any());
+    try (var files = Files.list(directory)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  @Test
+  public void testFirstDownloadAnnouncesEntityTagOfArtifact() throws IOException {
+    when(exportService.getStudyImportDate("study1")).thenReturn(IMPORT_DATE);
+
+    ResponseEntity<StreamingResponseBody> first =
+        controller.downloadStudyData("study1", null, null);
+
+    assertNotNull(first.getHeaders().getETag());
+    assertEquals("bytes", first.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+  }
+
+  @Test
+  public void testNotExportableStudy() {
+    ResponseEntity<StreamingResponseBody> response =
+        controller.downloadStudyData("study2", null, null);
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+  }
+
+  private static byte[] body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    response.getBody().writeTo(outputStream);
+    return outputStream.toByteArray();
+  }
+}
@@ -0,0 +1,189 @@
+package org.cbioportal.application.file.export;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.cbioportal.application.file.export.services.ParallelZipOutputStream;
+import org.cbioportal.application.file.export.services.ZipCompression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ParallelZipOutputStreamTest {
+
+  @TempDir private Path directory;
+
+  @Test
+  public void testEntriesAreReadBackUnchanged() throws IOException {
+    Map<String, byte[]> entries = entries();
+    for (int level : new int[] {-1, 0, 1, 9}) {
+      for (int threads : new int[] {1, 4}) {
+        try (ZipCompression compression = new ZipCompression(level, threads)) {
+          byte[] zip = zip(entries, compression);
+
+          assertEntries(entries, readWithZipInputStream(zip));
+          assertEntries(entries, readWithZipFile(zip));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCompressionIsCloseToZipOutputStream() throws IOException {
+    Map<String, byte[]> entries = entries();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        zip.putNextEntry(new ZipEntry(entry.getKey()));
+        zip.write(entry.getValue());
+        zip.closeEntry();
+      }
+    }
+
+    try (ZipCompression parallel = new ZipCompression(-1, 4)) {
+      // chunks are compressed independently, but primed with the end of the previous chunk
+      assertTrue(zip(entries, parallel).length < bytes.size() * 1.01);
+    }
+  }
+
+  @Test
+  public void testNoCompressionStoresData() throws IOException {
+    byte[] data = tsv(200_000);
+    try (ZipCompression stored = new ZipCompression(0, 2)) {
+      byte[] zip = zip(Map.of("data.txt", data), stored);
+
+      assertTrue(zip.length > data.length);
+      assertArrayEquals(data, readWithZipFile(zip).get("data.txt"));
+    }
+  }
+
+  @Test
+  public void testManyEntriesUseZip64() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ParallelZipOutputStream zip =
+        new ParallelZipOutputStream(bytes, ZipCompression.SEQUENTIAL)) {
+      for (int i = 0; i < 70_000; i++) {
+        zip.putNextEntry("entry" + i);
+        zip.write(i);
+      }
+    }
+
+    Path file = directory.resolve("many.zip");
+    Files.write(file, bytes.toByteArray());
+    try (ZipFile zipFile = new ZipFile(file.toFile())) {
+      assertEquals(70_000, zipFile.size());
+      ZipEntry last = zipFile.getEntry("entry69999");
+      assertEquals((byte) 69_999, (byte) zipFile.getInputStream(last).read());
+    }
+  }
+
+  @Test
+  public void testDuplicateEntryIsRejected() throws IOException {
+    try (ParallelZipOutputStream zip =
+        new ParallelZipOutputStream(OutputStream.nullOutputStream(), ZipCompression.SEQUENTIAL)) {
+      zip.putNextEntry("data.txt");
+
+      assertThrows(ZipException.class, () -> zip.putNextEntry("data.txt"));
+    }
+  }
+
+  @Test
+  public void testEmptyZip() throws IOException {
+    byte[] zip = zip(Map.of(), ZipCompression.SEQUENTIAL);
+
+    try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+      assertNull(zipInputStream.getNextEntry());
+    }
+    assertTrue(readWithZipFile(zip).isEmpty());
+  }
+
+  private static Map<String, byte[]> entries() {
+    byte[] random = new byte[300_000];
+    new Random(42).nextBytes(random);
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    entries.put("study/meta_study.txt", "type_of_cancer: brca\n".getBytes(StandardCharsets.UTF_8));
+    entries.put("study/empty.txt", new byte[0]);
+    entries.put("study/data_mutations.txt", tsv(1_000_000));
+    entries.put("study/random.bin", random);
+    entries.put("study/überblick.txt", "ü".getBytes(StandardCharsets.UTF_8));
+    // exactly one chunk
+    entries.put("study/chunk.txt", tsv(128 * 1024));
+    return entries;
+  }
+
+  private static byte[] tsv(int length) {
+    StringBuilder tsv = new StringBuilder();
+    Random random = new Random(7);
+    while (tsv.length() < length) {
+      tsv.append("SAMPLE_")
+          .append(random.nextInt(1000))
+          .append('\t')
+          .append(random.nextGaussian())
+          .append('\n');
+    }
+    return tsv.substring(0, length).getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private static byte[] zip(Map<String, byte[]> entries, ZipCompression compression)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ParallelZipOutputStream zip = new ParallelZipOutputStream(bytes, compression)) {
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        zip.putNextEntry(entry.getKey());
+        // in uneven pieces, as the writers of an export do
+        byte[] data = entry.getValue();
+        for (int offset = 0; offset < data.length; offset += 7_777) {
+          zip.write(data, offset, Math.min(7_777, data.length - offset));
+        }
+        zip.closeEntry();
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Map<String, byte[]> readWithZipInputStream(byte[] zip) throws IOException {
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+      ZipEntry entry;
+      while ((entry = zipInputStream.getNextEntry()) != null) {
+        entries.put(entry.getName(), zipInputStream.readAllBytes());
+      }
+    }
+    return entries;
+  }
+
+  private Map<String, byte[]> readWithZipFile(byte[] zip) throws IOException {
+    Path file = Files.createTempFile(directory, "export", ".zip");
+    Files.write(file, zip);
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    try (ZipFile zipFile = new ZipFile(file.toFile())) {
+      for (ZipEntry entry : Collections.list(zipFile.entries())) {
+        entries.put(entry.getName(), zipFile.getInputStream(entry).readAllBytes());
+      }
+    }
+    return entries;
+  }
+
+  private static void assertEntries(Map<String, byte[]> expected, Map<String, byte[]> actual) {
+    assertEquals(expected.keySet(), actual.keySet());
+    expected.forEach((name, data) -> assertArrayEquals(data, actual.get(name), name));
+  }
+}
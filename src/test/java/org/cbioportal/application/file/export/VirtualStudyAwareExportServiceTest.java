@@ -1,5 +1,7 @@
 package org.cbioportal.application.file.export;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
@@ -8,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Date;
 import java.util.Optional;
 import java.util.Set;
 import org.cbioportal.application.file.export.exporters.ExportDetails;
@@ -53,6 +56,23 @@ public class VirtualStudyAwareExportServiceTest {
     verify(exportService).isStudyExportable("STUDY_ID");
   }
 
+  @Test
+  public void testGetStudyImportDateWithVirtualStudy() {
+    when(virtualStudyService.getVirtualStudyByIdIfExists("VIRTUAL_STUDY_ID"))
+        .thenReturn(Optional.of(new VirtualStudy()));
+
+    assertNull(service.getStudyImportDate("VIRTUAL_STUDY_ID"));
+  }
+
+  @Test
+  public void testGetStudyImportDateWithoutVirtualStudy() {
+    Date importDate = new Date();
+    when(virtualStudyService.getVirtualStudyByIdIfExists("STUDY_ID")).thenReturn(Optional.empty());
+    when(exportService.getStudyImportDate("STUDY_ID")).thenReturn(importDate);
+
+    assertEquals(importDate, service.getStudyImportDate("STUDY_ID"));
+  }
+
   @Test
   public void testExportDataForSingleStudy() {
     VirtualStudy virtualStudy = new VirtualStudy();
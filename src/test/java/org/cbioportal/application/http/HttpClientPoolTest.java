@@ -0,0 +1,101 @@
+package org.cbioportal.application.http;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+public class HttpClientPoolTest {
+
+  private StubHttpServer server;
+  private PerformanceMetrics performanceMetrics;
+  private HttpClientPool httpClientPool;
+
+  @Before
+  public void setUp() throws Exception {
+    server =
+        new StubHttpServer()
+            .respond("/sessions", path -> "{\"id\":\"" + path.substring(10) + "\"}")
+            .respond(
+                "/slow",
+                path -> {
+                  try {
+                    Thread.sleep(2000);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  return "{}";
+                });
+    performanceMetrics = new PerformanceMetrics();
+    httpClientPool = new HttpClientPool(performanceMetrics, 20, 4, 1000, 500, 1000, 60000);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    httpClientPool.close();
+    server.close();
+  }
+
+  @Test
+  public void sequentialCallsReuseConnection() {
+    for (int i = 0; i < 5; i++) {
+      Assert.assertEquals(
+          "{\"id\":\"" + i + "\"}",
+          httpClientPool
+              .getRestTemplate()
+              .getForObject(server.getUrl() + "/sessions/" + i, String.class));
+    }
+
+    Assert.assertEquals(1, server.getRemotePorts().size());
+  }
+
+  @Test
+  public void supplyAsyncFansOutWithinPoolLimit() {
+    List<CompletableFuture<String>> futures =
+        IntStream.range(0, 20)
+            .mapToObj(
+                i ->
+                    httpClientPool.supplyAsync(
+                        () ->
+                            httpClientPool
+                                .getRestTemplate()
+                                .getForObject(server.getUrl() + "/sessions/" + i, String.class)))
+            .toList();
+
+    for (int i = 0; i < futures.size(); i++) {
+      Assert.assertEquals("{\"id\":\"" + i + "\"}", futures.get(i).join());
+    }
+    Assert.assertTrue(server.getRemotePorts().size() <= 4);
+  }
+
+  @Test
+  public void latencyIsRecordedPerTarget() {
+    httpClientPool.getRestTemplate().getForObject(server.getUrl() + "/sessions/a", String.class);
+    httpClientPool.getRestTemplate().getForObject(server.getUrl() + "/sessions/b", String.class);
+
+    Map<String, PerformanceMetrics.HttpCallSnapshot> httpCalls =
+        performanceMetrics.getHttpCallStatistics();
+    PerformanceMetrics.HttpCallSnapshot stats = httpCalls.get(server.getUrl());
+    Assert.assertEquals(1, httpCalls.size());
+    Assert.assertEquals(2, stats.latencies().count());
+    Assert.assertEquals(0, stats.errors());
+    Assert.assertTrue(stats.latencies().maxMillis() >= stats.latencies().meanMillis());
+  }
+
+  @Test
+  public void slowResponseTimesOut() {
+    Assert.assertThrows(
+        ResourceAccessException.class,
+        () ->
+            httpClientPool.getRestTemplate().getForObject(server.getUrl() + "/slow", String.class));
+
+    Assert.assertEquals(
+        1, performanceMetrics.getHttpCallStatistics().get(server.getUrl()).errors());
+  }
+}
@@ -0,0 +1,56 @@
+package org.cbioportal.application.http;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Local HTTP server for tests of code that calls other services. Each path answers with the body
+ * returned by its handler; the remote ports of the accepted requests tell how many connections were
+ * used.
+ */
+public class StubHttpServer implements AutoCloseable {
+
+  private final HttpServer server;
+  private final Set<Integer> remotePorts = ConcurrentHashMap.newKeySet();
+
+  public StubHttpServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.start();
+  }
+
+  /** Answers requests to {@code path} with status 200 and the body returned by {@code handler}. */
+  public StubHttpServer respond(String path, Function<String, String> handler) {
+    server.createContext(
+        path,
+        exchange -> {
+          remotePorts.add(exchange.getRemoteAddress().getPort());
+          byte[] body =
+              handler.apply(exchange.getRequestURI().getPath()).getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    return this;
+  }
+
+  public String getUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  public Set<Integer> getRemotePorts() {
+    return remotePorts;
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+}
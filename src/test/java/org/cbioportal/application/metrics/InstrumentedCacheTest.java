@@ -0,0 +1,40 @@
+package org.cbioportal.application.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+public class InstrumentedCacheTest {
+
+  private final PerformanceMetrics performanceMetrics = new PerformanceMetrics();
+  private final Cache cache =
+      new InstrumentedCache(new ConcurrentMapCache("GeneralRepositoryCache"), performanceMetrics);
+
+  @Test
+  public void getRecordsHitsMissesAndLoads() {
+    Assert.assertNull(cache.get("key"));
+    cache.put("key", "value");
+    Assert.assertEquals("value", cache.get("key").get());
+    cache.put("other", "value");
+
+    PerformanceMetrics.CacheSnapshot snapshot =
+        performanceMetrics.getCacheStatistics().get("GeneralRepositoryCache");
+    Assert.assertEquals(1, snapshot.hits());
+    Assert.assertEquals(1, snapshot.misses());
+    Assert.assertEquals(1, snapshot.loads().count());
+    Assert.assertEquals(0.5, snapshot.hitRate(), 0);
+  }
+
+  @Test
+  public void getWithLoaderRecordsLoadOnce() {
+    Assert.assertEquals("value", cache.get("key", () -> "value"));
+    Assert.assertEquals("value", cache.get("key", () -> "other value"));
+
+    PerformanceMetrics.CacheSnapshot snapshot =
+        performanceMetrics.getCacheStatistics().get("GeneralRepositoryCache");
+    Assert.assertEquals(1, snapshot.hits());
+    Assert.assertEquals(1, snapshot.misses());
+    Assert.assertEquals(1, snapshot.loads().count());
+  }
+}
@@ -0,0 +1,36 @@
+package org.cbioportal.application.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void snapshotEstimatesPercentilesFromBuckets() {
+    LatencyHistogram latencyHistogram = new LatencyHistogram();
+    for (int i = 0; i < 98; i++) {
+      latencyHistogram.record(20);
+    }
+    latencyHistogram.record(700);
+    latencyHistogram.record(45000);
+
+    LatencyHistogram.Snapshot snapshot = latencyHistogram.snapshot();
+    Assert.assertEquals(100, snapshot.count());
+    Assert.assertEquals(45000, snapshot.maxMillis());
+    Assert.assertEquals(25, snapshot.p50Millis());
+    Assert.assertEquals(25, snapshot.p95Millis());
+    Assert.assertEquals(1000, snapshot.p99Millis());
+    Assert.assertEquals(Long.valueOf(98), snapshot.buckets().get("le_25"));
+    Assert.assertEquals(Long.valueOf(1), snapshot.buckets().get("le_inf"));
+    Assert.assertEquals((98 * 20 + 700 + 45000) / 100, snapshot.meanMillis());
+  }
+
+  @Test
+  public void snapshotOfEmptyHistogram() {
+    LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+    Assert.assertEquals(0, snapshot.count());
+    Assert.assertEquals(0, snapshot.p99Millis());
+    Assert.assertEquals(0, snapshot.meanMillis());
+  }
+}
@@ -0,0 +1,68 @@
+package org.cbioportal.application.metrics;
+
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatementTimingInterceptorTest {
+
+  private static final String STATEMENT_ID =
+      "org.cbioportal.legacy.persistence.mybatis.SampleMapper.getSamples";
+
+  @Mock private Executor executor;
+  @Mock private SqlSource sqlSource;
+
+  private final PerformanceMetrics performanceMetrics = new PerformanceMetrics();
+
+  @Test
+  public void interceptRecordsStatementLatency() throws Throwable {
+    MappedStatement mappedStatement =
+        new MappedStatement.Builder(
+                new Configuration(), STATEMENT_ID, sqlSource, SqlCommandType.SELECT)
+            .build();
+    Map<String, Object> parameters = Map.of("studyIds", List.of("study_1"));
+    when(executor.query(mappedStatement, parameters, RowBounds.DEFAULT, null))
+        .thenReturn(List.of("S1", "S2"));
+    Invocation invocation =
+        new Invocation(
+            executor,
+            Executor.class.getMethod(
+                "query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class),
+            new Object[] {mappedStatement, parameters, RowBounds.DEFAULT, null});
+
+    Assert.assertEquals(
+        List.of("S1", "S2"),
+        new StatementTimingInterceptor(performanceMetrics, 0).intercept(invocation));
+    Assert.assertEquals(1, performanceMetrics.getStatementLatencies().get(STATEMENT_ID).count());
+  }
+
+  @Test
+  public void describeParameterSizesSkipsScalarsAndGenericNames() {
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put("studyIds", List.of("study_1", "study_2"));
+    parameters.put("sampleIds", new String[] {"S1", "S2", "S3"});
+    parameters.put("projection", "SUMMARY");
+    parameters.put("param1", List.of("study_1", "study_2"));
+
+    Assert.assertEquals(
+        "{studyIds=2, sampleIds=3}", StatementTimingInterceptor.describeParameterSizes(parameters));
+    Assert.assertEquals("{}", StatementTimingInterceptor.describeParameterSizes("study_1"));
+    Assert.assertEquals("2", StatementTimingInterceptor.countRows(List.of("S1", "S2")));
+  }
+}
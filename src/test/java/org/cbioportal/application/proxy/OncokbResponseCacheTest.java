@@ -0,0 +1,142 @@
+package org.cbioportal.application.proxy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+public class OncokbResponseCacheTest {
+
+  private static final String PATH = "/annotate/mutations/byProteinChange";
+
+  private final PerformanceMetrics performanceMetrics = new PerformanceMetrics();
+  private final OncokbResponseCache oncokbResponseCache =
+      new OncokbResponseCache(performanceMetrics, true, 3600, 100);
+  private final AtomicInteger calls = new AtomicInteger();
+  private final Supplier<String> loader = () -> "annotation-" + calls.incrementAndGet();
+
+  @Test
+  public void getResponseCachesAnnotationsIgnoringPropertyOrder() {
+    Assert.assertEquals(
+        "annotation-1",
+        oncokbResponseCache.getResponse(
+            HttpMethod.POST,
+            PATH,
+            null,
+            "[{\"hugoSymbol\":\"BRAF\",\"alteration\":\"V600E\"}]",
+            headers("Bearer a"),
+            loader));
+    Assert.assertEquals(
+        "annotation-1",
+        oncokbResponseCache.getResponse(
+            HttpMethod.POST,
+            PATH,
+            null,
+            "[{\"alteration\":\"V600E\", \"hugoSymbol\":\"BRAF\"}]",
+            headers("Bearer a"),
+            loader));
+
+    PerformanceMetrics.CacheSnapshot stats =
+        performanceMetrics.getCacheStatistics().get(OncokbResponseCache.CACHE_NAME);
+    Assert.assertEquals(1, stats.hits());
+    Assert.assertEquals(1, stats.misses());
+    Assert.assertEquals(0.5, stats.hitRate(), 0);
+    Assert.assertEquals(1, stats.loads().count());
+  }
+
+  @Test
+  public void getResponseDoesNotShareResponsesBetweenTokens() {
+    oncokbResponseCache.getResponse(
+        HttpMethod.GET, "/info", null, null, headers("Bearer a"), loader);
+
+    Assert.assertEquals(
+        "annotation-2",
+        oncokbResponseCache.getResponse(
+            HttpMethod.GET, "/info", null, null, headers("Bearer b"), loader));
+  }
+
+  @Test
+  public void getResponseForwardsNonIdempotentRequests() {
+    oncokbResponseCache.getResponse(
+        HttpMethod.POST, "/tracking", null, "{}", headers(null), loader);
+    oncokbResponseCache.getResponse(
+        HttpMethod.POST, "/tracking", null, "{}", headers(null), loader);
+
+    Assert.assertEquals(2, calls.get());
+    Assert.assertEquals(0, oncokbResponseCache.size());
+    Assert.assertTrue(performanceMetrics.getCacheStatistics().isEmpty());
+  }
+
+  @Test
+  public void getResponseDoesNotCacheFailures() {
+    Assert.assertThrows(
+        IllegalStateException.class,
+        () ->
+            oncokbResponseCache.getResponse(
+                HttpMethod.GET,
+                "/info",
+                null,
+                null,
+                headers(null),
+                () -> {
+                  throw new IllegalStateException("OncoKB is down");
+                }));
+
+    Assert.assertEquals(
+        "annotation-1",
+        oncokbResponseCache.getResponse(
+            HttpMethod.GET, "/info", null, null, headers(null), loader));
+  }
+
+  @Test
+  public void getResponseCoalescesConcurrentIdenticalRequests() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> first =
+        CompletableFuture.supplyAsync(
+            () ->
+                oncokbResponseCache.getResponse(
+                    HttpMethod.GET,
+                    "/info",
+                    null,
+                    null,
+                    headers(null),
+                    () -> {
+                      loading.countDown();
+                      try {
+                        release.await();
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                      return loader.get();
+                    }));
+    Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> second =
+        CompletableFuture.supplyAsync(
+            () ->
+                oncokbResponseCache.getResponse(
+                    HttpMethod.GET, "/info", null, null, headers(null), loader));
+    Thread.sleep(100);
+    release.countDown();
+
+    Assert.assertEquals("annotation-1", first.get(5, TimeUnit.SECONDS));
+    Assert.assertEquals("annotation-1", second.get(5, TimeUnit.SECONDS));
+    Assert.assertEquals(1, calls.get());
+  }
+
+  private HttpHeaders headers(String authorization) {
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+    if (authorization != null) {
+      httpHeaders.set(HttpHeaders.AUTHORIZATION, authorization);
+    }
+    return httpHeaders;
+  }
+}
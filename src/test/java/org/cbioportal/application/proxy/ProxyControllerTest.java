@@ -0,0 +1,73 @@
+package org.cbioportal.application.proxy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cbioportal.application.http.HttpClientPool;
+import org.cbioportal.application.http.StubHttpServer;
+import org.cbioportal.application.metrics.PerformanceMetrics;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ProxyControllerTest {
+
+  private final AtomicInteger oncokbCalls = new AtomicInteger();
+  private StubHttpServer oncokb;
+  private HttpClientPool httpClientPool;
+  private ProxyController proxyController;
+
+  @Before
+  public void setUp() throws Exception {
+    oncokb =
+        new StubHttpServer()
+            .respond(
+                "/api/v1/annotate",
+                path ->
+                    "[{\"query\":\""
+                        + path
+                        + "\",\"call\":"
+                        + oncokbCalls.incrementAndGet()
+                        + "}]");
+    httpClientPool = new HttpClientPool(new PerformanceMetrics(), 20, 4, 1000, 1000, 1000, 60000);
+    proxyController = new ProxyController();
+    ReflectionTestUtils.setField(proxyController, "httpClientPool", httpClientPool);
+    ReflectionTestUtils.setField(
+        proxyController,
+        "oncokbResponseCache",
+        new OncokbResponseCache(new PerformanceMetrics(), true, 3600, 100));
+    ReflectionTestUtils.setField(proxyController, "oncokbApiUrl", oncokb.getUrl() + "/api/v1");
+    ReflectionTestUtils.setField(proxyController, "showOncokb", true);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    httpClientPool.close();
+    oncokb.close();
+  }
+
+  @Test
+  public void devProxyOncokbAnswersRepeatedAnnotationsFromCache() throws Exception {
+    String first = annotate("token");
+    String second = annotate("token");
+    String otherToken = annotate("other-token");
+
+    Assert.assertEquals(
+        "[{\"query\":\"/api/v1/annotate/mutations/byProteinChange\",\"call\":1}]", first);
+    Assert.assertEquals(first, second);
+    Assert.assertNotEquals(first, otherToken);
+    Assert.assertEquals(2, oncokbCalls.get());
+  }
+
+  private String annotate(String token) throws Exception {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("POST", "/proxy/dev/oncokb/annotate/mutations/byProteinChange");
+    request.setPathInfo("/dev/oncokb/annotate/mutations/byProteinChange");
+    request.addHeader("Content-Type", "application/json");
+    request.addHeader("X-Proxy-User-Agreement", token);
+    return proxyController.devProxyOncokb(
+        "[{\"hugoSymbol\":\"BRAF\",\"alteration\":\"V600E\"}]", HttpMethod.POST, request);
+  }
+}
@@ -0,0 +1,155 @@
+package org.cbioportal.application.security;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cbioportal.legacy.model.CancerStudy;
+import org.cbioportal.legacy.persistence.cachemaputil.CacheMapUtil;
+import org.cbioportal.legacy.utils.security.AccessLevel;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CancerStudyPermissionEvaluatorTest {
+
+  private static final String COLLECTION_OF_CANCER_STUDY_IDS = "Collection<CancerStudyId>";
+
+  @Mock private CacheMapUtil cacheMapUtil;
+
+  private final Authentication authentication =
+      new TestingAuthenticationToken("user", null, "ROLE_GROUP_A", "study_c");
+
+  private CancerStudyPermissionEvaluator cancerStudyPermissionEvaluator;
+  private final AtomicInteger groupLookups = new AtomicInteger();
+
+  @Before
+  public void setUp() {
+    when(cacheMapUtil.getCancerStudyMap())
+        .thenReturn(
+            Map.of(
+                "study_a", cancerStudy("study_a", "GROUP_A;"),
+                "study_b", cancerStudy("study_b", "GROUP_B"),
+                "study_c", cancerStudy("study_c", "")));
+    groupLookups.set(0);
+    when(cacheMapUtil.getCancerStudyGroupMap())
+        .thenReturn(
+            new HashMap<>(
+                Map.of(
+                    "study_a",
+                    Set.of("GROUP_A"),
+                    "study_b",
+                    Set.of("GROUP_B"),
+                    "study_c",
+                    Set.of())) {
+              @Override
+              public Set<String> getOrDefault(Object key, Set<String> defaultValue) {
+                groupLookups.incrementAndGet();
+                return super.getOrDefault(key, defaultValue);
+              }
+            });
+    cancerStudyPermissionEvaluator =
+        new CancerStudyPermissionEvaluator("", "false", null, cacheMapUtil, 60000);
+  }
+
+  @Test
+  public void hasPermissionOnCollectionOfStudyIds() {
+    Assert.assertTrue(
+        cancerStudyPermissionEvaluator.hasPermission(
+            authentication,
+            (Serializable) List.of("study_a", "study_c"),
+            COLLECTION_OF_CANCER_STUDY_IDS,
+            AccessLevel.READ));
+    Assert.assertFalse(
+        cancerStudyPermissionEvaluator.hasPermission(
+            authentication,
+            (Serializable) List.of("study_a", "study_b"),
+            COLLECTION_OF_CANCER_STUDY_IDS,
+            AccessLevel.READ));
+  }
+
+  @Test
+  public void hasPermissionResolvesStudyAccessOncePerAuthorities() {
+    for (int i = 0; i < 10; i++) {
+      cancerStudyPermissionEvaluator.hasPermission(
+          authentication, "study_a", "CancerStudyId", AccessLevel.READ);
+      cancerStudyPermissionEvaluator.hasPermission(
+          new TestingAuthenticationToken("other_user", null, "ROLE_GROUP_A", "study_c"),
+          "study_b",
+          "CancerStudyId",
+          AccessLevel.READ);
+    }
+
+    // the groups of each of the 3 studies are looked up once, when access is resolved
+    Assert.assertEquals(3, groupLookups.get());
+  }
+
+  @Test
+  public void hasPermissionResolvesStudyAccessAgainAfterRefresh() {
+    Assert.assertFalse(
+        cancerStudyPermissionEvaluator.hasPermission(
+            authentication, "study_b", "CancerStudyId", AccessLevel.READ));
+
+    when(cacheMapUtil.getCancerStudyMap())
+        .thenReturn(
+            Map.of(
+                "study_a", cancerStudy("study_a", "GROUP_A;"),
+                "study_b", cancerStudy("study_b", "GROUP_A"),
+                "study_c", cancerStudy("study_c", "")));
+    when(cacheMapUtil.getCancerStudyGroupMap())
+        .thenReturn(
+            Map.of(
+                "study_a", Set.of("GROUP_A"), "study_b", Set.of("GROUP_A"), "study_c", Set.of()));
+
+    Assert.assertTrue(
+        cancerStudyPermissionEvaluator.hasPermission(
+            authentication, "study_b", "CancerStudyId", AccessLevel.READ));
+  }
+
+  @Test
+  public void hasPermissionWithoutStudyAccessTtlChecksStudiesOneByOne() {
+    CancerStudyPermissionEvaluator uncachedPermissionEvaluator =
+        new CancerStudyPermissionEvaluator("", "false", null, cacheMapUtil);
+
+    Assert.assertTrue(
+        uncachedPermissionEvaluator.hasPermission(
+            authentication, "study_a", "CancerStudyId", AccessLevel.READ));
+    Assert.assertFalse(
+        uncachedPermissionEvaluator.hasPermission(
+            authentication, "study_b", "CancerStudyId", AccessLevel.READ));
+
+    verify(cacheMapUtil, never()).getCancerStudyGroupMap();
+  }
+
+  @Test
+  public void hasPermissionEvaluatesStudyWithChangedGroups() {
+    Assert.assertFalse(
+        cancerStudyPermissionEvaluator.hasPermission(
+            authentication, cancerStudy("study_b", "GROUP_B"), AccessLevel.READ));
+    Assert.assertTrue(
+        cancerStudyPermissionEvaluator.hasPermission(
+            authentication, cancerStudy("study_b", "GROUP_A;GROUP_B"), AccessLevel.READ));
+    Assert.assertTrue(
+        cancerStudyPermissionEvaluator.hasPermission(
+            authentication, cancerStudy("study_d", "GROUP_A"), AccessLevel.READ));
+  }
+
+  private CancerStudy cancerStudy(String cancerStudyIdentifier, String groups) {
+    CancerStudy cancerStudy = new CancerStudy();
+    cancerStudy.setCancerStudyIdentifier(cancerStudyIdentifier);
+    cancerStudy.setGroups(groups);
+    return cancerStudy;
+  }
+}
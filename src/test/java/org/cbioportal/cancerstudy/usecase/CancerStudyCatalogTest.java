@@ -0,0 +1,84 @@
+package org.cbioportal.cancerstudy.usecase;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.cbioportal.domain.cancerstudy.repository.CancerStudyRepository;
+import org.cbioportal.domain.cancerstudy.usecase.CancerStudyCatalog;
+import org.cbioportal.legacy.service.StaticDataTimestampService;
+import org.cbioportal.shared.SortAndSearchCriteria;
+import org.cbioportal.shared.enums.ProjectionType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CancerStudyCatalogTest {
+
+  @Mock CancerStudyRepository cancerStudyRepository;
+
+  @Mock StaticDataTimestampService staticDataTimestampService;
+
+  private CancerStudyCatalog cancerStudyCatalog;
+
+  @Before
+  public void setUp() {
+    cancerStudyCatalog =
+        new CancerStudyCatalog(cancerStudyRepository, staticDataTimestampService, true);
+  }
+
+  @Test
+  public void testRefreshRebuildsOnlyWhenTimestampsChange() {
+    when(staticDataTimestampService.getTimestamps(anyList()))
+        .thenReturn(Map.of("cancer_study", "2024-01-01 10:00:00"))
+        .thenReturn(Map.of("cancer_study", "2024-01-01 10:00:00"))
+        .thenReturn(Map.of("cancer_study", "2024-02-01 10:00:00"));
+    when(cancerStudyRepository.getCancerStudiesMetadata(any(SortAndSearchCriteria.class)))
+        .thenReturn(List.of());
+    when(cancerStudyRepository.getCancerStudiesMetadataSummary(any(SortAndSearchCriteria.class)))
+        .thenReturn(List.of());
+
+    cancerStudyCatalog.refresh();
+    CancerStudyCatalog.Snapshot first = cancerStudyCatalog.current();
+    cancerStudyCatalog.refresh();
+    Assert.assertSame(first, cancerStudyCatalog.current());
+    cancerStudyCatalog.refresh();
+
+    Assert.assertNotNull(first);
+    Assert.assertNotEquals(first.version(), cancerStudyCatalog.current().version());
+    verify(cancerStudyRepository, times(2))
+        .getCancerStudiesMetadataSummary(any(SortAndSearchCriteria.class));
+  }
+
+  @Test
+  public void testRefreshWithoutTimestampsKeepsNoSnapshot() {
+    when(staticDataTimestampService.getTimestamps(anyList())).thenReturn(Map.of());
+
+    cancerStudyCatalog.refresh();
+
+    Assert.assertNull(cancerStudyCatalog.current());
+    verify(cancerStudyRepository, never()).getCancerStudiesMetadata(any());
+  }
+
+  @Test
+  public void testETagDependsOnProjection() {
+    var snapshot = new CancerStudyCatalog.Snapshot("v1", List.of(), List.of());
+
+    Assert.assertEquals(
+        snapshot.eTag(ProjectionType.SUMMARY, List.of()),
+        snapshot.eTag(ProjectionType.SUMMARY, List.of()));
+    Assert.assertNotEquals(
+        snapshot.eTag(ProjectionType.SUMMARY, List.of()),
+        snapshot.eTag(ProjectionType.DETAILED, List.of()));
+    Assert.assertTrue(snapshot.eTag(ProjectionType.SUMMARY, List.of()).startsWith("\""));
+  }
+}
@@ -2,8 +2,13 @@ package org.cbioportal.cancerstudy.usecase;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import java.util.List;
+import org.cbioportal.domain.cancerstudy.CancerStudyMetadata;
 import org.cbioportal.domain.cancerstudy.repository.CancerStudyRepository;
+import org.cbioportal.domain.cancerstudy.usecase.CancerStudyCatalog;
 import org.cbioportal.domain.cancerstudy.usecase.GetCancerStudyMetadataUseCase;
 import org.cbioportal.shared.SortAndSearchCriteria;
 import org.cbioportal.shared.enums.ProjectionType;
@@ -21,6 +26,8 @@ public class GetCancerStudyMetadataUseCaseTest {
 
   @Mock CancerStudyRepository cancerStudyRepository;
 
+  @Mock CancerStudyCatalog cancerStudyCatalog;
+
   @Test
   public void testExecuteWithProjectionTypeSummary() {
     getCancerStudyMetadataUseCase.execute(
@@ -42,4 +49,29 @@ public class GetCancerStudyMetadataUseCaseTest {
             .execute(ProjectionType.META, new SortAndSearchCriteria("", "", "", null, null))
             .isEmpty());
   }
+
+  @Test
+  public void testExecuteServesUnfilteredListFromSnapshot() {
+    List<CancerStudyMetadata> summary = List.of();
+    when(cancerStudyCatalog.current())
+        .thenReturn(new CancerStudyCatalog.Snapshot("v1", List.of(), summary));
+
+    var result =
+        getCancerStudyMetadataUseCase.execute(
+            ProjectionType.SUMMARY, new SortAndSearchCriteria(null, "", "ASC", null, null));
+
+    Assert.assertEquals(summary, result);
+    verifyNoInteractions(cancerStudyRepository);
+  }
+
+  @Test
+  public void testExecuteWithKeywordBypassesSnapshot() {
+    when(cancerStudyCatalog.current())
+        .thenReturn(new CancerStudyCatalog.Snapshot("v1", List.of(), List.of()));
+
+    getCancerStudyMetadataUseCase.execute(
+        ProjectionType.SUMMARY, new SortAndSearchCriteria("brca", "", "ASC", null, null));
+
+    verify(cancerStudyRepository).getCancerStudiesMetadataSummary(any(SortAndSearchCriteria.class));
+  }
 }
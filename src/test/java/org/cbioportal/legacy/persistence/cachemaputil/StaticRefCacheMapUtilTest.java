@@ -0,0 +1,124 @@
+package org.cbioportal.legacy.persistence.cachemaputil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cbioportal.legacy.model.CancerStudy;
+import org.cbioportal.legacy.model.MolecularProfile;
+import org.cbioportal.legacy.model.SampleList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StaticRefCacheMapUtilTest {
+
+  @InjectMocks private StaticRefCacheMapUtil cacheMapUtil;
+
+  @Mock private CacheMapBuilder cacheMapBuilder;
+
+  @Before
+  public void setUp() {
+    when(cacheMapBuilder.buildCancerStudyMap())
+        .thenReturn(studies(study("study1", 1), study("study2", 1)));
+    when(cacheMapBuilder.buildMolecularProfileMap())
+        .thenReturn(
+            Map.of(
+                "study1_mutations", profile("study1_mutations", "study1"),
+                "study2_mutations", profile("study2_mutations", "study2")));
+    when(cacheMapBuilder.buildSampleListMap())
+        .thenReturn(
+            Map.of(
+                "study1_all", sampleList("study1_all", "study1"),
+                "study2_all", sampleList("study2_all", "study2")));
+    when(cacheMapBuilder.buildCancerStudyGroupMap(any())).thenReturn(Map.of());
+    cacheMapUtil.initializeCacheMemory();
+  }
+
+  @Test
+  public void refreshCacheMemoryReloadsReimportedStudiesOnly() {
+    when(cacheMapBuilder.buildCancerStudyMap())
+        .thenReturn(studies(study("study1", 1), study("study2", 2)));
+    MolecularProfile reimportedProfile = profile("study2_cna", "study2");
+    when(cacheMapBuilder.buildMolecularProfileMap(List.of("study2")))
+        .thenReturn(Map.of("study2_cna", reimportedProfile));
+    when(cacheMapBuilder.buildSampleListMap(List.of("study2"))).thenReturn(Map.of());
+    MolecularProfile unchangedProfile =
+        cacheMapUtil.getMolecularProfileMap().get("study1_mutations");
+
+    cacheMapUtil.refreshCacheMemory(List.of());
+
+    assertEquals(
+        Set.of("study1_mutations", "study2_cna"), cacheMapUtil.getMolecularProfileMap().keySet());
+    assertSame(unchangedProfile, cacheMapUtil.getMolecularProfileMap().get("study1_mutations"));
+    assertSame(reimportedProfile, cacheMapUtil.getMolecularProfileMap().get("study2_cna"));
+    assertEquals(Set.of("study1_all"), cacheMapUtil.getSampleListMap().keySet());
+  }
+
+  @Test
+  public void refreshCacheMemoryDropsRemovedStudies() {
+    when(cacheMapBuilder.buildCancerStudyMap()).thenReturn(studies(study("study1", 1)));
+
+    cacheMapUtil.refreshCacheMemory(List.of("study2"));
+
+    verify(cacheMapBuilder, never()).buildMolecularProfileMap(anyList());
+    verify(cacheMapBuilder, never()).buildSampleListMap(anyList());
+    assertEquals(Set.of("study1"), cacheMapUtil.getCancerStudyMap().keySet());
+    assertEquals(Set.of("study1_mutations"), cacheMapUtil.getMolecularProfileMap().keySet());
+    assertEquals(Set.of("study1_all"), cacheMapUtil.getSampleListMap().keySet());
+  }
+
+  @Test
+  public void refreshCacheMemoryReloadsRequestedStudies() {
+    when(cacheMapBuilder.buildMolecularProfileMap(List.of("study1"))).thenReturn(Map.of());
+    when(cacheMapBuilder.buildSampleListMap(List.of("study1")))
+        .thenReturn(Map.of("study1_cnaseq", sampleList("study1_cnaseq", "study1")));
+
+    cacheMapUtil.refreshCacheMemory(List.of("study1"));
+
+    assertEquals(Set.of("study2_mutations"), cacheMapUtil.getMolecularProfileMap().keySet());
+    assertEquals(Set.of("study1_cnaseq", "study2_all"), cacheMapUtil.getSampleListMap().keySet());
+  }
+
+  private static Map<String, CancerStudy> studies(CancerStudy... studies) {
+    Map<String, CancerStudy> studyMap = new HashMap<>();
+    for (CancerStudy study : studies) {
+      studyMap.put(study.getCancerStudyIdentifier(), study);
+    }
+    return studyMap;
+  }
+
+  private static CancerStudy study(String studyId, long importDate) {
+    CancerStudy study = new CancerStudy();
+    study.setCancerStudyIdentifier(studyId);
+    study.setImportDate(new Date(importDate));
+    return study;
+  }
+
+  private static MolecularProfile profile(String molecularProfileId, String studyId) {
+    MolecularProfile profile = new MolecularProfile();
+    profile.setStableId(molecularProfileId);
+    profile.setCancerStudyIdentifier(studyId);
+    return profile;
+  }
+
+  private static SampleList sampleList(String sampleListId, String studyId) {
+    SampleList sampleList = new SampleList();
+    sampleList.setStableId(sampleListId);
+    sampleList.setCancerStudyIdentifier(studyId);
+    return sampleList;
+  }
+}
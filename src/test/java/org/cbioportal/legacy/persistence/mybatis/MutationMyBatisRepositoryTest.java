@@ -3,9 +3,12 @@ package org.cbioportal.legacy.persistence.mybatis;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import javax.sql.DataSource;
 import org.cbioportal.legacy.AbstractLegacyTestcontainers;
 import org.cbioportal.legacy.model.AlleleSpecificCopyNumber;
 import org.cbioportal.legacy.model.Gene;
@@ -13,6 +16,7 @@ import org.cbioportal.legacy.model.GeneFilterQuery;
 import org.cbioportal.legacy.model.GenomicDataCountItem;
 import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationCountByPosition;
+import org.cbioportal.legacy.model.MutationSpectrum;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 import org.cbioportal.legacy.model.util.Select;
 import org.cbioportal.legacy.persistence.config.MyBatisLegacyConfig;
@@ -25,6 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
@@ -89,6 +94,8 @@ public class MutationMyBatisRepositoryTest {
 
   @Autowired private MutationMyBatisRepository mutationMyBatisRepository;
 
+  @Autowired private DataSource dataSource;
+
   @Before
   public void init() {
     molecularProfileIds = new ArrayList<>();
@@ -997,6 +1004,118 @@ public class MutationMyBatisRepositoryTest {
     Assert.assertEquals((Integer) 2, result.getSampleCount());
   }
 
+  @Test
+  public void getMutationSpectrumsInMolecularProfileBySampleListId() throws Exception {
+
+    List<MutationSpectrum> result =
+        mutationMyBatisRepository.getMutationSpectrumsInMolecularProfileBySampleListId(
+            "study_tcga_pub_mutations", "study_tcga_pub_all");
+
+    List<Mutation> mutations =
+        mutationMyBatisRepository.getMutationsInMolecularProfileBySampleListId(
+            "study_tcga_pub_mutations",
+            "study_tcga_pub_all",
+            null,
+            true,
+            "SUMMARY",
+            null,
+            null,
+            null,
+            null);
+    Assert.assertEquals(countSubstitutions(mutations), toSubstitutionCounts(result));
+  }
+
+  @Test
+  public void fetchMutationSpectrumsInMolecularProfile() throws Exception {
+
+    List<MutationSpectrum> result =
+        mutationMyBatisRepository.fetchMutationSpectrumsInMolecularProfile(
+            "study_tcga_pub_mutations", sampleIds);
+
+    List<Mutation> mutations =
+        mutationMyBatisRepository.fetchMutationsInMolecularProfile(
+            "study_tcga_pub_mutations", sampleIds, null, true, "SUMMARY", null, null, null, null);
+    Assert.assertEquals(countSubstitutions(mutations), toSubstitutionCounts(result));
+    result.forEach(
+        mutationSpectrum ->
+            Assert.assertEquals(
+                "study_tcga_pub_mutations", mutationSpectrum.getMolecularProfileId()));
+  }
+
+  @Test
+  public void fetchMutationSpectrumsInMolecularProfileWithSecondMutationProfile() throws Exception {
+
+    // a C>T mutation of TCGA-A1-A0SB-01 in another mutation profile of study_tcga_pub
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.update(
+        "INSERT INTO mutation_derived (molecularProfileId, sampleId, sampleInternalId, patientId,"
+            + " entrezGeneId, studyId, referenceAllele, tumorSeqAllele, mutationType)"
+            + " VALUES ('study_tcga_pub_mutations_2', 'TCGA-A1-A0SB-01', 1, 'TCGA-A1-A0SB', 207,"
+            + " 'study_tcga_pub', 'C', 'T', 'Missense_Mutation')");
+    try {
+      List<MutationSpectrum> result =
+          mutationMyBatisRepository.fetchMutationSpectrumsInMolecularProfile(
+              "study_tcga_pub_mutations", sampleIds);
+
+      List<Mutation> mutations =
+          mutationMyBatisRepository.fetchMutationsInMolecularProfile(
+              "study_tcga_pub_mutations", sampleIds, null, true, "SUMMARY", null, null, null, null);
+      Assert.assertEquals(countSubstitutions(mutations), toSubstitutionCounts(result));
+      Assert.assertEquals(
+          result.size(), result.stream().map(MutationSpectrum::getSampleId).distinct().count());
+      result.forEach(
+          mutationSpectrum ->
+              Assert.assertEquals(
+                  "study_tcga_pub_mutations", mutationSpectrum.getMolecularProfileId()));
+    } finally {
+      jdbcTemplate.update(
+          "DELETE FROM mutation_derived WHERE molecularProfileId = 'study_tcga_pub_mutations_2'");
+    }
+  }
+
+  // The counts by sample of the substitution classes C>A, C>G, C>T, T>A, T>C and T>G, computed from
+  // the mutations the way the spectrum was computed before it was aggregated in the database
+  private Map<String, List<Integer>> countSubstitutions(List<Mutation> mutations) {
+
+    List<String> classes = Arrays.asList("CA", "CG", "CT", "TA", "TC", "TG");
+    Map<String, String> complements = Map.of("A", "T", "T", "A", "C", "G", "G", "C");
+    Map<String, List<Integer>> counts = new LinkedHashMap<>();
+    for (Mutation mutation : mutations) {
+      String substitution = mutation.getReferenceAllele() + mutation.getTumorSeqAllele();
+      int index = classes.indexOf(substitution);
+      if (index < 0) {
+        index =
+            classes.indexOf(
+                complements.get(mutation.getReferenceAllele())
+                    + complements.get(mutation.getTumorSeqAllele()));
+      }
+      List<Integer> sampleCounts =
+          counts.computeIfAbsent(
+              mutation.getSampleId(), k -> new ArrayList<>(Collections.nCopies(6, 0)));
+      if (index >= 0) {
+        sampleCounts.set(index, sampleCounts.get(index) + 1);
+      }
+    }
+    return counts;
+  }
+
+  private Map<String, List<Integer>> toSubstitutionCounts(List<MutationSpectrum> spectrums) {
+
+    Map<String, List<Integer>> counts = new LinkedHashMap<>();
+    for (MutationSpectrum spectrum : spectrums) {
+      counts.put(
+          spectrum.getSampleId(),
+          Arrays.asList(
+              spectrum.getCtoA(),
+              spectrum.getCtoG(),
+              spectrum.getCtoT(),
+              spectrum.getTtoA(),
+              spectrum.getTtoC(),
+              spectrum.getTtoG()));
+    }
+    return counts;
+  }
+
   @Test
   public void getMutationCountByPosition() throws Exception {
 
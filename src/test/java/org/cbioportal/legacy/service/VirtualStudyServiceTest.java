@@ -2,12 +2,15 @@ package org.cbioportal.legacy.service;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.cbioportal.legacy.service.impl.BaseServiceImplTest;
 import org.cbioportal.legacy.service.util.SessionServiceRequestHandler;
+import org.cbioportal.legacy.service.util.VirtualStudyCache;
 import org.cbioportal.legacy.web.parameter.SampleIdentifier;
 import org.cbioportal.legacy.web.parameter.VirtualStudy;
 import org.cbioportal.legacy.web.parameter.VirtualStudyData;
@@ -18,6 +21,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -27,6 +31,7 @@ public class VirtualStudyServiceTest extends BaseServiceImplTest {
 
   @Mock SessionServiceRequestHandler sessionServiceRequestHandler;
   @Mock StudyViewFilterApplier studyViewFilterApplier;
+  @Spy VirtualStudyCache virtualStudyCache = new VirtualStudyCache(true, 300, 100);
 
   SampleIdentifier sampleIdentifier1 = new SampleIdentifier();
 
@@ -83,4 +88,33 @@ public class VirtualStudyServiceTest extends BaseServiceImplTest {
             .map(VirtualStudySamples::getId)
             .collect(Collectors.toSet()));
   }
+
+  @Test
+  public void testVirtualStudyIsReadFromSessionServiceOnce() throws Exception {
+    VirtualStudy response = new VirtualStudy();
+    VirtualStudyData virtualStudyData = new VirtualStudyData();
+    virtualStudyData.setDynamic(true);
+    virtualStudyData.setStudies(Set.of());
+    response.setData(virtualStudyData);
+    Mockito.when(sessionServiceRequestHandler.getVirtualStudyByIdIfExists("123"))
+        .thenReturn(Optional.of(response));
+    Mockito.when(sessionServiceRequestHandler.getVirtualStudyByIdIfExists("STUDY_1"))
+        .thenReturn(Optional.empty());
+    Mockito.when(studyViewFilterApplier.apply(Mockito.any()))
+        .thenReturn(List.of(sampleIdentifier1), List.of(sampleIdentifier1, sampleIdentifier2));
+
+    assertEquals(
+        1,
+        virtualStudyService.getVirtualStudyByIdIfExists("123").get().getData().getStudies().size());
+    assertEquals(
+        2,
+        virtualStudyService.getVirtualStudyByIdIfExists("123").get().getData().getStudies().size());
+    assertTrue(virtualStudyService.getVirtualStudyByIdIfExists("STUDY_1").isEmpty());
+    assertTrue(virtualStudyService.getVirtualStudyByIdIfExists("STUDY_1").isEmpty());
+
+    Mockito.verify(sessionServiceRequestHandler, Mockito.times(1))
+        .getVirtualStudyByIdIfExists("123");
+    Mockito.verify(sessionServiceRequestHandler, Mockito.times(1))
+        .getVirtualStudyByIdIfExists("STUDY_1");
+  }
 }
@@ -12,8 +12,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.math3.util.Pair;
 import org.cbioportal.legacy.model.AlterationCountByGene;
 import org.cbioportal.legacy.model.AlterationCountByStructuralVariant;
@@ -23,12 +30,18 @@ import org.cbioportal.legacy.model.CopyNumberCountByGene;
 import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.MolecularProfileCaseIdentifier;
 import org.cbioportal.legacy.model.MutationEventType;
+import org.cbioportal.legacy.model.StudyViewChartResult;
 import org.cbioportal.legacy.model.util.Select;
 import org.cbioportal.legacy.persistence.AlterationRepository;
 import org.cbioportal.legacy.persistence.MolecularProfileRepository;
 import org.cbioportal.legacy.service.exception.MolecularProfileNotFoundException;
 import org.cbioportal.legacy.service.util.AlterationEnrichmentUtil;
 import org.cbioportal.legacy.service.util.MolecularProfileUtil;
+import org.cbioportal.legacy.web.parameter.StudyViewChartBatchFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartRequest;
+import org.cbioportal.legacy.web.parameter.StudyViewChartType;
+import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.cbioportal.legacy.web.util.StudyViewChartBatchEvaluator;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -38,6 +51,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.dao.QueryTimeoutException;
 
 @RunWith(MockitoJUnitRunner.class)
 public class AlterationCountServiceImplTest extends BaseServiceImplTest {
@@ -88,7 +103,9 @@ public class AlterationCountServiceImplTest extends BaseServiceImplTest {
             alterationEnrichmentUtil,
             alterationEnrichmentUtilCna,
             alterationEnrichmentUtilStructVar,
-            molecularProfileRepository);
+            molecularProfileRepository,
+            2,
+            1);
 
     MolecularProfile molecularProfile = new MolecularProfile();
     molecularProfile.setStableId(MOLECULAR_PROFILE_ID);
@@ -368,4 +385,138 @@ public class AlterationCountServiceImplTest extends BaseServiceImplTest {
     Assert.assertTrue("Gene count list should be empty", result.getFirst().isEmpty());
     Assert.assertEquals("Profiled count should be zero", 0L, result.getSecond().longValue());
   }
+
+  @Test
+  public void getSampleAlterationGeneCountsFetchesStudiesWithBoundedConcurrency() {
+    int studyCount = 6;
+    List<MolecularProfileCaseIdentifier> multiStudyCaseIdentifiers = mockStudies(studyCount);
+
+    AtomicInteger runningFetches = new AtomicInteger();
+    AtomicInteger maxRunningFetches = new AtomicInteger();
+    when(alterationRepository.getSampleAlterationGeneCounts(
+            anySet(), eq(entrezGeneIds), eq(alterationFilter)))
+        .thenAnswer(
+            invocation -> {
+              maxRunningFetches.accumulateAndGet(runningFetches.incrementAndGet(), Math::max);
+              Thread.sleep(20);
+              runningFetches.decrementAndGet();
+              AlterationCountByGene geneCount = new AlterationCountByGene();
+              geneCount.setEntrezGeneId(ENTREZ_GENE_ID_1);
+              geneCount.setNumberOfAlteredCases(1);
+              geneCount.setTotalCount(2);
+              return List.of(geneCount);
+            });
+
+    Pair<List<AlterationCountByGene>, Long> result =
+        alterationCountService.getSampleAlterationGeneCounts(
+            multiStudyCaseIdentifiers, entrezGeneIds, false, false, alterationFilter);
+
+    verify(alterationRepository, times(studyCount))
+        .getSampleAlterationGeneCounts(anySet(), eq(entrezGeneIds), eq(alterationFilter));
+    Assert.assertTrue(maxRunningFetches.get() <= 2);
+    Assert.assertEquals(1, result.getFirst().size());
+    Assert.assertEquals(
+        studyCount, result.getFirst().getFirst().getNumberOfAlteredCases().intValue());
+    Assert.assertEquals(studyCount * 2, result.getFirst().getFirst().getTotalCount().intValue());
+  }
+
+  @Test
+  public void getSampleAlterationGeneCountsOfBatchChartsOnSmallPool() {
+    List<MolecularProfileCaseIdentifier> multiStudyCaseIdentifiers = mockStudies(3);
+    when(alterationRepository.getSampleAlterationGeneCounts(
+            anySet(), eq(entrezGeneIds), eq(alterationFilter)))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(20);
+              return List.of();
+            });
+    // every thread of the pool runs a chart that fans out over the studies
+    StudyViewChartBatchEvaluator evaluator =
+        new StudyViewChartBatchEvaluator(
+            new TaskExecutorAdapter(Executors.newFixedThreadPool(2)), 2);
+    StudyViewChartBatchFilter batchFilter = new StudyViewChartBatchFilter();
+    batchFilter.setStudyViewFilter(new StudyViewFilter());
+    batchFilter.setCharts(
+        IntStream.range(0, 4)
+            .mapToObj(
+                i -> {
+                  StudyViewChartRequest chart = new StudyViewChartRequest();
+                  chart.setId("chart" + i);
+                  chart.setType(StudyViewChartType.MUTATED_GENES);
+                  return chart;
+                })
+            .toList());
+
+    Map<String, StudyViewChartResult> results =
+        evaluator.evaluate(
+            batchFilter,
+            (chart, studyViewFilter) ->
+                alterationCountService.getSampleAlterationGeneCounts(
+                    multiStudyCaseIdentifiers, entrezGeneIds, false, false, alterationFilter));
+
+    Assert.assertEquals(4, results.size());
+    results.values().forEach(result -> Assert.assertNull(result.getError()));
+    verify(alterationRepository, times(12))
+        .getSampleAlterationGeneCounts(anySet(), eq(entrezGeneIds), eq(alterationFilter));
+  }
+
+  @Test
+  public void getSampleAlterationGeneCountsCancelsFetchesAfterTimeout() throws Exception {
+    List<MolecularProfileCaseIdentifier> multiStudyCaseIdentifiers =
+        Arrays.asList(
+            new MolecularProfileCaseIdentifier("Sample1", MOLECULAR_PROFILE_ID),
+            new MolecularProfileCaseIdentifier("Sample2", "another_profile_id"));
+    MolecularProfile molecularProfile1 = new MolecularProfile();
+    molecularProfile1.setStableId(MOLECULAR_PROFILE_ID);
+    molecularProfile1.setCancerStudyIdentifier(STUDY_ID);
+    MolecularProfile molecularProfile2 = new MolecularProfile();
+    molecularProfile2.setStableId("another_profile_id");
+    molecularProfile2.setCancerStudyIdentifier("another_study_id");
+    when(molecularProfileRepository.getMolecularProfiles(
+            new HashSet<>(Arrays.asList(MOLECULAR_PROFILE_ID, "another_profile_id")), "SUMMARY"))
+        .thenReturn(Arrays.asList(molecularProfile1, molecularProfile2));
+
+    CountDownLatch interruptedFetches = new CountDownLatch(2);
+    when(alterationRepository.getSampleAlterationGeneCounts(
+            anySet(), eq(entrezGeneIds), eq(alterationFilter)))
+        .thenAnswer(
+            invocation -> {
+              try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+              } catch (InterruptedException e) {
+                interruptedFetches.countDown();
+              }
+              return List.of();
+            });
+
+    Assert.assertThrows(
+        QueryTimeoutException.class,
+        () ->
+            alterationCountService.getSampleAlterationGeneCounts(
+                multiStudyCaseIdentifiers, entrezGeneIds, false, false, alterationFilter));
+    Assert.assertTrue(interruptedFetches.await(5, TimeUnit.SECONDS));
+  }
+
+  private List<MolecularProfileCaseIdentifier> mockStudies(int studyCount) {
+    List<MolecularProfileCaseIdentifier> multiStudyCaseIdentifiers =
+        IntStream.range(0, studyCount)
+            .mapToObj(i -> new MolecularProfileCaseIdentifier("Sample" + i, "profile_" + i))
+            .toList();
+    when(molecularProfileRepository.getMolecularProfiles(
+            IntStream.range(0, studyCount)
+                .mapToObj(i -> "profile_" + i)
+                .collect(Collectors.toSet()),
+            "SUMMARY"))
+        .thenReturn(
+            IntStream.range(0, studyCount)
+                .mapToObj(
+                    i -> {
+                      MolecularProfile molecularProfile = new MolecularProfile();
+                      molecularProfile.setStableId("profile_" + i);
+                      molecularProfile.setCancerStudyIdentifier("study_" + i);
+                      return molecularProfile;
+                    })
+                .toList());
+    return multiStudyCaseIdentifiers;
+  }
 }
@@ -9,6 +9,7 @@ import org.cbioportal.legacy.persistence.StudyRepository;
 import org.cbioportal.legacy.persistence.cachemaputil.StaticRefCacheMapUtil;
 import org.cbioportal.legacy.persistence.util.CacheUtils;
 import org.cbioportal.legacy.service.exception.CacheOperationException;
+import org.cbioportal.legacy.service.util.StudyCachesEvictedEvent;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -17,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -35,6 +37,8 @@ public class CacheServiceImplTest {
 
   @Mock private StudyRepository studyRepository;
 
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+
   @Before
   public void init() {
     when(cacheManager.getCacheNames()).thenReturn(Arrays.asList("name_1", "name_2"));
@@ -58,6 +62,7 @@ public class CacheServiceImplTest {
     cachingService.clearCaches(true);
     verify(cacheUtils, times(2)).evictByPattern(anyString(), eq(clearAllKeysRegex));
     verify(cacheMapUtil, times(1)).initializeCacheMemory();
+    verify(applicationEventPublisher, times(1)).publishEvent(new StudyCachesEvictedEvent(null));
   }
 
   @Test
@@ -74,6 +79,7 @@ public class CacheServiceImplTest {
     cachingService.clearCaches(false);
     verify(cacheUtils, never()).evictByPattern(anyString(), anyString());
     verify(cacheMapUtil, times(1)).initializeCacheMemory();
+    verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
   }
 
   @Test(expected = CacheOperationException.class)
@@ -88,7 +94,8 @@ public class CacheServiceImplTest {
     cachingService.clearCachesForStudy("study3", true);
     verify(cacheUtils, times(2))
         .evictByPattern(anyString(), eq("^(?=.*study3).*|^(?!.*study3)(?!.*study1)(?!.*study2).*"));
-    verify(cacheMapUtil, times(1)).initializeCacheMemory();
+    verify(cacheMapUtil, times(1)).refreshCacheMemory(List.of("study3"));
+    verify(applicationEventPublisher, times(1)).publishEvent(new StudyCachesEvictedEvent("study3"));
   }
 
   @Test
@@ -97,7 +104,7 @@ public class CacheServiceImplTest {
     List<String> studiesInPortal = Arrays.asList("study1", "study2");
     cachingService.clearCachesForStudy("study3", true);
     verify(cacheUtils, never()).evictByPattern(anyString(), anyString());
-    verify(cacheMapUtil, times(1)).initializeCacheMemory();
+    verify(cacheMapUtil, times(1)).refreshCacheMemory(List.of("study3"));
     ReflectionTestUtils.setField(cachingService, "cacheManager", cacheManager);
   }
 
@@ -106,7 +113,7 @@ public class CacheServiceImplTest {
     List<String> studiesInPortal = Arrays.asList("study1", "study2");
     cachingService.clearCachesForStudy("study3", false);
     verify(cacheUtils, never()).evictByPattern(anyString(), anyString());
-    verify(cacheMapUtil, times(1)).initializeCacheMemory();
+    verify(cacheMapUtil, times(1)).refreshCacheMemory(List.of("study3"));
   }
 
   @Test(expected = CacheOperationException.class)
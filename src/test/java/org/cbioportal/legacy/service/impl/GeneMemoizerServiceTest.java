@@ -1,9 +1,17 @@
 package org.cbioportal.legacy.service.impl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cbioportal.application.metrics.PerformanceMetrics;
 import org.cbioportal.legacy.model.ReferenceGenomeGene;
 import org.cbioportal.legacy.service.StaticDataTimestampService;
 import org.junit.Assert;
@@ -12,12 +20,15 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class GeneMemoizerServiceTest {
   @Mock private StaticDataTimestampService timestampService;
 
+  @Spy private PerformanceMetrics performanceMetrics = new PerformanceMetrics();
+
   @InjectMocks private GeneMemoizerServiceImpl geneMemoizerService;
 
   private static final String GENOME = "hg19";
@@ -69,6 +80,125 @@ public class GeneMemoizerServiceTest {
     Assert.assertEquals(null, actual);
   }
 
+  @Test
+  public void shouldReturnUnmodifiableCopy() throws Exception {
+    initializeTimestamps(new Date(0L), new Date(0L));
+    List<ReferenceGenomeGene> genes = new ArrayList<>(GENES);
+    geneMemoizerService.cacheGenes(genes, GENOME);
+    genes.clear();
+
+    List<ReferenceGenomeGene> actual = geneMemoizerService.fetchGenes(GENOME);
+
+    Assert.assertEquals(GENES, actual);
+    Assert.assertThrows(UnsupportedOperationException.class, () -> actual.add(gene("TP53")));
+  }
+
+  @Test
+  public void shouldLoadWhenUncachedAndThenReturnCached() throws Exception {
+    initializeTimestamps(new Date(0L), new Date(0L));
+    AtomicInteger loads = new AtomicInteger();
+
+    geneMemoizerService.fetchGenes(GENOME, () -> load(loads));
+    List<ReferenceGenomeGene> actual = geneMemoizerService.fetchGenes(GENOME, () -> load(loads));
+
+    Assert.assertEquals(GENES, actual);
+    Assert.assertEquals(1, loads.get());
+    PerformanceMetrics.CacheSnapshot statistics =
+        performanceMetrics.getCacheStatistics().get(GeneMemoizerServiceImpl.CACHE_NAME);
+    Assert.assertEquals(1, statistics.hits());
+    Assert.assertEquals(1, statistics.misses());
+    Assert.assertEquals(1, statistics.loads().count());
+  }
+
+  @Test
+  public void shouldNotLoadWhenCachedBetweenCheckAndLoad() throws Exception {
+    initializeTimestamps(new Date(0L), new Date(0L));
+    AtomicInteger loads = new AtomicInteger();
+    // another request finishes its load right after this one missed the cache
+    Mockito.doAnswer(
+            invocation -> {
+              geneMemoizerService.cacheGenes(GENES, GENOME);
+              return null;
+            })
+        .when(performanceMetrics)
+        .recordCacheMiss(GeneMemoizerServiceImpl.CACHE_NAME);
+
+    List<ReferenceGenomeGene> actual = geneMemoizerService.fetchGenes(GENOME, () -> load(loads));
+
+    Assert.assertEquals(GENES, actual);
+    Assert.assertEquals(0, loads.get());
+  }
+
+  @Test
+  public void shouldReloadWhenExpired() throws Exception {
+    initializeTimestamps(new Date(Long.MAX_VALUE), new Date(0L));
+    AtomicInteger loads = new AtomicInteger();
+
+    geneMemoizerService.fetchGenes(GENOME, () -> load(loads));
+    geneMemoizerService.fetchGenes(GENOME, () -> load(loads));
+
+    Assert.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void shouldLoadOnceAndReadConcurrentlyUnderContention() throws Exception {
+    int threads = 16;
+    int readsPerThread = 50;
+    AtomicInteger loads = new AtomicInteger();
+    AtomicInteger concurrentReads = new AtomicInteger();
+    AtomicInteger maxConcurrentReads = new AtomicInteger();
+    HashMap<String, Date> timestamps = new HashMap<>();
+    timestamps.put("gene", new Date(0L));
+    timestamps.put("reference_genome_gene", new Date(0L));
+    Mockito.when(timestampService.getTimestampsAsDates(Mockito.anyList()))
+        .thenAnswer(
+            invocation -> {
+              maxConcurrentReads.accumulateAndGet(concurrentReads.incrementAndGet(), Math::max);
+              Thread.sleep(1);
+              concurrentReads.decrementAndGet();
+              return timestamps;
+            });
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<List<List<ReferenceGenomeGene>>>> results = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                List<List<ReferenceGenomeGene>> genes = new ArrayList<>();
+                for (int read = 0; read < readsPerThread; read++) {
+                  genes.add(geneMemoizerService.fetchGenes(GENOME, () -> load(loads)));
+                }
+                return genes;
+              }));
+    }
+    start.countDown();
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+    List<ReferenceGenomeGene> first = results.get(0).get().get(0);
+    for (Future<List<List<ReferenceGenomeGene>>> result : results) {
+      for (List<ReferenceGenomeGene> genes : result.get()) {
+        Assert.assertSame(first, genes);
+      }
+    }
+    Assert.assertEquals(1, loads.get());
+    // a single monitor around the staleness check would never let two reads overlap
+    Assert.assertTrue(maxConcurrentReads.get() > 1);
+  }
+
+  private static List<ReferenceGenomeGene> load(AtomicInteger loads) {
+    loads.incrementAndGet();
+    try {
+      Thread.sleep(50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return GENES;
+  }
+
   private void initializeTimestamps(Date gene, Date referenceGenomeGene) {
     HashMap<String, Date> timestamps = new HashMap<>();
     timestamps.put("gene", gene);
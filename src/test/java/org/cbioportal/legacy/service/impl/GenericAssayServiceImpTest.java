@@ -194,6 +194,14 @@ public class GenericAssayServiceImpTest extends BaseServiceImplTest {
             geneticDataRepository.getGenericAssayMolecularAlterations(
                 MOLECULAR_PROFILE_ID_2, Arrays.asList(STABLE_ID_1, STABLE_ID_2), "SUMMARY"))
         .thenReturn(genericAssayMolecularAlterationList2);
+    Mockito.when(
+            geneticDataRepository.getGenericAssayMolecularAlterationsIterable(
+                MOLECULAR_PROFILE_ID_1, Arrays.asList(STABLE_ID_1, STABLE_ID_2), "SUMMARY"))
+        .thenReturn(genericAssayMolecularAlterationList1);
+    Mockito.when(
+            geneticDataRepository.getGenericAssayMolecularAlterationsIterable(
+                MOLECULAR_PROFILE_ID_2, Arrays.asList(STABLE_ID_1, STABLE_ID_2), "SUMMARY"))
+        .thenReturn(genericAssayMolecularAlterationList2);
   }
 
   @Test
@@ -245,6 +253,45 @@ public class GenericAssayServiceImpTest extends BaseServiceImplTest {
     Assert.assertEquals(item8.getMolecularProfileId(), MOLECULAR_PROFILE_ID_2);
   }
 
+  @Test
+  public void streamGenericAssayData() throws Exception {
+
+    List<GenericAssayData> expected =
+        genericAssayService.fetchGenericAssayData(
+            Arrays.asList(MOLECULAR_PROFILE_ID_1, MOLECULAR_PROFILE_ID_2),
+            Arrays.asList(SAMPLE_ID1, SAMPLE_ID2),
+            Arrays.asList(STABLE_ID_1, STABLE_ID_2),
+            PersistenceConstants.SUMMARY_PROJECTION);
+    List<GenericAssayData> result = new ArrayList<>();
+    genericAssayService.streamGenericAssayData(
+        Arrays.asList(MOLECULAR_PROFILE_ID_1, MOLECULAR_PROFILE_ID_2),
+        Arrays.asList(SAMPLE_ID1, SAMPLE_ID2),
+        Arrays.asList(STABLE_ID_1, STABLE_ID_2),
+        PersistenceConstants.SUMMARY_PROJECTION,
+        result::add);
+
+    // rows are streamed per generic assay entity instead of per sample
+    Assert.assertEquals(8, result.size());
+    Assert.assertEquals(
+        expected.stream().map(this::toKey).sorted().collect(Collectors.toList()),
+        result.stream().map(this::toKey).sorted().collect(Collectors.toList()));
+    GenericAssayData item2 = result.get(1);
+    Assert.assertEquals(item2.getSampleId(), SAMPLE_ID2);
+    Assert.assertEquals(item2.getStableId(), STABLE_ID_1);
+    Assert.assertEquals(item2.getValue(), "0.499");
+    Assert.assertEquals(item2.getMolecularProfileId(), MOLECULAR_PROFILE_ID_1);
+  }
+
+  private String toKey(GenericAssayData data) {
+    return data.getMolecularProfileId()
+        + ":"
+        + data.getSampleId()
+        + ":"
+        + data.getStableId()
+        + ":"
+        + data.getValue();
+  }
+
   @Test
   public void fetchGenericAssayData() throws Exception {
 
@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.cbioportal.legacy.model.Gene;
-import org.cbioportal.legacy.model.GeneMolecularData;
+import org.cbioportal.legacy.model.GeneMolecularAlteration;
 import org.cbioportal.legacy.model.GenesetCorrelation;
 import org.cbioportal.legacy.model.GenesetMolecularData;
 import org.cbioportal.legacy.model.MolecularProfile;
+import org.cbioportal.legacy.model.MolecularProfileSamples;
+import org.cbioportal.legacy.model.Sample;
+import org.cbioportal.legacy.persistence.MolecularDataRepository;
 import org.cbioportal.legacy.service.GenesetDataService;
 import org.cbioportal.legacy.service.GenesetService;
 import org.cbioportal.legacy.service.MolecularDataService;
@@ -29,6 +32,7 @@ public class GenesetCorrelationServiceImplTest extends BaseServiceImplTest {
 
   @Mock private GenesetDataService genesetDataService;
   @Mock private MolecularDataService geneticDataService;
+  @Mock private MolecularDataRepository molecularDataRepository;
   @Mock private GenesetService genesetService;
   @Mock private SampleService sampleService;
   @Mock private MolecularProfileService geneticProfileService;
@@ -73,6 +77,7 @@ public class GenesetCorrelationServiceImplTest extends BaseServiceImplTest {
     // dummy stubs (normally these will return different profiles, but for the test this is enough:
     MolecularProfile geneticProfile = new MolecularProfile();
     geneticProfile.setStableId(MOLECULAR_PROFILE_ID);
+    geneticProfile.setCancerStudyIdentifier(STUDY_ID);
     Mockito.when(geneticProfileService.getMolecularProfilesReferredBy(MOLECULAR_PROFILE_ID))
         .thenReturn(Arrays.asList(geneticProfile));
     MolecularProfile zscoreGeneticProfile = new MolecularProfile();
@@ -81,44 +86,36 @@ public class GenesetCorrelationServiceImplTest extends BaseServiceImplTest {
     Mockito.when(geneticProfileService.getMolecularProfilesReferringTo(MOLECULAR_PROFILE_ID))
         .thenReturn(Arrays.asList(zscoreGeneticProfile));
 
-    // stub for gene data list, one gene at a time:
-    List<GeneMolecularData> geneDataList1 = new ArrayList<GeneMolecularData>();
-    geneDataList1.add(getSimpleFlatGeneDataItem(SAMPLE_ID1, 1, "0.2"));
-    geneDataList1.add(getSimpleFlatGeneDataItem(SAMPLE_ID2, 1, "0.350"));
+    // stub for the expression profile samples, sample 3 has no data in the profile:
+    MolecularProfileSamples molecularProfileSamples = new MolecularProfileSamples();
+    molecularProfileSamples.setCommaSeparatedSampleIds("1,2,");
     Mockito.when(
-            geneticDataService.fetchMolecularData(
-                MOLECULAR_PROFILE_ID,
-                Arrays.asList(SAMPLE_ID1, SAMPLE_ID2),
-                Arrays.asList(1),
-                "SUMMARY"))
-        .thenReturn(geneDataList1);
-    // simulate 1 empty sample:
+            molecularDataRepository.getCommaSeparatedSampleIdsOfMolecularProfile(
+                MOLECULAR_PROFILE_ID))
+        .thenReturn(molecularProfileSamples);
+    Mockito.when(sampleService.fetchSamples(Mockito.anyList(), Mockito.anyList(), Mockito.eq("ID")))
+        .thenReturn(
+            Arrays.asList(
+                getSimpleSample(SAMPLE_ID1, 1),
+                getSimpleSample(SAMPLE_ID2, 2),
+                getSimpleSample(SAMPLE_ID3, 3)));
+
+    // stub for gene data, all genes of the gene set at once:
     Mockito.when(
-            geneticDataService.fetchMolecularData(
-                MOLECULAR_PROFILE_ID,
-                Arrays.asList(SAMPLE_ID1, SAMPLE_ID2, SAMPLE_ID3),
-                Arrays.asList(1),
-                "SUMMARY"))
-        .thenReturn(geneDataList1);
+            geneticDataService.getMolecularAlterations(
+                MOLECULAR_PROFILE_ID, Arrays.asList(1, 2), "SUMMARY"))
+        .thenReturn(
+            Arrays.asList(
+                getSimpleGeneAlteration(1, "0.2,0.350"),
+                getSimpleGeneAlteration(2, "0.89,-0.509")));
+  }
 
-    List<GeneMolecularData> geneDataList2 = new ArrayList<GeneMolecularData>();
-    geneDataList2.add(getSimpleFlatGeneDataItem(SAMPLE_ID1, 2, "0.89"));
-    geneDataList2.add(getSimpleFlatGeneDataItem(SAMPLE_ID2, 2, "-0.509"));
-    Mockito.when(
-            geneticDataService.fetchMolecularData(
-                MOLECULAR_PROFILE_ID,
-                Arrays.asList(SAMPLE_ID1, SAMPLE_ID2),
-                Arrays.asList(2),
-                "SUMMARY"))
-        .thenReturn(geneDataList2);
-    // simulate 1 empty sample:
-    Mockito.when(
-            geneticDataService.fetchMolecularData(
-                MOLECULAR_PROFILE_ID,
-                Arrays.asList(SAMPLE_ID1, SAMPLE_ID2, SAMPLE_ID3),
-                Arrays.asList(2),
-                "SUMMARY"))
-        .thenReturn(geneDataList2);
+  private Sample getSimpleSample(String sampleStableId, int internalId) {
+
+    Sample sample = new Sample();
+    sample.setStableId(sampleStableId);
+    sample.setInternalId(internalId);
+    return sample;
   }
 
   private GenesetMolecularData getSimpleFlatGenesetDataItem(
@@ -132,14 +129,12 @@ public class GenesetCorrelationServiceImplTest extends BaseServiceImplTest {
     return item;
   }
 
-  private GeneMolecularData getSimpleFlatGeneDataItem(
-      String sampleStableId, int entrezGeneId, String value) {
+  private GeneMolecularAlteration getSimpleGeneAlteration(int entrezGeneId, String values) {
 
-    GeneMolecularData item = new GeneMolecularData();
+    GeneMolecularAlteration item = new GeneMolecularAlteration();
     item.setMolecularProfileId(MOLECULAR_PROFILE_ID);
     item.setEntrezGeneId(entrezGeneId);
-    item.setSampleId(sampleStableId);
-    item.setValue(value);
+    item.setValues(values);
     return item;
   }
 
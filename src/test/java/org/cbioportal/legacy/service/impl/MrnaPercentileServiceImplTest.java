@@ -8,12 +8,14 @@ import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.MrnaPercentile;
 import org.cbioportal.legacy.service.MolecularDataService;
 import org.cbioportal.legacy.service.MolecularProfileService;
+import org.cbioportal.legacy.service.util.MrnaPercentileIndex;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -24,6 +26,8 @@ public class MrnaPercentileServiceImplTest extends BaseServiceImplTest {
   @Mock private MolecularDataService molecularDataService;
   @Mock private MolecularProfileService molecularProfileService;
 
+  @Spy private MrnaPercentileIndex mrnaPercentileIndex = new MrnaPercentileIndex(true, 3600, 1000);
+
   @Test
   public void fetchMrnaPercentile() throws Exception {
 
@@ -98,4 +102,55 @@ public class MrnaPercentileServiceImplTest extends BaseServiceImplTest {
     Assert.assertEquals(new BigDecimal("0.1456"), mrnaPercentile2.getzScore());
     Assert.assertEquals(new BigDecimal("100.00"), mrnaPercentile2.getPercentile());
   }
+
+  @Test
+  public void fetchMrnaPercentileOfOtherSampleUsesIndexedValues() throws Exception {
+
+    List<GeneMolecularData> molecularDataList = new ArrayList<>();
+    molecularDataList.add(createMolecularData(SAMPLE_ID1, "1.5"));
+    molecularDataList.add(createMolecularData("sample_id_2", "-0.5"));
+    molecularDataList.add(createMolecularData("sample_id_3", "0.5"));
+    molecularDataList.add(createMolecularData("sample_id_4", "0.5"));
+    molecularDataList.add(createMolecularData("sample_id_5", "NA"));
+
+    MolecularProfile molecularProfile = new MolecularProfile();
+    molecularProfile.setMolecularAlterationType(
+        MolecularProfile.MolecularAlterationType.MRNA_EXPRESSION);
+    Mockito.when(molecularProfileService.getMolecularProfile(MOLECULAR_PROFILE_ID))
+        .thenReturn(molecularProfile);
+    List<Integer> entrezGeneIds = List.of(ENTREZ_GENE_ID_1);
+    Mockito.when(
+            molecularDataService.fetchMolecularData(
+                MOLECULAR_PROFILE_ID, null, entrezGeneIds, "SUMMARY"))
+        .thenReturn(molecularDataList);
+    Mockito.when(
+            molecularDataService.fetchMolecularData(
+                MOLECULAR_PROFILE_ID, List.of("sample_id_3"), entrezGeneIds, "SUMMARY"))
+        .thenReturn(List.of(molecularDataList.get(2)));
+
+    List<MrnaPercentile> result =
+        mrnaPercentileService.fetchMrnaPercentile(MOLECULAR_PROFILE_ID, SAMPLE_ID1, entrezGeneIds);
+    Assert.assertEquals(new BigDecimal("100.00"), result.get(0).getPercentile());
+
+    result =
+        mrnaPercentileService.fetchMrnaPercentile(
+            MOLECULAR_PROFILE_ID, "sample_id_3", entrezGeneIds);
+
+    Assert.assertEquals(1, result.size());
+    Assert.assertEquals("sample_id_3", result.get(0).getSampleId());
+    Assert.assertEquals(new BigDecimal("0.5"), result.get(0).getzScore());
+    // ties get the maximum rank: 3 of the 4 numerical values are at or below 0.5
+    Assert.assertEquals(new BigDecimal("75.00"), result.get(0).getPercentile());
+    Mockito.verify(molecularDataService, Mockito.times(1))
+        .fetchMolecularData(MOLECULAR_PROFILE_ID, null, entrezGeneIds, "SUMMARY");
+  }
+
+  private GeneMolecularData createMolecularData(String sampleId, String value) {
+    GeneMolecularData molecularData = new GeneMolecularData();
+    molecularData.setMolecularProfileId(MOLECULAR_PROFILE_ID);
+    molecularData.setEntrezGeneId(ENTREZ_GENE_ID_1);
+    molecularData.setSampleId(sampleId);
+    molecularData.setValue(value);
+    return molecularData;
+  }
 }
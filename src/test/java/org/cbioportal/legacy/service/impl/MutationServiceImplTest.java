@@ -16,6 +16,7 @@ import org.cbioportal.legacy.model.MolecularProfile;
 import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationCountByPosition;
 import org.cbioportal.legacy.model.MutationEventType;
+import org.cbioportal.legacy.model.MutationSpectrum;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 import org.cbioportal.legacy.persistence.MutationRepository;
 import org.cbioportal.legacy.service.MolecularProfileService;
@@ -317,6 +318,40 @@ public class MutationServiceImplTest extends BaseServiceImplTest {
         MOLECULAR_PROFILE_ID, Arrays.asList(SAMPLE_ID1), Arrays.asList(ENTREZ_GENE_ID_1));
   }
 
+  @Test
+  public void getMutationSpectrumsInMolecularProfileBySampleListId() throws Exception {
+
+    MolecularProfile molecularProfile = new MolecularProfile();
+    molecularProfile.setMolecularAlterationType(
+        MolecularProfile.MolecularAlterationType.MUTATION_EXTENDED);
+    Mockito.when(molecularProfileService.getMolecularProfile(MOLECULAR_PROFILE_ID))
+        .thenReturn(molecularProfile);
+
+    List<MutationSpectrum> expectedMutationSpectrumList = Arrays.asList(new MutationSpectrum());
+    Mockito.when(
+            mutationRepository.getMutationSpectrumsInMolecularProfileBySampleListId(
+                MOLECULAR_PROFILE_ID, SAMPLE_LIST_ID))
+        .thenReturn(expectedMutationSpectrumList);
+
+    List<MutationSpectrum> result =
+        mutationService.getMutationSpectrumsInMolecularProfileBySampleListId(
+            MOLECULAR_PROFILE_ID, SAMPLE_LIST_ID);
+
+    Assert.assertEquals(expectedMutationSpectrumList, result);
+  }
+
+  @Test(expected = MolecularProfileNotFoundException.class)
+  public void fetchMutationSpectrumsInMolecularProfileNotFound() throws Exception {
+
+    MolecularProfile molecularProfile = new MolecularProfile();
+    molecularProfile.setMolecularAlterationType(
+        MolecularProfile.MolecularAlterationType.COPY_NUMBER_ALTERATION);
+    Mockito.when(molecularProfileService.getMolecularProfile(MOLECULAR_PROFILE_ID))
+        .thenReturn(molecularProfile);
+    mutationService.fetchMutationSpectrumsInMolecularProfile(
+        MOLECULAR_PROFILE_ID, Arrays.asList(SAMPLE_ID1));
+  }
+
   @Test
   public void fetchMutationCountsByPosition() throws Exception {
 
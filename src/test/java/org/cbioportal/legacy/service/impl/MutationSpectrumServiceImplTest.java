@@ -3,7 +3,6 @@ package org.cbioportal.legacy.service.impl;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationSpectrum;
 import org.cbioportal.legacy.service.MutationService;
 import org.junit.Assert;
@@ -24,67 +23,38 @@ public class MutationSpectrumServiceImplTest extends BaseServiceImplTest {
   @Test
   public void getMutationSpectrums() throws Exception {
 
-    List<Mutation> mutationList = createMutationList();
+    List<MutationSpectrum> mutationSpectrumList = createMutationSpectrumList();
 
     Mockito.when(
-            mutationService.getMutationsInMolecularProfileBySampleListId(
-                MOLECULAR_PROFILE_ID,
-                SAMPLE_LIST_ID,
-                null,
-                true,
-                "SUMMARY",
-                null,
-                null,
-                null,
-                null))
-        .thenReturn(mutationList);
+            mutationService.getMutationSpectrumsInMolecularProfileBySampleListId(
+                MOLECULAR_PROFILE_ID, SAMPLE_LIST_ID))
+        .thenReturn(mutationSpectrumList);
 
     List<MutationSpectrum> result =
         mutationSpectrumService.getMutationSpectrums(MOLECULAR_PROFILE_ID, SAMPLE_LIST_ID);
 
-    Assert.assertEquals(2, result.size());
-    MutationSpectrum mutationSpectrum1 = result.get(0);
-    Assert.assertEquals(MOLECULAR_PROFILE_ID, mutationSpectrum1.getMolecularProfileId());
-    Assert.assertEquals(SAMPLE_ID1, mutationSpectrum1.getSampleId());
-    Assert.assertEquals((Integer) 2, mutationSpectrum1.getCtoA());
-    Assert.assertEquals((Integer) 0, mutationSpectrum1.getCtoG());
-    Assert.assertEquals((Integer) 0, mutationSpectrum1.getCtoT());
-    Assert.assertEquals((Integer) 0, mutationSpectrum1.getTtoA());
-    Assert.assertEquals((Integer) 0, mutationSpectrum1.getTtoC());
-    Assert.assertEquals((Integer) 0, mutationSpectrum1.getTtoG());
-    MutationSpectrum mutationSpectrum2 = result.get(1);
-    Assert.assertEquals(MOLECULAR_PROFILE_ID, mutationSpectrum2.getMolecularProfileId());
-    Assert.assertEquals(SAMPLE_ID2, mutationSpectrum2.getSampleId());
-    Assert.assertEquals((Integer) 0, mutationSpectrum2.getCtoA());
-    Assert.assertEquals((Integer) 0, mutationSpectrum2.getCtoG());
-    Assert.assertEquals((Integer) 1, mutationSpectrum2.getCtoT());
-    Assert.assertEquals((Integer) 1, mutationSpectrum2.getTtoA());
-    Assert.assertEquals((Integer) 0, mutationSpectrum2.getTtoC());
-    Assert.assertEquals((Integer) 0, mutationSpectrum2.getTtoG());
+    assertMutationSpectrums(result);
   }
 
   @Test
   public void fetchMutationSpectrums() throws Exception {
 
-    List<Mutation> mutationList = createMutationList();
+    List<MutationSpectrum> mutationSpectrumList = createMutationSpectrumList();
 
     Mockito.when(
-            mutationService.fetchMutationsInMolecularProfile(
-                MOLECULAR_PROFILE_ID,
-                Arrays.asList(SAMPLE_ID1, SAMPLE_ID2),
-                null,
-                true,
-                "SUMMARY",
-                null,
-                null,
-                null,
-                null))
-        .thenReturn(mutationList);
+            mutationService.fetchMutationSpectrumsInMolecularProfile(
+                MOLECULAR_PROFILE_ID, Arrays.asList(SAMPLE_ID1, SAMPLE_ID2)))
+        .thenReturn(mutationSpectrumList);
 
     List<MutationSpectrum> result =
         mutationSpectrumService.fetchMutationSpectrums(
             MOLECULAR_PROFILE_ID, Arrays.asList(SAMPLE_ID1, SAMPLE_ID2));
 
+    assertMutationSpectrums(result);
+  }
+
+  private void assertMutationSpectrums(List<MutationSpectrum> result) {
+
     Assert.assertEquals(2, result.size());
     MutationSpectrum mutationSpectrum1 = result.get(0);
     Assert.assertEquals(MOLECULAR_PROFILE_ID, mutationSpectrum1.getMolecularProfileId());
@@ -106,29 +76,26 @@ public class MutationSpectrumServiceImplTest extends BaseServiceImplTest {
     Assert.assertEquals((Integer) 0, mutationSpectrum2.getTtoG());
   }
 
-  private List<Mutation> createMutationList() {
-
-    List<Mutation> mutationList = new ArrayList<>();
-    Mutation mutation1 = new Mutation();
-    mutation1.setSampleId(SAMPLE_ID1);
-    mutation1.setReferenceAllele("C");
-    mutation1.setTumorSeqAllele("A");
-    mutationList.add(mutation1);
-    Mutation mutation2 = new Mutation();
-    mutation2.setSampleId(SAMPLE_ID1);
-    mutation2.setReferenceAllele("G");
-    mutation2.setTumorSeqAllele("T");
-    mutationList.add(mutation2);
-    Mutation mutation3 = new Mutation();
-    mutation3.setSampleId(SAMPLE_ID2);
-    mutation3.setReferenceAllele("T");
-    mutation3.setTumorSeqAllele("A");
-    mutationList.add(mutation3);
-    Mutation mutation4 = new Mutation();
-    mutation4.setSampleId(SAMPLE_ID2);
-    mutation4.setReferenceAllele("C");
-    mutation4.setTumorSeqAllele("T");
-    mutationList.add(mutation4);
-    return mutationList;
+  private List<MutationSpectrum> createMutationSpectrumList() {
+
+    List<MutationSpectrum> mutationSpectrumList = new ArrayList<>();
+    mutationSpectrumList.add(createMutationSpectrum(SAMPLE_ID1, 2, 0, 0, 0, 0, 0));
+    mutationSpectrumList.add(createMutationSpectrum(SAMPLE_ID2, 0, 0, 1, 1, 0, 0));
+    return mutationSpectrumList;
+  }
+
+  private MutationSpectrum createMutationSpectrum(
+      String sampleId, int ctoA, int ctoG, int ctoT, int ttoA, int ttoC, int ttoG) {
+
+    MutationSpectrum mutationSpectrum = new MutationSpectrum();
+    mutationSpectrum.setMolecularProfileId(MOLECULAR_PROFILE_ID);
+    mutationSpectrum.setSampleId(sampleId);
+    mutationSpectrum.setCtoA(ctoA);
+    mutationSpectrum.setCtoG(ctoG);
+    mutationSpectrum.setCtoT(ctoT);
+    mutationSpectrum.setTtoA(ttoA);
+    mutationSpectrum.setTtoC(ttoC);
+    mutationSpectrum.setTtoG(ttoG);
+    return mutationSpectrum;
   }
 }
@@ -1,5 +1,7 @@
 package org.cbioportal.legacy.service.impl;
 
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.*;
@@ -36,10 +38,17 @@ public class NamespaceDataServiceImplTest extends BaseServiceImplTest {
     expectedNamespaceDataList.add(namespaceData);
 
     when(namespaceRepository.getNamespaceData(
-            Arrays.asList(STUDY_ID),
-            Arrays.asList(SAMPLE_ID1, SAMPLE_ID2, SAMPLE_ID3),
-            namespaceDataFilter.getOuterKey(),
-            namespaceDataFilter.getInnerKey()))
+            eq(Arrays.asList(STUDY_ID)),
+            eq(Arrays.asList(SAMPLE_ID1, SAMPLE_ID2, SAMPLE_ID3)),
+            argThat(
+                namespaceAttributes ->
+                    namespaceAttributes.size() == 1
+                        && namespaceDataFilter
+                            .getOuterKey()
+                            .equals(namespaceAttributes.get(0).getOuterKey())
+                        && namespaceDataFilter
+                            .getInnerKey()
+                            .equals(namespaceAttributes.get(0).getInnerKey()))))
         .thenReturn(expectedNamespaceDataList);
 
     List<NamespaceData> result =
@@ -66,7 +75,7 @@ public class NamespaceDataServiceImplTest extends BaseServiceImplTest {
             Arrays.asList(SAMPLE_ID1, SAMPLE_ID2, SAMPLE_ID3),
             namespaceAttribute.getOuterKey(),
             namespaceAttribute.getInnerKey(),
-            CATEGORY_VALUE_1))
+            Arrays.asList(CATEGORY_VALUE_1, CATEGORY_VALUE_2)))
         .thenReturn(expectedNamespaceDataList);
 
     List<NamespaceData> result =
@@ -74,7 +83,7 @@ public class NamespaceDataServiceImplTest extends BaseServiceImplTest {
             Arrays.asList(STUDY_ID),
             Arrays.asList(SAMPLE_ID1, SAMPLE_ID2, SAMPLE_ID3),
             namespaceAttribute,
-            Arrays.asList(CATEGORY_VALUE_1));
+            Arrays.asList(CATEGORY_VALUE_1, CATEGORY_VALUE_2));
 
     Assert.assertEquals(expectedNamespaceDataList, result);
   }
@@ -94,20 +103,29 @@ public class NamespaceDataServiceImplTest extends BaseServiceImplTest {
     namespaceDataCount2.setCount(3);
     namespaceDataCount2.setTotalCount(6);
 
+    NamespaceAttribute namespaceAttribute2 = new NamespaceAttribute();
+    namespaceAttribute2.setOuterKey(NAMESPACE_OUTER_KEY_2);
+    namespaceAttribute2.setInnerKey(NAMESPACE_INNER_KEY_2);
+    NamespaceDataCountItem namespaceDataCountItem = new NamespaceDataCountItem();
+    namespaceDataCountItem.setOuterKey(NAMESPACE_OUTER_KEY_1);
+    namespaceDataCountItem.setInnerKey(NAMESPACE_INNER_KEY_1);
+    namespaceDataCountItem.setCounts(Arrays.asList(namespaceDataCount1, namespaceDataCount2));
+
     when(namespaceRepository.getNamespaceDataCounts(
             Arrays.asList(STUDY_ID, STUDY_ID, STUDY_ID),
             Arrays.asList(SAMPLE_ID1, SAMPLE_ID2, SAMPLE_ID3),
-            NAMESPACE_OUTER_KEY_1,
-            NAMESPACE_INNER_KEY_1))
-        .thenReturn(Arrays.asList(namespaceDataCount1, namespaceDataCount2));
+            Arrays.asList(namespaceAttribute1, namespaceAttribute2)))
+        .thenReturn(Arrays.asList(namespaceDataCountItem));
 
     List<NamespaceDataCountItem> result =
         namespaceDataService.fetchNamespaceDataCounts(
             Arrays.asList(STUDY_ID, STUDY_ID, STUDY_ID),
             Arrays.asList(SAMPLE_ID1, SAMPLE_ID2, SAMPLE_ID3),
-            Arrays.asList(namespaceAttribute1));
+            Arrays.asList(namespaceAttribute1, namespaceAttribute2));
 
-    Assert.assertEquals(1, result.size());
+    // the attribute without data keeps its place in the result
+    Assert.assertEquals(2, result.size());
+    Assert.assertNull(result.get(1));
     NamespaceDataCountItem counts1 = result.get(0);
     Assert.assertEquals(NAMESPACE_OUTER_KEY_1, counts1.getOuterKey());
     Assert.assertEquals(NAMESPACE_INNER_KEY_1, counts1.getInnerKey());
@@ -0,0 +1,104 @@
+package org.cbioportal.legacy.service.util;
+
+import java.util.Arrays;
+import java.util.List;
+import org.cbioportal.legacy.model.SurvivalAnalysis;
+import org.cbioportal.legacy.model.SurvivalCurve;
+import org.cbioportal.legacy.model.SurvivalCurvePoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KaplanMeierCalculatorTest {
+
+  // Freireich et al. remission times, 6-MP versus placebo (the "gehan" data set)
+  private static final double[] TREATMENT_TIMES = {
+    6, 6, 6, 6, 7, 9, 10, 10, 11, 13, 16, 17, 19, 20, 22, 23, 25, 32, 32, 34, 35
+  };
+  private static final boolean[] TREATMENT_EVENTS = {
+    true, true, true, false, true, false, true, false, false, true, true, false, false, false, true,
+    true, false, false, false, false, false
+  };
+  private static final double[] PLACEBO_TIMES = {
+    1, 1, 2, 2, 3, 4, 4, 5, 5, 8, 8, 8, 8, 11, 11, 12, 12, 15, 17, 22, 23
+  };
+  private static final boolean[] PLACEBO_EVENTS = new boolean[21];
+
+  static {
+    Arrays.fill(PLACEBO_EVENTS, true);
+  }
+
+  private final KaplanMeierCalculator kaplanMeierCalculator = new KaplanMeierCalculator();
+
+  @Test
+  public void calculate() {
+
+    SurvivalAnalysis result =
+        kaplanMeierCalculator.calculate(
+            List.of("6-MP", "placebo"),
+            List.of(TREATMENT_TIMES, PLACEBO_TIMES),
+            List.of(TREATMENT_EVENTS, PLACEBO_EVENTS));
+
+    SurvivalCurve treatment = result.getCurves().get(0);
+    Assert.assertEquals("6-MP", treatment.getName());
+    Assert.assertEquals((Integer) 21, treatment.getNumberOfPatients());
+    Assert.assertEquals((Integer) 9, treatment.getNumberOfEvents());
+    Assert.assertEquals(23.0, treatment.getMedian(), 0.0);
+    // one point per distinct time at which this group has an event or a censoring
+    Assert.assertEquals(16, treatment.getPoints().size());
+
+    SurvivalCurvePoint first = treatment.getPoints().get(0);
+    Assert.assertEquals(6.0, first.getTime(), 0.0);
+    Assert.assertEquals((Integer) 21, first.getNumberAtRisk());
+    Assert.assertEquals((Integer) 3, first.getNumberOfEvents());
+    Assert.assertEquals((Integer) 1, first.getNumberOfCensored());
+    Assert.assertEquals(0.8571, first.getSurvival(), 1e-4);
+    Assert.assertEquals(0.7198, first.getLowerConfidenceInterval(), 1e-4);
+    Assert.assertEquals(1.0, first.getUpperConfidenceInterval(), 0.0);
+
+    SurvivalCurvePoint atMedian =
+        treatment.getPoints().stream().filter(p -> p.getTime() == 23.0).findFirst().get();
+    Assert.assertEquals(0.4482, atMedian.getSurvival(), 1e-4);
+
+    SurvivalCurve placebo = result.getCurves().get(1);
+    Assert.assertEquals((Integer) 21, placebo.getNumberOfEvents());
+    Assert.assertEquals(8.0, placebo.getMedian(), 0.0);
+    Assert.assertEquals(
+        0.0, placebo.getPoints().get(placebo.getPoints().size() - 1).getSurvival(), 0.0);
+
+    Assert.assertEquals((Integer) 1, result.getDegreesOfFreedom());
+    Assert.assertEquals(16.79, result.getLogRankStatistic(), 0.01);
+    Assert.assertEquals(4.17e-5, result.getLogRankPValue(), 1e-6);
+
+    Assert.assertEquals(1, result.getHazardRatios().size());
+    Assert.assertEquals("placebo", result.getHazardRatios().get(0).getName());
+    Assert.assertEquals("6-MP", result.getHazardRatios().get(0).getReferenceName());
+    Assert.assertEquals(4.52, result.getHazardRatios().get(0).getHazardRatio(), 0.01);
+  }
+
+  @Test
+  public void calculateSingleGroup() {
+
+    SurvivalAnalysis result =
+        kaplanMeierCalculator.calculate(
+            List.of("all"), List.of(PLACEBO_TIMES), List.of(PLACEBO_EVENTS));
+
+    Assert.assertEquals(1, result.getCurves().size());
+    Assert.assertNull(result.getLogRankStatistic());
+    Assert.assertTrue(result.getHazardRatios().isEmpty());
+  }
+
+  @Test
+  public void calculateEmptyGroup() {
+
+    SurvivalAnalysis result =
+        kaplanMeierCalculator.calculate(
+            List.of("6-MP", "empty"),
+            List.of(TREATMENT_TIMES, new double[0]),
+            List.of(TREATMENT_EVENTS, new boolean[0]));
+
+    Assert.assertEquals(2, result.getCurves().size());
+    Assert.assertTrue(result.getCurves().get(1).getPoints().isEmpty());
+    Assert.assertNull(result.getCurves().get(1).getMedian());
+    Assert.assertNull(result.getLogRankPValue());
+  }
+}
@@ -0,0 +1,80 @@
+package org.cbioportal.legacy.service.util;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cbioportal.legacy.web.parameter.VirtualStudy;
+import org.cbioportal.legacy.web.parameter.VirtualStudyData;
+import org.cbioportal.legacy.web.parameter.VirtualStudySamples;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class VirtualStudyCacheTest {
+
+  private final VirtualStudyCache virtualStudyCache = new VirtualStudyCache(true, 300, 100);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  public void getVirtualStudyReturnsCopies() {
+    VirtualStudy first = virtualStudyCache.getVirtualStudy("vs_1", this::load).get();
+    first.getData().setStudies(Set.of());
+    VirtualStudy second = virtualStudyCache.getVirtualStudy("vs_1", this::load).get();
+
+    Assert.assertEquals(1, loads.get());
+    Assert.assertEquals("vs_1", second.getId());
+    Assert.assertEquals("Virtual study 1", second.getData().getName());
+    Assert.assertEquals(
+        Set.of("S1", "S2"), second.getData().getStudies().iterator().next().getSamples());
+  }
+
+  @Test
+  public void invalidateDropsVirtualStudy() {
+    virtualStudyCache.getVirtualStudy("vs_1", this::load);
+    virtualStudyCache.invalidate("vs_1");
+    virtualStudyCache.getVirtualStudy("vs_1", this::load);
+
+    Assert.assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void checkVersionDropsEntriesWhenPublicVirtualStudiesChange() {
+    VirtualStudy published = load().get();
+    virtualStudyCache.checkVersion(List.of(published));
+    virtualStudyCache.getVirtualStudy("vs_1", this::load);
+
+    virtualStudyCache.checkVersion(List.of(published));
+    virtualStudyCache.getVirtualStudy("vs_1", this::load);
+    Assert.assertEquals(2, loads.get());
+
+    published.getData().setName("Renamed");
+    virtualStudyCache.checkVersion(List.of(published));
+    virtualStudyCache.getVirtualStudy("vs_1", this::load);
+    Assert.assertEquals(3, loads.get());
+    Assert.assertEquals(
+        "Renamed",
+        virtualStudyCache
+            .getPublicVirtualStudies(
+                () -> {
+                  throw new IllegalStateException("should be cached");
+                })
+            .get(0)
+            .getData()
+            .getName());
+  }
+
+  private Optional<VirtualStudy> load() {
+    loads.incrementAndGet();
+    VirtualStudySamples virtualStudySamples = new VirtualStudySamples();
+    virtualStudySamples.setId("study_1");
+    virtualStudySamples.setSamples(Set.of("S1", "S2"));
+    VirtualStudyData virtualStudyData = new VirtualStudyData();
+    virtualStudyData.setName("Virtual study 1");
+    virtualStudyData.setStudies(Set.of(virtualStudySamples));
+    VirtualStudy virtualStudy = new VirtualStudy();
+    ReflectionTestUtils.setField(virtualStudy, "id", "vs_1");
+    virtualStudy.setData(virtualStudyData);
+    return Optional.of(virtualStudy);
+  }
+}
@@ -6,7 +6,9 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.cbioportal.legacy.model.ClinicalData;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.service.ClinicalDataService;
 import org.cbioportal.legacy.web.config.CustomObjectMapper;
@@ -15,7 +17,11 @@ import org.cbioportal.legacy.web.parameter.ClinicalDataIdentifier;
 import org.cbioportal.legacy.web.parameter.ClinicalDataMultiStudyFilter;
 import org.cbioportal.legacy.web.parameter.ClinicalDataSingleStudyFilter;
 import org.cbioportal.legacy.web.parameter.HeaderKeyConstants;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter;
+import org.cbioportal.legacy.web.util.NdjsonResponseWriter;
+import org.cbioportal.legacy.web.util.PageTokenCodec;
 import org.hamcrest.Matchers;
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,12 +32,19 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebMvcTest
-@ContextConfiguration(classes = {ClinicalDataController.class, TestConfig.class})
+@ContextConfiguration(
+    classes = {
+      ClinicalDataController.class,
+      NdjsonResponseWriter.class,
+      ColumnarResponseWriter.class,
+      TestConfig.class
+    })
 public class ClinicalDataControllerTest {
 
   private static final String TEST_ATTR_ID_1 = "test_attr_id_1";
@@ -203,6 +216,67 @@ public class ClinicalDataControllerTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$[1].clinicalAttribute").doesNotExist());
   }
 
+  @Test
+  @WithMockUser
+  public void getAllClinicalDataInStudyByPageToken() throws Exception {
+
+    List<ClinicalData> patientClinicalDataList = new ArrayList<>();
+    ClinicalData patientClinicalData1 = new ClinicalData();
+    patientClinicalData1.setAttrId(TEST_ATTR_ID_1);
+    patientClinicalData1.setAttrValue(TEST_ATTR_VALUE_1);
+    patientClinicalData1.setInternalId(TEST_INTERNAL_ID_1);
+    patientClinicalDataList.add(patientClinicalData1);
+    ClinicalData patientClinicalData2 = new ClinicalData();
+    patientClinicalData2.setAttrId(TEST_ATTR_ID_2);
+    patientClinicalData2.setAttrValue(TEST_ATTR_VALUE_2);
+    patientClinicalData2.setInternalId(TEST_INTERNAL_ID_2);
+    patientClinicalDataList.add(patientClinicalData2);
+    when(clinicalDataService.getAllClinicalDataInStudyAfterKey(
+            any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(patientClinicalDataList);
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.get("/api/studies/test_study_id/clinical-data")
+                    .param("clinicalDataType", "PATIENT")
+                    .param("pageSize", "2")
+                    .param("pageToken", "")
+                    .param("sortBy", "value")
+                    .param("direction", "DESC")
+                    .accept(MediaType.APPLICATION_JSON))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+            .andReturn();
+
+    verify(clinicalDataService)
+        .getAllClinicalDataInStudyAfterKey(
+            "test_study_id", null, "PATIENT", "SUMMARY", 2, null, "attrValue", "DESC");
+
+    PageKey pageKey =
+        PageTokenCodec.decode(
+            result.getResponse().getHeader(HeaderKeyConstants.NEXT_PAGE_TOKEN),
+            "attrValue",
+            "DESC");
+    Assert.assertEquals(TEST_ATTR_VALUE_2, pageKey.getSortValue());
+    Assert.assertEquals(List.of(TEST_INTERNAL_ID_2, TEST_ATTR_ID_2), pageKey.getTiebreaker());
+  }
+
+  @Test
+  @WithMockUser
+  public void getAllClinicalDataInStudyByInvalidPageToken() throws Exception {
+
+    String pageToken = PageTokenCodec.encode(new PageKey(null, List.of(1)), null, "ASC");
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/studies/test_study_id/clinical-data")
+                .param("pageToken", pageToken)
+                .param("sortBy", "value")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+  }
+
   @Test
   @WithMockUser
   public void getAllClinicalDataInStudyMetaProjection() throws Exception {
@@ -353,6 +427,64 @@ public class ClinicalDataControllerTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$[1].clinicalAttribute").doesNotExist());
   }
 
+  @Test
+  @WithMockUser
+  public void fetchClinicalDataAsNdjson() throws Exception {
+
+    ClinicalData patientClinicalData1 = new ClinicalData();
+    patientClinicalData1.setAttrId(TEST_ATTR_ID_1);
+    patientClinicalData1.setAttrValue(TEST_ATTR_VALUE_1);
+    ClinicalData patientClinicalData2 = new ClinicalData();
+    patientClinicalData2.setAttrId(TEST_ATTR_ID_2);
+    patientClinicalData2.setAttrValue(TEST_ATTR_VALUE_2);
+    doAnswer(
+            invocation -> {
+              Consumer<ClinicalData> consumer = invocation.getArgument(5);
+              consumer.accept(patientClinicalData1);
+              consumer.accept(patientClinicalData2);
+              return null;
+            })
+        .when(clinicalDataService)
+        .streamClinicalData(any(), any(), any(), eq("PATIENT"), eq("SUMMARY"), any());
+
+    List<ClinicalDataIdentifier> clinicalDataIdentifiers = new ArrayList<>();
+    ClinicalDataIdentifier clinicalDataIdentifier1 = new ClinicalDataIdentifier();
+    clinicalDataIdentifier1.setStudyId("test_study1");
+    clinicalDataIdentifier1.setEntityId("test_patient1");
+    clinicalDataIdentifiers.add(clinicalDataIdentifier1);
+    ClinicalDataMultiStudyFilter clinicalDataMultiStudyFilter = new ClinicalDataMultiStudyFilter();
+    clinicalDataMultiStudyFilter.setIdentifiers(clinicalDataIdentifiers);
+
+    MvcResult mvcResult =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.post("/api/clinical-data/fetch")
+                    .with(csrf())
+                    .param("clinicalDataType", "PATIENT")
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(clinicalDataMultiStudyFilter)))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+
+    String[] lines =
+        mockMvc
+            .perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(
+                MockMvcResultMatchers.content()
+                    .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString()
+            .split("\n");
+    Assert.assertEquals(2, lines.length);
+    Assert.assertEquals(
+        TEST_ATTR_ID_1, objectMapper.readTree(lines[0]).get("clinicalAttributeId").asText());
+    Assert.assertEquals(TEST_ATTR_VALUE_2, objectMapper.readTree(lines[1]).get("value").asText());
+    verify(clinicalDataService, never()).fetchClinicalData(any(), any(), any(), any(), any());
+  }
+
   @Test
   @WithMockUser
   public void fetchClinicalDataMetaProjection() throws Exception {
@@ -5,13 +5,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Consumer;
 import org.cbioportal.legacy.model.GenericAssayData;
 import org.cbioportal.legacy.service.GenericAssayService;
 import org.cbioportal.legacy.web.config.TestConfig;
 import org.cbioportal.legacy.web.parameter.GenericAssayDataMultipleStudyFilter;
 import org.cbioportal.legacy.web.parameter.GenericAssayFilter;
 import org.cbioportal.legacy.web.parameter.SampleMolecularIdentifier;
+import org.cbioportal.legacy.web.util.ColumnarResponseReader;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter.ColumnType;
 import org.hamcrest.Matchers;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -23,6 +28,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -30,7 +36,8 @@ import org.springframework.web.context.WebApplicationContext;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebMvcTest
-@ContextConfiguration(classes = {GenericAssayDataController.class, TestConfig.class})
+@ContextConfiguration(
+    classes = {GenericAssayDataController.class, ColumnarResponseWriter.class, TestConfig.class})
 public class GenericAssayDataControllerTest {
 
   private static final String PROF_ID = "test_prof_id";
@@ -148,6 +155,62 @@ public class GenericAssayDataControllerTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$[1].value").value(VALUE_2));
   }
 
+  @Test
+  public void testGenericAssayDataFetchInMultipleMolecularProfilesColumnar() throws Exception {
+    List<GenericAssayData> genericAssayDataItems = createGenericAssayDataItemsList();
+    GenericAssayDataMultipleStudyFilter genericAssayDataMultipleStudyFilter =
+        new GenericAssayDataMultipleStudyFilter();
+    genericAssayDataMultipleStudyFilter.setSampleMolecularIdentifiers(
+        createSampleMolecularIdentifiers());
+
+    Mockito.doAnswer(
+            invocation -> {
+              Consumer<GenericAssayData> consumer = invocation.getArgument(4);
+              genericAssayDataItems.forEach(consumer);
+              return null;
+            })
+        .when(genericAssayService)
+        .streamGenericAssayData(
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.any(),
+            Mockito.eq("SUMMARY"),
+            Mockito.any());
+
+    MvcResult mvcResult =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.post("/api/generic_assay_data/fetch")
+                    .accept(ColumnarResponseWriter.COLUMNAR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(genericAssayDataMultipleStudyFilter)))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+
+    byte[] content =
+        mockMvc
+            .perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(
+                MockMvcResultMatchers.content()
+                    .contentTypeCompatibleWith(ColumnarResponseWriter.COLUMNAR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    ColumnarResponseReader columnar = ColumnarResponseReader.read(content);
+    Assert.assertEquals(6, columnar.getFields().size());
+    Assert.assertEquals(ColumnType.UTF8, columnar.getFields().get("value"));
+    Assert.assertEquals(List.of(2), columnar.getBatchLengths());
+    Assert.assertEquals(List.of(PROF_ID), columnar.getDictionary("molecularProfileId"));
+    Assert.assertEquals(
+        List.of(GENERIC_ASSAY_STABLE_ID_1, GENERIC_ASSAY_STABLE_ID_2),
+        columnar.getColumn("genericAssayStableId"));
+    Assert.assertEquals(List.of(SAMPLE_ID, SAMPLE_ID), columnar.getColumn("sampleId"));
+    Assert.assertEquals(List.of(VALUE_1, VALUE_2), columnar.getColumn("value"));
+    Assert.assertEquals(Arrays.asList(null, null), columnar.getColumn("studyId"));
+  }
+
   public void testGenericAssayDataGet() throws Exception {
     List<GenericAssayData> genericAssayDataItems = createGenericAssayDataItemsList();
     Mockito.when(
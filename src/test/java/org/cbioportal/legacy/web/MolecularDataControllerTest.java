@@ -2,17 +2,24 @@ package org.cbioportal.legacy.web;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 import org.cbioportal.legacy.model.GeneMolecularData;
 import org.cbioportal.legacy.service.MolecularDataService;
 import org.cbioportal.legacy.web.config.TestConfig;
 import org.cbioportal.legacy.web.parameter.HeaderKeyConstants;
 import org.cbioportal.legacy.web.parameter.MolecularDataFilter;
 import org.cbioportal.legacy.web.parameter.MolecularDataMultipleStudyFilter;
+import org.cbioportal.legacy.web.util.ColumnarResponseReader;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter.ColumnType;
+import org.cbioportal.legacy.web.util.NdjsonResponseWriter;
 import org.hamcrest.Matchers;
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -24,12 +31,19 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebMvcTest
-@ContextConfiguration(classes = {MolecularDataController.class, TestConfig.class})
+@ContextConfiguration(
+    classes = {
+      MolecularDataController.class,
+      NdjsonResponseWriter.class,
+      ColumnarResponseWriter.class,
+      TestConfig.class
+    })
 public class MolecularDataControllerTest {
 
   private static final String TEST_MOLECULAR_PROFILE_STABLE_ID_1 =
@@ -229,6 +243,127 @@ public class MolecularDataControllerTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$[1].gene").doesNotExist());
   }
 
+  @Test
+  @WithMockUser
+  public void fetchMolecularDataInMultipleMolecularProfilesAsNdjson() throws Exception {
+
+    List<GeneMolecularData> geneMolecularDataList = createExampleMolecularData();
+    GeneMolecularData nonNumericMolecularData = new GeneMolecularData();
+    nonNumericMolecularData.setMolecularProfileId(TEST_MOLECULAR_PROFILE_STABLE_ID_2);
+    nonNumericMolecularData.setSampleId(TEST_SAMPLE_STABLE_ID_1);
+    nonNumericMolecularData.setEntrezGeneId(TEST_ENTREZ_GENE_ID_2);
+    nonNumericMolecularData.setValue("NA");
+    geneMolecularDataList.add(1, nonNumericMolecularData);
+
+    Mockito.doAnswer(
+            invocation -> {
+              Consumer<GeneMolecularData> consumer = invocation.getArgument(4);
+              geneMolecularDataList.forEach(consumer);
+              return null;
+            })
+        .when(molecularDataService)
+        .streamMolecularDataInMultipleMolecularProfiles(
+            Mockito.any(), Mockito.isNull(), Mockito.any(), Mockito.eq("SUMMARY"), Mockito.any());
+
+    MolecularDataMultipleStudyFilter molecularDataMultipleStudyFilter =
+        new MolecularDataMultipleStudyFilter();
+    molecularDataMultipleStudyFilter.setMolecularProfileIds(
+        Arrays.asList(TEST_MOLECULAR_PROFILE_STABLE_ID_1, TEST_MOLECULAR_PROFILE_STABLE_ID_2));
+    molecularDataMultipleStudyFilter.setEntrezGeneIds(
+        Arrays.asList(TEST_ENTREZ_GENE_ID_1, TEST_ENTREZ_GENE_ID_2));
+
+    MvcResult mvcResult =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.post("/api/molecular-data/fetch")
+                    .with(csrf())
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(molecularDataMultipleStudyFilter)))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+
+    String[] lines =
+        mockMvc
+            .perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(
+                MockMvcResultMatchers.content()
+                    .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString()
+            .split("\n");
+    Assert.assertEquals(2, lines.length);
+    JsonNode first = objectMapper.readTree(lines[0]);
+    Assert.assertEquals(TEST_SAMPLE_STABLE_ID_1, first.get("sampleId").asText());
+    Assert.assertEquals(2.3, first.get("value").asDouble(), 0);
+    JsonNode second = objectMapper.readTree(lines[1]);
+    Assert.assertEquals(TEST_SAMPLE_STABLE_ID_2, second.get("sampleId").asText());
+    Assert.assertEquals(2.4, second.get("value").asDouble(), 0);
+  }
+
+  @Test
+  @WithMockUser
+  public void fetchMolecularDataInMultipleMolecularProfilesColumnar() throws Exception {
+
+    List<GeneMolecularData> geneMolecularDataList = createExampleMolecularData();
+
+    Mockito.doAnswer(
+            invocation -> {
+              Consumer<GeneMolecularData> consumer = invocation.getArgument(4);
+              geneMolecularDataList.forEach(consumer);
+              return null;
+            })
+        .when(molecularDataService)
+        .streamMolecularDataInMultipleMolecularProfiles(
+            Mockito.any(), Mockito.isNull(), Mockito.any(), Mockito.eq("SUMMARY"), Mockito.any());
+
+    MolecularDataMultipleStudyFilter molecularDataMultipleStudyFilter =
+        new MolecularDataMultipleStudyFilter();
+    molecularDataMultipleStudyFilter.setMolecularProfileIds(
+        Arrays.asList(TEST_MOLECULAR_PROFILE_STABLE_ID_1, TEST_MOLECULAR_PROFILE_STABLE_ID_2));
+    molecularDataMultipleStudyFilter.setEntrezGeneIds(
+        Arrays.asList(TEST_ENTREZ_GENE_ID_1, TEST_ENTREZ_GENE_ID_2));
+
+    MvcResult mvcResult =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.post("/api/molecular-data/fetch")
+                    .with(csrf())
+                    .accept(ColumnarResponseWriter.COLUMNAR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(molecularDataMultipleStudyFilter)))
+            .andExpect(MockMvcResultMatchers.request().asyncStarted())
+            .andReturn();
+
+    byte[] content =
+        mockMvc
+            .perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(
+                MockMvcResultMatchers.content()
+                    .contentTypeCompatibleWith(ColumnarResponseWriter.COLUMNAR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    ColumnarResponseReader columnar = ColumnarResponseReader.read(content);
+    Assert.assertEquals("molecularProfileId", columnar.getFields().keySet().iterator().next());
+    Assert.assertEquals(ColumnType.DICTIONARY, columnar.getFields().get("molecularProfileId"));
+    Assert.assertEquals(ColumnType.FLOAT64, columnar.getFields().get("value"));
+    Assert.assertEquals(List.of(2), columnar.getBatchLengths());
+    Assert.assertEquals(
+        List.of(TEST_SAMPLE_STABLE_ID_1, TEST_SAMPLE_STABLE_ID_2),
+        columnar.getDictionary("sampleId"));
+    Assert.assertEquals(
+        List.of(TEST_SAMPLE_STABLE_ID_1, TEST_SAMPLE_STABLE_ID_2), columnar.getColumn("sampleId"));
+    Assert.assertEquals(
+        List.of(TEST_ENTREZ_GENE_ID_1, TEST_ENTREZ_GENE_ID_2), columnar.getColumn("entrezGeneId"));
+    Assert.assertEquals(List.of(2.3, 2.4), columnar.getColumn("value"));
+    Assert.assertEquals(Arrays.asList(null, null), columnar.getColumn("studyId"));
+  }
+
   private List<GeneMolecularData> createExampleMolecularData() {
 
     List<GeneMolecularData> geneMolecularDataList = new ArrayList<>();
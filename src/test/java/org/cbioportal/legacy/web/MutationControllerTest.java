@@ -9,6 +9,7 @@ import org.cbioportal.legacy.model.AlleleSpecificCopyNumber;
 import org.cbioportal.legacy.model.Gene;
 import org.cbioportal.legacy.model.Mutation;
 import org.cbioportal.legacy.model.MutationCountByPosition;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.meta.MutationMeta;
 import org.cbioportal.legacy.service.MutationService;
 import org.cbioportal.legacy.web.config.TestConfig;
@@ -17,7 +18,10 @@ import org.cbioportal.legacy.web.parameter.MutationFilter;
 import org.cbioportal.legacy.web.parameter.MutationMultipleStudyFilter;
 import org.cbioportal.legacy.web.parameter.MutationPositionIdentifier;
 import org.cbioportal.legacy.web.parameter.SampleMolecularIdentifier;
+import org.cbioportal.legacy.web.util.NdjsonResponseWriter;
+import org.cbioportal.legacy.web.util.PageTokenCodec;
 import org.hamcrest.Matchers;
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -29,13 +33,19 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @WebMvcTest
 @ContextConfiguration(
-    classes = {MutationController.class, MutationCountController.class, TestConfig.class})
+    classes = {
+      MutationController.class,
+      MutationCountController.class,
+      NdjsonResponseWriter.class,
+      TestConfig.class
+    })
 public class MutationControllerTest {
 
   private static final String TEST_MOLECULAR_PROFILE_STABLE_ID_1 =
@@ -502,6 +512,85 @@ public class MutationControllerTest {
         .andExpect(MockMvcResultMatchers.header().string(HeaderKeyConstants.SAMPLE_COUNT, "3"));
   }
 
+  @Test
+  @WithMockUser
+  public void getMutationsInMolecularProfileBySampleListIdByPageToken() throws Exception {
+
+    List<Mutation> mutationList = createExampleMutations();
+
+    Mockito.when(
+            mutationService.getMutationsInMolecularProfileBySampleListIdAfterKey(
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyBoolean(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any()))
+        .thenReturn(mutationList);
+
+    MvcResult firstPage =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.get(
+                        "/api/molecular-profiles/test_molecular_profile_id/mutations")
+                    .param("sampleListId", TEST_SAMPLE_LIST_ID)
+                    .param("pageSize", "2")
+                    .param("pageToken", "")
+                    .param("sortBy", "startPosition")
+                    .accept(MediaType.APPLICATION_JSON))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+            .andExpect(MockMvcResultMatchers.header().exists(HeaderKeyConstants.NEXT_PAGE_TOKEN))
+            .andReturn();
+
+    Mockito.verify(mutationService)
+        .getMutationsInMolecularProfileBySampleListIdAfterKey(
+            "test_molecular_profile_id",
+            TEST_SAMPLE_LIST_ID,
+            null,
+            false,
+            "SUMMARY",
+            2,
+            null,
+            "startPosition",
+            "ASC");
+
+    String pageToken = firstPage.getResponse().getHeader(HeaderKeyConstants.NEXT_PAGE_TOKEN);
+    PageKey pageKey = PageTokenCodec.decode(pageToken, "startPosition", "ASC");
+    Assert.assertEquals(TEST_START_POSITION_2, ((Number) pageKey.getSortValue()).longValue());
+    Assert.assertEquals(TEST_SAMPLE_STABLE_ID_2, pageKey.getTiebreaker().get(0));
+    Assert.assertEquals(TEST_REFERENCE_ALLELE_2, pageKey.getTiebreaker().get(5));
+
+    Mockito.when(
+            mutationService.getMutationsInMolecularProfileBySampleListIdAfterKey(
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyBoolean(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.notNull(),
+                Mockito.any(),
+                Mockito.any()))
+        .thenReturn(mutationList.subList(0, 1));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get(
+                    "/api/molecular-profiles/test_molecular_profile_id/mutations")
+                .param("sampleListId", TEST_SAMPLE_LIST_ID)
+                .param("pageSize", "2")
+                .param("pageToken", pageToken)
+                .param("sortBy", "startPosition")
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+        .andExpect(MockMvcResultMatchers.header().doesNotExist(HeaderKeyConstants.NEXT_PAGE_TOKEN));
+  }
+
   @Test
   @WithMockUser
   public void fetchMutationsInMultipleMolecularProfiles() throws Exception {
@@ -5,6 +5,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
+import org.cbioportal.legacy.model.PageKey;
 import org.cbioportal.legacy.model.Sample;
 import org.cbioportal.legacy.model.meta.BaseMeta;
 import org.cbioportal.legacy.service.SampleListService;
@@ -15,9 +16,12 @@ import org.cbioportal.legacy.web.config.TestConfig;
 import org.cbioportal.legacy.web.parameter.HeaderKeyConstants;
 import org.cbioportal.legacy.web.parameter.SampleFilter;
 import org.cbioportal.legacy.web.parameter.SampleIdentifier;
+import org.cbioportal.legacy.web.util.PageTokenCodec;
 import org.hamcrest.Matchers;
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -101,6 +105,47 @@ public class SampleControllerTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$[1].patient").doesNotExist());
   }
 
+  @Test
+  @WithMockUser
+  public void getAllSamplesInStudyByPageToken() throws Exception {
+
+    List<Sample> sampleList = createExampleSamples();
+
+    Mockito.when(
+            sampleService.getAllSamplesInStudyAfterKey(
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.any()))
+        .thenReturn(sampleList);
+
+    String pageToken =
+        PageTokenCodec.encode(new PageKey(null, List.of(TEST_INTERNAL_ID_1)), null, "ASC");
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/api/studies/test_study_id/samples")
+                .param("pageSize", "10")
+                .param("pageToken", pageToken)
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+        .andExpect(MockMvcResultMatchers.header().doesNotExist(HeaderKeyConstants.NEXT_PAGE_TOKEN));
+
+    ArgumentCaptor<PageKey> pageKeyCaptor = ArgumentCaptor.forClass(PageKey.class);
+    Mockito.verify(sampleService)
+        .getAllSamplesInStudyAfterKey(
+            Mockito.eq("test_study_id"),
+            Mockito.eq("SUMMARY"),
+            Mockito.eq(10),
+            pageKeyCaptor.capture(),
+            Mockito.isNull(),
+            Mockito.eq("ASC"));
+    Assert.assertEquals(List.of(TEST_INTERNAL_ID_1), pageKeyCaptor.getValue().getTiebreaker());
+  }
+
   @Test
   @WithMockUser
   public void getAllSamplesInStudyMetaProjection() throws Exception {
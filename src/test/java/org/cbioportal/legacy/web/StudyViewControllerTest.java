@@ -6,6 +6,8 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 
@@ -17,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.cbioportal.application.AsyncConfig;
 import org.cbioportal.legacy.model.AlterationCountByGene;
 import org.cbioportal.legacy.model.AlterationFilter;
 import org.cbioportal.legacy.model.ClinicalAttribute;
@@ -64,18 +67,25 @@ import org.cbioportal.legacy.web.parameter.GenericAssayDataCountFilter;
 import org.cbioportal.legacy.web.parameter.GenericAssayDataFilter;
 import org.cbioportal.legacy.web.parameter.GenomicDataCountFilter;
 import org.cbioportal.legacy.web.parameter.GenomicDataFilter;
+import org.cbioportal.legacy.web.parameter.HeaderKeyConstants;
 import org.cbioportal.legacy.web.parameter.NamespaceDataCountFilter;
 import org.cbioportal.legacy.web.parameter.NamespaceDataFilter;
 import org.cbioportal.legacy.web.parameter.SampleIdentifier;
+import org.cbioportal.legacy.web.parameter.StudyViewChartBatchFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartRequest;
+import org.cbioportal.legacy.web.parameter.StudyViewChartType;
 import org.cbioportal.legacy.web.parameter.StudyViewFilter;
 import org.cbioportal.legacy.web.util.ClinicalDataBinUtil;
 import org.cbioportal.legacy.web.util.ClinicalDataFetcher;
+import org.cbioportal.legacy.web.util.ClinicalTableCursorCache;
 import org.cbioportal.legacy.web.util.DataBinHelper;
 import org.cbioportal.legacy.web.util.DataBinner;
 import org.cbioportal.legacy.web.util.DiscreteDataBinner;
 import org.cbioportal.legacy.web.util.LinearDataBinner;
 import org.cbioportal.legacy.web.util.LogScaleDataBinner;
 import org.cbioportal.legacy.web.util.ScientificSmallDataBinner;
+import org.cbioportal.legacy.web.util.StudyViewCacheWarmUp;
+import org.cbioportal.legacy.web.util.StudyViewChartBatchEvaluator;
 import org.cbioportal.legacy.web.util.StudyViewFilterApplier;
 import org.cbioportal.legacy.web.util.StudyViewFilterUtil;
 import org.junit.Before;
@@ -111,6 +121,9 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
       LogScaleDataBinner.class,
       ClinicalDataBinUtil.class,
       DataBinHelper.class,
+      ClinicalTableCursorCache.class,
+      StudyViewChartBatchEvaluator.class,
+      AsyncConfig.class,
       TestConfig.class
     })
 public class StudyViewControllerTest {
@@ -188,6 +201,8 @@ public class StudyViewControllerTest {
 
   @MockBean private ClinicalDataBinUtil clinicalDataBinUtil;
 
+  @MockBean private StudyViewCacheWarmUp studyViewCacheWarmUp;
+
   @Autowired private MockMvc mockMvc;
 
   private AlterationFilter alterationFilter = new AlterationFilter();
@@ -581,6 +596,85 @@ public class StudyViewControllerTest {
         .andExpect(MockMvcResultMatchers.jsonPath("$[1].totalCount").doesNotExist());
   }
 
+  @Test
+  @WithMockUser
+  public void fetchStudyViewCharts() throws Exception {
+
+    List<SampleIdentifier> filteredSampleIdentifiers = new ArrayList<>();
+    SampleIdentifier sampleIdentifier = new SampleIdentifier();
+    sampleIdentifier.setSampleId(TEST_SAMPLE_ID_1);
+    sampleIdentifier.setStudyId(TEST_STUDY_ID);
+    filteredSampleIdentifiers.add(sampleIdentifier);
+    when(studyViewFilterApplier.apply(any())).thenReturn(filteredSampleIdentifiers);
+
+    AlterationCountByGene mutationCount = new AlterationCountByGene();
+    mutationCount.setEntrezGeneId(TEST_ENTREZ_GENE_ID_1);
+    mutationCount.setHugoGeneSymbol(TEST_HUGO_GENE_SYMBOL_1);
+    mutationCount.setNumberOfAlteredCases(1);
+    when(studyViewService.getMutationAlterationCountByGenes(
+            eq(Arrays.asList(TEST_STUDY_ID)),
+            eq(Arrays.asList(TEST_SAMPLE_ID_1)),
+            any(AlterationFilter.class)))
+        .thenReturn(List.of(mutationCount));
+    when(studyViewService.getCNAAlterationCountByGenes(anyList(), anyList(), any()))
+        .thenThrow(new IllegalStateException("connection lost"));
+
+    StudyViewFilter studyViewFilter = new StudyViewFilter();
+    studyViewFilter.setStudyIds(Arrays.asList(TEST_STUDY_ID));
+    StudyViewChartRequest mutatedGenesChart = new StudyViewChartRequest();
+    mutatedGenesChart.setId("mutations");
+    mutatedGenesChart.setType(StudyViewChartType.MUTATED_GENES);
+    StudyViewChartRequest cnaGenesChart = new StudyViewChartRequest();
+    cnaGenesChart.setId("cna");
+    cnaGenesChart.setType(StudyViewChartType.CNA_GENES);
+    StudyViewChartBatchFilter studyViewChartBatchFilter = new StudyViewChartBatchFilter();
+    studyViewChartBatchFilter.setStudyViewFilter(studyViewFilter);
+    studyViewChartBatchFilter.setCharts(List.of(mutatedGenesChart, cnaGenesChart));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post("/api/study-view-charts/fetch")
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(studyViewChartBatchFilter)))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(
+            MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.mutations.data[0].entrezGeneId")
+                .value(TEST_ENTREZ_GENE_ID_1))
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.mutations.data[0].numberOfAlteredCases").value(1))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.mutations.error").doesNotExist())
+        .andExpect(MockMvcResultMatchers.jsonPath("$.cna.data").doesNotExist())
+        .andExpect(
+            MockMvcResultMatchers.jsonPath("$.cna.error").value("Could not fetch CNA_GENES"));
+  }
+
+  @Test
+  @WithMockUser
+  public void fetchStudyViewChartsWithDuplicateChartIds() throws Exception {
+
+    StudyViewFilter studyViewFilter = new StudyViewFilter();
+    studyViewFilter.setStudyIds(Arrays.asList(TEST_STUDY_ID));
+    StudyViewChartRequest chart = new StudyViewChartRequest();
+    chart.setId("genes");
+    chart.setType(StudyViewChartType.MUTATED_GENES);
+    StudyViewChartBatchFilter studyViewChartBatchFilter = new StudyViewChartBatchFilter();
+    studyViewChartBatchFilter.setStudyViewFilter(studyViewFilter);
+    studyViewChartBatchFilter.setCharts(List.of(chart, chart));
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post("/api/study-view-charts/fetch")
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(studyViewChartBatchFilter)))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+  }
+
   @Test
   @WithMockUser
   public void fetchSampleIds() throws Exception {
@@ -1120,6 +1214,65 @@ public class StudyViewControllerTest {
             MockMvcResultMatchers.jsonPath(jsonPath + "[2].sampleId").value(TEST_SAMPLE_ID_3));
   }
 
+  @Test
+  @WithMockUser
+  public void fetchClinicalDataClinicalTableByCursor() throws Exception {
+    when(studyViewFilterApplier.apply(any())).thenReturn(filteredSampleIdentifiers);
+    when(clinicalDataService.getSortedSampleInternalIdsForClinicalTable(
+            anyList(), anyList(), anyString(), any(), anyString()))
+        .thenReturn(List.of(1, 2, 3));
+    when(clinicalDataService.fetchSampleClinicalTablePage(anyList(), anyInt(), anyInt()))
+        .thenReturn(new ImmutablePair<>(tableClinicalData, 3));
+
+    StudyViewFilter studyViewFilter = new StudyViewFilter();
+    studyViewFilter.setStudyIds(Arrays.asList(TEST_STUDY_ID, "cursor_study_id"));
+
+    String cursor =
+        mockMvc
+            .perform(
+                MockMvcRequestBuilders.post("/api/clinical-data-table/fetch")
+                    .param("pageSize", "2")
+                    .param("useCursor", "true")
+                    .with(csrf())
+                    .accept(MediaType.APPLICATION_JSON)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(studyViewFilter)))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.header().string(HeaderKeyConstants.TOTAL_COUNT, "3"))
+            .andExpect(MockMvcResultMatchers.header().exists(HeaderKeyConstants.NEXT_CURSOR))
+            .andReturn()
+            .getResponse()
+            .getHeader(HeaderKeyConstants.NEXT_CURSOR);
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post("/api/clinical-data-table/fetch")
+                .param("pageSize", "2")
+                .param("cursor", cursor)
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(studyViewFilter)))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.header().doesNotExist(HeaderKeyConstants.NEXT_CURSOR));
+
+    // the second page is served from the cached sorted id list
+    verify(studyViewFilterApplier, times(1)).apply(any());
+    verify(clinicalDataService).fetchSampleClinicalTablePage(List.of(1, 2, 3), 2, 2);
+
+    StudyViewFilter otherStudyViewFilter = new StudyViewFilter();
+    otherStudyViewFilter.setStudyIds(Arrays.asList(TEST_STUDY_ID));
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post("/api/clinical-data-table/fetch")
+                .param("cursor", cursor)
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(otherStudyViewFilter)))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+  }
+
   @Test
   @WithMockUser
   public void fetchClinicalEventTypeCounts() throws Exception {
@@ -10,12 +10,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.cbioportal.legacy.model.ClinicalData;
+import org.cbioportal.legacy.model.SurvivalAnalysis;
+import org.cbioportal.legacy.model.SurvivalCurve;
 import org.cbioportal.legacy.service.ClinicalEventService;
 import org.cbioportal.legacy.web.config.TestConfig;
 import org.cbioportal.legacy.web.parameter.ClinicalEventRequest;
 import org.cbioportal.legacy.web.parameter.ClinicalEventRequestIdentifier;
 import org.cbioportal.legacy.web.parameter.OccurrencePosition;
 import org.cbioportal.legacy.web.parameter.PatientIdentifier;
+import org.cbioportal.legacy.web.parameter.SurvivalCurveRequest;
+import org.cbioportal.legacy.web.parameter.SurvivalGroup;
 import org.cbioportal.legacy.web.parameter.SurvivalRequest;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -45,6 +49,7 @@ public class SurvivalControllerTest {
   private static final String TEST_CLINICAL_ATTRIBUTE_VALUE_1 = "test_clinical_attribute_value_1";
   private static final String TEST_CLINICAL_ATTRIBUTE_VALUE_2 = "test_clinical_attribute_value_2";
   private static final String TEST_CLINICAL_EVENT_TYPE = "test_clinical_event_type";
+  private static final String TEST_GROUP_NAME = "test_group_name";
 
   private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -116,6 +121,55 @@ public class SurvivalControllerTest {
             MockMvcResultMatchers.jsonPath("$[1].value").value(TEST_CLINICAL_ATTRIBUTE_VALUE_2));
   }
 
+  @Test
+  @WithMockUser
+  public void fetchSurvivalCurves() throws Exception {
+    SurvivalCurve survivalCurve = new SurvivalCurve();
+    survivalCurve.setName(TEST_GROUP_NAME);
+    survivalCurve.setNumberOfPatients(1);
+    survivalCurve.setNumberOfEvents(1);
+    survivalCurve.setPoints(new ArrayList<>());
+    SurvivalAnalysis survivalAnalysis = new SurvivalAnalysis();
+    survivalAnalysis.setCurves(List.of(survivalCurve));
+    survivalAnalysis.setHazardRatios(new ArrayList<>());
+    when(clinicalEventService.getSurvivalAnalysis(any())).thenReturn(survivalAnalysis);
+
+    PatientIdentifier patientIdentifier = new PatientIdentifier();
+    patientIdentifier.setPatientId(TEST_PATIENT_ID_1);
+    patientIdentifier.setStudyId(TEST_CANCER_STUDY_IDENTIFIER);
+    SurvivalGroup survivalGroup = new SurvivalGroup();
+    survivalGroup.setName(TEST_GROUP_NAME);
+    survivalGroup.setPatientIdentifiers(List.of(patientIdentifier));
+
+    ClinicalEventRequest clinicalEventRequest = new ClinicalEventRequest();
+    clinicalEventRequest.setEventType(TEST_CLINICAL_EVENT_TYPE);
+    clinicalEventRequest.setAttributes(new ArrayList<>());
+    ClinicalEventRequestIdentifier startEventRequestIdentifier =
+        new ClinicalEventRequestIdentifier();
+    startEventRequestIdentifier.setClinicalEventRequests(Set.of(clinicalEventRequest));
+    startEventRequestIdentifier.setPosition(OccurrencePosition.FIRST);
+
+    SurvivalCurveRequest survivalCurveRequest = new SurvivalCurveRequest();
+    survivalCurveRequest.setGroups(List.of(survivalGroup));
+    survivalCurveRequest.setAttributeIdPrefix(TEST_ATTRIBUTE_ID_PREFIX);
+    survivalCurveRequest.setStartEventRequestIdentifier(startEventRequestIdentifier);
+    survivalCurveRequest.setEndEventRequestIdentifier(startEventRequestIdentifier);
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post("/api/survival-curves/fetch")
+                .with(csrf())
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(survivalCurveRequest)))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(
+            MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.curves", Matchers.hasSize(1)))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.curves[0].name").value(TEST_GROUP_NAME))
+        .andExpect(MockMvcResultMatchers.jsonPath("$.curves[0].numberOfEvents").value(1));
+  }
+
   private List<ClinicalData> createClinicalDataList() {
     List<ClinicalData> clinicalDataList = new ArrayList<>();
 
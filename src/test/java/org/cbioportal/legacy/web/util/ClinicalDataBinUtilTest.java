@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.cbioportal.legacy.model.ClinicalAttribute;
 import org.cbioportal.legacy.model.ClinicalData;
@@ -427,7 +428,8 @@ public class ClinicalDataBinUtilTest {
   Resource stateFile;
 
   private void mockCustomDataService(String customDataset) throws Exception {
-    when(sessionServiceRequestHandler.getSessionDataJson(any(), any())).thenReturn(customDataset);
+    when(sessionServiceRequestHandler.getSessionDataJsonAsync(any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(customDataset));
   }
 
   private void mockMethods(
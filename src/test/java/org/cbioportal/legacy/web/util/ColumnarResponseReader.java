@@ -0,0 +1,124 @@
+package org.cbioportal.legacy.web.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter.ColumnType;
+
+/** Decodes a response written by {@link ColumnarResponseWriter}, for assertions in tests. */
+public class ColumnarResponseReader {
+
+  private final Map<String, ColumnType> fields = new LinkedHashMap<>();
+  private final Map<String, List<String>> dictionaries = new HashMap<>();
+  private final Map<String, List<Object>> columns = new HashMap<>();
+  private final List<Integer> batchLengths = new ArrayList<>();
+
+  public static ColumnarResponseReader read(byte[] content) {
+    ColumnarResponseReader reader = new ColumnarResponseReader();
+    reader.decode(ByteBuffer.wrap(content).order(ByteOrder.LITTLE_ENDIAN));
+    return reader;
+  }
+
+  public Map<String, ColumnType> getFields() {
+    return fields;
+  }
+
+  /** Dictionary entries of a column, in the order in which they were sent. */
+  public List<String> getDictionary(String name) {
+    return dictionaries.get(name);
+  }
+
+  /** Values of a column over all batches, with dictionary indexes resolved. */
+  public List<Object> getColumn(String name) {
+    return columns.get(name);
+  }
+
+  public List<Integer> getBatchLengths() {
+    return batchLengths;
+  }
+
+  private void decode(ByteBuffer buffer) {
+    byte[] magic = new byte[ColumnarResponseWriter.MAGIC.length];
+    buffer.get(magic);
+    assertArrayEquals(ColumnarResponseWriter.MAGIC, magic);
+    assertEquals(ColumnarResponseWriter.VERSION, buffer.get());
+
+    int fieldCount = buffer.getInt();
+    for (int i = 0; i < fieldCount; i++) {
+      ColumnType type = ColumnType.values()[buffer.get()];
+      String name = readString(buffer);
+      fields.put(name, type);
+      columns.put(name, new ArrayList<>());
+      if (type == ColumnType.DICTIONARY) {
+        dictionaries.put(name, new ArrayList<>());
+      }
+    }
+
+    int length;
+    while ((length = buffer.getInt()) != 0) {
+      batchLengths.add(length);
+      for (Map.Entry<String, ColumnType> field : fields.entrySet()) {
+        if (field.getValue() == ColumnType.DICTIONARY) {
+          int deltaCount = buffer.getInt();
+          for (int i = 0; i < deltaCount; i++) {
+            dictionaries.get(field.getKey()).add(readString(buffer));
+          }
+        }
+      }
+      for (Map.Entry<String, ColumnType> field : fields.entrySet()) {
+        byte[] validity = new byte[(length + 7) / 8];
+        buffer.get(validity);
+        List<Object> values = new ArrayList<>();
+        switch (field.getValue()) {
+          case DICTIONARY -> {
+            List<String> dictionary = dictionaries.get(field.getKey());
+            for (int i = 0; i < length; i++) {
+              int index = buffer.getInt();
+              values.add(index < dictionary.size() ? dictionary.get(index) : null);
+            }
+          }
+          case INT32 -> {
+            for (int i = 0; i < length; i++) {
+              values.add(buffer.getInt());
+            }
+          }
+          case FLOAT64 -> {
+            for (int i = 0; i < length; i++) {
+              values.add(buffer.getDouble());
+            }
+          }
+          case UTF8 -> {
+            int[] offsets = new int[length + 1];
+            for (int i = 0; i <= length; i++) {
+              offsets[i] = buffer.getInt();
+            }
+            for (int i = 0; i < length; i++) {
+              byte[] bytes = new byte[offsets[i + 1] - offsets[i]];
+              buffer.get(bytes);
+              values.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+          }
+        }
+        for (int i = 0; i < length; i++) {
+          boolean valid = (validity[i / 8] & (1 << (i % 8))) != 0;
+          columns.get(field.getKey()).add(valid ? values.get(i) : null);
+        }
+      }
+    }
+    assertEquals(0, buffer.remaining());
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,69 @@
+package org.cbioportal.legacy.web.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.cbioportal.legacy.web.util.ColumnarResponseWriter.Column;
+import org.junit.Test;
+
+public class ColumnarResponseWriterTest {
+
+  private record Row(String id, Integer count, Double value, String label) {}
+
+  private final ColumnarResponseWriter columnarResponseWriter = new ColumnarResponseWriter();
+
+  @Test
+  public void rowsAreSplitIntoBatchesThatOnlyCarryNewDictionaryEntries() throws Exception {
+    List<Row> rows =
+        IntStream.range(0, ColumnarResponseWriter.BATCH_SIZE + 2)
+            .mapToObj(i -> new Row("id" + (i % 3), i, i / 2.0, "label" + i))
+            .toList();
+
+    ColumnarResponseReader columnar = write(rows);
+
+    assertEquals(List.of(ColumnarResponseWriter.BATCH_SIZE, 2), columnar.getBatchLengths());
+    assertEquals(List.of("id0", "id1", "id2"), columnar.getDictionary("id"));
+    assertEquals(rows.stream().map(Row::id).toList(), columnar.getColumn("id"));
+    assertEquals(rows.stream().map(Row::count).toList(), columnar.getColumn("count"));
+    assertEquals(rows.stream().map(Row::value).toList(), columnar.getColumn("value"));
+    assertEquals(rows.stream().map(Row::label).toList(), columnar.getColumn("label"));
+  }
+
+  @Test
+  public void missingValuesAreMarkedInTheValidityBitmap() throws Exception {
+    ColumnarResponseReader columnar =
+        write(List.of(new Row(null, null, null, null), new Row("id", 1, 0.5, "ünïcode")));
+
+    assertEquals(Arrays.asList(null, "id"), columnar.getColumn("id"));
+    assertEquals(Arrays.asList(null, 1), columnar.getColumn("count"));
+    assertEquals(Arrays.asList(null, 0.5), columnar.getColumn("value"));
+    assertEquals(Arrays.asList(null, "ünïcode"), columnar.getColumn("label"));
+  }
+
+  @Test
+  public void emptyResponseHasSchemaOnly() throws Exception {
+    ColumnarResponseReader columnar = write(List.of());
+
+    assertEquals(4, columnar.getFields().size());
+    assertEquals(new ArrayList<>(), columnar.getBatchLengths());
+  }
+
+  private ColumnarResponseReader write(List<Row> rows) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    columnarResponseWriter
+        .write(
+            List.of(
+                Column.dictionary("id", Row::id),
+                Column.int32("count", Row::count),
+                Column.float64("value", Row::value),
+                Column.utf8("label", Row::label)),
+            rows::forEach)
+        .getBody()
+        .writeTo(outputStream);
+    return ColumnarResponseReader.read(outputStream.toByteArray());
+  }
+}
@@ -0,0 +1,114 @@
+package org.cbioportal.legacy.web.util;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.cbioportal.legacy.model.TableTimestampPair;
+import org.cbioportal.legacy.persistence.StaticDataTimeStampRepository;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConditionalRequestInterceptorTest {
+
+  private static final String URI = "/api/studies/study_tcga_pub/molecular-profiles";
+
+  @Mock private StaticDataTimeStampRepository staticDataTimeStampRepository;
+
+  @Test
+  public void preHandleAnswersMatchingIfNoneMatchWithNotModified() {
+    when(staticDataTimeStampRepository.getTimestamps(anyList()))
+        .thenReturn(List.of(timestamp("genetic_profile", "2024-01-01 10:00:00")));
+    ConditionalRequestInterceptor interceptor = createInterceptor(0);
+
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    Assert.assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", URI), first, null));
+    String eTag = first.getHeader(HttpHeaders.ETAG);
+    Assert.assertNotNull(eTag);
+    Assert.assertEquals("private, no-cache", first.getHeader(HttpHeaders.CACHE_CONTROL));
+
+    MockHttpServletRequest revisit = new MockHttpServletRequest("GET", URI);
+    revisit.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+    MockHttpServletResponse second = new MockHttpServletResponse();
+    Assert.assertFalse(interceptor.preHandle(revisit, second, null));
+    Assert.assertEquals(304, second.getStatus());
+  }
+
+  @Test
+  public void preHandleProceedsAfterImport() {
+    when(staticDataTimeStampRepository.getTimestamps(anyList()))
+        .thenReturn(List.of(timestamp("genetic_profile", "2024-01-01 10:00:00")))
+        .thenReturn(List.of(timestamp("genetic_profile", "2024-02-01 10:00:00")));
+    ConditionalRequestInterceptor interceptor = createInterceptor(0);
+
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    interceptor.preHandle(new MockHttpServletRequest("GET", URI), first, null);
+
+    MockHttpServletRequest revisit = new MockHttpServletRequest("GET", URI);
+    revisit.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+    MockHttpServletResponse second = new MockHttpServletResponse();
+    Assert.assertTrue(interceptor.preHandle(revisit, second, null));
+    Assert.assertEquals(200, second.getStatus());
+    Assert.assertNotEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+  }
+
+  @Test
+  public void preHandleProceedsWhenAuthoritiesChange() {
+    when(staticDataTimeStampRepository.getTimestamps(anyList()))
+        .thenReturn(List.of(timestamp("genetic_profile", "2024-01-01 10:00:00")));
+    ConditionalRequestInterceptor interceptor = createInterceptor(0);
+
+    try {
+      SecurityContextHolder.getContext()
+          .setAuthentication(
+              new TestingAuthenticationToken("user", null, "study_tcga_pub", "study_es_0"));
+      MockHttpServletResponse first = new MockHttpServletResponse();
+      interceptor.preHandle(new MockHttpServletRequest("GET", URI), first, null);
+
+      SecurityContextHolder.getContext()
+          .setAuthentication(new TestingAuthenticationToken("user", null, "study_es_0"));
+      MockHttpServletRequest revisit = new MockHttpServletRequest("GET", URI);
+      revisit.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+      MockHttpServletResponse second = new MockHttpServletResponse();
+      Assert.assertTrue(interceptor.preHandle(revisit, second, null));
+      Assert.assertEquals(200, second.getStatus());
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+
+  @Test
+  public void preHandleIgnoresPostRequests() {
+    ConditionalRequestInterceptor interceptor = createInterceptor(10000);
+
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    Assert.assertTrue(
+        interceptor.preHandle(
+            new MockHttpServletRequest("POST", "/api/molecular-profiles/fetch"), response, null));
+    Assert.assertNull(response.getHeader(HttpHeaders.ETAG));
+  }
+
+  private ConditionalRequestInterceptor createInterceptor(long timestampTtlMillis) {
+    return new ConditionalRequestInterceptor(
+        staticDataTimeStampRepository,
+        List.of("genetic_profile"),
+        "private, no-cache",
+        timestampTtlMillis);
+  }
+
+  private TableTimestampPair timestamp(String tableName, String updateTime) {
+    TableTimestampPair pair = new TableTimestampPair();
+    pair.setTableName(tableName);
+    pair.setUpdateTime(updateTime);
+    return pair;
+  }
+}
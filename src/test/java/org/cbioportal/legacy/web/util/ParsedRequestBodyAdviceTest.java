@@ -0,0 +1,77 @@
+package org.cbioportal.legacy.web.util;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import org.cbioportal.legacy.web.parameter.SampleIdentifier;
+import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class ParsedRequestBodyAdviceTest {
+
+  private final ParsedRequestBodyAdvice parsedRequestBodyAdvice = new ParsedRequestBodyAdvice();
+  private MockHttpServletRequest request;
+
+  @Before
+  public void setUp() {
+    request = new MockHttpServletRequest("POST", "/api/mutated-genes/fetch");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @After
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  public void handleEmptyBodyReturnsParsedBody() throws Exception {
+    StudyViewFilter studyViewFilter = new StudyViewFilter();
+    request.setAttribute(
+        InvolvedCancerStudyExtractorInterceptor.PARSED_REQUEST_BODY_ATTRIBUTE, studyViewFilter);
+
+    Assert.assertSame(studyViewFilter, handleEmptyBody(1));
+  }
+
+  @Test
+  public void handleEmptyBodyReturnsParsedList() throws Exception {
+    SampleIdentifier sampleIdentifier = new SampleIdentifier();
+    List<SampleIdentifier> sampleIdentifiers = List.of(sampleIdentifier);
+    request.setAttribute(
+        InvolvedCancerStudyExtractorInterceptor.PARSED_REQUEST_BODY_ATTRIBUTE, sampleIdentifiers);
+
+    Assert.assertSame(sampleIdentifiers, handleEmptyBody(0));
+  }
+
+  @Test
+  public void handleEmptyBodyIgnoresParsedBodyOfOtherType() throws Exception {
+    request.setAttribute(
+        InvolvedCancerStudyExtractorInterceptor.PARSED_REQUEST_BODY_ATTRIBUTE,
+        List.of(new StudyViewFilter()));
+
+    Assert.assertNull(handleEmptyBody(0));
+    Assert.assertNull(handleEmptyBody(1));
+  }
+
+  private Object handleEmptyBody(int parameterIndex) throws NoSuchMethodException {
+    Method method =
+        ParsedRequestBodyAdviceTest.class.getDeclaredMethod(
+            "fetch", List.class, StudyViewFilter.class);
+    MethodParameter parameter = new MethodParameter(method, parameterIndex);
+    return parsedRequestBodyAdvice.handleEmptyBody(
+        null,
+        null,
+        parameter,
+        parameter.getGenericParameterType(),
+        MappingJackson2HttpMessageConverter.class);
+  }
+
+  @SuppressWarnings("unused")
+  private void fetch(List<SampleIdentifier> sampleIdentifiers, StudyViewFilter studyViewFilter) {}
+}
@@ -0,0 +1,149 @@
+package org.cbioportal.legacy.web.util;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cbioportal.application.rest.error.GlobalExceptionHandler;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Checks that a request body handed to the controller by {@link ParsedRequestBodyAdvice} is
+ * validated once, with the parameters declared the way the {@code @Validated} controllers declare
+ * them: {@code @Valid} on the {@code intercepted*} request attribute, none on the request body.
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@WebMvcTest
+@ContextConfiguration(
+    classes = {
+      ParsedRequestBodyValidationTest.CountingController.class,
+      ParsedRequestBodyValidationTest.InterceptorConfig.class,
+      ParsedRequestBodyAdvice.class,
+      GlobalExceptionHandler.class
+    })
+public class ParsedRequestBodyValidationTest {
+
+  private static final AtomicInteger VALIDATIONS = new AtomicInteger();
+
+  @Autowired private MockMvc mockMvc;
+
+  @Before
+  public void setUp() {
+    VALIDATIONS.set(0);
+  }
+
+  @Test
+  @WithMockUser
+  public void parsedRequestBodyIsValidatedOnce() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post("/api/counting/fetch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"value\": \"study_tcga_pub\"}"))
+        .andExpect(MockMvcResultMatchers.status().isOk())
+        .andExpect(MockMvcResultMatchers.content().string("true"));
+
+    Assert.assertEquals(1, VALIDATIONS.get());
+  }
+
+  @Test
+  @WithMockUser
+  public void invalidParsedRequestBodyIsRejected() throws Exception {
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.post("/api/counting/fetch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+        .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+    Assert.assertEquals(1, VALIDATIONS.get());
+  }
+
+  public static class CountingFilter {
+
+    private String value;
+
+    public String getValue() {
+      return value;
+    }
+
+    public void setValue(String value) {
+      this.value = value;
+    }
+
+    @AssertTrue
+    public boolean isValuePresent() {
+      VALIDATIONS.incrementAndGet();
+      return value != null;
+    }
+  }
+
+  @RestController
+  @Validated
+  public static class CountingController {
+
+    @RequestMapping(
+        value = "/api/counting/fetch",
+        method = RequestMethod.POST,
+        consumes = MediaType.APPLICATION_JSON_VALUE)
+    public boolean fetch(
+        @Valid @RequestAttribute(required = false, value = "interceptedCountingFilter")
+            CountingFilter interceptedCountingFilter,
+        @RequestBody(required = false) CountingFilter countingFilter) {
+      return interceptedCountingFilter == countingFilter;
+    }
+  }
+
+  /**
+   * Parses the body before the controller, like {@link InvolvedCancerStudyExtractorInterceptor}.
+   */
+  public static class InterceptorConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+      registry.addInterceptor(
+          new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(
+                HttpServletRequest request, HttpServletResponse response, Object handler)
+                throws IOException {
+              CountingFilter countingFilter =
+                  new ObjectMapper().readValue(request.getInputStream(), CountingFilter.class);
+              request.setAttribute("interceptedCountingFilter", countingFilter);
+              request.setAttribute(
+                  InvolvedCancerStudyExtractorInterceptor.PARSED_REQUEST_BODY_ATTRIBUTE,
+                  countingFilter);
+              return true;
+            }
+          });
+    }
+  }
+}
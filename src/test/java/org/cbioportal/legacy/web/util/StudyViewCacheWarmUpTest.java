@@ -0,0 +1,224 @@
+package org.cbioportal.legacy.web.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cbioportal.legacy.model.AlterationFilter;
+import org.cbioportal.legacy.model.ClinicalAttribute;
+import org.cbioportal.legacy.service.ClinicalAttributeService;
+import org.cbioportal.legacy.service.exception.StudyNotFoundException;
+import org.cbioportal.legacy.service.util.StudyCachesEvictedEvent;
+import org.cbioportal.legacy.web.StudyViewController;
+import org.cbioportal.legacy.web.parameter.DataBinMethod;
+import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StudyViewCacheWarmUpTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Mock private ObjectProvider<StudyViewController> studyViewControllerProvider;
+  @Mock private StudyViewController studyViewController;
+  @Mock private ClinicalAttributeService clinicalAttributeService;
+
+  @Before
+  public void setUp() {
+    when(studyViewControllerProvider.getObject()).thenReturn(studyViewController);
+  }
+
+  @Test
+  public void warmUpReplaysRecordedQueriesWithTheSameArguments() throws Exception {
+    StudyViewCacheWarmUp warmUp = createWarmUp(List.of(), 10, 2);
+    StudyViewFilter filter = studyViewFilter("study1");
+    filter.getAlterationFilter().setIncludeVUS(false);
+    String recordedJson = OBJECT_MAPPER.writeValueAsString(filter);
+    warmUp.record(StudyViewCacheWarmUp.Chart.MUTATED_GENES, List.of("study1"), filter, null);
+
+    warmUp.warmUp("test", null).get();
+
+    verify(studyViewController)
+        .cachedFetchMutatedGenes(
+            argThat(replayed -> recordedJson.equals(json(replayed))), eq(true));
+    verify(studyViewController, never()).cacheableFetchCNAGenes(any(), eq(true));
+  }
+
+  @Test
+  public void evictionReplaysMostFrequentQueriesOfTheStudy() throws Exception {
+    StudyViewCacheWarmUp warmUp = createWarmUp(List.of(), 1, 2);
+    warmUp.record(
+        StudyViewCacheWarmUp.Chart.MUTATED_GENES,
+        List.of("study1"),
+        studyViewFilter("study1"),
+        null);
+    for (int i = 0; i < 2; i++) {
+      warmUp.record(
+          StudyViewCacheWarmUp.Chart.CNA_GENES, List.of("study1"), studyViewFilter("study1"), null);
+    }
+    for (int i = 0; i < 3; i++) {
+      warmUp.record(
+          StudyViewCacheWarmUp.Chart.CNA_GENES, List.of("study2"), studyViewFilter("study2"), null);
+    }
+
+    warmUp.onStudyCachesEvicted(new StudyCachesEvictedEvent("study1"));
+    warmUp.warmUp("wait", List.of()).get();
+
+    verify(studyViewController, times(1))
+        .cacheableFetchCNAGenes(
+            argThat(filter -> filter.getStudyIds().equals(List.of("study1"))), eq(true));
+    verify(studyViewController, never()).cachedFetchMutatedGenes(any(), eq(true));
+    verify(studyViewController, never())
+        .cacheableFetchCNAGenes(
+            argThat(filter -> filter.getStudyIds().equals(List.of("study2"))), eq(true));
+  }
+
+  @Test
+  public void warmUpReplaysDefaultQueriesOfConfiguredStudies() throws Exception {
+    StudyViewCacheWarmUp warmUp = createWarmUp(List.of("study1"), 10, 2);
+    when(clinicalAttributeService.fetchClinicalAttributes(List.of("study1"), "SUMMARY"))
+        .thenReturn(
+            List.of(
+                clinicalAttribute("CANCER_TYPE", "STRING"), clinicalAttribute("AGE", "NUMBER")));
+
+    warmUp.warmUp("test", null).get();
+
+    verify(studyViewController)
+        .cachedClinicalDataCounts(
+            argThat(
+                filter ->
+                    filter.getAttributes().size() == 1
+                        && "CANCER_TYPE".equals(filter.getAttributes().get(0).getAttributeId())),
+            eq(true));
+    verify(studyViewController)
+        .cachableFetchClinicalDataBinCounts(
+            eq(DataBinMethod.DYNAMIC),
+            argThat(
+                filter ->
+                    filter.getAttributes().size() == 1
+                        && "AGE".equals(filter.getAttributes().get(0).getAttributeId())),
+            eq(true));
+    verify(studyViewController)
+        .cachedFetchMutatedGenes(
+            argThat(filter -> filter.getStudyIds().equals(List.of("study1"))), eq(true));
+    verify(studyViewController)
+        .cacheableFetchCNAGenes(
+            argThat(filter -> filter.getStudyIds().equals(List.of("study1"))), eq(true));
+    assertEquals(4, warmUp.getStatus().lastRun().completed());
+  }
+
+  @Test
+  public void warmUpBoundsConcurrencyAndReportsTimings() throws Exception {
+    StudyViewCacheWarmUp warmUp = createWarmUp(List.of(), 10, 2);
+    for (int i = 0; i < 6; i++) {
+      warmUp.record(
+          StudyViewCacheWarmUp.Chart.MUTATED_GENES,
+          List.of("study" + i),
+          studyViewFilter("study" + i),
+          null);
+    }
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    when(studyViewController.cachedFetchMutatedGenes(any(), eq(true)))
+        .thenAnswer(
+            invocation -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              Thread.sleep(20);
+              running.decrementAndGet();
+              StudyViewFilter filter = invocation.getArgument(0);
+              if (filter.getStudyIds().equals(List.of("study3"))) {
+                throw new StudyNotFoundException("study3");
+              }
+              return List.of();
+            });
+
+    warmUp.warmUp("test", null).get();
+
+    assertTrue(maxRunning.get() <= 2);
+    StudyViewCacheWarmUp.RunStatus status = warmUp.getStatus().lastRun();
+    assertEquals("test", status.trigger());
+    assertNotNull(status.finishedAt());
+    assertEquals(6, status.total());
+    assertEquals(6, status.completed());
+    assertEquals(1, status.failed());
+    assertEquals(6, status.queries().size());
+  }
+
+  @Test
+  public void disabledWarmUpDoesNothing() throws Exception {
+    StudyViewCacheWarmUp warmUp =
+        new StudyViewCacheWarmUp(
+            studyViewControllerProvider,
+            clinicalAttributeService,
+            new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor()),
+            false,
+            List.of("study1"),
+            List.of(StudyViewCacheWarmUp.Chart.values()),
+            10,
+            2);
+    warmUp.record(
+        StudyViewCacheWarmUp.Chart.MUTATED_GENES,
+        List.of("study1"),
+        studyViewFilter("study1"),
+        null);
+
+    warmUp.warmUp("test", null).get();
+
+    verify(studyViewControllerProvider, never()).getObject();
+    assertEquals(0, warmUp.getStatus().recordedQueries());
+    assertNull(warmUp.getStatus().lastRun());
+  }
+
+  private StudyViewCacheWarmUp createWarmUp(
+      List<String> studyIds, int topN, int maxConcurrentQueries) {
+    return new StudyViewCacheWarmUp(
+        studyViewControllerProvider,
+        clinicalAttributeService,
+        new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor()),
+        true,
+        studyIds,
+        List.of(StudyViewCacheWarmUp.Chart.values()),
+        topN,
+        maxConcurrentQueries);
+  }
+
+  private static StudyViewFilter studyViewFilter(String studyId) {
+    StudyViewFilter filter = new StudyViewFilter();
+    filter.setStudyIds(List.of(studyId));
+    filter.setAlterationFilter(new AlterationFilter());
+    return filter;
+  }
+
+  private static ClinicalAttribute clinicalAttribute(String attributeId, String datatype) {
+    ClinicalAttribute clinicalAttribute = new ClinicalAttribute();
+    clinicalAttribute.setAttrId(attributeId);
+    clinicalAttribute.setDatatype(datatype);
+    return clinicalAttribute;
+  }
+
+  private static String json(Object value) {
+    try {
+      return OBJECT_MAPPER.writeValueAsString(value);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package org.cbioportal.legacy.web.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cbioportal.legacy.model.AlterationFilter;
+import org.cbioportal.legacy.model.StudyViewChartResult;
+import org.cbioportal.legacy.service.exception.StudyNotFoundException;
+import org.cbioportal.legacy.web.parameter.ClinicalDataBinFilter;
+import org.cbioportal.legacy.web.parameter.ClinicalDataCountFilter;
+import org.cbioportal.legacy.web.parameter.ClinicalDataFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartBatchFilter;
+import org.cbioportal.legacy.web.parameter.StudyViewChartRequest;
+import org.cbioportal.legacy.web.parameter.StudyViewChartType;
+import org.cbioportal.legacy.web.parameter.StudyViewFilter;
+import org.junit.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+public class StudyViewChartBatchEvaluatorTest {
+
+  @Test
+  public void resultsAreKeyedByChartIdInRequestOrder() {
+    StudyViewChartBatchEvaluator evaluator = createEvaluator(2);
+    StudyViewChartBatchFilter batchFilter =
+        batchFilter(
+            chart("mutations", StudyViewChartType.MUTATED_GENES),
+            chart("cna", StudyViewChartType.CNA_GENES),
+            chart("lists", StudyViewChartType.SAMPLE_LIST_COUNTS));
+
+    Map<String, StudyViewChartResult> results =
+        evaluator.evaluate(batchFilter, (chart, studyViewFilter) -> chart.getType().name());
+
+    assertEquals(List.of("mutations", "cna", "lists"), new ArrayList<>(results.keySet()));
+    assertEquals("MUTATED_GENES", results.get("mutations").getData());
+    assertEquals("SAMPLE_LIST_COUNTS", results.get("lists").getData());
+    assertNull(results.get("cna").getError());
+  }
+
+  @Test
+  public void failingChartDoesNotFailTheOthers() {
+    StudyViewChartBatchEvaluator evaluator = createEvaluator(4);
+    StudyViewChartBatchFilter batchFilter =
+        batchFilter(
+            chart("missing", StudyViewChartType.MUTATED_GENES),
+            chart("broken", StudyViewChartType.CNA_GENES),
+            chart("counts", StudyViewChartType.CLINICAL_DATA_COUNTS),
+            chart("lists", StudyViewChartType.SAMPLE_LIST_COUNTS));
+
+    Map<String, StudyViewChartResult> results =
+        evaluator.evaluate(
+            batchFilter,
+            (chart, studyViewFilter) ->
+                switch (chart.getType()) {
+                  case MUTATED_GENES -> throw new StudyNotFoundException("study1");
+                  case CNA_GENES -> throw new IllegalStateException("connection lost");
+                  case CLINICAL_DATA_COUNTS ->
+                      StudyViewChartBatchEvaluator.toClinicalDataCountFilter(
+                          chart, studyViewFilter);
+                  default -> List.of();
+                });
+
+    assertEquals("Study not found: study1", results.get("missing").getError());
+    assertEquals("Could not fetch CNA_GENES", results.get("broken").getError());
+    assertEquals(
+        "Attributes are required for CLINICAL_DATA_COUNTS", results.get("counts").getError());
+    assertEquals(List.of(), results.get("lists").getData());
+  }
+
+  @Test
+  public void everyChartGetsItsOwnStudyViewFilter() {
+    StudyViewChartBatchEvaluator evaluator = createEvaluator(4);
+    StudyViewChartBatchFilter batchFilter =
+        batchFilter(clinicalDataCountsChart("age", "AGE"), clinicalDataCountsChart("sex", "SEX"));
+    batchFilter
+        .getStudyViewFilter()
+        .setClinicalDataFilters(
+            new ArrayList<>(List.of(clinicalDataFilter("AGE"), clinicalDataFilter("SEX"))));
+
+    Map<String, StudyViewChartResult> results =
+        evaluator.evaluate(
+            batchFilter,
+            (chart, studyViewFilter) -> {
+              ClinicalDataCountFilter clinicalDataCountFilter =
+                  StudyViewChartBatchEvaluator.toClinicalDataCountFilter(chart, studyViewFilter);
+              // as the clinical data counts of one attribute do
+              studyViewFilter
+                  .getClinicalDataFilters()
+                  .removeIf(
+                      filter ->
+                          filter
+                              .getAttributeId()
+                              .equals(
+                                  clinicalDataCountFilter.getAttributes().get(0).getAttributeId()));
+              return studyViewFilter.getClinicalDataFilters().stream()
+                  .map(ClinicalDataFilter::getAttributeId)
+                  .toList();
+            });
+
+    assertEquals(List.of("SEX"), results.get("age").getData());
+    assertEquals(List.of("AGE"), results.get("sex").getData());
+    assertEquals(2, batchFilter.getStudyViewFilter().getClinicalDataFilters().size());
+  }
+
+  @Test
+  public void concurrentChartsAreBounded() {
+    StudyViewChartBatchEvaluator evaluator = createEvaluator(2);
+    List<StudyViewChartRequest> charts = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      charts.add(chart("chart" + i, StudyViewChartType.MUTATED_GENES));
+    }
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    Map<String, StudyViewChartResult> results =
+        evaluator.evaluate(
+            batchFilter(charts.toArray(StudyViewChartRequest[]::new)),
+            (chart, studyViewFilter) -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              Thread.sleep(20);
+              running.decrementAndGet();
+              return chart.getId();
+            });
+
+    assertEquals(10, results.size());
+    assertTrue(results.values().stream().allMatch(result -> result.getError() == null));
+    assertTrue(maxRunning.get() <= 2);
+  }
+
+  private static StudyViewChartBatchEvaluator createEvaluator(int maxConcurrentCharts) {
+    return new StudyViewChartBatchEvaluator(
+        new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor()), maxConcurrentCharts);
+  }
+
+  private static StudyViewChartBatchFilter batchFilter(StudyViewChartRequest... charts) {
+    StudyViewFilter studyViewFilter = new StudyViewFilter();
+    studyViewFilter.setStudyIds(List.of("study1"));
+    studyViewFilter.setAlterationFilter(new AlterationFilter());
+    StudyViewChartBatchFilter batchFilter = new StudyViewChartBatchFilter();
+    batchFilter.setStudyViewFilter(studyViewFilter);
+    batchFilter.setCharts(List.of(charts));
+    return batchFilter;
+  }
+
+  private static StudyViewChartRequest chart(String id, StudyViewChartType type) {
+    StudyViewChartRequest chart = new StudyViewChartRequest();
+    chart.setId(id);
+    chart.setType(type);
+    return chart;
+  }
+
+  private static StudyViewChartRequest clinicalDataCountsChart(String id, String attributeId) {
+    StudyViewChartRequest chart = chart(id, StudyViewChartType.CLINICAL_DATA_COUNTS);
+    ClinicalDataBinFilter attribute = new ClinicalDataBinFilter();
+    attribute.setAttributeId(attributeId);
+    chart.setAttributes(List.of(attribute));
+    return chart;
+  }
+
+  private static ClinicalDataFilter clinicalDataFilter(String attributeId) {
+    ClinicalDataFilter clinicalDataFilter = new ClinicalDataFilter();
+    clinicalDataFilter.setAttributeId(attributeId);
+    return clinicalDataFilter;
+  }
+}
@@ -18,6 +18,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.cbioportal.legacy.model.CNA;
 import org.cbioportal.legacy.model.ClinicalAttribute;
 import org.cbioportal.legacy.model.ClinicalData;
@@ -1110,8 +1111,8 @@ public class StudyViewFilterApplierTest {
   }
 
   private void mockCustomDataService(String customDatasetFile) throws Exception {
-    when(sessionServiceRequestHandler.getSessionDataJson(any(), any()))
-        .thenReturn(customDatasetFile);
+    when(sessionServiceRequestHandler.getSessionDataJsonAsync(any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(customDatasetFile));
   }
 
   private String getFileContents(String resourceLocation) throws IOException {